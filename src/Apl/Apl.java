@@ -61,6 +61,28 @@ public class Apl{
     private static String tracefile = null;
     /** Flag to indicate whether the program must be executed after parsing. */
     private static boolean execute = true;
+    /** Flag to fuse the consecutive pfor loops with the same range. */
+    private static boolean fusion = true;
+    /** Flag to parallelize the independent loops automatically. */
+    private static boolean autopar = false;
+    /** Minimum trip count of a loop to be run in parallel. */
+    private static long parthreshold = 1000;
+    /** Flag to tile the loop nests automatically. */
+    private static boolean autotile = false;
+    /** Default size of the tiles. */
+    private static long tilesize = 32;
+    /** Flag to reuse the arrays allocated inside loops. */
+    private static boolean hoist = true;
+    /** Flag to free the arrays automatically after their last use. */
+    private static boolean autofree = true;
+    /** Flag to store the arrays of bool in bits. */
+    private static boolean packbool = false;
+    /** Flag to measure the time of the regions of the program. */
+    private static boolean profile = false;
+    /** Flag to write #line directives with the lines of the program. */
+    private static boolean linedirectives = false;
+    /** Name of the file mapping the C variables to the names in the program. */
+    private static String varmapfile = null;
 
     /** Main program that invokes the parser and the interpreter. */
 
@@ -118,15 +140,39 @@ public class Apl{
         // Start interpretation (only if execution required)
         if (execute) {
             CodeAnalyzer CA = new CodeAnalyzer(t);
+            CA.setLoopFusion(fusion);
+            CA.setAutoParallel(autopar);
+            CA.setParallelThreshold(parthreshold);
+            CA.setAutoTile(autotile);
+            CA.setTileSize(tilesize);
+            CA.setAllocationHoisting(hoist);
+            CA.setAutoFree(autofree);
+            CA.setPackedBool(packbool);
+            CA.setProfile(profile);
+            CA.setTrace(tracefile);
+            if (linedirectives) CA.setLineDirectives(infile);
             if (!CA.parse()) {
                 System.err.println("There has been an error when parsing the code.");
             } else {
                 ArrayList<FunctionNode> table = CA.getFunctionTable();
 
+                // The functions are translated first to know the
+                // pieces of the runtime they use
+                StringBuilder code = new StringBuilder();
+                for (FunctionNode fn : table) {
+                    code.append(fn.toC());
+                    code.append("\n");
+                }
+
                 StringBuilder str = new StringBuilder();
                 str.append("#include <omp.h>\n");
                 str.append("#include <stdio.h>\n");
-                str.append("#include <stdlib.h>\n\n");
+                str.append("#include <stdlib.h>\n");
+                str.append(CRuntime.includesToC());
+                str.append("\n");
+                str.append(CRuntime.toC());
+                str.append(Profiler.toC());
+                str.append(Tracer.toC());
                 for (FunctionNode fn : table) {
                     fn.getData().resolve();
                     str.append(fn.getData().typeToString());
@@ -136,13 +182,16 @@ public class Apl{
                 }
 
                 str.append("\n");
-
-                for (FunctionNode fn : table) {
-                    str.append(fn.toC());
-                    str.append("\n");
-                }
+                str.append(code);
 
                 System.out.print(str.toString());
+
+                // Names of the variables of each function (option -varmap file)
+                if (varmapfile != null) {
+                    BufferedWriter output = new BufferedWriter(new FileWriter(varmapfile));
+                    for (FunctionNode fn : table) output.write(fn.variablesToString());
+                    output.close();
+                }
             }
         }
     }
@@ -158,6 +207,14 @@ public class Apl{
         Option help = new Option("help", "print this message");
         Option noexec = new Option("noexec", "do not execute the program");
         Option dot = new Option("dot", "dump the AST in dot format");
+        Option nofusion = new Option("nofusion", "do not fuse consecutive pfor loops with the same range");
+        Option nohoist = new Option("nohoist", "allocate the arrays inside loops in every iteration");
+        Option noautofree = new Option("noautofree", "do not free the arrays automatically after their last use");
+        Option packedbool = new Option("packbool", "store the arrays of bool in bits instead of bytes");
+        Option autoparallel = new Option("autopar", "parallelize the loops without dependences between iterations");
+        Option autotiling = new Option("autotile", "tile the loop nests that can be reordered");
+        Option profiling = new Option("profile", "report the time of the parallel blocks, pfor loops, functions and critical sections at exit");
+        Option lines = new Option("lines", "write #line directives so debuggers and profilers show the lines of the program");
         Option ast = OptionBuilder
                         .withArgName ("file")
                         .hasArg()
@@ -166,8 +223,23 @@ public class Apl{
         Option trace = OptionBuilder
                         .withArgName ("file")
                         .hasArg()
-                        .withDescription ("write a trace of function calls during the execution of the program")
+                        .withDescription ("make the program write its function calls to file (read it with AplTrace)")
                         .create ("trace");
+        Option varmap = OptionBuilder
+                        .withArgName ("file")
+                        .hasArg()
+                        .withDescription ("write the names in the program of the variables of the C code")
+                        .create ("varmap");
+        Option threshold = OptionBuilder
+                        .withArgName ("n")
+                        .hasArg()
+                        .withDescription ("minimum number of iterations of a loop to run it in parallel (default 1000)")
+                        .create ("parthreshold");
+        Option tiling = OptionBuilder
+                        .withArgName ("size")
+                        .hasArg()
+                        .withDescription ("size of the tiles when it is not given in the program (default 32)")
+                        .create ("tile");
 
         Options options = new Options();
         options.addOption(help);
@@ -175,6 +247,17 @@ public class Apl{
         options.addOption(ast);
         options.addOption(trace);
         options.addOption(noexec);
+        options.addOption(nofusion);
+        options.addOption(nohoist);
+        options.addOption(noautofree);
+        options.addOption(packedbool);
+        options.addOption(autoparallel);
+        options.addOption(threshold);
+        options.addOption(autotiling);
+        options.addOption(tiling);
+        options.addOption(profiling);
+        options.addOption(lines);
+        options.addOption(varmap);
         CommandLineParser clp = new GnuParser();
         CommandLine line = null;
 
@@ -208,9 +291,59 @@ public class Apl{
         // Option -trace dotfile
         if (line.hasOption ("trace")) tracefile = line.getOptionValue ("trace");
 
+        // Option -varmap file
+        if (line.hasOption ("varmap")) varmapfile = line.getOptionValue ("varmap");
+
+        // Option -lines
+        if (line.hasOption ("lines")) linedirectives = true;
+
         // Option -noexec
         if (line.hasOption ("noexec")) execute = false;
 
+        // Option -nofusion
+        if (line.hasOption ("nofusion")) fusion = false;
+
+        // Option -nohoist
+        if (line.hasOption ("nohoist")) hoist = false;
+
+        // Option -noautofree
+        if (line.hasOption ("noautofree")) autofree = false;
+
+        // Option -packbool
+        if (line.hasOption ("packbool")) packbool = true;
+
+        // Option -autopar
+        if (line.hasOption ("autopar")) autopar = true;
+
+        // Option -parthreshold n
+        if (line.hasOption ("parthreshold")) {
+            try {
+                parthreshold = Long.parseLong(line.getOptionValue ("parthreshold"));
+            } catch (NumberFormatException e) {
+                System.err.println ("Incorrect command line: -parthreshold expects an integer.");
+                return false;
+            }
+        }
+
+        // Option -autotile
+        if (line.hasOption ("autotile")) autotile = true;
+
+        // Option -profile
+        if (line.hasOption ("profile")) profile = true;
+
+        // Option -tile size
+        if (line.hasOption ("tile")) {
+            try {
+                tilesize = Long.parseLong(line.getOptionValue ("tile"));
+            } catch (NumberFormatException e) {
+                tilesize = 0;
+            }
+            if (tilesize <= 0) {
+                System.err.println ("Incorrect command line: -tile expects a positive integer.");
+                return false;
+            }
+        }
+
         // Remaining arguments (the input file)
         String[] files = line.getArgs();
         if (files.length != 1) {
@@ -0,0 +1,243 @@
+/**
+ * Copyright (c) 2016, Alessio Linares and Guillermo Ojeda
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *    * Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright
+ *      notice, this list of conditions and the following disclaimer in the
+ *      documentation and/or other materials provided with the distribution.
+ *    * Neither the name of the <organization> nor the
+ *      names of its contributors may be used to endorse or promote products
+ *      derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package Apl;
+
+import java.io.*;
+import java.lang.StringBuilder;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.TreeMap;
+
+/**
+ * The class <code>AplTrace</code> writes as text the trace file of a
+ * program translated with -trace, in the format of the traces of the
+ * interpreter: a line for each call, with the values of the parameters
+ * and the line of the call, and for each return, with the result and
+ * the values of the parameters by reference. The calls of each thread
+ * are written apart. Arrays are shown by their length. The values
+ * that the program did not record (beyond the first APL_TRACE_ARGS of
+ * an event) are shown as ? and counted at the end of the line.
+ *
+ * Usage: AplTrace [-times] tracefile [outfile]
+ */
+
+public class AplTrace {
+
+    /** Function of the program, as described in the header of the trace */
+    private static class Function {
+        String name;
+        char result;
+        String[] params;
+        char[] kinds;
+        boolean[] refs;
+    }
+
+    /** Event of the trace */
+    private static class Event {
+        double time;
+        int func, line, kind;
+        /** Number of values of the event, some of them maybe not recorded */
+        int nargs;
+        long[] args;
+    }
+
+    private static ArrayList<Function> functions = new ArrayList<Function>();
+    private static boolean times = false;
+
+    public static void main(String[] args) throws IOException {
+        ArrayList<String> files = new ArrayList<String>();
+        for (String arg : args) {
+            if (arg.equals("-times")) times = true;
+            else files.add(arg);
+        }
+        if (files.size() < 1 || files.size() > 2) {
+            System.err.println("Usage: AplTrace [-times] tracefile [outfile]");
+            System.exit(1);
+        }
+
+        ByteBuffer buffer;
+        try {
+            buffer = ByteBuffer.wrap(Files.readAllBytes(Paths.get(files.get(0))));
+        } catch (IOException e) {
+            System.err.println("Cannot read file " + files.get(0) + ".");
+            System.exit(1);
+            return;
+        }
+
+        TreeMap<Integer, ArrayList<Event>> threads;
+        try {
+            threads = read(buffer);
+        } catch (RuntimeException e) {
+            System.err.println(files.get(0) + " is not a valid trace file.");
+            System.exit(1);
+            return;
+        }
+
+        PrintWriter out = files.size() == 2 ? new PrintWriter(new FileWriter(files.get(1)))
+                                            : new PrintWriter(System.out);
+        for (Integer thread : threads.keySet()) {
+            if (threads.size() > 1) out.println("thread " + thread + ":");
+            write(out, threads.get(thread));
+        }
+        out.close();
+    }
+
+    /** Line of the text header of the trace */
+    private static String readLine(ByteBuffer buffer) {
+        StringBuilder line = new StringBuilder();
+        for (byte b = buffer.get(); b != '\n'; b = buffer.get()) line.append((char) b);
+        return line.toString();
+    }
+
+    /** Reads the header and the events, grouped by thread */
+    private static TreeMap<Integer, ArrayList<Event>> read(ByteBuffer buffer) {
+        if (!readLine(buffer).equals("APLTRACE 1")) throw new IllegalArgumentException();
+        String[] event = readLine(buffer).split(" ");
+        int eventSize = Integer.parseInt(event[1]);
+        int maxArgs = Integer.parseInt(event[2]);
+
+        int n = Integer.parseInt(readLine(buffer).split(" ")[1]);
+        for (int i = 0; i < n; ++i) {
+            String[] fields = readLine(buffer).split(" ");
+            Function f = new Function();
+            f.name = fields[1];
+            f.result = fields[2].charAt(0);
+            int nparams = Integer.parseInt(fields[3]);
+            f.params = new String[nparams];
+            f.kinds = new char[nparams];
+            f.refs = new boolean[nparams];
+            for (int k = 0; k < nparams; ++k) {
+                f.params[k] = fields[4 + 3*k];
+                f.kinds[k] = fields[5 + 3*k].charAt(0);
+                f.refs[k] = fields[6 + 3*k].equals("1");
+            }
+            functions.add(f);
+        }
+        if (!readLine(buffer).equals("events")) throw new IllegalArgumentException();
+
+        // Chunks written by the program: thread, count and the events
+        buffer.order(ByteOrder.nativeOrder());
+        TreeMap<Integer, ArrayList<Event>> threads = new TreeMap<Integer, ArrayList<Event>>();
+        while (buffer.hasRemaining()) {
+            int thread = buffer.getInt();
+            int count = buffer.getInt();
+            ArrayList<Event> events = threads.get(thread);
+            if (events == null) {
+                events = new ArrayList<Event>();
+                threads.put(thread, events);
+            }
+            for (int i = 0; i < count; ++i) {
+                int start = buffer.position();
+                Event e = new Event();
+                e.time = buffer.getDouble();
+                e.func = buffer.getInt();
+                e.line = buffer.getInt();
+                e.kind = buffer.getInt();
+                e.nargs = buffer.getInt();
+                e.args = new long[Math.min(e.nargs, maxArgs)];
+                for (int k = 0; k < e.args.length; ++k) e.args[k] = buffer.getLong();
+                buffer.position(start + eventSize);
+                events.add(e);
+            }
+        }
+        return threads;
+    }
+
+    /** Text of a value of the given kind */
+    private static String value(char kind, long bits) {
+        switch (kind) {
+            case 'b':
+                return bits != 0 ? "true" : "false";
+            case 'c':
+                return "'" + (char) bits + "'";
+            case 'f':
+                return Double.toString(Double.longBitsToDouble(bits));
+            case 'a':
+                return "array(" + bits + ")";
+            default:
+                return Long.toString(bits);
+        }
+    }
+
+    /** Marks an event whose values were not all recorded */
+    private static void writeMissing(PrintWriter out, Event e) {
+        int missing = e.nargs - e.args.length;
+        if (missing > 0) out.print(" <" + missing + (missing == 1 ? " value" : " values") + " not recorded>");
+    }
+
+    /** Writes the calls and returns of a thread */
+    private static void write(PrintWriter out, ArrayList<Event> events) {
+        ArrayDeque<Double> calls = new ArrayDeque<Double>();
+        for (Event e : events) {
+            Function f = functions.get(e.func);
+            double start = 0;
+            if (e.kind != 0 && !calls.isEmpty()) start = calls.pop();
+            for (int i = 0; i < calls.size(); ++i) out.print("|   ");
+
+            if (e.kind == 0) {
+                out.print(f.name + "(");
+                for (int i = 0; i < f.params.length; ++i) {
+                    if (i > 0) out.print(", ");
+                    if (f.refs[i]) out.print("&");
+                    out.print(f.params[i] + "=");
+                    out.print(i < e.args.length ? value(f.kinds[i], e.args[i]) : "?");
+                }
+                out.print(")");
+                writeMissing(out, e);
+                out.print(" ");
+                if (e.line == 0) out.print("<entry point>");
+                else out.print("<line " + e.line + ">");
+                if (times) out.printf(" [%.6f s]", e.time);
+                out.println();
+                calls.push(e.time);
+                continue;
+            }
+
+            out.print("return");
+            int arg = 0;
+            if (e.kind == 1) {
+                out.print(" " + (e.args.length > 0 ? value(f.result, e.args[0]) : "?"));
+                arg = 1;
+            }
+            for (int i = 0; i < f.params.length; ++i) {
+                if (!f.refs[i]) continue;
+                out.print(", &" + f.params[i] + "=");
+                out.print(arg < e.args.length ? value(f.kinds[i], e.args[arg]) : "?");
+                arg++;
+            }
+            writeMissing(out, e);
+            out.print(" <line " + e.line + ">");
+            if (times) out.printf(" [%.6f s in the call]", e.time - start);
+            out.println();
+        }
+    }
+}
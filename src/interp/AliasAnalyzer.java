@@ -0,0 +1,377 @@
+/**
+ * Copyright (c) 2016, Alessio Linares and Guillermo Ojeda
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *    * Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright
+ *      notice, this list of conditions and the following disclaimer in the
+ *      documentation and/or other materials provided with the distribution.
+ *    * Neither the name of the <organization> nor the
+ *      names of its contributors may be used to endorse or promote products
+ *      derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+
+package interp;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+
+/**
+ * Interprocedural alias analysis for the array variables of the
+ * generated functions. Every allocation (ArrayNode) is an abstract
+ * location. The analysis collects, for every array variable of every
+ * function, the set of allocations it may point to, propagating them
+ * through copies between variables and through the call sites
+ * recorded by the CodeAnalyzer. Arrays whose origin cannot be tracked
+ * (string literals, elements of nested arrays, returned values...) are
+ * represented by the UNKNOWN location.
+ *
+ * Once the analysis has been solved, the variables that are the only
+ * way to reach their allocations are marked as restrict in their
+ * FunctionNode, and the whole-array updates of the other variables
+ * build their result apart.
+ */
+
+public class AliasAnalyzer {
+    /** Location of the arrays whose origin is not known. */
+    static final int UNKNOWN = -1;
+
+    /** Origin of an array value: fixed locations or another variable */
+    private class Source {
+        FunctionNode function;
+        int varID = -1;
+        HashSet<Integer> locations = new HashSet<Integer>();
+
+        HashSet<Integer> get() {
+            if (varID < 0) return locations;
+            return getLocations(function, varID);
+        }
+    }
+
+    private class Copy {
+        FunctionNode function;
+        int dest;
+        Source source;
+    }
+
+    private class CallSite {
+        FunctionNode caller;
+        FunctionNode callee;
+        ArrayList<Source> args = new ArrayList<Source>();
+    }
+
+    private int numLocations = 0;
+    /** Node that creates each location */
+    private ArrayList<CodeNode> allocations;
+    private HashMap<FunctionNode, HashMap<Integer, HashSet<Integer>>> locations;
+    private HashMap<FunctionNode, HashSet<Integer>> copied;
+    /** Variables whose array may be kept as an element of another array */
+    private HashMap<FunctionNode, HashSet<Integer>> escaped;
+    private ArrayList<Copy> copies;
+    private ArrayList<CallSite> callSites;
+    /** Variables whose length changes (push and resize) */
+    private ArrayList<Source> resized;
+    /** Whole-array expressions that would write in place, and their function */
+    private HashMap<ArrayExprNode, FunctionNode> updates;
+
+    public AliasAnalyzer() {
+        locations = new HashMap<FunctionNode, HashMap<Integer, HashSet<Integer>>>();
+        allocations = new ArrayList<CodeNode>();
+        copied = new HashMap<FunctionNode, HashSet<Integer>>();
+        escaped = new HashMap<FunctionNode, HashSet<Integer>>();
+        copies = new ArrayList<Copy>();
+        callSites = new ArrayList<CallSite>();
+        resized = new ArrayList<Source>();
+        updates = new HashMap<ArrayExprNode, FunctionNode>();
+    }
+
+    private HashSet<Integer> getLocations(FunctionNode function, int varID) {
+        HashMap<Integer, HashSet<Integer>> vars = locations.get(function);
+        if (vars == null) {
+            vars = new HashMap<Integer, HashSet<Integer>>();
+            locations.put(function, vars);
+        }
+        HashSet<Integer> locs = vars.get(varID);
+        if (locs == null) {
+            locs = new HashSet<Integer>();
+            vars.put(varID, locs);
+        }
+        return locs;
+    }
+
+    private boolean isCopied(FunctionNode function, int varID) {
+        HashSet<Integer> vars = copied.get(function);
+        return vars != null && vars.contains(varID);
+    }
+
+    private boolean setCopied(FunctionNode function, int varID) {
+        HashSet<Integer> vars = copied.get(function);
+        if (vars == null) {
+            vars = new HashSet<Integer>();
+            copied.put(function, vars);
+        }
+        return vars.add(varID);
+    }
+
+    private boolean isEscaped(FunctionNode function, int varID) {
+        HashSet<Integer> vars = escaped.get(function);
+        return vars != null && vars.contains(varID);
+    }
+
+    private boolean setEscaped(FunctionNode function, int varID) {
+        HashSet<Integer> vars = escaped.get(function);
+        if (vars == null) {
+            vars = new HashSet<Integer>();
+            escaped.put(function, vars);
+        }
+        return vars.add(varID);
+    }
+
+    private static boolean isArray(Data data) {
+        data.resolve();
+        return data.getType() == Data.Type.ARRAY;
+    }
+
+    /** Checks whether the data reaches the elements of an array */
+    private static boolean isArrayOrView(Data data) {
+        data.resolve();
+        return data.isArray();
+    }
+
+    /** Computes where the value of an array expression comes from. */
+    private Source getSource(FunctionNode function, CodeNode expr) {
+        Source src = new Source();
+        src.function = function;
+        CodeNode node = LoopAnalyzer.unwrap(expr);
+        if (node instanceof ArrayNode || node instanceof ArrayExprNode) {
+            src.locations.add(numLocations++);
+            allocations.add(node);
+        } else if (node instanceof VariableNode) {
+            src.varID = ((VariableNode) node).varID;
+        } else if (node instanceof SliceNode) {
+            // A view reaches the allocations of the array it is taken from
+            src.varID = ((SliceNode) node).var.varID;
+        } else {
+            src.locations.add(UNKNOWN);
+        }
+        return src;
+    }
+
+    /** Records the assignment of an expression to a variable. */
+    public void recordAssign(FunctionNode function, int varID, CodeNode expr) {
+        if (!isArrayOrView(expr.getData())) return;
+        Source src = getSource(function, expr);
+        if (src.varID >= 0) {
+            setCopied(function, varID);
+            setCopied(function, src.varID);
+        }
+        Copy copy = new Copy();
+        copy.function = function;
+        copy.dest = varID;
+        copy.source = src;
+        copies.add(copy);
+    }
+
+    /** Records a view of the elements of an array variable. */
+    public void recordSlice(FunctionNode function, int varID) {
+        setCopied(function, varID);
+    }
+
+    /** Records an array variable stored as an element of another array. */
+    public void recordEscape(FunctionNode function, int varID) {
+        setEscaped(function, varID);
+    }
+
+    /**
+     * Records a whole-array expression that updates its target in
+     * place. It is built apart unless the target is unshared.
+     */
+    public void recordUpdate(FunctionNode function, ArrayExprNode update) {
+        updates.put(update, function);
+    }
+
+    /** Records a change of the length of an array variable. */
+    public void recordResize(FunctionNode function, int varID) {
+        Source src = new Source();
+        src.function = function;
+        src.varID = varID;
+        resized.add(src);
+    }
+
+    /** Records a call with the expressions passed as arguments. */
+    public void recordCall(FunctionNode caller, FunctionNode callee, ArrayList<ExpressionNode> args) {
+        CallSite site = new CallSite();
+        site.caller = caller;
+        site.callee = callee;
+        for (ExpressionNode arg : args) {
+            if (isArrayOrView(arg.getData())) {
+                site.args.add(getSource(caller, arg));
+            } else {
+                site.args.add(null);
+            }
+        }
+        callSites.add(site);
+    }
+
+    /**
+     * Propagates the locations until a fixed point is reached and
+     * marks the restrict variables of the given functions.
+     */
+    public void analyze(ArrayList<FunctionNode> functions) {
+        // A call that returns an array may return one of its arguments,
+        // and its result only has the UNKNOWN location
+        for (CallSite site : callSites) {
+            if (!isArray(site.callee.getData())) continue;
+            for (Source arg : site.args) {
+                if (arg != null && arg.varID >= 0) setCopied(site.caller, arg.varID);
+            }
+        }
+
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (Copy copy : copies) {
+                changed |= getLocations(copy.function, copy.dest).addAll(copy.source.get());
+            }
+            for (CallSite site : callSites) {
+                for (int i = 0; i < site.args.size(); ++i) {
+                    Source arg = site.args.get(i);
+                    if (arg == null) continue;
+                    changed |= getLocations(site.callee, i).addAll(arg.get());
+                    if (arg.varID >= 0 && isEscaped(site.callee, i)) {
+                        changed |= setEscaped(site.caller, arg.varID);
+                    }
+
+                    // A parameter by reference writes back to the caller
+                    if (arg.varID >= 0 && site.callee.getVariables().get(i).isReference()) {
+                        changed |= getLocations(site.caller, arg.varID).addAll(getLocations(site.callee, i));
+                        if (isCopied(site.callee, i)) {
+                            changed |= setCopied(site.caller, arg.varID);
+                        }
+                    }
+                }
+            }
+        }
+
+        for (FunctionNode function : functions) {
+            ArrayList<Data> vars = function.getVariables();
+            for (int id = 0; id < vars.size(); ++id) {
+                if (isRestrict(function, id)) function.setRestrict(id);
+            }
+        }
+        for (ArrayExprNode update : updates.keySet()) {
+            FunctionNode function = updates.get(update);
+            update.setInPlace(isUnshared(function, ((VariableNode) update.getChild(0)).varID));
+        }
+    }
+
+    /**
+     * Checks whether a local array variable is the only way to reach
+     * its allocations, so they can be overwritten in place. Parameters
+     * share their array with the caller.
+     */
+    private boolean isUnshared(FunctionNode function, int varID) {
+        if (varID < function.getNumParams()) return false;
+        if (isCopied(function, varID) || isEscaped(function, varID)) return false;
+        HashSet<Integer> locs = getLocations(function, varID);
+        if (locs.isEmpty() || locs.contains(UNKNOWN)) return false;
+        ArrayList<Data> vars = function.getVariables();
+        for (int id = 0; id < vars.size(); ++id) {
+            if (id == varID || !isArrayOrView(vars.get(id))) continue;
+            for (Integer loc : getLocations(function, id)) {
+                if (locs.contains(loc)) return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether two array variables of a function may point to
+     * the same allocation. Variables without any known location, or
+     * that may point to an UNKNOWN one, are assumed to alias with
+     * everything.
+     */
+    public boolean mayAlias(FunctionNode function, int var1, int var2) {
+        if (var1 == var2) return true;
+        return mayOverlap(getLocations(function, var1), getLocations(function, var2));
+    }
+
+    /**
+     * Returns the length of an array variable if every allocation it
+     * may point to has the same constant dimensions and is never
+     * resized, or null otherwise. Strings have no constant length, since
+     * they start empty whatever their capacity.
+     */
+    public Long getConstantLength(FunctionNode function, int varID) {
+        HashSet<Integer> locs = getLocations(function, varID);
+        if (locs.isEmpty() || locs.contains(UNKNOWN)) return null;
+        for (Source src : resized) {
+            for (Integer loc : src.get()) {
+                if (locs.contains(loc)) return null;
+            }
+        }
+        Long length = null;
+        for (Integer loc : locs) {
+            CodeNode node = allocations.get(loc);
+            if (!(node instanceof ArrayNode) || ((ArrayNode) node).isString()) return null;
+            long n = 1;
+            for (ExpressionNode dim : ((ArrayNode) node).dims) {
+                Long value = LoopAnalyzer.getConstant(dim);
+                if (value == null) return null;
+                n *= value;
+            }
+            if (length != null && length.longValue() != n) return null;
+            length = n;
+        }
+        return length;
+    }
+
+    /** Checks whether two sets of locations may share an allocation */
+    private static boolean mayOverlap(HashSet<Integer> locs1, HashSet<Integer> locs2) {
+        if (locs1.isEmpty() || locs2.isEmpty()) return true;
+        if (locs1.contains(UNKNOWN) || locs2.contains(UNKNOWN)) return true;
+        for (Integer loc : locs1) {
+            if (locs2.contains(loc)) return true;
+        }
+        return false;
+    }
+
+    private boolean isRestrict(FunctionNode function, int varID) {
+        Data data = function.getVariables().get(varID);
+        if (!isArray(data) || data.isReference()) return false;
+        if (data.getSubData().getType() == Data.Type.ARRAY) return false;
+        if (isCopied(function, varID)) return false;
+
+        if (varID >= function.getNumParams()) {
+            return !getLocations(function, varID).contains(UNKNOWN);
+        }
+
+        // Every call must pass an array that no other argument reaches.
+        // An argument of unknown origin may be any of the others.
+        for (CallSite site : callSites) {
+            if (site.callee != function) continue;
+            HashSet<Integer> param = site.args.get(varID).get();
+            for (int j = 0; j < site.args.size(); ++j) {
+                if (j == varID || site.args.get(j) == null) continue;
+                if (mayOverlap(param, site.args.get(j).get())) return false;
+            }
+        }
+        return true;
+    }
+}
@@ -27,40 +27,99 @@
 
 package interp;
 
+import java.util.ArrayList;
 import java.lang.StringBuilder;
 
 public class ArrayAccessNode extends CodeNode {
     VariableNode var;
-    ExpressionNode expr;
+    ArrayList<ExpressionNode> indices;
 
-    public ArrayAccessNode(VariableNode var, Data data, ExpressionNode expr)
+    public ArrayAccessNode(VariableNode var, Data data, ArrayList<ExpressionNode> indices)
     {
         super(null);
-        this.expr = expr;
+        this.indices = indices;
         this.var = var;
         appendChild(var);
-        appendChild(expr);
+        for (ExpressionNode index : indices) {
+            appendChild(index);
+        }
         this.data = data;
     }
 
+    private String indexToC(ExpressionNode index) throws AplException {
+        index.getData().resolve();
+        if (!index.getData().isInteger()) {
+            return "(int)(" + index.toC() + ")";
+        }
+        return index.toC();
+    }
+
     @Override
     public String toC() throws AplException {
         StringBuilder str = new StringBuilder();
-        expr.getData().resolve();
 
-        str.append(var.toC());
-        str.append("[");
+        // Views are indexed through their descriptor
+        if (var.getData().getType() == Data.Type.VIEW) {
+            str.append(var.toC());
+            str.append(".base[(");
+            str.append(indexToC(indices.get(0)));
+            str.append(") * ");
+            str.append(var.toC());
+            str.append(".stride]");
+            return str.toString();
+        }
 
-        if (expr.getData().getType() != Data.Type.INT) {
-            str.append("(int)(");
-            str.append(expr.toC());
+        if (var.getData().isPacked()) {
+            CRuntime.require("apl_bits");
+            str.append("apl_bit(");
+            str.append(var.toC());
+            str.append(", ");
+            str.append(offsetToC());
             str.append(")");
-        } else {
-            str.append(expr.toC());
+            return str.toString();
         }
 
+        str.append(var.toC());
+        str.append("[");
+        str.append(offsetToC());
         str.append("]");
         return str.toString();
     }
-}
 
+    /** Row-major offset: ((i0) * dim1 + (i1)) * dim2 + (i2) */
+    private String offsetToC() throws AplException {
+        if (indices.size() == 1) {
+            return indexToC(indices.get(0));
+        }
+        CRuntime.require("apl_header");
+        String offset = "(" + indexToC(indices.get(0)) + ")";
+        for (int k = 1; k < indices.size(); ++k) {
+            offset = offset + " * APL_DIM(" + var.toC() + ", " + k + ") + (" + indexToC(indices.get(k)) + ")";
+            if (k+1 < indices.size()) offset = "(" + offset + ")";
+        }
+        return offset;
+    }
+
+    /** Checks whether the element is a bit of a packed array of bool */
+    public boolean isPacked() { return var.getData().isPacked(); }
+
+    /**
+     * Assignment of a value to a bit of a packed array. The other bits
+     * of its word may be written at the same time by other threads when
+     * the code can run in parallel, so the write is atomic there.
+     */
+    public String setToC(String value) throws AplException {
+        CRuntime.require("apl_bits");
+        return (inParallelCode() ? "apl_bit_set_atomic(" : "apl_bit_set(")
+               + var.toC() + ", " + offsetToC() + ", " + value + ");\n";
+    }
+
+    private boolean inParallelCode() {
+        for (CodeNode node = getParent(); node != null; node = node.getParent()) {
+            if (node instanceof ParallelNode) return true;
+            if (node instanceof ForNode && ((ForNode) node).isParallel()) return true;
+            if (node instanceof FunctionNode) return ((FunctionNode) node).isCalledInParallel();
+        }
+        return false;
+    }
+}
@@ -0,0 +1,332 @@
+/**
+ * Copyright (c) 2016, Alessio Linares and Guillermo Ojeda
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *    * Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright
+ *      notice, this list of conditions and the following disclaimer in the
+ *      documentation and/or other materials provided with the distribution.
+ *    * Neither the name of the <organization> nor the
+ *      names of its contributors may be used to endorse or promote products
+ *      derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+
+package interp;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.lang.StringBuilder;
+
+/**
+ * Assignment of a whole-array expression (element-wise operations
+ * between arrays and scalars, iota) or of its reduction (sum or product) to a
+ * variable. The expression is evaluated in a single loop over the
+ * elements, without intermediate arrays. The loop is vectorized, and
+ * outside parallel blocks it also runs in parallel when the arrays
+ * are large enough.
+ */
+
+public class ArrayExprNode extends CodeNode {
+    private boolean inPlace;
+    private boolean freeOld;
+    private boolean parallel;
+    private long threshold;
+    /** Local names of the slices of the expression */
+    private HashMap<CodeNode, String> views = new HashMap<CodeNode, String>();
+    /** Local names of the scalars computed before the loop */
+    private HashMap<CodeNode, String> scalars = new HashMap<CodeNode, String>();
+
+    public ArrayExprNode(VariableNode var, ExpressionNode expr, boolean parallel, long threshold)
+    {
+        super(null);
+        appendChild(var);
+        appendChild(expr);
+        this.parallel = parallel;
+        this.threshold = threshold;
+        this.data = var.getData();
+
+        // A view may reach elements of the target that were already
+        // written, so the result is then built apart. The alias
+        // analysis may still build it apart (see setInPlace).
+        ArrayList<CodeNode> operands = new ArrayList<CodeNode>();
+        getOperands(expr, operands);
+        boolean hasView = false;
+        for (CodeNode operand : operands) {
+            if (LoopAnalyzer.isVariable(operand, var.varID)) inPlace = true;
+            if (operand.getData().getType() == Data.Type.VIEW) hasView = true;
+        }
+        inPlace = inPlace && !hasView && getReduction() == null && !usesElement(expr, var.varID);
+    }
+
+    /** Checks whether an expression must be evaluated by an ArrayExprNode */
+    public static boolean isWholeArray(ExpressionNode expr) {
+        CodeNode node = LoopAnalyzer.unwrap(expr);
+        if (node instanceof ReduceNode || node instanceof IotaNode) return true;
+        return node instanceof ExpressionNode && node.getNumChilds() > 1
+               && expr.getData().isArray();
+    }
+
+    private ReduceNode getReduction() {
+        CodeNode node = LoopAnalyzer.unwrap(getChild(1));
+        return node instanceof ReduceNode ? (ReduceNode) node : null;
+    }
+
+    /** When the result is written in place, the target is also an operand */
+    public boolean isInPlace() { return inPlace; }
+
+    /**
+     * Builds the result apart when another variable, or the caller of
+     * the function, may reach the array of the target
+     */
+    public void setInPlace(boolean value) { inPlace = inPlace && value; }
+
+    /** Frees the array the target owned before the assignment */
+    public void setFreeOld(boolean value) { freeOld = value; }
+
+    /** Arrays, views and iotas of the expression, whose elements are combined */
+    private static void getOperands(CodeNode node, ArrayList<CodeNode> operands) {
+        if (node instanceof IotaNode || node instanceof SliceNode
+            || (node instanceof VariableNode && node.getData().isArray())) {
+            operands.add(node);
+        } else if (node instanceof ExpressionNode) {
+            for (int i = 0; i < node.getNumChilds(); ++i) {
+                getOperands(node.getChild(i), operands);
+            }
+        }
+    }
+
+    /**
+     * Scalars of the expression that are not constants or variables,
+     * such as calls or elements of arrays. They are computed once,
+     * before the loop, instead of once per element.
+     */
+    private static void getScalars(CodeNode node, ArrayList<CodeNode> scalars) {
+        if (node instanceof ExpressionNode) {
+            for (int i = 0; i < node.getNumChilds(); ++i) {
+                getScalars(node.getChild(i), scalars);
+            }
+        } else if (!(node instanceof VariableNode || node instanceof ConstantNode || node instanceof OperatorNode
+                     || node instanceof IotaNode || node instanceof SliceNode || node.getData().isArray())) {
+            scalars.add(node);
+        }
+    }
+
+    /** Checks whether an element of the variable is used as a scalar */
+    private static boolean usesElement(CodeNode node, int varID) {
+        if (node instanceof VariableNode || node instanceof OperatorNode || node instanceof ConstantNode) return false;
+        if (!(node instanceof ExpressionNode)) return LoopAnalyzer.usesVariable(node, varID);
+        for (int i = 0; i < node.getNumChilds(); ++i) {
+            if (usesElement(node.getChild(i), varID)) return true;
+        }
+        return false;
+    }
+
+    private String operandToC(CodeNode operand) throws AplException {
+        String name = views.get(operand);
+        return name != null ? name : operand.toC();
+    }
+
+    private String lengthToC(CodeNode operand) throws AplException {
+        if (operand instanceof IotaNode) return ((IotaNode) operand).lengthToC();
+        if (operand instanceof SliceNode) return operandToC(operand) + ".len";
+        if (operand.getData().getType() == Data.Type.VIEW) return operand.toC() + ".len";
+        return "APL_LEN(" + operand.toC() + ")";
+    }
+
+    /** Rank and dimensions of an operand: views and iotas have one */
+    private String shapeToC(CodeNode operand) throws AplException {
+        if (operand instanceof IotaNode || operand.getData().getType() == Data.Type.VIEW) {
+            return "1, (long[]) {" + lengthToC(operand) + "}";
+        }
+        CRuntime.require("apl_header");
+        String array = operandToC(operand);
+        return "APL_HEADER(" + array + ")->rank, APL_HEADER(" + array + ")->dim";
+    }
+
+    /** Value of the element apl_k of the expression */
+    private String elementToC(CodeNode node) throws AplException {
+        if (node instanceof IotaNode) return "apl_k";
+        if (node instanceof SliceNode
+            || (node instanceof VariableNode && node.getData().getType() == Data.Type.VIEW)) {
+            return operandToC(node) + ".base[apl_k * " + operandToC(node) + ".stride]";
+        }
+        if (node instanceof VariableNode && node.getData().isPacked()) {
+            CRuntime.require("apl_bits");
+            return "apl_bit(" + node.toC() + ", apl_k)";
+        }
+        if (node instanceof VariableNode && node.getData().getType() == Data.Type.ARRAY) {
+            return node.toC() + "[apl_k]";
+        }
+        if (scalars.containsKey(node)) return scalars.get(node);
+        if (!(node instanceof ExpressionNode)) return node.toC();
+
+        String str;
+        switch (node.getNumChilds()) {
+            case 1:
+                str = elementToC(node.getChild(0));
+                break;
+            case 2:
+                str = node.getChild(0).toC() + " " + elementToC(node.getChild(1));
+                break;
+            default:
+                str = elementToC(node.getChild(1)) + " " + node.getChild(0).toC() + " " + elementToC(node.getChild(2));
+        }
+        if (((ExpressionNode) node).isGroup()) str = "(" + str + ")";
+        return str;
+    }
+
+    private void appendLoop(StringBuilder str, String length, String reduction, String body) {
+        str.append("#pragma omp ");
+        if (parallel) str.append("parallel for ");
+        str.append("simd ");
+        if (reduction != null) {
+            str.append(reduction);
+            str.append(" ");
+        }
+        if (parallel) {
+            str.append("if(");
+            str.append(length);
+            str.append(" >= ");
+            str.append(Long.toString(threshold));
+            str.append(")");
+        }
+        str.append("\n");
+        str.append("for (long apl_k = 0; apl_k < ");
+        str.append(length);
+        str.append("; ++apl_k)\n{\n");
+        str.append(body);
+        str.append("}\n");
+    }
+
+    @Override
+    public String toC() throws AplException {
+        CRuntime.require("apl_len");
+        CodeNode var = getChild(0);
+        ReduceNode reduction = getReduction();
+        CodeNode expr = reduction == null ? getChild(1) : reduction.getChild(0);
+
+        ArrayList<CodeNode> operands = new ArrayList<CodeNode>();
+        getOperands(expr, operands);
+        if (operands.isEmpty()) {
+            throw new AplException("The reduced expression is not an array.");
+        }
+
+        Data elem = reduction == null ? data.getSubData() : reduction.getData();
+        elem.resolve();
+        if (elem.isArray() || elem.getType() == Data.Type.VOID) {
+            throw new AplException("Whole-array operations require arrays of numbers.");
+        }
+        if (reduction == null && data.isPacked()) {
+            throw new AplException("The result of a whole-array operation cannot be a packed array of bool.");
+        }
+
+        // The slices and the scalars are computed once, before the loop
+        views.clear();
+        scalars.clear();
+        StringBuilder decls = new StringBuilder();
+        for (CodeNode operand : operands) {
+            if (!(operand instanceof SliceNode)) continue;
+            String name = "apl_v" + views.size();
+            decls.append(operand.getData().typeToString());
+            decls.append(" ");
+            decls.append(name);
+            decls.append(" = ");
+            decls.append(operand.toC());
+            decls.append(";\n");
+            views.put(operand, name);
+        }
+        ArrayList<CodeNode> values = new ArrayList<CodeNode>();
+        getScalars(expr, values);
+        for (CodeNode value : values) {
+            String name = "apl_s" + scalars.size();
+            value.getData().resolve();
+            decls.append(value.getData().typeToString());
+            decls.append(" ");
+            decls.append(name);
+            decls.append(" = ");
+            decls.append(value.toC());
+            decls.append(";\n");
+            scalars.put(value, name);
+        }
+        if (!views.isEmpty() || !scalars.isEmpty()) {
+            return "{\n" + decls.toString() + loopToC(var, reduction, expr, elem, operands) + "}\n";
+        }
+        return loopToC(var, reduction, expr, elem, operands);
+    }
+
+    private String loopToC(CodeNode var, ReduceNode reduction, CodeNode expr, Data elem, ArrayList<CodeNode> operands) throws AplException {
+        StringBuilder str = new StringBuilder();
+
+        // All the arrays must have the same shape. An operand repeated
+        // in the expression is checked once.
+        String length = lengthToC(operands.get(0));
+        String shape = shapeToC(operands.get(0));
+        HashSet<String> checked = new HashSet<String>();
+        checked.add(shape);
+        for (int i = 1; i < operands.size(); ++i) {
+            String other = shapeToC(operands.get(i));
+            if (!checked.add(other)) continue;
+            CRuntime.require("apl_conform");
+            str.append("apl_conform(");
+            str.append(shape);
+            str.append(", ");
+            str.append(other);
+            str.append(");\n");
+        }
+
+        if (reduction != null) {
+            str.append("{\n");
+            str.append(elem.typeToString());
+            str.append(" apl_r = ");
+            str.append(reduction.identity());
+            str.append(";\n");
+            appendLoop(str, length, "reduction(" + reduction.op + ":apl_r)",
+                       "apl_r = apl_r " + reduction.op + " " + elementToC(expr) + ";\n");
+            str.append(var.toC());
+            str.append(" = apl_r;\n}\n");
+            return str.toString();
+        }
+
+        if (inPlace) {
+            appendLoop(str, length, null, var.toC() + "[apl_k] = " + elementToC(expr) + ";\n");
+            return str.toString();
+        }
+
+        // The result takes the shape of the first operand. It is built
+        // apart since the old value of the variable can still be read.
+        CRuntime.require("apl_alloc");
+        str.append("{\n");
+        str.append(elem.elementTypeToString());
+        str.append("* apl_t = apl_alloc(sizeof(");
+        str.append(elem.elementTypeToString());
+        str.append("), ");
+        str.append(shape);
+        str.append(");\n");
+        appendLoop(str, length, null, "apl_t[apl_k] = " + elementToC(expr) + ";\n");
+        if (freeOld) {
+            CRuntime.require("apl_free");
+            str.append("apl_free(");
+            str.append(var.toC());
+            str.append(");\n");
+        }
+        str.append(var.toC());
+        str.append(" = apl_t;\n}\n");
+        return str.toString();
+    }
+}
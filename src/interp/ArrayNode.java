@@ -27,38 +27,80 @@
 
 package interp;
 
+import java.util.ArrayList;
 import java.lang.StringBuilder;
 
 public class ArrayNode extends CodeNode {
-    ExpressionNode expr;
+    ArrayList<ExpressionNode> dims;
+    /** Buffer that keeps the array between iterations (see BufferNode) */
+    private BufferNode buffer = null;
 
-    public ArrayNode(Data data, ExpressionNode expr)
+    public ArrayNode(Data data, ArrayList<ExpressionNode> dims)
     {
         super(null);
         this.data = data;
-        this.expr = expr;
+        this.dims = dims;
+        for (ExpressionNode dim : dims) {
+            appendChild(dim);
+        }
+    }
+
+    /** Reuses the array allocated in a previous iteration of a loop */
+    public void setBuffer(BufferNode buffer) { this.buffer = buffer; }
+
+    /**
+     * Checks whether the allocation is a string (char[n]), which starts
+     * empty: n is only its capacity (see apl_empty_str in CRuntime)
+     */
+    public boolean isString() {
+        return dims.size() == 1 && data.getSubData().getType() == Data.Type.CHAR;
     }
 
     @Override
     public String toC() throws AplException {
         StringBuilder str = new StringBuilder();
-        expr.getData().resolve();
 
-        str.append("malloc(");
+        boolean string = isString();
+        if (string) {
+            CRuntime.require("apl_empty_str");
+            str.append("apl_empty_str(");
+        }
 
-        if (expr.getData().getType() != Data.Type.INT) {
-            str.append("(int)(");
-            str.append(expr.toC());
-            str.append(")");
+        // The dimensions are stored in a header before the data
+        if (data.isPacked()) {
+            CRuntime.require("apl_bits");
+            str.append("apl_alloc_bits(");
+        } else if (buffer != null) {
+            CRuntime.require("apl_reuse");
+            str.append("apl_reuse(&");
+            str.append(buffer.slotToC(this));
+            str.append(", sizeof(");
         } else {
-            str.append(expr.toC());
+            CRuntime.require("apl_alloc");
+            str.append("apl_alloc(sizeof(");
+        }
+        if (!data.isPacked()) {
+            str.append(data.getSubData().elementTypeToString());
+            str.append("), ");
+        }
+        str.append(Integer.toString(dims.size()));
+        str.append(", (long[]) {");
+
+        for (int i = 0; i < dims.size(); ++i) {
+            ExpressionNode dim = dims.get(i);
+            dim.getData().resolve();
+            if (i != 0) str.append(", ");
+            if (dim.getData().getType() != Data.Type.INT) {
+                str.append("(long)(");
+                str.append(dim.toC());
+                str.append(")");
+            } else {
+                str.append(dim.toC());
+            }
         }
 
-        str.append(" * sizeof(");
-        str.append(data.getSubData().typeToString());
-        str.append("))");
+        str.append("})");
+        if (string) str.append(")");
         return str.toString();
     }
 }
-
-
@@ -41,6 +41,9 @@ public class AssignNode extends CodeNode {
     @Override
     public String toC() throws AplException {
         StringBuilder str = new StringBuilder();
+        if (getChild(0) instanceof ArrayAccessNode && ((ArrayAccessNode) getChild(0)).isPacked()) {
+            return ((ArrayAccessNode) getChild(0)).setToC(getChild(1).toC());
+        }
         str.append(getChild(0).toC());
         str.append(" = ");
         str.append(getChild(1).toC());
@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) 2016, Alessio Linares and Guillermo Ojeda
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *    * Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright
+ *      notice, this list of conditions and the following disclaimer in the
+ *      documentation and/or other materials provided with the distribution.
+ *    * Neither the name of the <organization> nor the
+ *      names of its contributors may be used to endorse or promote products
+ *      derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+
+package interp;
+
+import java.lang.StringBuilder;
+
+/**
+ * bench n ... end: runs the block once to warm up and then n times,
+ * and writes the minimum, median and maximum time of the runs. It is
+ * a loop for the analyses, so it extends WhileNode (the number of runs
+ * takes the place of the condition).
+ */
+
+public class BenchNode extends WhileNode {
+    private int line;
+
+    public BenchNode(ExpressionNode runs, BlockInstrNode block, int line) throws AplException {
+        super(runs, block);
+        runs.getData().resolve();
+        if (!runs.getData().isInteger()) {
+            throw new AplException("The number of runs of bench must be an integer.");
+        }
+        this.line = line;
+    }
+
+    @Override
+    public String toC() throws AplException {
+        StringBuilder str = new StringBuilder();
+        CRuntime.require("apl_bench");
+
+        // The run -1 is the warm-up
+        str.append("{\nlong apl_runs = ");
+        str.append(getChild(0).toC());
+        str.append(";\ndouble* apl_times = apl_bench_times(apl_runs);\n");
+        str.append("for (long apl_run = -1; apl_run < apl_runs; ++apl_run) {\n");
+        str.append("double apl_start = omp_get_wtime();\n");
+        str.append(getChild(1).toC());
+        str.append("if (apl_run >= 0) apl_times[apl_run] = omp_get_wtime() - apl_start;\n");
+        str.append("}\napl_bench_report(apl_times, apl_runs, ");
+        str.append(Integer.toString(line));
+        str.append(");\n}\n");
+        return str.toString();
+    }
+}
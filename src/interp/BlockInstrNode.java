@@ -43,7 +43,7 @@ public class BlockInstrNode extends CodeNode {
 
         str.append("{\n");
         for (int i = 0; i < getNumChilds(); ++i) {
-            str.append(getChild(i).toC());
+            str.append(instructionToC(getChild(i)));
         }
         str.append("}\n");
 
@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) 2016, Alessio Linares and Guillermo Ojeda
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *    * Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright
+ *      notice, this list of conditions and the following disclaimer in the
+ *      documentation and/or other materials provided with the distribution.
+ *    * Neither the name of the <organization> nor the
+ *      names of its contributors may be used to endorse or promote products
+ *      derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package interp;
+
+import java.util.ArrayList;
+import java.lang.StringBuilder;
+
+/**
+ * Loop whose array allocations have been hoisted: the arrays are
+ * allocated in the first iteration and reused by the next ones. The
+ * buffers are declared before the loop, with a slot per thread when
+ * the loop (or a parallel block inside it) runs in parallel. They are
+ * freed after the loop when the program freed them in every iteration.
+ */
+
+public class BufferNode extends CodeNode {
+    private static int numBuffers = 0;
+
+    private class Buffer {
+        ArrayNode alloc;
+        String name;
+        boolean perThread;
+        boolean freed;
+    }
+
+    private ArrayList<Buffer> buffers = new ArrayList<Buffer>();
+
+    /** The loop is appended as the only child */
+    public BufferNode()
+    {
+        super(null);
+    }
+
+    /** Keeps the array allocated by alloc between iterations */
+    public void addBuffer(ArrayNode alloc, boolean perThread, boolean freed) {
+        Buffer buffer = new Buffer();
+        buffer.alloc = alloc;
+        buffer.name = "apl_buf" + numBuffers++;
+        buffer.perThread = perThread;
+        buffer.freed = freed;
+        buffers.add(buffer);
+        alloc.setBuffer(this);
+    }
+
+    /** Slot of the buffer used by an allocation */
+    public String slotToC(ArrayNode alloc) throws AplException {
+        for (Buffer buffer : buffers) {
+            if (buffer.alloc != alloc) continue;
+            if (buffer.perThread) return buffer.name + "[omp_get_thread_num()]";
+            return buffer.name;
+        }
+        throw new AplException("Allocation without a buffer.");
+    }
+
+    @Override
+    public String toC() throws AplException {
+        StringBuilder str = new StringBuilder();
+        str.append("{\n");
+        for (Buffer buffer : buffers) {
+            if (buffer.perThread) {
+                CRuntime.require("apl_buffers");
+                str.append("void** ");
+                str.append(buffer.name);
+                str.append(" = apl_buffers();\n");
+            } else {
+                str.append("void* ");
+                str.append(buffer.name);
+                str.append(" = NULL;\n");
+            }
+        }
+
+        str.append(getChild(0).toC());
+
+        for (Buffer buffer : buffers) {
+            if (buffer.perThread) {
+                str.append("apl_free_buffers(");
+                str.append(buffer.name);
+                str.append(buffer.freed ? ", 1);\n" : ", 0);\n");
+            } else if (buffer.freed) {
+                CRuntime.require("apl_free");
+                str.append("apl_free(");
+                str.append(buffer.name);
+                str.append(");\n");
+            }
+        }
+        str.append("}\n");
+        return str.toString();
+    }
+}
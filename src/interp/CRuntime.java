@@ -0,0 +1,1238 @@
+/**
+ * Copyright (c) 2016, Alessio Linares and Guillermo Ojeda
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *    * Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright
+ *      notice, this list of conditions and the following disclaimer in the
+ *      documentation and/or other materials provided with the distribution.
+ *    * Neither the name of the <organization> nor the
+ *      names of its contributors may be used to endorse or promote products
+ *      derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package interp;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.lang.StringBuilder;
+
+/**
+ * Small C runtime emitted together with the generated code. The nodes
+ * require the pieces they use while they are translated, and only
+ * those pieces (and the ones they depend on) are written before the
+ * functions of the program.
+ */
+
+public class CRuntime {
+
+    /** A piece of C code with the headers and pieces it depends on */
+    private static class Snippet {
+        String[] includes;
+        String[] requires;
+        String code;
+
+        Snippet(String[] includes, String[] requires, String code) {
+            this.includes = includes;
+            this.requires = requires;
+            this.code = code;
+        }
+    }
+
+    private static final HashMap<String, Snippet> snippets = new HashMap<String, Snippet>();
+    private static LinkedHashSet<String> included = new LinkedHashSet<String>();
+    private static LinkedHashSet<String> required = new LinkedHashSet<String>();
+
+    private static void define(String name, String[] includes, String[] requires, String code) {
+        snippets.put(name, new Snippet(includes, requires, code));
+    }
+
+    /**
+     * View of the elements of an array of a C type: base, number of
+     * elements and distance between consecutive elements.
+     */
+    private static void defineView(String name, String type) {
+        define("apl_view_" + name, new String[] {}, new String[] {},
+            "typedef struct {\n" +
+            "    " + type + "* base;\n" +
+            "    long len;\n" +
+            "    long stride;\n" +
+            "} apl_view_" + name + ";\n" +
+            "static inline apl_view_" + name + " apl_slice_" + name + "(" + type + "* base, long stride, long lo, long hi, long step)\n" +
+            "{\n" +
+            "    apl_view_" + name + " v = { base + lo * stride, hi > lo ? (hi - lo + step - 1) / step : 0, stride * step };\n" +
+            "    return v;\n" +
+            "}\n");
+    }
+
+    static {
+        // Arrays are preceded by a header with their length, the number
+        // of elements allocated (-1 if it is not allocated in the heap,
+        // APL_MAPPED if it is a file mapped in memory) and their
+        // dimensions. The header keeps the data aligned to 16
+        // bytes.
+        define("apl_header", new String[] {}, new String[] {},
+            "#define APL_MAX_RANK " + Data.MAX_RANK + "\n" +
+            "typedef struct {\n" +
+            "    _Alignas(16) long len;\n" +
+            "    long cap;\n" +
+            "    long rank;\n" +
+            "    long dim[APL_MAX_RANK];\n" +
+            "} apl_header;\n" +
+            "#define APL_MAPPED (-2)\n" +
+            "#define APL_HEADER(a) ((apl_header*)(a) - 1)\n" +
+            "#define APL_DIM(a, k) (APL_HEADER(a)->dim[k])\n");
+
+        define("apl_alloc", new String[] {}, new String[] {"apl_header"},
+            "static void* apl_alloc(size_t size, long rank, const long* dims)\n" +
+            "{\n" +
+            "    long n = 1;\n" +
+            "    for (long k = 0; k < rank; ++k) n *= dims[k];\n" +
+            "    apl_header* h = malloc(sizeof(apl_header) + n * size);\n" +
+            "    if (h == NULL) {\n" +
+            "        fprintf(stderr, \"Out of memory.\\n\");\n" +
+            "        exit(1);\n" +
+            "    }\n" +
+            "    h->len = n;\n" +
+            "    h->cap = n;\n" +
+            "    h->rank = rank;\n" +
+            "    for (long k = 0; k < APL_MAX_RANK; ++k) h->dim[k] = k < rank ? dims[k] : 1;\n" +
+            "    return h + 1;\n" +
+            "}\n");
+
+        define("apl_len", new String[] {}, new String[] {"apl_header"},
+            "#define APL_LEN(a) (APL_HEADER(a)->len)\n");
+
+        // Growable arrays: the capacity grows geometrically, so a
+        // sequence of push costs amortized constant time per element.
+        // NULL is an empty array, and arrays not in the heap are copied.
+        define("apl_grow", new String[] {"string.h"}, new String[] {"apl_header"},
+            "static void* apl_grow(void* a, size_t size, long n)\n" +
+            "{\n" +
+            "    apl_header* h = a != NULL ? APL_HEADER(a) : NULL;\n" +
+            "    if (h != NULL && n <= h->cap) return a;\n" +
+            "    long cap = h != NULL && h->cap > 4 ? h->cap : 4;\n" +
+            "    while (cap < n) cap *= 2;\n" +
+            "    if (h != NULL && h->cap < 0) {\n" +
+            "        apl_header* copy = malloc(sizeof(apl_header) + cap * size);\n" +
+            "        if (copy != NULL) memcpy(copy, h, sizeof(apl_header) + h->len * size);\n" +
+            "        h = copy;\n" +
+            "    } else {\n" +
+            "        apl_header* old = h;\n" +
+            "        h = realloc(h, sizeof(apl_header) + cap * size);\n" +
+            "        if (h != NULL && old == NULL) {\n" +
+            "            h->len = 0;\n" +
+            "            h->rank = 1;\n" +
+            "            for (long k = 0; k < APL_MAX_RANK; ++k) h->dim[k] = k == 0 ? 0 : 1;\n" +
+            "        }\n" +
+            "    }\n" +
+            "    if (h == NULL) {\n" +
+            "        fprintf(stderr, \"Out of memory.\\n\");\n" +
+            "        exit(1);\n" +
+            "    }\n" +
+            "    h->cap = cap;\n" +
+            "    return h + 1;\n" +
+            "}\n");
+
+        define("apl_resize", new String[] {}, new String[] {"apl_grow"},
+            "static void* apl_resize(void* a, size_t size, long n)\n" +
+            "{\n" +
+            "    a = apl_grow(a, size, n);\n" +
+            "    APL_HEADER(a)->len = APL_HEADER(a)->dim[0] = n;\n" +
+            "    return a;\n" +
+            "}\n" +
+            "\n" +
+            "static void* apl_push(void* a, size_t size)\n" +
+            "{\n" +
+            "    return apl_resize(a, size, a != NULL ? APL_HEADER(a)->len + 1 : 1);\n" +
+            "}\n");
+
+        // Strings are arrays of char whose length is the number of
+        // characters, which are followed by a zero. char[n] is an empty
+        // string with room for n - 1 characters.
+        define("apl_empty_str", new String[] {}, new String[] {"apl_header"},
+            "static char* apl_empty_str(char* s)\n" +
+            "{\n" +
+            "    APL_HEADER(s)->len = APL_HEADER(s)->dim[0] = 0;\n" +
+            "    if (APL_HEADER(s)->cap > 0) s[0] = '\\0';\n" +
+            "    return s;\n" +
+            "}\n");
+
+        define("apl_str_length", new String[] {"string.h"}, new String[] {"apl_header"},
+            "static void apl_str_length(char* s)\n" +
+            "{\n" +
+            "    APL_HEADER(s)->len = APL_HEADER(s)->dim[0] = strlen(s);\n" +
+            "}\n");
+
+        // write ... to s appends at the end of the string, so building a
+        // string costs the length of the pieces, not of the string. The
+        // string grows like push, and may be moved to a bigger allocation.
+        define("apl_str", new String[] {"string.h", "stdarg.h"}, new String[] {"apl_grow"},
+            "static char* apl_str_cat(char* s, const char* t)\n" +
+            "{\n" +
+            "    long len = s != NULL ? APL_HEADER(s)->len : 0;\n" +
+            "    long n = strlen(t);\n" +
+            "    int self = t == s;\n" +
+            "    s = apl_grow(s, sizeof(char), len + n + 1);\n" +
+            "    memmove(s + len, self ? s : t, n);\n" +
+            "    s[len + n] = '\\0';\n" +
+            "    APL_HEADER(s)->len = APL_HEADER(s)->dim[0] = len + n;\n" +
+            "    return s;\n" +
+            "}\n" +
+            "\n" +
+            "static char* apl_str_char(char* s, char c)\n" +
+            "{\n" +
+            "    long len = s != NULL ? APL_HEADER(s)->len : 0;\n" +
+            "    s = apl_grow(s, sizeof(char), len + 2);\n" +
+            "    s[len] = c;\n" +
+            "    s[len + 1] = '\\0';\n" +
+            "    APL_HEADER(s)->len = APL_HEADER(s)->dim[0] = len + 1;\n" +
+            "    return s;\n" +
+            "}\n" +
+            "\n" +
+            "// The number is formatted in place, and again after growing the\n" +
+            "// string only if it did not fit\n" +
+            "static char* apl_str_printf(char* s, const char* format, ...)\n" +
+            "{\n" +
+            "    long len = s != NULL ? APL_HEADER(s)->len : 0;\n" +
+            "    long room = s != NULL && APL_HEADER(s)->cap > len ? APL_HEADER(s)->cap - len : 0;\n" +
+            "    va_list args;\n" +
+            "    va_start(args, format);\n" +
+            "    int n = vsnprintf(room > 0 ? s + len : NULL, room, format, args);\n" +
+            "    va_end(args);\n" +
+            "    if (n >= room) {\n" +
+            "        s = apl_grow(s, sizeof(char), len + n + 1);\n" +
+            "        va_start(args, format);\n" +
+            "        vsnprintf(s + len, n + 1, format, args);\n" +
+            "        va_end(args);\n" +
+            "    }\n" +
+            "    APL_HEADER(s)->len = APL_HEADER(s)->dim[0] = len + n;\n" +
+            "    return s;\n" +
+            "}\n");
+
+        // Arrays allocated inside a loop are only allocated in the first
+        // iteration. The buffers of parallel loops have a slot per thread.
+        define("apl_reuse", new String[] {}, new String[] {"apl_alloc"},
+            "static void* apl_reuse(void** buffer, size_t size, long rank, const long* dims)\n" +
+            "{\n" +
+            "    if (*buffer == NULL) *buffer = apl_alloc(size, rank, dims);\n" +
+            "    return *buffer;\n" +
+            "}\n");
+        define("apl_buffers", new String[] {}, new String[] {"apl_free"},
+            "static void** apl_buffers(void)\n" +
+            "{\n" +
+            "    void** buffers = calloc(omp_get_max_threads(), sizeof(void*));\n" +
+            "    if (buffers == NULL) {\n" +
+            "        fprintf(stderr, \"Out of memory.\\n\");\n" +
+            "        exit(1);\n" +
+            "    }\n" +
+            "    return buffers;\n" +
+            "}\n" +
+            "\n" +
+            "static void apl_free_buffers(void** buffers, int arrays)\n" +
+            "{\n" +
+            "    if (arrays) {\n" +
+            "        for (int t = 0; t < omp_get_max_threads(); ++t) apl_free(buffers[t]);\n" +
+            "    }\n" +
+            "    free(buffers);\n" +
+            "}\n");
+
+        // The arguments of main are copied to arrays with a header. The
+        // strings keep the final zero, which is not counted in the length.
+        // The array and the strings share a block that is freed when main
+        // returns (apl_free_argv). Like the literals, they are not in the
+        // heap for the program (cap -1): apl_free leaves them and apl_grow
+        // copies them.
+        define("apl_argv", new String[] {"string.h"}, new String[] {"apl_header"},
+            "#define APL_ARGV_SIZE(n) ((sizeof(apl_header) + (n) + 15) / 16 * 16)\n" +
+            "\n" +
+            "static void apl_argv_header(apl_header* h, long n)\n" +
+            "{\n" +
+            "    h->len = n;\n" +
+            "    h->cap = -1;\n" +
+            "    h->rank = 1;\n" +
+            "    for (long k = 0; k < APL_MAX_RANK; ++k) h->dim[k] = k == 0 ? n : 1;\n" +
+            "}\n" +
+            "\n" +
+            "static char** apl_argv(int argc, char** argv)\n" +
+            "{\n" +
+            "    size_t size = APL_ARGV_SIZE(argc * sizeof(char*));\n" +
+            "    for (int i = 0; i < argc; ++i) size += APL_ARGV_SIZE(strlen(argv[i]) + 1);\n" +
+            "    char* block = malloc(size);\n" +
+            "    if (block == NULL) {\n" +
+            "        fprintf(stderr, \"Out of memory.\\n\");\n" +
+            "        exit(1);\n" +
+            "    }\n" +
+            "    apl_argv_header((apl_header*) block, argc);\n" +
+            "    char** args = (char**) ((apl_header*) block + 1);\n" +
+            "    char* next = block + APL_ARGV_SIZE(argc * sizeof(char*));\n" +
+            "    for (int i = 0; i < argc; ++i) {\n" +
+            "        long n = strlen(argv[i]);\n" +
+            "        apl_argv_header((apl_header*) next, n);\n" +
+            "        args[i] = (char*) ((apl_header*) next + 1);\n" +
+            "        memcpy(args[i], argv[i], n + 1);\n" +
+            "        next += APL_ARGV_SIZE(n + 1);\n" +
+            "    }\n" +
+            "    return args;\n" +
+            "}\n" +
+            "\n" +
+            "static void apl_free_argv(char*** args)\n" +
+            "{\n" +
+            "    free(APL_HEADER(*args));\n" +
+            "}\n");
+
+        define("apl_conform", new String[] {}, new String[] {},
+            "static void apl_conform(long rank1, const long* dim1, long rank2, const long* dim2)\n" +
+            "{\n" +
+            "    int same = rank1 == rank2;\n" +
+            "    for (long k = 0; same && k < rank1; ++k) same = dim1[k] == dim2[k];\n" +
+            "    if (!same) {\n" +
+            "        fprintf(stderr, \"Arrays of different shapes (\");\n" +
+            "        for (long k = 0; k < rank1; ++k) fprintf(stderr, k > 0 ? \" %ld\" : \"%ld\", dim1[k]);\n" +
+            "        fprintf(stderr, \" and \");\n" +
+            "        for (long k = 0; k < rank2; ++k) fprintf(stderr, k > 0 ? \" %ld\" : \"%ld\", dim2[k]);\n" +
+            "        fprintf(stderr, \").\\n\");\n" +
+            "        exit(1);\n" +
+            "    }\n" +
+            "}\n");
+
+        defineView("int8", "signed char");
+        defineView("int16", "short");
+        defineView("int", "int");
+        defineView("int64", "long long");
+        defineView("float", "float");
+        defineView("double", "double");
+        defineView("char", "char");
+        defineView("bool", "unsigned char");
+
+        // Arrays of bool packed in words of 64 bits (-packbool). The
+        // header counts bits. Different bits of a word can be written by
+        // different threads, so the writes in parallel code are atomic.
+        define("apl_bits", new String[] {}, new String[] {"apl_alloc"},
+            "static void* apl_alloc_bits(long rank, const long* dims)\n" +
+            "{\n" +
+            "    long n = 1;\n" +
+            "    for (long k = 0; k < rank; ++k) n *= dims[k];\n" +
+            "    void* a = apl_alloc(sizeof(unsigned long long), 1, (long[]) {(n + 63) / 64});\n" +
+            "    apl_header* h = APL_HEADER(a);\n" +
+            "    h->len = n;\n" +
+            "    h->cap = (n + 63) / 64 * 64;\n" +
+            "    h->rank = rank;\n" +
+            "    for (long k = 0; k < APL_MAX_RANK; ++k) h->dim[k] = k < rank ? dims[k] : 1;\n" +
+            "    return a;\n" +
+            "}\n" +
+            "static inline int apl_bit(const unsigned long long* a, long i)\n" +
+            "{\n" +
+            "    return (a[i >> 6] >> (i & 63)) & 1;\n" +
+            "}\n" +
+            "static inline void apl_bit_set(unsigned long long* a, long i, int v)\n" +
+            "{\n" +
+            "    unsigned long long m = 1ULL << (i & 63);\n" +
+            "    if (v) a[i >> 6] |= m;\n" +
+            "    else a[i >> 6] &= ~m;\n" +
+            "}\n" +
+            "static inline void apl_bit_set_atomic(unsigned long long* a, long i, int v)\n" +
+            "{\n" +
+            "    unsigned long long m = 1ULL << (i & 63);\n" +
+            "    if (v) __atomic_fetch_or(&a[i >> 6], m, __ATOMIC_RELAXED);\n" +
+            "    else __atomic_fetch_and(&a[i >> 6], ~m, __ATOMIC_RELAXED);\n" +
+            "}\n");
+
+        // Output of write: each thread appends to its own buffer, which
+        // goes to stdout in large chunks, so the threads do not contend
+        // on the lock of the stream. The buffers are flushed before and
+        // at the end of the parallel blocks, before reading and at exit.
+        // In an ordered pfor, the output of each iteration is kept and
+        // moved to a shared buffer in the order of the iterations.
+        define("apl_out", new String[] {"unistd.h", "string.h", "errno.h"}, new String[] {},
+            "#define APL_OUT_CHUNK 65536\n" +
+            "typedef struct {\n" +
+            "    char* data;\n" +
+            "    size_t len;\n" +
+            "    size_t cap;\n" +
+            "    int hold;\n" +
+            "} apl_out_buf;\n" +
+            "static _Thread_local apl_out_buf apl_out;\n" +
+            "\n" +
+            "static void apl_out_write(apl_out_buf* b)\n" +
+            "{\n" +
+            "    size_t done = 0;\n" +
+            "    while (done < b->len) {\n" +
+            "        ssize_t n = write(1, b->data + done, b->len - done);\n" +
+            "        if (n < 0 && errno == EINTR) continue;\n" +
+            "        if (n <= 0) break;\n" +
+            "        done += n;\n" +
+            "    }\n" +
+            "    b->len = 0;\n" +
+            "}\n" +
+            "\n" +
+            "static void apl_out_put(apl_out_buf* b, const char* s, size_t n)\n" +
+            "{\n" +
+            "    if (b->len + n > b->cap) {\n" +
+            "        size_t cap = b->cap > 0 ? 2 * b->cap : APL_OUT_CHUNK;\n" +
+            "        while (cap < b->len + n) cap *= 2;\n" +
+            "        b->data = realloc(b->data, cap);\n" +
+            "        if (b->data == NULL) {\n" +
+            "            fprintf(stderr, \"Out of memory.\\n\");\n" +
+            "            exit(1);\n" +
+            "        }\n" +
+            "        b->cap = cap;\n" +
+            "    }\n" +
+            "    memcpy(b->data + b->len, s, n);\n" +
+            "    b->len += n;\n" +
+            "    if (!b->hold && b->len >= APL_OUT_CHUNK) apl_out_write(b);\n" +
+            "}\n" +
+            "\n" +
+            "static void apl_out_flush(void)\n" +
+            "{\n" +
+            "    apl_out_write(&apl_out);\n" +
+            "}\n" +
+            "\n" +
+            "__attribute__((constructor)) static void apl_out_init(void)\n" +
+            "{\n" +
+            "    atexit(apl_out_flush);\n" +
+            "}\n");
+        define("apl_out_ordered", new String[] {}, new String[] {"apl_out"},
+            "static apl_out_buf apl_out_shared;\n" +
+            "\n" +
+            "static void apl_out_begin_ordered(void)\n" +
+            "{\n" +
+            "    apl_out_write(&apl_out);\n" +
+            "    apl_out.hold = 1;\n" +
+            "}\n" +
+            "\n" +
+            "static void apl_out_ordered(void)\n" +
+            "{\n" +
+            "    apl_out_put(&apl_out_shared, apl_out.data, apl_out.len);\n" +
+            "    apl_out.len = 0;\n" +
+            "}\n" +
+            "\n" +
+            "static void apl_out_end_ordered(void)\n" +
+            "{\n" +
+            "    apl_out.hold = 0;\n" +
+            "}\n" +
+            "\n" +
+            "static void apl_out_flush_ordered(void)\n" +
+            "{\n" +
+            "    apl_out_write(&apl_out_shared);\n" +
+            "}\n");
+        define("apl_write_str", new String[] {}, new String[] {"apl_out"},
+            "static void apl_write_str(const char* s)\n" +
+            "{\n" +
+            "    apl_out_put(&apl_out, s, strlen(s));\n" +
+            "    apl_out_put(&apl_out, \"\\n\", 1);\n" +
+            "}\n");
+        define("apl_write_char", new String[] {}, new String[] {"apl_out"},
+            "static void apl_write_char(char c)\n" +
+            "{\n" +
+            "    char s[2] = { c, '\\n' };\n" +
+            "    apl_out_put(&apl_out, s, 2);\n" +
+            "}\n");
+        define("apl_write_int", new String[] {}, new String[] {"apl_out"},
+            "static void apl_write_int(long long v)\n" +
+            "{\n" +
+            "    char s[24];\n" +
+            "    char* p = s + sizeof(s);\n" +
+            "    unsigned long long u = v < 0 ? 0ULL - (unsigned long long) v : (unsigned long long) v;\n" +
+            "    *--p = '\\n';\n" +
+            "    do {\n" +
+            "        *--p = '0' + u % 10;\n" +
+            "        u /= 10;\n" +
+            "    } while (u != 0);\n" +
+            "    if (v < 0) *--p = '-';\n" +
+            "    apl_out_put(&apl_out, p, s + sizeof(s) - p);\n" +
+            "}\n");
+        // Formatted in place, without the lock of the stream
+        define("apl_write_float", new String[] {}, new String[] {"apl_out"},
+            "static void apl_write_float(double v)\n" +
+            "{\n" +
+            "    char s[352];\n" +
+            "    int n = snprintf(s, sizeof(s), \"%f\\n\", v);\n" +
+            "    apl_out_put(&apl_out, s, n);\n" +
+            "}\n");
+
+        // The address and length of a mapping are stored before the
+        // header of the array (see apl_read_binary). They are reached
+        // through an integer address since, for the compiler, the header
+        // may be the start of an allocation.
+        define("apl_free", new String[] {"sys/mman.h", "stdint.h"}, new String[] {"apl_header"},
+            "#define APL_MAP_INFO(h) ((size_t*) ((uintptr_t) (h) - 2 * sizeof(size_t)))\n" +
+            "\n" +
+            "static void apl_free(void* a)\n" +
+            "{\n" +
+            "    if (a == NULL) return;\n" +
+            "    apl_header* h = APL_HEADER(a);\n" +
+            "    if (h->cap >= 0) {\n" +
+            "        free(h);\n" +
+            "    } else if (h->cap == APL_MAPPED) {\n" +
+            "        size_t* map = APL_MAP_INFO(h);\n" +
+            "        munmap((void*) map[0], map[1]);\n" +
+            "    }\n" +
+            "}\n");
+
+        // rand(), rand_float() and seed(s). Each number is a hash (the
+        // splitmix64 finalizer) of the seed, a stream and the number of
+        // numbers drawn from the stream since the last seed, so there is
+        // no shared state to lock. Inside an iteration of a parallel loop
+        // (between apl_rand_iter and apl_rand_iter_end) the stream is the
+        // iteration, so the numbers do not depend on the schedule nor on
+        // the number of threads. Elsewhere it is the thread, and a run is
+        // reproducible given the seed and the work of each thread. seed(s)
+        // restarts every stream; the threads see it through the epoch.
+        define("apl_rand", new String[] {}, new String[] {},
+            "static unsigned long long apl_rand_seed = 0;\n" +
+            "static unsigned long apl_rand_epoch = 1;\n" +
+            "static _Thread_local struct {\n" +
+            "    unsigned long epoch;\n" +
+            "    unsigned long long seed, count;\n" +
+            "    int iter;\n" +
+            "    unsigned long long iter_key, iter_count;\n" +
+            "} apl_rand_state;\n" +
+            "\n" +
+            "static inline unsigned long long apl_rand_mix(unsigned long long z)\n" +
+            "{\n" +
+            "    z = (z ^ (z >> 30)) * 0xBF58476D1CE4E5B9ULL;\n" +
+            "    z = (z ^ (z >> 27)) * 0x94D049BB133111EBULL;\n" +
+            "    return z ^ (z >> 31);\n" +
+            "}\n" +
+            "\n" +
+            "static void apl_seed(long long s)\n" +
+            "{\n" +
+            "    __atomic_store_n(&apl_rand_seed, s, __ATOMIC_RELAXED);\n" +
+            "    __atomic_add_fetch(&apl_rand_epoch, 1, __ATOMIC_RELEASE);\n" +
+            "}\n" +
+            "\n" +
+            "static inline void apl_rand_sync(void)\n" +
+            "{\n" +
+            "    unsigned long epoch = __atomic_load_n(&apl_rand_epoch, __ATOMIC_ACQUIRE);\n" +
+            "    if (apl_rand_state.epoch != epoch) {\n" +
+            "        apl_rand_state.epoch = epoch;\n" +
+            "        apl_rand_state.seed = __atomic_load_n(&apl_rand_seed, __ATOMIC_RELAXED);\n" +
+            "        apl_rand_state.count = 0;\n" +
+            "        apl_rand_state.iter_count = 0;\n" +
+            "    }\n" +
+            "}\n" +
+            "\n" +
+            "static inline void apl_rand_iter(unsigned long long iter)\n" +
+            "{\n" +
+            "    apl_rand_state.iter = 1;\n" +
+            "    apl_rand_state.iter_key = iter;\n" +
+            "    apl_rand_state.iter_count = 0;\n" +
+            "}\n" +
+            "\n" +
+            "static inline void apl_rand_iter_end(void)\n" +
+            "{\n" +
+            "    apl_rand_state.iter = 0;\n" +
+            "}\n" +
+            "\n" +
+            "static inline unsigned long long apl_rand_next(void)\n" +
+            "{\n" +
+            "    apl_rand_sync();\n" +
+            "    unsigned long long key;\n" +
+            "    if (apl_rand_state.iter) {\n" +
+            "        key = apl_rand_mix(~apl_rand_state.seed + 0x9E3779B97F4A7C15ULL * apl_rand_state.iter_key);\n" +
+            "        return apl_rand_mix(key + 0x9E3779B97F4A7C15ULL * ++apl_rand_state.iter_count);\n" +
+            "    }\n" +
+            "    key = apl_rand_mix(apl_rand_state.seed + 0x9E3779B97F4A7C15ULL * (omp_get_thread_num() + 1));\n" +
+            "    return apl_rand_mix(key + 0x9E3779B97F4A7C15ULL * ++apl_rand_state.count);\n" +
+            "}\n");
+
+        // -profile: each region of the program has a slot of counters per
+        // thread, on its own cache line, so the threads count without
+        // atomics or sharing lines. time is the wall time of the region
+        // (the inclusive time of the outermost calls in functions), busy
+        // the time a thread works before waiting for the others at the
+        // end of a parallel block or pfor, and wait the time spent
+        // waiting to enter a critical section. A thread takes the next
+        // free slot the first time it counts, since omp_get_thread_num
+        // repeats across nested teams and may exceed the table; the
+        // threads beyond APL_PROFILE_THREADS are not measured, and their
+        // number is reported.
+        define("apl_profile", new String[] {"limits.h", "math.h"}, new String[] {},
+            "#define APL_PROFILE_THREADS 64\n" +
+            "typedef struct {\n" +
+            "    _Alignas(64) long calls;\n" +
+            "    long iters;\n" +
+            "    long depth;\n" +
+            "    double start;\n" +
+            "    double time;\n" +
+            "    double busy;\n" +
+            "    double wait;\n" +
+            "} apl_profile_slot;\n" +
+            "typedef struct {\n" +
+            "    const char* name;\n" +
+            "    int line;\n" +
+            "    apl_profile_slot slot[APL_PROFILE_THREADS];\n" +
+            "} apl_region;\n" +
+            "\n" +
+            "static int apl_prof_threads;\n" +
+            "static _Thread_local int apl_prof_id = -1;\n" +
+            "\n" +
+            "static inline apl_profile_slot* apl_prof_slot(apl_region* r)\n" +
+            "{\n" +
+            "    if (apl_prof_id < 0) {\n" +
+            "        #pragma omp atomic capture\n" +
+            "        apl_prof_id = apl_prof_threads++;\n" +
+            "    }\n" +
+            "    return apl_prof_id < APL_PROFILE_THREADS ? &r->slot[apl_prof_id] : NULL;\n" +
+            "}\n" +
+            "\n" +
+            "static inline void apl_prof_time(apl_region* r, double start)\n" +
+            "{\n" +
+            "    apl_profile_slot* s = apl_prof_slot(r);\n" +
+            "    if (s == NULL) return;\n" +
+            "    s->calls++;\n" +
+            "    s->time += omp_get_wtime() - start;\n" +
+            "}\n" +
+            "\n" +
+            "static inline void apl_prof_busy(apl_region* r, double start, long iters)\n" +
+            "{\n" +
+            "    apl_profile_slot* s = apl_prof_slot(r);\n" +
+            "    if (s == NULL) return;\n" +
+            "    s->busy += omp_get_wtime() - start;\n" +
+            "    s->iters += iters;\n" +
+            "}\n" +
+            "\n" +
+            "static inline void apl_prof_wait(apl_region* r, double start)\n" +
+            "{\n" +
+            "    apl_profile_slot* s = apl_prof_slot(r);\n" +
+            "    if (s == NULL) return;\n" +
+            "    s->calls++;\n" +
+            "    s->wait += omp_get_wtime() - start;\n" +
+            "}\n" +
+            "\n" +
+            "// Only the outermost of the recursive calls of a function is timed\n" +
+            "static inline apl_region* apl_prof_enter(apl_region* r)\n" +
+            "{\n" +
+            "    apl_profile_slot* s = apl_prof_slot(r);\n" +
+            "    if (s == NULL) return r;\n" +
+            "    s->calls++;\n" +
+            "    if (s->depth++ == 0) s->start = omp_get_wtime();\n" +
+            "    return r;\n" +
+            "}\n" +
+            "\n" +
+            "static inline void apl_prof_leave(apl_region** r)\n" +
+            "{\n" +
+            "    apl_profile_slot* s = apl_prof_slot(*r);\n" +
+            "    if (s == NULL) return;\n" +
+            "    if (--s->depth == 0) {\n" +
+            "        double t = omp_get_wtime() - s->start;\n" +
+            "        s->time += t;\n" +
+            "        s->busy += t;\n" +
+            "    }\n" +
+            "}\n" +
+            "\n" +
+            "typedef struct {\n" +
+            "    apl_region* region;\n" +
+            "    long calls, min_iters, max_iters;\n" +
+            "    double time, wait, min_busy, max_busy, busy;\n" +
+            "    int threads;\n" +
+            "} apl_profile_total;\n" +
+            "\n" +
+            "static int apl_profile_compare(const void* a, const void* b)\n" +
+            "{\n" +
+            "    double x = ((const apl_profile_total*) a)->time, y = ((const apl_profile_total*) b)->time;\n" +
+            "    return (x < y) - (x > y);\n" +
+            "}\n" +
+            "\n" +
+            "// The regions from the slowest. The imbalance is the busy time\n" +
+            "// of the slowest thread over the average (1 when balanced).\n" +
+            "static void apl_profile_print(apl_region* regions, int n)\n" +
+            "{\n" +
+            "    apl_profile_total* totals = calloc(n, sizeof(apl_profile_total));\n" +
+            "    if (totals == NULL) return;\n" +
+            "    for (int i = 0; i < n; ++i) {\n" +
+            "        apl_profile_total* t = &totals[i];\n" +
+            "        t->region = &regions[i];\n" +
+            "        t->min_busy = INFINITY;\n" +
+            "        t->min_iters = LONG_MAX;\n" +
+            "        for (int k = 0; k < APL_PROFILE_THREADS; ++k) {\n" +
+            "            apl_profile_slot* s = &regions[i].slot[k];\n" +
+            "            t->calls += s->calls;\n" +
+            "            t->time += s->time;\n" +
+            "            t->wait += s->wait;\n" +
+            "            if (s->busy == 0 && s->iters == 0) continue;\n" +
+            "            t->threads++;\n" +
+            "            t->busy += s->busy;\n" +
+            "            if (s->busy < t->min_busy) t->min_busy = s->busy;\n" +
+            "            if (s->busy > t->max_busy) t->max_busy = s->busy;\n" +
+            "            if (s->iters < t->min_iters) t->min_iters = s->iters;\n" +
+            "            if (s->iters > t->max_iters) t->max_iters = s->iters;\n" +
+            "        }\n" +
+            "    }\n" +
+            "    qsort(totals, n, sizeof(apl_profile_total), apl_profile_compare);\n" +
+            "    fprintf(stderr, \"%-16s %5s %10s %11s %8s %11s %11s %11s %9s %21s %11s\\n\", \"region\", \"line\", \"calls\",\n" +
+            "            \"time (s)\", \"threads\", \"busy min\", \"busy avg\", \"busy max\", \"imbalance\", \"iterations min-max\", \"wait (s)\");\n" +
+            "    for (int i = 0; i < n; ++i) {\n" +
+            "        apl_profile_total* t = &totals[i];\n" +
+            "        if (t->calls == 0 && t->threads == 0) continue;\n" +
+            "        fprintf(stderr, \"%-16s %5d %10ld %11.6f %8d\", t->region->name, t->region->line, t->calls, t->time, t->threads);\n" +
+            "        if (t->threads > 0) {\n" +
+            "            double avg = t->busy / t->threads;\n" +
+            "            fprintf(stderr, \" %11.6f %11.6f %11.6f %9.2f\", t->min_busy, avg, t->max_busy, avg > 0 ? t->max_busy / avg : 1.0);\n" +
+            "        } else {\n" +
+            "            fprintf(stderr, \" %11s %11s %11s %9s\", \"-\", \"-\", \"-\", \"-\");\n" +
+            "        }\n" +
+            "        if (t->max_iters > 0) fprintf(stderr, \" %10ld-%-10ld\", t->min_iters, t->max_iters);\n" +
+            "        else fprintf(stderr, \" %21s\", \"-\");\n" +
+            "        fprintf(stderr, \" %11.6f\\n\", t->wait);\n" +
+            "    }\n" +
+            "    if (apl_prof_threads > APL_PROFILE_THREADS) {\n" +
+            "        fprintf(stderr, \"%d threads beyond the first %d were not measured\\n\",\n" +
+            "                apl_prof_threads - APL_PROFILE_THREADS, APL_PROFILE_THREADS);\n" +
+            "    }\n" +
+            "    free(totals);\n" +
+            "}\n");
+
+        // bench n ... end keeps the time of each run and writes the
+        // minimum, the median and the maximum.
+        define("apl_bench", new String[] {}, new String[] {"apl_out"},
+            "static double* apl_bench_times(long runs)\n" +
+            "{\n" +
+            "    double* times = malloc((runs > 0 ? runs : 1) * sizeof(double));\n" +
+            "    if (times == NULL) {\n" +
+            "        fprintf(stderr, \"Out of memory.\\n\");\n" +
+            "        exit(1);\n" +
+            "    }\n" +
+            "    return times;\n" +
+            "}\n" +
+            "\n" +
+            "static int apl_bench_compare(const void* a, const void* b)\n" +
+            "{\n" +
+            "    double x = *(const double*) a, y = *(const double*) b;\n" +
+            "    return (x > y) - (x < y);\n" +
+            "}\n" +
+            "\n" +
+            "static void apl_bench_report(double* times, long runs, int line)\n" +
+            "{\n" +
+            "    if (runs > 0) {\n" +
+            "        char text[160];\n" +
+            "        qsort(times, runs, sizeof(double), apl_bench_compare);\n" +
+            "        double median = runs % 2 ? times[runs / 2] : (times[runs / 2 - 1] + times[runs / 2]) / 2;\n" +
+            "        int n = snprintf(text, sizeof(text), \"bench (line %d): min %.6f s, median %.6f s, max %.6f s, %ld runs\\n\",\n" +
+            "                         line, times[0], median, times[runs - 1], runs);\n" +
+            "        apl_out_put(&apl_out, text, n);\n" +
+            "    }\n" +
+            "    free(times);\n" +
+            "}\n");
+
+        // Numbers in strings (parse_int, parse_float and read ... from s).
+        // The whole string must be the number, with optional spaces.
+        define("apl_parse", new String[] {"limits.h"}, new String[] {},
+            "static void apl_parse_error(const char* s, const char* what)\n" +
+            "{\n" +
+            "    fprintf(stderr, \"Invalid %s `%s`.\\n\", what, s);\n" +
+            "    exit(1);\n" +
+            "}\n" +
+            "\n" +
+            "static const char* apl_parse_sign(const char* p, int* neg)\n" +
+            "{\n" +
+            "    while (*p == ' ' || (*p >= '\\t' && *p <= '\\r')) ++p;\n" +
+            "    *neg = *p == '-';\n" +
+            "    return *p == '-' || *p == '+' ? p + 1 : p;\n" +
+            "}\n" +
+            "\n" +
+            "static void apl_parse_end(const char* s, const char* p, const char* what)\n" +
+            "{\n" +
+            "    while (*p == ' ' || (*p >= '\\t' && *p <= '\\r')) ++p;\n" +
+            "    if (*p != '\\0') apl_parse_error(s, what);\n" +
+            "}\n");
+
+        // The digits are accumulated as long as the value stays between
+        // the limits of the type it is read to.
+        define("apl_parse_int", new String[] {}, new String[] {"apl_parse"},
+            "static long long apl_parse_int(const char* s, long long min, long long max)\n" +
+            "{\n" +
+            "    int neg;\n" +
+            "    const char* p = apl_parse_sign(s, &neg);\n" +
+            "    unsigned long long limit = neg ? -(unsigned long long) min : (unsigned long long) max;\n" +
+            "    unsigned long long v = 0;\n" +
+            "    if (*p < '0' || *p > '9') apl_parse_error(s, \"integer\");\n" +
+            "    for (; *p >= '0' && *p <= '9'; ++p) {\n" +
+            "        unsigned d = *p - '0';\n" +
+            "        if (v > (limit - d) / 10) apl_parse_error(s, \"integer (out of range)\");\n" +
+            "        v = v * 10 + d;\n" +
+            "    }\n" +
+            "    apl_parse_end(s, p, \"integer\");\n" +
+            "    return neg ? (long long) -v : (long long) v;\n" +
+            "}\n");
+
+        // Decimal numbers with at most 19 digits and a small exponent are
+        // exact in a double after a single multiplication or division by
+        // a power of ten, which is also exact. Other numbers (and inf,
+        // nan or hexadecimal ones) are converted by strtod.
+        define("apl_parse_float", new String[] {}, new String[] {"apl_parse"},
+            "static double apl_parse_float(const char* s)\n" +
+            "{\n" +
+            "    static const double pow10[] = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,\n" +
+            "                                    1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };\n" +
+            "    int neg;\n" +
+            "    const char* p = apl_parse_sign(s, &neg);\n" +
+            "    unsigned long long digits = 0;\n" +
+            "    int count = 0, exp = 0, any = 0;\n" +
+            "    for (; *p >= '0' && *p <= '9'; ++p, any = 1) {\n" +
+            "        if (digits != 0 || *p != '0') ++count;\n" +
+            "        digits = digits * 10 + (*p - '0');\n" +
+            "    }\n" +
+            "    if (*p == '.') {\n" +
+            "        for (++p; *p >= '0' && *p <= '9'; ++p, any = 1) {\n" +
+            "            if (digits != 0 || *p != '0') ++count;\n" +
+            "            digits = digits * 10 + (*p - '0');\n" +
+            "            --exp;\n" +
+            "        }\n" +
+            "    }\n" +
+            "    if (any && (*p == 'e' || *p == 'E')) {\n" +
+            "        int eneg;\n" +
+            "        const char* e = p + 1;\n" +
+            "        eneg = *e == '-';\n" +
+            "        if (*e == '-' || *e == '+') ++e;\n" +
+            "        if (*e >= '0' && *e <= '9') {\n" +
+            "            int value = 0;\n" +
+            "            for (; *e >= '0' && *e <= '9'; ++e) value = value < 10000 ? value * 10 + (*e - '0') : value;\n" +
+            "            exp += eneg ? -value : value;\n" +
+            "            p = e;\n" +
+            "        }\n" +
+            "    }\n" +
+            "    if (!any || count > 19 || exp < -22 || exp > 22 || digits > (1ULL << 53)) {\n" +
+            "        char* end;\n" +
+            "        double v = strtod(s, &end);\n" +
+            "        if (end == s) apl_parse_error(s, \"number\");\n" +
+            "        apl_parse_end(s, end, \"number\");\n" +
+            "        return v;\n" +
+            "    }\n" +
+            "    apl_parse_end(s, p, \"number\");\n" +
+            "    double v = exp < 0 ? (double) digits / pow10[-exp] : (double) digits * pow10[exp];\n" +
+            "    return neg ? -v : v;\n" +
+            "}\n");
+
+        // read ... from file. The files are mapped in memory.
+        define("apl_file", new String[] {"fcntl.h", "sys/mman.h", "sys/stat.h", "unistd.h"}, new String[] {},
+            "static int apl_open_file(const char* path, size_t* bytes)\n" +
+            "{\n" +
+            "    struct stat st;\n" +
+            "    int fd = open(path, O_RDONLY);\n" +
+            "    if (fd < 0 || fstat(fd, &st) != 0) {\n" +
+            "        fprintf(stderr, \"Cannot read file %s.\\n\", path);\n" +
+            "        exit(1);\n" +
+            "    }\n" +
+            "    *bytes = st.st_size;\n" +
+            "    return fd;\n" +
+            "}\n");
+
+        // A binary file becomes the storage of the array without being
+        // copied: the file is mapped just after an anonymous page that
+        // holds the header, and the pages are only read when they are
+        // used. Writes to the array do not change the file.
+        define("apl_read_binary", new String[] {}, new String[] {"apl_file", "apl_free"},
+            "static void* apl_read_binary(void* old, const char* path, size_t size)\n" +
+            "{\n" +
+            "    size_t bytes;\n" +
+            "    int fd = apl_open_file(path, &bytes);\n" +
+            "    if (bytes % size != 0) {\n" +
+            "        fprintf(stderr, \"The size of file %s is not a multiple of the size of the elements.\\n\", path);\n" +
+            "        exit(1);\n" +
+            "    }\n" +
+            "    long page = sysconf(_SC_PAGESIZE);\n" +
+            "    size_t length = page + bytes;\n" +
+            "    char* base = mmap(NULL, length, PROT_READ | PROT_WRITE, MAP_PRIVATE | MAP_ANONYMOUS, -1, 0);\n" +
+            "    if (base == MAP_FAILED\n" +
+            "        || (bytes > 0 && mmap(base + page, bytes, PROT_READ | PROT_WRITE, MAP_PRIVATE | MAP_FIXED, fd, 0) == MAP_FAILED)) {\n" +
+            "        fprintf(stderr, \"Cannot map file %s.\\n\", path);\n" +
+            "        exit(1);\n" +
+            "    }\n" +
+            "    close(fd);\n" +
+            "    apl_header* h = (apl_header*) (base + page) - 1;\n" +
+            "    size_t* map = APL_MAP_INFO(h);\n" +
+            "    map[0] = (size_t) base;\n" +
+            "    map[1] = length;\n" +
+            "    h->len = bytes / size;\n" +
+            "    h->cap = APL_MAPPED;\n" +
+            "    h->rank = 1;\n" +
+            "    for (long k = 0; k < APL_MAX_RANK; ++k) h->dim[k] = k == 0 ? h->len : 1;\n" +
+            "    apl_free(old);\n" +
+            "    return h + 1;\n" +
+            "}\n");
+
+        // A text file is parsed in parallel. It is split in a chunk per
+        // thread, each one starting after a whitespace so that no number
+        // is cut. The numbers of each chunk are counted first, which
+        // gives the position of the first number of every chunk in the
+        // array, and then converted.
+        define("apl_read_text", new String[] {"string.h"}, new String[] {"apl_file", "apl_alloc", "apl_free"},
+            "static int apl_is_space(char c)\n" +
+            "{\n" +
+            "    return c == ' ' || c == '\\n' || c == '\\t' || c == '\\r' || c == '\\v' || c == '\\f';\n" +
+            "}\n" +
+            "\n" +
+            "static size_t apl_chunk_start(const char* text, size_t bytes, int chunk, int chunks)\n" +
+            "{\n" +
+            "    size_t b = bytes / chunks * chunk + bytes % chunks * chunk / chunks;\n" +
+            "    while (b > 0 && b < bytes && !apl_is_space(text[b - 1])) ++b;\n" +
+            "    return b;\n" +
+            "}\n" +
+            "\n" +
+            "static void apl_parse_number(const char* p, size_t n, void* a, long i, size_t size, int real, const char* path)\n" +
+            "{\n" +
+            "    char s[64];\n" +
+            "    char* end = s;\n" +
+            "    if (n < sizeof(s)) {\n" +
+            "        memcpy(s, p, n);\n" +
+            "        s[n] = '\\0';\n" +
+            "        if (real) {\n" +
+            "            double v = strtod(s, &end);\n" +
+            "            if (size == sizeof(float)) ((float*) a)[i] = v;\n" +
+            "            else ((double*) a)[i] = v;\n" +
+            "        } else {\n" +
+            "            long long v = strtoll(s, &end, 10);\n" +
+            "            switch (size) {\n" +
+            "                case 1: ((signed char*) a)[i] = v; break;\n" +
+            "                case 2: ((short*) a)[i] = v; break;\n" +
+            "                case 4: ((int*) a)[i] = v; break;\n" +
+            "                default: ((long long*) a)[i] = v;\n" +
+            "            }\n" +
+            "        }\n" +
+            "    }\n" +
+            "    if (end != s + n) {\n" +
+            "        fprintf(stderr, \"Invalid number `%.*s` in file %s.\\n\", (int) n, p, path);\n" +
+            "        exit(1);\n" +
+            "    }\n" +
+            "}\n" +
+            "\n" +
+            "static void* apl_read_text(void* old, const char* path, size_t size, int real)\n" +
+            "{\n" +
+            "    size_t bytes;\n" +
+            "    int fd = apl_open_file(path, &bytes);\n" +
+            "    const char* text = bytes > 0 ? mmap(NULL, bytes, PROT_READ, MAP_PRIVATE, fd, 0) : \"\";\n" +
+            "    if (text == MAP_FAILED) {\n" +
+            "        fprintf(stderr, \"Cannot map file %s.\\n\", path);\n" +
+            "        exit(1);\n" +
+            "    }\n" +
+            "    close(fd);\n" +
+            "\n" +
+            "    int chunks = omp_get_max_threads();\n" +
+            "    long* first = calloc(chunks + 1, sizeof(long));\n" +
+            "    if (first == NULL) {\n" +
+            "        fprintf(stderr, \"Out of memory.\\n\");\n" +
+            "        exit(1);\n" +
+            "    }\n" +
+            "    #pragma omp parallel for\n" +
+            "    for (int k = 0; k < chunks; ++k) {\n" +
+            "        const char* p = text + apl_chunk_start(text, bytes, k, chunks);\n" +
+            "        const char* end = text + apl_chunk_start(text, bytes, k + 1, chunks);\n" +
+            "        long count = 0;\n" +
+            "        while (p < end) {\n" +
+            "            while (p < end && apl_is_space(*p)) ++p;\n" +
+            "            if (p == end) break;\n" +
+            "            ++count;\n" +
+            "            while (p < end && !apl_is_space(*p)) ++p;\n" +
+            "        }\n" +
+            "        first[k + 1] = count;\n" +
+            "    }\n" +
+            "    for (int k = 0; k < chunks; ++k) first[k + 1] += first[k];\n" +
+            "\n" +
+            "    void* a = apl_alloc(size, 1, (long[]) {first[chunks]});\n" +
+            "    #pragma omp parallel for\n" +
+            "    for (int k = 0; k < chunks; ++k) {\n" +
+            "        const char* p = text + apl_chunk_start(text, bytes, k, chunks);\n" +
+            "        const char* end = text + apl_chunk_start(text, bytes, k + 1, chunks);\n" +
+            "        long i = first[k];\n" +
+            "        while (p < end) {\n" +
+            "            while (p < end && apl_is_space(*p)) ++p;\n" +
+            "            if (p == end) break;\n" +
+            "            const char* number = p;\n" +
+            "            while (p < end && !apl_is_space(*p)) ++p;\n" +
+            "            apl_parse_number(number, p - number, a, i++, size, real, path);\n" +
+            "        }\n" +
+            "    }\n" +
+            "\n" +
+            "    if (bytes > 0) munmap((void*) text, bytes);\n" +
+            "    free(first);\n" +
+            "    apl_free(old);\n" +
+            "    return a;\n" +
+            "}\n");
+
+        // write ... to file. The data is written with as few calls as
+        // possible, retrying the ones that write only a part of it.
+        define("apl_write_file", new String[] {"fcntl.h", "unistd.h", "errno.h"}, new String[] {},
+            "static int apl_create_file(const char* path)\n" +
+            "{\n" +
+            "    int fd = open(path, O_WRONLY | O_CREAT | O_TRUNC, 0644);\n" +
+            "    if (fd < 0) {\n" +
+            "        fprintf(stderr, \"Cannot write file %s.\\n\", path);\n" +
+            "        exit(1);\n" +
+            "    }\n" +
+            "    return fd;\n" +
+            "}\n" +
+            "\n" +
+            "static void apl_write_all(int fd, const void* data, size_t bytes, const char* path)\n" +
+            "{\n" +
+            "    const char* p = data;\n" +
+            "    while (bytes > 0) {\n" +
+            "        ssize_t n = write(fd, p, bytes);\n" +
+            "        if (n < 0 && errno == EINTR) continue;\n" +
+            "        if (n <= 0) {\n" +
+            "            fprintf(stderr, \"Cannot write file %s.\\n\", path);\n" +
+            "            exit(1);\n" +
+            "        }\n" +
+            "        p += n;\n" +
+            "        bytes -= n;\n" +
+            "    }\n" +
+            "}\n" +
+            "\n" +
+            "static void apl_close_file(int fd, const char* path)\n" +
+            "{\n" +
+            "    if (close(fd) != 0) {\n" +
+            "        fprintf(stderr, \"Cannot write file %s.\\n\", path);\n" +
+            "        exit(1);\n" +
+            "    }\n" +
+            "}\n");
+
+        // The raw elements, which read ... from file binary maps back
+        define("apl_write_binary", new String[] {}, new String[] {"apl_write_file", "apl_len"},
+            "static void apl_write_binary(const void* a, const char* path, size_t size)\n" +
+            "{\n" +
+            "    int fd = apl_create_file(path);\n" +
+            "    apl_write_all(fd, a, APL_LEN(a) * size, path);\n" +
+            "    apl_close_file(fd, path);\n" +
+            "}\n");
+
+        // A number per line. Each thread formats a chunk of the array in
+        // its own part of the buffer, and the parts are written in order.
+        define("apl_write_text", new String[] {}, new String[] {"apl_write_file", "apl_len"},
+            "#define APL_NUMBER_CHARS 32\n" +
+            "static void apl_write_text(const void* a, const char* path, size_t size, int real)\n" +
+            "{\n" +
+            "    long n = APL_LEN(a);\n" +
+            "    int chunks = omp_get_max_threads();\n" +
+            "    long per_chunk = (n + chunks - 1) / chunks;\n" +
+            "    char* text = malloc(n * APL_NUMBER_CHARS + 1);\n" +
+            "    long* used = calloc(chunks, sizeof(long));\n" +
+            "    if (text == NULL || used == NULL) {\n" +
+            "        fprintf(stderr, \"Out of memory.\\n\");\n" +
+            "        exit(1);\n" +
+            "    }\n" +
+            "    #pragma omp parallel for\n" +
+            "    for (int k = 0; k < chunks; ++k) {\n" +
+            "        long lo = k * per_chunk;\n" +
+            "        long hi = lo + per_chunk < n ? lo + per_chunk : n;\n" +
+            "        char* p = text + lo * APL_NUMBER_CHARS;\n" +
+            "        for (long i = lo; i < hi; ++i) {\n" +
+            "            if (real && size == sizeof(float)) p += sprintf(p, \"%.9g\\n\", ((const float*) a)[i]);\n" +
+            "            else if (real) p += sprintf(p, \"%.17g\\n\", ((const double*) a)[i]);\n" +
+            "            else if (size == sizeof(signed char)) p += sprintf(p, \"%d\\n\", ((const signed char*) a)[i]);\n" +
+            "            else if (size == sizeof(short)) p += sprintf(p, \"%d\\n\", ((const short*) a)[i]);\n" +
+            "            else if (size == sizeof(int)) p += sprintf(p, \"%d\\n\", ((const int*) a)[i]);\n" +
+            "            else p += sprintf(p, \"%lld\\n\", ((const long long*) a)[i]);\n" +
+            "        }\n" +
+            "        used[k] = lo < hi ? p - (text + lo * APL_NUMBER_CHARS) : 0;\n" +
+            "    }\n" +
+            "    int fd = apl_create_file(path);\n" +
+            "    for (int k = 0; k < chunks; ++k) {\n" +
+            "        apl_write_all(fd, text + k * per_chunk * APL_NUMBER_CHARS, used[k], path);\n" +
+            "    }\n" +
+            "    apl_close_file(fd, path);\n" +
+            "    free(used);\n" +
+            "    free(text);\n" +
+            "}\n");
+
+        // checkpoint(a, "path", n) writes the array every n calls. It is
+        // written to another file that then replaces the old checkpoint,
+        // so a program that stops while writing never leaves a partial one.
+        define("apl_checkpoint", new String[] {"string.h"}, new String[] {"apl_write_file", "apl_len"},
+            "static void apl_checkpoint(long* calls, long every, const void* a, const char* path, size_t size)\n" +
+            "{\n" +
+            "    if (every <= 0 || __atomic_add_fetch(calls, 1, __ATOMIC_RELAXED) % every != 0) return;\n" +
+            "    size_t n = strlen(path);\n" +
+            "    char* tmp = malloc(n + sizeof(\".tmp\"));\n" +
+            "    if (tmp == NULL) {\n" +
+            "        fprintf(stderr, \"Out of memory.\\n\");\n" +
+            "        exit(1);\n" +
+            "    }\n" +
+            "    memcpy(tmp, path, n);\n" +
+            "    memcpy(tmp + n, \".tmp\", sizeof(\".tmp\"));\n" +
+            "    #pragma omp critical (apl_checkpoint)\n" +
+            "    {\n" +
+            "        int fd = apl_create_file(tmp);\n" +
+            "        apl_write_all(fd, a, APL_LEN(a) * size, tmp);\n" +
+            "        apl_close_file(fd, tmp);\n" +
+            "        if (rename(tmp, path) != 0) {\n" +
+            "            fprintf(stderr, \"Cannot write file %s.\\n\", path);\n" +
+            "            exit(1);\n" +
+            "        }\n" +
+            "    }\n" +
+            "    free(tmp);\n" +
+            "}\n");
+
+        // -trace: every thread keeps its call and return events in a
+        // buffer of its own, without locks, and writes the whole buffer
+        // to the trace file when it is full and at exit. The file is a
+        // text header with the functions (see Tracer) followed by chunks
+        // of binary events, each one with the number of the thread and
+        // the count of events. AplTrace writes them as text. An event
+        // keeps the first APL_TRACE_ARGS values but counts all of them,
+        // so the values that are missing can be told apart.
+        define("apl_trace", new String[] {"string.h"}, new String[] {"apl_write_file"},
+            "#define APL_TRACE_ARGS 6\n" +
+            "#define APL_TRACE_EVENTS 8192\n" +
+            "typedef union { long long i; double f; } apl_trace_value;\n" +
+            "typedef struct {\n" +
+            "    double time;\n" +
+            "    int func, line, kind, nargs;\n" +
+            "    apl_trace_value args[APL_TRACE_ARGS];\n" +
+            "} apl_trace_event;\n" +
+            "typedef struct apl_trace_buffer {\n" +
+            "    struct apl_trace_buffer* next;\n" +
+            "    int thread, count;\n" +
+            "    apl_trace_event events[APL_TRACE_EVENTS];\n" +
+            "} apl_trace_buffer;\n" +
+            "\n" +
+            "static int apl_trace_fd = -1;\n" +
+            "static const char* apl_trace_path;\n" +
+            "static double apl_trace_start;\n" +
+            "static apl_trace_buffer* apl_trace_buffers = NULL;\n" +
+            "static int apl_trace_threads = 0;\n" +
+            "static _Thread_local apl_trace_buffer* apl_trace_own = NULL;\n" +
+            "// Line of the call being made, read by the callee\n" +
+            "static _Thread_local int apl_trace_line = 0;\n" +
+            "\n" +
+            "static void apl_trace_flush(apl_trace_buffer* b)\n" +
+            "{\n" +
+            "    if (b->count == 0) return;\n" +
+            "    int chunk[2] = { b->thread, b->count };\n" +
+            "    #pragma omp critical (apl_trace)\n" +
+            "    {\n" +
+            "        apl_write_all(apl_trace_fd, chunk, sizeof(chunk), apl_trace_path);\n" +
+            "        apl_write_all(apl_trace_fd, b->events, b->count * sizeof(apl_trace_event), apl_trace_path);\n" +
+            "    }\n" +
+            "    b->count = 0;\n" +
+            "}\n" +
+            "\n" +
+            "static void apl_trace_event_add(int kind, int func, int line, int nargs, const apl_trace_value* args)\n" +
+            "{\n" +
+            "    apl_trace_buffer* b = apl_trace_own;\n" +
+            "    if (apl_trace_fd < 0) return;\n" +
+            "    if (b == NULL) {\n" +
+            "        b = malloc(sizeof(apl_trace_buffer));\n" +
+            "        if (b == NULL) {\n" +
+            "            fprintf(stderr, \"Out of memory.\\n\");\n" +
+            "            exit(1);\n" +
+            "        }\n" +
+            "        b->count = 0;\n" +
+            "        #pragma omp critical (apl_trace)\n" +
+            "        {\n" +
+            "            b->thread = apl_trace_threads++;\n" +
+            "            b->next = apl_trace_buffers;\n" +
+            "            apl_trace_buffers = b;\n" +
+            "        }\n" +
+            "        apl_trace_own = b;\n" +
+            "    }\n" +
+            "    if (b->count == APL_TRACE_EVENTS) apl_trace_flush(b);\n" +
+            "    apl_trace_event* e = &b->events[b->count++];\n" +
+            "    e->time = omp_get_wtime() - apl_trace_start;\n" +
+            "    e->func = func;\n" +
+            "    e->line = line;\n" +
+            "    e->kind = kind;\n" +
+            "    e->nargs = nargs;\n" +
+            "    if (nargs > APL_TRACE_ARGS) nargs = APL_TRACE_ARGS;\n" +
+            "    if (nargs > 0) memcpy(e->args, args, nargs * sizeof(apl_trace_value));\n" +
+            "}\n" +
+            "\n" +
+            "// Kind 0 is a call, 1 a return with a result (the first value)\n" +
+            "// and 2 a return without it. The other values are the parameters\n" +
+            "// in a call and the parameters by reference in a return.\n" +
+            "static inline void apl_trace_call(int func, int nargs, const apl_trace_value* args)\n" +
+            "{\n" +
+            "    apl_trace_event_add(0, func, apl_trace_line, nargs, args);\n" +
+            "}\n" +
+            "\n" +
+            "static inline void apl_trace_return(int func, int line, int result, int nargs, const apl_trace_value* args)\n" +
+            "{\n" +
+            "    apl_trace_event_add(result ? 1 : 2, func, line, nargs, args);\n" +
+            "}\n" +
+            "\n" +
+            "static void apl_trace_open(const char* path, const char* functions)\n" +
+            "{\n" +
+            "    char head[64];\n" +
+            "    int n = snprintf(head, sizeof(head), \"APLTRACE 1\\nevent %d %d\\n\", (int) sizeof(apl_trace_event), APL_TRACE_ARGS);\n" +
+            "    apl_trace_path = path;\n" +
+            "    apl_trace_fd = apl_create_file(path);\n" +
+            "    apl_write_all(apl_trace_fd, head, n, path);\n" +
+            "    apl_write_all(apl_trace_fd, functions, strlen(functions), path);\n" +
+            "    apl_write_all(apl_trace_fd, \"events\\n\", 7, path);\n" +
+            "    apl_trace_start = omp_get_wtime();\n" +
+            "}\n" +
+            "\n" +
+            "static void apl_trace_close(void)\n" +
+            "{\n" +
+            "    if (apl_trace_fd < 0) return;\n" +
+            "    for (apl_trace_buffer* b = apl_trace_buffers; b != NULL; b = b->next) apl_trace_flush(b);\n" +
+            "    apl_close_file(apl_trace_fd, apl_trace_path);\n" +
+            "    apl_trace_fd = -1;\n" +
+            "}\n");
+    }
+
+    private static HashMap<String, String> strings = new HashMap<String, String>();
+
+    /**
+     * Returns the array (with a header) that holds a string literal.
+     * Equal literals share the same array.
+     */
+    public static String string(String literal) {
+        String name = strings.get(literal);
+        if (name == null) {
+            name = "apl_str" + strings.size();
+            strings.put(literal, name);
+            String len = "sizeof(" + literal + ") - 1";
+            define(name, new String[] {}, new String[] {"apl_header"},
+                "static struct { apl_header h; char s[sizeof(" + literal + ")]; } " + name +
+                " = { { " + len + ", -1, 1, { " + len + ", 1, 1 } }, " + literal + " };\n");
+        }
+        require(name);
+        return name + ".s";
+    }
+
+    /** Marks a piece of the runtime as used by the generated code */
+    public static void require(String name) {
+        if (required.contains(name)) return;
+        Snippet snippet = snippets.get(name);
+        assert snippet != null;
+        for (String dep : snippet.requires) require(dep);
+        for (String header : snippet.includes) included.add(header);
+        required.add(name);
+    }
+
+    /** Headers needed by the required pieces */
+    public static String includesToC() {
+        StringBuilder str = new StringBuilder();
+        for (String header : included) {
+            str.append("#include <");
+            str.append(header);
+            str.append(">\n");
+        }
+        return str.toString();
+    }
+
+    /** Code of the required pieces, in dependency order */
+    public static String toC() {
+        StringBuilder str = new StringBuilder();
+        for (String name : required) {
+            str.append(snippets.get(name).code);
+            str.append("\n");
+        }
+        return str.toString();
+    }
+}
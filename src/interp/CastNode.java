@@ -0,0 +1,63 @@
+/**
+ * Copyright (c) 2016, Alessio Linares and Guillermo Ojeda
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *    * Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright
+ *      notice, this list of conditions and the following disclaimer in the
+ *      documentation and/or other materials provided with the distribution.
+ *    * Neither the name of the <organization> nor the
+ *      names of its contributors may be used to endorse or promote products
+ *      derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+
+package interp;
+
+import java.lang.StringBuilder;
+
+/**
+ * Conversion of a number to another numeric type: int8(x), int16(x),
+ * int(x), int64(x), float(x) or double(x).
+ */
+
+public class CastNode extends CodeNode {
+
+    public CastNode(Data data, ExpressionNode value) throws AplException
+    {
+        super(null);
+        value.getData().resolve();
+        Data.Type type = value.getData().getType();
+        if (!value.getData().isInteger() && type != Data.Type.FLOAT && type != Data.Type.DOUBLE
+            && type != Data.Type.CHAR && type != Data.Type.BOOL) {
+            throw new AplException("Only numbers can be converted to `" + data.mangle() + "`.");
+        }
+        this.data = data;
+        appendChild(value);
+    }
+
+    @Override
+    public String toC() throws AplException {
+        StringBuilder str = new StringBuilder();
+        str.append("((");
+        str.append(data.typeToString());
+        str.append(") (");
+        str.append(getChild(0).toC());
+        str.append("))");
+        return str.toString();
+    }
+}
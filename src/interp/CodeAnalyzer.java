@@ -33,21 +33,40 @@ import java.io.OutputStream;
 import java.io.IOException;
 import java.lang.StringBuilder;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 
 import parser.AplLexer;
 
 public class CodeAnalyzer {
+    /** View variable taken from an array, with the line where it is taken */
+    private static class View {
+        String name;
+        int base;
+        int line;
+    }
+
     private AplTree root;
     private Stack stack;
     private int linenumber;
     private ArrayList<FunctionNode> funcTable;
     private FunctionNode currentFunction;
+    private AliasAnalyzer aliases;
+    /** View variables of each function, and the arrays they come from */
+    private HashMap<FunctionNode, HashMap<Integer, View>> views = new HashMap<FunctionNode, HashMap<Integer, View>>();
+    private boolean loopFusion = true;
+    private boolean autoParallel = false;
+    private long parallelThreshold = 1000;
+    private boolean autoTile = false;
+    private long tileSize = 32;
+    private boolean hoisting = true;
+    private boolean autoFree = true;
 
     public CodeAnalyzer(AplTree root) {
         this.root = root;
         stack = new Stack();
         funcTable = new ArrayList<FunctionNode>();
+        aliases = new AliasAnalyzer();
     }
 
     public boolean parse() {
@@ -73,23 +92,96 @@ public class CodeAnalyzer {
         stack.popActivationRecord();
 
         if (!ret) print(stack.getStackTrace(lineNumber()));
+        else aliases.analyze(funcTable);
+
+        if (ret && loopFusion) {
+            try {
+                for (FunctionNode fn : funcTable) {
+                    LoopAnalyzer.fuseLoops(fn, fn, aliases);
+                }
+            } catch (AplException e) {
+                print(e.getMessage());
+                ret = false;
+            }
+        }
+
+        if (ret && autoParallel) {
+            for (FunctionNode fn : funcTable) {
+                LoopAnalyzer.parallelizeLoops(fn, fn, aliases, parallelThreshold);
+            }
+        }
+
+        if (ret && autoTile) {
+            for (FunctionNode fn : funcTable) {
+                LoopAnalyzer.tileLoops(fn, fn, aliases, tileSize);
+            }
+        }
+
+        // The frees inserted here are moved out of the loops by the hoisting
+        OwnershipAnalyzer ownership = new OwnershipAnalyzer();
+        if (ret) {
+            ownership.analyze(funcTable, autoFree);
+            for (String warning : ownership.getWarnings()) print(warning);
+        }
+
+        // Last, since it depends on which loops run in parallel
+        if (ret && hoisting) {
+            for (FunctionNode fn : funcTable) {
+                LoopAnalyzer.hoistAllocations(fn, ownership);
+            }
+        }
         return ret;
     }
 
+    /** Enables the fusion of consecutive pfor loops */
+    public void setLoopFusion(boolean value) { loopFusion = value; }
+
+    /** Enables the automatic parallelization of independent loops */
+    public void setAutoParallel(boolean value) { autoParallel = value; }
+
+    /** Minimum trip count of a loop to run it in parallel */
+    public void setParallelThreshold(long value) { parallelThreshold = value; }
+
+    /** Enables the automatic tiling of loop nests */
+    public void setAutoTile(boolean value) { autoTile = value; }
+
+    /** Size of the tiles when it is not given in the program */
+    public void setTileSize(long value) { tileSize = value; }
+
+    /** Enables the reuse of the arrays allocated inside loops */
+    public void setAllocationHoisting(boolean value) { hoisting = value; }
+
+    /** Enables the automatic free of the arrays after their last use */
+    public void setAutoFree(boolean value) { autoFree = value; }
+
+    /** Stores the arrays of bool in bits instead of bytes */
+    public void setPackedBool(boolean value) { Data.setPackedBool(value); }
+
+    /** Instruments the parallel blocks, pfor loops, functions and critical sections */
+    public void setProfile(boolean value) { Profiler.setEnabled(value); }
+
+    /** Writes #line directives that refer to the lines of the given program */
+    public void setLineDirectives(String path) { CodeNode.setSourceFile(path); }
+
+    /** Makes the program write its calls and returns to a trace file */
+    public void setTrace(String path) { Tracer.setFile(path); }
+
     public FunctionNode parseFunction(AplTree node) throws AplException {
         FunctionNode prevFuncNode = currentFunction;
         int numParams = node.getChild(1).getChildCount();
         String name = node.getChild(0).getText();
         if (name.equals("main")) {
             if (numParams >= 1) {
-                stack.defineVariable("argc", new Data(Data.Type.INT));
+                stack.defineVariable("argc", Data.get(Data.Type.INT));
             }
             if (numParams >= 2) {
-                stack.defineVariable("argv", new Data(Data.Type.ARRAY, new Data(Data.Type.ARRAY, new Data(Data.Type.CHAR))));
+                stack.defineVariable("argv", Data.get(Data.Type.ARRAY, Data.get(Data.Type.ARRAY, Data.get(Data.Type.CHAR))));
             }
         }
 
         FunctionNode function = new FunctionNode(name, numParams, stack.getCurrentAR());
+        function.setVariableNames(stack.getCurrentARNames());
+        function.setLine(node.getLine());
         funcTable.add(function);
 
         currentFunction = function;
@@ -115,6 +207,26 @@ public class CodeAnalyzer {
         throw new AplException("Function " + name + " not defined.");
     }
 
+    /** Numeric type with the given name (int8, int16, int, int64, float or double) */
+    private static Data numericType(String name) {
+        switch (name) {
+            case "int8":
+                return Data.get(Data.Type.INT8);
+            case "int16":
+                return Data.get(Data.Type.INT16);
+            case "int":
+                return Data.get(Data.Type.INT);
+            case "int64":
+                return Data.get(Data.Type.INT64);
+            case "float":
+                return Data.get(Data.Type.FLOAT);
+            case "double":
+                return Data.get(Data.Type.DOUBLE);
+            default:
+                return null;
+        }
+    }
+
     protected boolean inParallel(AplTree node) {
         while (node.getParent().getType() != AplLexer.FUNC && node.getParent().getType() != AplLexer.PARALLEL) {
             node = node.getParent();
@@ -131,6 +243,7 @@ public class CodeAnalyzer {
                     String varname;
                     int varID;
 
+                    checkNotSlice(node.getChild(0));
                     if (node.getChild(0).getType() == AplLexer.IDARR) {
                         varname = node.getChild(0).getChild(0).getText();
                     } else {
@@ -140,7 +253,7 @@ public class CodeAnalyzer {
                     ExpressionNode expr = parseExpression(node.getChild(1));
                     Data data = expr.getData();
                     if (data.isReference()) {
-                        data = new Data(data);
+                        data = data.withReference(false);
                     }
 
                     if (node.getChild(0).getType() == AplLexer.IDARR) {
@@ -151,12 +264,24 @@ public class CodeAnalyzer {
 
                     Data varData = stack.getVariable(varID);
                     CodeNode var;
+                    if (node.getChild(0).getType() != AplLexer.IDARR) recordView(varID, varname, expr, node.getLine());
 
                     if (node.getChild(0).getType() == AplLexer.IDARR) {
-                        ExpressionNode delta = parseExpression(node.getChild(0).getChild(1));
-                        var = new ArrayAccessNode(new VariableNode(varID, varData), varData.getSubData(), delta);
+                        if (ArrayExprNode.isWholeArray(expr) && data.getType() == Data.Type.ARRAY) {
+                            throw new AplException("Assigning an array to an element of array `" + varname + "`.");
+                        }
+                        var = parseArrayAccess(node.getChild(0), varID);
+                        recordEscape(expr);
+                    } else if (ArrayExprNode.isWholeArray(expr)) {
+                        var = new VariableNode(varID, varData);
+                        ArrayExprNode arrayExpr = new ArrayExprNode((VariableNode) var, expr, !inParallel(node), parallelThreshold);
+                        if (arrayExpr.isInPlace()) aliases.recordUpdate(function, arrayExpr);
+                        else aliases.recordAssign(function, varID, arrayExpr);
+                        retval = stack.isShared(varID) ? new CriticalNode(arrayExpr) : arrayExpr;
+                        break;
                     } else {
                         var = new VariableNode(varID, varData);
+                        aliases.recordAssign(function, varID, expr);
                     }
 
                     if (stack.isShared(varID)) {
@@ -210,6 +335,25 @@ public class CodeAnalyzer {
                     retval = new WhileNode(expr, block);
                 }
                 break;
+            case AplLexer.BENCH:
+                {
+                    if (inParallel(node)) throw new AplException("It is prohibited to bench a block inside a parallel block.");
+                    ExpressionNode runs = parseExpression(node.getChild(0));
+
+                    AplTree listInstr = node.getChild(1);
+                    BlockInstrNode block = new BlockInstrNode();
+
+                    for (int i = 0; i < listInstr.getChildCount(); ++i) {
+                        AplTree instr = listInstr.getChild(i);
+                        CodeNode instrNode = parseInstruction(instr, function);
+                        if (instrNode != null) {
+                            block.appendChild(instrNode);
+                        }
+                    }
+
+                    retval = new BenchNode(runs, block, node.getLine());
+                }
+                break;
             case AplLexer.PFOR:
             case AplLexer.FOR:
                 {
@@ -221,6 +365,7 @@ public class CodeAnalyzer {
                     String varname;
                     int varID;
 
+                    checkNotSlice(node.getChild(0));
                     if (node.getChild(0).getType() == AplLexer.IDARR) {
                         varname = node.getChild(0).getChild(0).getText();
                     } else {
@@ -241,8 +386,7 @@ public class CodeAnalyzer {
                     CodeNode var;
 
                     if (node.getChild(0).getType() == AplLexer.IDARR) {
-                        ExpressionNode delta = parseExpression(node.getChild(0).getChild(1));
-                        var = new ArrayAccessNode(new VariableNode(varID, varData), varData.getSubData(), delta);
+                        var = parseArrayAccess(node.getChild(0), varID);
                     } else {
                         var = new VariableNode(varID, varData);
                     }
@@ -251,10 +395,23 @@ public class CodeAnalyzer {
                     retval.appendChild(init);
                     retval.appendChild(size);
 
+                    AplTree redParams = null;
+                    AplTree simdParams = null;
+                    AplTree tileParams = null;
+                    for (int k = 3; k < node.getChildCount()-1; ++k) {
+                        if (node.getChild(k).getType() == AplLexer.ORDERED) ((ForNode) retval).setOrdered();
+                        else if (node.getChild(k).getType() == AplLexer.REDUCTION) redParams = node.getChild(k);
+                        else if (node.getChild(k).getType() == AplLexer.SIMD) simdParams = node.getChild(k);
+                        else if (node.getChild(k).getType() == AplLexer.TILE) tileParams = node.getChild(k);
+                    }
+
+                    if (redParams != null && simdParams == null && node.getType() == AplLexer.FOR) {
+                        throw new AplException("A reduction in a sequential for requires simd.");
+                    }
+
                     ParallelReductionNode red = new ParallelReductionNode();
                     ArrayList<Boolean> state = new ArrayList<Boolean>();
-                    if (node.getChildCount() == 5) {
-                        AplTree redParams = node.getChild(3);
+                    if (redParams != null) {
 
                         OperatorNode op = new OperatorNode(redParams.getChild(0).getText());
                         red.appendChild(op);
@@ -280,23 +437,74 @@ public class CodeAnalyzer {
 
                     retval.appendChild(block);
 
-                    if (node.getChildCount() == 5) {
-                        AplTree redParams = node.getChild(3);
+                    SimdNode simd = parseSimd(simdParams);
+                    retval.appendChild(simd);
 
+                    if (redParams != null) {
                         for (int i = 1; i < redParams.getChildCount(); ++i) {
                             int id = stack.getVariableID(redParams.getChild(i).getChild(0).getText());
                             stack.setShared(id, state.get(i-1));
                         }
                     }
+
+                    if (simdParams == null && !((ForNode) retval).isOrdered() && LoopAnalyzer.isSimdSafe((ForNode) retval)) {
+                        simd.enable();
+                    }
+
+                    if (tileParams != null && ((ForNode) retval).isOrdered()) {
+                        throw new AplException("An ordered pfor cannot be tiled.");
+                    }
+                    if (tileParams != null) {
+                        ArrayList<Long> sizes = new ArrayList<Long>();
+                        for (int i = 0; i < tileParams.getChildCount(); ++i) {
+                            sizes.add(Long.parseLong(tileParams.getChild(i).getText()));
+                        }
+                        int depth = sizes.isEmpty() ? LoopAnalyzer.MAX_TILE_DEPTH : sizes.size();
+                        int nested = LoopAnalyzer.getPerfectNest((ForNode) retval, depth).size();
+                        if (nested < depth && !sizes.isEmpty()) {
+                            throw new AplException("Tiling requires " + depth + " perfectly nested loops with rectangular bounds.");
+                        }
+                        while (sizes.size() < nested) sizes.add(tileSize);
+                        ((ForNode) retval).setTile(sizes);
+                    }
                 }
                 break;
             case AplLexer.READ:
             case AplLexer.WRITE:
             case AplLexer.FUNCALL:
                 {
+                    if (isReadFile(node)) {
+                        retval = parseReadFile(node);
+                        break;
+                    }
+                    if (isWriteFile(node)) {
+                        retval = parseWriteFile(node.getChild(0), filePath(node.getChild(1)),
+                                                isBinary(node.getChild(1)), null);
+                        break;
+                    }
+                    String funcName = node.getChild(0).getText();
+                    if (funcName.equals("push") || funcName.equals("resize")) {
+                        retval = parseResize(node);
+                        break;
+                    }
+                    if (node.getType() == AplLexer.FUNCALL && funcName.equals("checkpoint")) {
+                        AplTree params = node.getChild(1);
+                        if (params.getChildCount() != 3) {
+                            throw new AplException("checkpoint needs an array, the name of a file and a period.");
+                        }
+                        retval = parseWriteFile(params.getChild(0), params.getChild(1), true, params.getChild(2));
+                        break;
+                    }
                     ExpressionNode expr = parseExpression(node);
                     expr.setInstruction();
                     retval = expr;
+
+                    // Only a thread at a time appends to a shared string
+                    if (node.getType() == AplLexer.WRITE && node.getChildCount() == 2
+                        && node.getChild(1).getType() != AplLexer.IDARR
+                        && stack.getCurrentARShared().get(stack.getVariableID(node.getChild(1).getText()))) {
+                        retval = new CriticalNode(expr);
+                    }
                 }
                 break;
             case AplLexer.FREE:
@@ -315,7 +523,7 @@ public class CodeAnalyzer {
                     } catch (AplException e) {
                         throw new AplException("(Error) Line " + Integer.toString(node.getLine()) + ": Freed array `" + varname + "` is not defined.");
                     }
-                    retval = new FreeNode(varID, stack.getVariable(varID));
+                    retval = new FreeNode(varID, stack.getVariable(varID), varname, node.getLine());
                 }
                 break;
             case AplLexer.PARALLEL:
@@ -388,13 +596,299 @@ public class CodeAnalyzer {
                         expr = parseExpression(node.getChild(0));
                         function.getData().addDependency(expr.getData());
                     }
-                    retval = new ReturnNode(expr);
+                    retval = new ReturnNode(expr, function);
                 }
                 break;
         }
+        if (retval != null) retval.setLine(node.getLine());
         return retval;
     }
 
+    protected SimdNode parseSimd(AplTree node) throws AplException {
+        SimdNode simd = new SimdNode();
+        if (node == null) return simd;
+        simd.enable();
+
+        for (int k = 0; k < node.getChildCount(); ++k) {
+            AplTree clause = node.getChild(k);
+            switch (clause.getType()) {
+                case AplLexer.SAFELEN:
+                case AplLexer.SIMDLEN:
+                    {
+                        ParallelDefNode len = new ParallelDefNode(clause.getText());
+                        len.appendChild(new ConstantNode(clause.getChild(0)));
+                        simd.appendChild(len);
+                    }
+                    break;
+                case AplLexer.ALIGNED:
+                    {
+                        int numVars = clause.getChildCount();
+                        String alignment = "";
+                        if (clause.getChild(numVars-1).getType() == AplLexer.INT) {
+                            alignment = ":" + clause.getChild(numVars-1).getText();
+                            --numVars;
+                        }
+                        ParallelDefNode aligned = new ParallelDefNode("aligned", alignment);
+                        for (int i = 0; i < numVars; ++i) {
+                            int id = stack.getVariableID(clause.getChild(i).getChild(0).getText());
+                            if (stack.getVariable(id).getType() != Data.Type.ARRAY) {
+                                throw new AplException("Aligned variable `" + clause.getChild(i).getChild(0).getText() + "` is not an array.");
+                            }
+                            aligned.appendChild(new VariableNode(id, stack.getVariable(id)));
+                        }
+                        simd.appendChild(aligned);
+                    }
+                    break;
+            }
+        }
+        return simd;
+    }
+
+    /** Views can be read, but they cannot be the target of an instruction */
+    private void checkNotSlice(AplTree node) throws AplException {
+        if (node.getType() == AplLexer.SLICE) {
+            throw new AplException("Cannot assign a view of `" + node.getChild(0).getText() + "`, assign its elements instead.");
+        }
+    }
+
+    /** Arithmetic operators that are applied element by element to arrays */
+    private static boolean isElementwise(int type) {
+        return type == AplLexer.PLUS || type == AplLexer.MINUS || type == AplLexer.MUL
+               || type == AplLexer.DIV || type == AplLexer.MOD;
+    }
+
+    /**
+     * Whole-array expressions (element-wise operations, iota and
+     * reductions) are only accepted in the right-hand side of an
+     * assignment, where they are evaluated by a single loop. A
+     * reduction must be the whole right-hand side.
+     */
+    private boolean isAssignedExpression(AplTree node) {
+        AplTree parent = node.getParent();
+        boolean reduction = node.getType() == AplLexer.REDUCE;
+        while (parent.getType() == AplLexer.EXPRGROUP
+               || (!reduction && (isElementwise(parent.getType()) || parent.getType() == AplLexer.IOTA))) {
+            node = parent;
+            parent = node.getParent();
+        }
+        if (!reduction && parent.getType() == AplLexer.REDUCE) return true;
+        return parent.getType() == AplLexer.ASSIGN && parent.getChild(1) == node;
+    }
+
+    /**
+     * Checks that an array can be moved to a new allocation (push,
+     * resize or read from a file). A parameter passed by value shares
+     * its allocation with the caller, which would keep the old pointer.
+     */
+    private void checkMovable(int varID, String varname) throws AplException {
+        if (varID < currentFunction.getNumParams() && !stack.getVariable(varID).isReference()) {
+            throw new AplException("Array parameter `" + varname + "` must be passed by reference (&"
+                                   + varname + ") to change its length.");
+        }
+    }
+
+    /** Records an array stored as an element of another array */
+    private void recordEscape(ExpressionNode value) {
+        CodeNode node = LoopAnalyzer.unwrap(value);
+        if (node instanceof VariableNode && node.getData().isArray()) {
+            aliases.recordEscape(currentFunction, ((VariableNode) node).varID);
+        } else if (node instanceof SliceNode) {
+            aliases.recordEscape(currentFunction, ((SliceNode) node).var.varID);
+        }
+    }
+
+    /**
+     * Follows the arrays the view variables of the current function are
+     * taken from. A variable assigned anything else is no longer a
+     * view, and the views of an array assigned a new one keep the old.
+     */
+    private void recordView(int varID, String varname, ExpressionNode expr, int line) {
+        HashMap<Integer, View> fviews = views.get(currentFunction);
+        if (fviews == null) {
+            fviews = new HashMap<Integer, View>();
+            views.put(currentFunction, fviews);
+        }
+        CodeNode value = LoopAnalyzer.unwrap(expr);
+        VariableNode from = null;
+        if (value instanceof SliceNode) from = ((SliceNode) value).var;
+        else if (value instanceof VariableNode && value.getData().getType() == Data.Type.VIEW) from = (VariableNode) value;
+        View parent = from != null ? fviews.get(from.varID) : null;
+
+        fviews.remove(varID);
+        for (Integer id : new ArrayList<Integer>(fviews.keySet())) {
+            if (fviews.get(id).base == varID) fviews.remove(id);
+        }
+        if (from == null) return;
+        View view = new View();
+        view.name = varname;
+        view.base = parent != null ? parent.base : from.varID;
+        view.line = line;
+        fviews.put(varID, view);
+    }
+
+    /** Occurrences of a variable in a tree after a line */
+    private static void findName(AplTree node, String name, int line, ArrayList<AplTree> found) {
+        if (node.getType() == AplLexer.ID && node.getText().equals(name) && node.getLine() > line) found.add(node);
+        for (int i = 0; i < node.getChildCount(); ++i) {
+            findName(node.getChild(i), name, line, found);
+        }
+    }
+
+    /**
+     * Checks whether a variable is read in a tree after a line before
+     * being assigned: its first line after it does more than assigning it
+     */
+    private static boolean usesName(AplTree node, String name, int line) {
+        ArrayList<AplTree> found = new ArrayList<AplTree>();
+        findName(node, name, line, found);
+        int first = Integer.MAX_VALUE;
+        for (AplTree id : found) first = Math.min(first, id.getLine());
+        for (AplTree id : found) {
+            if (id.getLine() != first) continue;
+            if (id.getParent().getType() != AplLexer.ASSIGN || id.getChildIndex() != 0) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Warns about the views of an array that moves to change its length
+     * (push, resize, read from a file or write to a string), which
+     * would still point to the old elements. A view is reported if it
+     * is named after the move, or inside a loop around the move that it
+     * was taken before.
+     */
+    private void checkViews(AplTree node, int varID, String varname) {
+        HashMap<Integer, View> fviews = views.get(currentFunction);
+        if (fviews == null) return;
+        int line = lineNumber();
+        AplTree function = node;
+        while (function.getType() != AplLexer.FUNC) function = function.getParent();
+        for (View view : fviews.values()) {
+            if (view.base != varID) continue;
+            boolean live = usesName(function, view.name, line);
+            for (AplTree loop = node.getParent(); !live && loop != function; loop = loop.getParent()) {
+                int type = loop.getType();
+                if ((type == AplLexer.FOR || type == AplLexer.PFOR || type == AplLexer.WHILE) && loop.getLine() > view.line) {
+                    live = usesName(loop, view.name, 0);
+                }
+            }
+            if (live) {
+                print("Warning: view `" + view.name + "` of array `" + varname + "` may be used after line " + line
+                      + ", where `" + varname + "` changes its length and may move.");
+            }
+        }
+    }
+
+    /** Builds the builtins push(a, v) and resize(a, n) */
+    protected CodeNode parseResize(AplTree node) throws AplException {
+        String funcName = node.getChild(0).getText();
+        AplTree params = node.getChild(1);
+        if (params.getChildCount() != 2 || params.getChild(0).getType() != AplLexer.ID) {
+            throw new AplException("`" + funcName + "` needs an array variable and a value.");
+        }
+
+        String varname = params.getChild(0).getText();
+        int varID = stack.getVariableID(varname);
+        Data varData = stack.getVariable(varID);
+        varData.resolve();
+        if (!varData.isGrowable()) {
+            throw new AplException("Only arrays of one dimension can change their length (`" + varname + "`).");
+        }
+        if (varData.isPacked()) {
+            throw new AplException("Packed arrays of bool cannot change their length (`" + varname + "`).");
+        }
+        checkMovable(varID, varname);
+        checkViews(node, varID, varname);
+
+        ExpressionNode value = parseExpression(params.getChild(1));
+        value.getData().resolve();
+        boolean push = funcName.equals("push");
+        if (push && value.getData().isArray() != varData.getSubData().isArray()) {
+            throw new AplException("Pushing a value of type `" + value.getData().typeToString()
+                                   + "` to array `" + varname + "`.");
+        }
+        if (!push && !value.getData().isInteger()) {
+            throw new AplException("The length in resize must be an integer.");
+        }
+        if (push) recordEscape(value);
+
+        aliases.recordResize(currentFunction, varID);
+        // Unlike its elements, a shared array can only be moved by a thread at a time
+        ResizeNode resize = new ResizeNode(new VariableNode(varID, varData), value, push);
+        return stack.getCurrentARShared().get(varID) ? new CriticalNode(resize) : resize;
+    }
+
+    private static boolean isReadFile(AplTree node) {
+        return node.getType() == AplLexer.READ && node.getChildCount() == 2
+               && node.getChild(1).getType() == AplLexer.FILE;
+    }
+
+    /** Path of a file [binary] "path" */
+    private static AplTree filePath(AplTree file) {
+        return file.getChild(file.getChildCount() - 1);
+    }
+
+    private static boolean isBinary(AplTree file) {
+        return file.getChild(0).getType() == AplLexer.BINARY;
+    }
+
+    /** Builds the instruction read a from file [binary] "path" */
+    private CodeNode parseReadFile(AplTree node) throws AplException {
+        AplTree target = node.getChild(0);
+        if (target.getType() != AplLexer.ID) {
+            throw new AplException("Only whole arrays can be read from a file.");
+        }
+        int varID = stack.getVariableID(target.getText());
+        checkMovable(varID, target.getText());
+        checkViews(node, varID, target.getText());
+        AplTree file = node.getChild(1);
+        ReadFileNode read = new ReadFileNode(new VariableNode(varID, stack.getVariable(varID)),
+                                             parseExpression(filePath(file)), isBinary(file));
+        aliases.recordResize(currentFunction, varID);
+        // The array is replaced, like in resize
+        return stack.getCurrentARShared().get(varID) ? new CriticalNode(read) : read;
+    }
+
+    private static boolean isWriteFile(AplTree node) {
+        return node.getType() == AplLexer.WRITE && node.getChildCount() == 2
+               && node.getChild(1).getType() == AplLexer.FILE;
+    }
+
+    /**
+     * Builds the instruction write a to file [binary] "path", or the
+     * builtin checkpoint(a, "path", every) when there is a period.
+     */
+    private CodeNode parseWriteFile(AplTree target, AplTree path, boolean binary, AplTree every) throws AplException {
+        if (target.getType() != AplLexer.ID) {
+            throw new AplException("Only whole arrays can be written to a file.");
+        }
+        int varID = stack.getVariableID(target.getText());
+        VariableNode var = new VariableNode(varID, stack.getVariable(varID));
+        if (every != null) {
+            return new WriteFileNode(var, parseExpression(path), parseExpression(every));
+        }
+        return new WriteFileNode(var, parseExpression(path), binary);
+    }
+
+    /**
+     * Builds the access to an element of an array (IDARR node). There
+     * must be a subscript for each dimension of the array.
+     */
+    protected ArrayAccessNode parseArrayAccess(AplTree node, int varID) throws AplException {
+        Data varData = stack.getVariable(varID);
+        int numIndices = node.getChildCount() - 1;
+        if (varData.isArray() && varData.getRank() != numIndices) {
+            throw new AplException("Array `" + node.getChild(0).getText() + "` has " + varData.getRank()
+                                   + " dimensions but is accessed with " + numIndices + " subscripts.");
+        }
+
+        ArrayList<ExpressionNode> indices = new ArrayList<ExpressionNode>();
+        for (int i = 1; i < node.getChildCount(); ++i) {
+            indices.add(parseExpression(node.getChild(i)));
+        }
+        return new ArrayAccessNode(new VariableNode(varID, varData), varData.getSubData(), indices);
+    }
+
     protected ExpressionNode parseExpression(AplTree expression) throws AplException {
         ExpressionNode expr = new ExpressionNode();
         int id;
@@ -419,6 +913,10 @@ public class CodeAnalyzer {
                     String varname;
                     int varID;
 
+                    if (isReadFile(expression)) {
+                        throw new AplException("Reading from a file can only be used as an instruction.");
+                    }
+                    checkNotSlice(expression.getChild(0));
                     if (expression.getChild(0).getType() == AplLexer.IDARR) {
                         varname = expression.getChild(0).getChild(0).getText();
                     } else {
@@ -432,15 +930,14 @@ public class CodeAnalyzer {
                             throw new AplException("Reading to an element of a not defined array.");
                         }
                         print("Warning: variable with name `" + varname + "` not defined before reading. Assuming int.");
-                        varID = stack.defineVariable(varname, new Data(Data.Type.INT));
+                        varID = stack.defineVariable(varname, Data.get(Data.Type.INT));
                     }
 
                     Data varData = stack.getVariable(varID);
                     CodeNode var;
 
                     if (expression.getChild(0).getType() == AplLexer.IDARR) {
-                        ExpressionNode delta = parseExpression(expression.getChild(0).getChild(1));
-                        var = new ArrayAccessNode(new VariableNode(varID, varData), varData.getSubData(), delta);
+                        var = parseArrayAccess(expression.getChild(0), varID);
                     } else {
                         var = new VariableNode(varID, varData);
                     }
@@ -461,15 +958,20 @@ public class CodeAnalyzer {
                 break;
             case AplLexer.WRITE:
                 {
+                    if (isWriteFile(expression)) {
+                        throw new AplException("Writing to a file can only be used as an instruction.");
+                    }
                     CodeNode retval = new WriteNode(parseExpression(expression.getChild(0)));
 
-                    // to <string>
+                    // to <string>, which may be moved when it grows
                     if (expression.getChildCount() == 2) {
                         retval.appendChild(parseExpression(expression.getChild(1)));
-
-                        if (expression.getChild(1).getType() != AplLexer.IDARR
-                            && stack.isShared(stack.getVariableID(expression.getChild(1).getText()))) {
-                            retval = new CriticalNode(retval);
+                        if (expression.getChild(1).getType() == AplLexer.ID) {
+                            String target = expression.getChild(1).getText();
+                            int varID = stack.getVariableID(target);
+                            checkMovable(varID, target);
+                            checkViews(expression, varID, target);
+                            aliases.recordResize(currentFunction, varID);
                         }
                     }
                     expr.appendChild(retval);
@@ -479,26 +981,31 @@ public class CodeAnalyzer {
                 {
                     Data data;
                     String name = expression.getChild(0).getText();
-                    ExpressionNode accessExpr = parseExpression(expression.getChild(1));
-                    if (name.equals("int")) {
-                        data = new Data(Data.Type.INT);
-                    } else if (name.equals("float")) {
-                        data = new Data(Data.Type.FLOAT);
+                    if (numericType(name) != null) {
+                        data = numericType(name);
                     } else if (name.equals("char")) {
-                        data = new Data(Data.Type.CHAR);
+                        data = Data.get(Data.Type.CHAR);
                     } else if (name.equals("bool")) {
-                        data = new Data(Data.Type.BOOL);
-                    } else if (stack.getVariable(stack.getVariableID(expression.getChild(0).getText())).getType() == Data.Type.ARRAY){
+                        data = Data.get(Data.Type.BOOL);
+                    } else if (stack.getVariable(stack.getVariableID(expression.getChild(0).getText())).isArray()) {
                         id = stack.getVariableID(expression.getChild(0).getText());
-                        data = stack.getVariable(id);
-                        data.resolve();
-                        expr.appendChild(new ArrayAccessNode(new VariableNode(id, data), data.getSubData(), accessExpr));
+                        stack.getVariable(id).resolve();
+                        expr.appendChild(parseArrayAccess(expression, id));
                         break;
                     } else {
                         id = stack.getVariableID(expression.getChild(0).getText());
                         throw new AplException("Accessing an element in an array of a variable `" + expression.getChild(0).getText() + "` of type `" + stack.getVariable(id).typeToString() +"`");
                     }
-                    expr.appendChild(new ArrayNode(new Data(Data.Type.ARRAY, data), accessExpr));
+
+                    int rank = expression.getChildCount() - 1;
+                    if (rank > Data.MAX_RANK) {
+                        throw new AplException("Arrays cannot have more than " + Data.MAX_RANK + " dimensions.");
+                    }
+                    ArrayList<ExpressionNode> dims = new ArrayList<ExpressionNode>();
+                    for (int i = 1; i < expression.getChildCount(); ++i) {
+                        dims.add(parseExpression(expression.getChild(i)));
+                    }
+                    expr.appendChild(new ArrayNode(Data.get(Data.Type.ARRAY, data, rank), dims));
                     break;
                 }
             case AplLexer.FUNCALL:
@@ -506,11 +1013,42 @@ public class CodeAnalyzer {
                     String funcName = expression.getChild(0).getText();
                     AplTree params = expression.getChild(1);
                     if (params.getChildCount() == 0 && funcName.equals("get_num_threads")) {
-                        expr.appendChild(new ConstantNode("omp_get_num_threads()", new Data(Data.Type.INT)));
+                        expr.appendChild(new ConstantNode("omp_get_num_threads()", Data.get(Data.Type.INT)));
                         break;
                     } else if (params.getChildCount() == 0 && funcName.equals("get_thread_num")) {
-                        expr.appendChild(new ConstantNode("omp_get_thread_num()", new Data(Data.Type.INT)));
+                        expr.appendChild(new ConstantNode("omp_get_thread_num()", Data.get(Data.Type.INT)));
+                        break;
+                    } else if (params.getChildCount() == 0 && funcName.equals("wtime")) {
+                        expr.appendChild(new ConstantNode("omp_get_wtime()", Data.get(Data.Type.DOUBLE)));
+                        break;
+                    } else if (params.getChildCount() == 0 && (funcName.equals("rand") || funcName.equals("rand_float"))) {
+                        expr.appendChild(new RandomNode(funcName, null));
+                        break;
+                    } else if (params.getChildCount() == 1 && funcName.equals("seed")) {
+                        expr.appendChild(new RandomNode(funcName, parseExpression(params.getChild(0))));
                         break;
+                    } else if ((params.getChildCount() == 1 || params.getChildCount() == 2) && funcName.equals("len")) {
+                        ExpressionNode array = parseExpression(params.getChild(0));
+                        ExpressionNode dim = null;
+                        if (params.getChildCount() == 2) {
+                            dim = parseExpression(params.getChild(1));
+                        }
+                        expr.appendChild(new LenNode(array, dim, false));
+                        break;
+                    } else if (params.getChildCount() == 1 && funcName.equals("cap")) {
+                        expr.appendChild(new LenNode(parseExpression(params.getChild(0)), null, true));
+                        break;
+                    } else if (params.getChildCount() == 1 && funcName.equals("parse_int")) {
+                        expr.appendChild(new ParseNode(Data.get(Data.Type.INT), parseExpression(params.getChild(0))));
+                        break;
+                    } else if (params.getChildCount() == 1 && funcName.equals("parse_float")) {
+                        expr.appendChild(new ParseNode(Data.get(Data.Type.DOUBLE), parseExpression(params.getChild(0))));
+                        break;
+                    } else if (params.getChildCount() == 1 && numericType(funcName) != null) {
+                        expr.appendChild(new CastNode(numericType(funcName), parseExpression(params.getChild(0))));
+                        break;
+                    } else if (funcName.equals("push") || funcName.equals("resize") || funcName.equals("checkpoint")) {
+                        throw new AplException("`" + funcName + "` can only be used as an instruction.");
                     }
 
                     AplTree func = findFunction(funcName);
@@ -528,6 +1066,7 @@ public class CodeAnalyzer {
                         exprs.add(paramExpr);
                     }
 
+                    FunctionNode caller = currentFunction;
                     FunctionNode funcNode = currentFunction;
                     boolean found = false;
                     FunctionNode temp = new FunctionNode(funcName, paramData.size(), paramData);
@@ -547,8 +1086,7 @@ public class CodeAnalyzer {
                         params = func.getChild(1);
                         for (int i = 0; i < params.getChildCount(); ++i) {
                             if (params.getChild(i).getType() == AplLexer.PREF) {
-                                paramData.set(i, new Data(paramData.get(i)));
-                                paramData.get(i).setReference(true);
+                                paramData.set(i, paramData.get(i).withReference(true));
                             }
                             stack.defineVariable(params.getChild(i).getChild(0).getText(), paramData.get(i));
                         }
@@ -557,17 +1095,64 @@ public class CodeAnalyzer {
                         stack.popActivationRecord();
                     }
 
+                    caller.addCallee(funcNode, inParallel(expression));
+                    aliases.recordCall(caller, funcNode, exprs);
                     expr.appendChild(new FunctionCallNode(funcNode, exprs));
                 }
                 break;
+            case AplLexer.SLICE:
+                {
+                    String name = expression.getChild(0).getText();
+                    id = stack.getVariableID(name);
+                    Data data = stack.getVariable(id);
+                    data.resolve();
+                    if (!data.isArray() || data.getRank() != 1 || data.getSubData().isArray()) {
+                        throw new AplException("Only one-dimensional arrays of values can be sliced (`" + name + "`).");
+                    }
+                    ExpressionNode step = null;
+                    if (expression.getChildCount() > 3) step = parseExpression(expression.getChild(3));
+                    if (data.isPacked()) {
+                        throw new AplException("Packed arrays of bool cannot be sliced (`" + name + "`).");
+                    }
+                    if (data.getType() == Data.Type.ARRAY) aliases.recordSlice(currentFunction, id);
+                    expr.appendChild(new SliceNode(new VariableNode(id, data), parseExpression(expression.getChild(1)),
+                                                   parseExpression(expression.getChild(2)), step));
+                }
+                break;
+            case AplLexer.REDUCE:
+                {
+                    if (!isAssignedExpression(expression)) {
+                        throw new AplException("A reduction (" + expression.getText() + ") can only be assigned to a variable.");
+                    }
+                    ExpressionNode operand = parseExpression(expression.getChild(0));
+                    if (!operand.getData().isArray()) {
+                        throw new AplException("Reducing (" + expression.getText() + ") a value that is not an array.");
+                    }
+                    expr.appendChild(new ReduceNode(expression.getText(), operand));
+                }
+                break;
+            case AplLexer.IOTA:
+                {
+                    if (!isAssignedExpression(expression)) {
+                        throw new AplException("iota can only be used in an expression assigned to a variable.");
+                    }
+                    expr.appendChild(new IotaNode(parseExpression(expression.getChild(0))));
+                }
+                break;
             default:
                 {
                     OperatorNode op = new OperatorNode(expression.getText());
                     expr.appendChild(op);
+                    boolean arrays = false;
                     for (int i = 0; i < expression.getChildCount(); ++i) {
                         AplTree childExpression = expression.getChild(i);
                         ExpressionNode childExpr = parseExpression(childExpression);
                         expr.appendChild(childExpr);
+                        arrays = arrays || childExpr.getData().isArray();
+                    }
+
+                    if (arrays && isElementwise(expression.getType()) && !isAssignedExpression(expression)) {
+                        throw new AplException("Operations on whole arrays can only be assigned to a variable.");
                     }
                 }
         }
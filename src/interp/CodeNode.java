@@ -32,7 +32,11 @@ public abstract class CodeNode {
     private CodeNode down = null;
     private CodeNode right = null;
     private int childCount = 0;
-    protected Data data = new Data(Data.Type.VOID);
+    protected Data data = Data.get(Data.Type.VOID);
+    /** Line of the program where the node comes from (0 if unknown) */
+    private int line = 0;
+    /** Program named by the #line directives (null if they are not written) */
+    private static String sourceFile = null;
 
     public CodeNode(CodeNode parent)
     {
@@ -75,6 +79,75 @@ public abstract class CodeNode {
         childCount++;
     }
 
+    public CodeNode removeChild(int i)
+    {
+        CodeNode removed;
+        if (i == 0) {
+            removed = down;
+            down = removed.right;
+        } else {
+            CodeNode prev = getChild(i-1);
+            removed = prev.right;
+            prev.right = removed.right;
+        }
+
+        removed.parent = null;
+        removed.right = null;
+        childCount--;
+        return removed;
+    }
+
+    public void insertChild(int i, CodeNode child)
+    {
+        if (i == 0) {
+            child.right = down;
+            down = child;
+        } else {
+            CodeNode prev = getChild(i-1);
+            child.right = prev.right;
+            prev.right = child;
+        }
+
+        child.parent = this;
+        childCount++;
+    }
+
+    public void replaceChild(int i, CodeNode child)
+    {
+        CodeNode old = getChild(i);
+        if (i == 0) {
+            down = child;
+        } else {
+            getChild(i-1).right = child;
+        }
+        child.right = old.right;
+        child.parent = this;
+        old.parent = null;
+        old.right = null;
+    }
+
+    public int getLine() { return line; }
+
+    public void setLine(int line) { this.line = line; }
+
+    /**
+     * Makes the instructions start with a #line directive, so the
+     * compiler, debuggers and profilers refer to the lines of the
+     * program instead of the generated C.
+     */
+    public static void setSourceFile(String path) { sourceFile = path; }
+
+    /** #line directive of a line of the program, or nothing */
+    public static String lineToC(int line) {
+        if (sourceFile == null || line == 0) return "";
+        return "#line " + line + " \"" + sourceFile.replace("\\", "\\\\").replace("\"", "\\\"") + "\"\n";
+    }
+
+    /** C code of an instruction, after the #line of its line */
+    public static String instructionToC(CodeNode instr) throws AplException {
+        return lineToC(instr.getLine()) + instr.toC();
+    }
+
     public Data getData() { return data; }
     public abstract String toC() throws AplException;
 }
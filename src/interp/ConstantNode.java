@@ -29,9 +29,11 @@ package interp;
 
 import parser.*;
 import java.lang.StringBuilder;
+import java.math.BigInteger;
 
 public class ConstantNode extends CodeNode {
     String value;
+    boolean string = false;
 
     public ConstantNode(AplTree value)
     {
@@ -39,20 +41,26 @@ public class ConstantNode extends CodeNode {
         this.value = value.getText();
         switch (value.getType()) {
             case AplLexer.INT:
-                data = new Data(Data.Type.INT);
+                // Literals that do not fit in an int are not truncated
+                if (new BigInteger(this.value).bitLength() > 31) {
+                    data = Data.get(Data.Type.INT64);
+                    this.value = this.value + "LL";
+                } else {
+                    data = Data.get(Data.Type.INT);
+                }
                 break;
             case AplLexer.FLOAT:
-                data = new Data(Data.Type.FLOAT);
-                this.value = this.value + "f";
+                data = Data.get(Data.Type.FLOAT);
                 break;
             case AplLexer.CHAR:
-                data = new Data(Data.Type.CHAR);
+                data = Data.get(Data.Type.CHAR);
                 break;
             case AplLexer.STRING:
-                data = new Data(Data.Type.ARRAY, new Data(Data.Type.CHAR));
+                data = Data.get(Data.Type.ARRAY, Data.get(Data.Type.CHAR));
+                string = true;
                 break;
             case AplLexer.BOOLEAN:
-                data = new Data(Data.Type.BOOL);
+                data = Data.get(Data.Type.BOOL);
                 this.value = value.getText().equals("true") ? "1" : "0";
                 break;
         }
@@ -70,5 +78,33 @@ public class ConstantNode extends CodeNode {
     }
 
     @Override
-    public String toC() throws AplException { return value; }
+    public String toC() throws AplException {
+        // String literals are arrays, so they need a header with the length
+        if (string) return CRuntime.string(value);
+        if (data.getType() == Data.Type.FLOAT && !inDoubleContext()) return value + "f";
+        return value;
+    }
+
+    private static boolean isDouble(Data data) {
+        if (data.isArray()) data = data.getSubData();
+        return data.getType() == Data.Type.DOUBLE;
+    }
+
+    /**
+     * Checks whether the literal is operated with doubles or stored in
+     * a double, where a float literal would lose precision.
+     */
+    private boolean inDoubleContext() {
+        CodeNode node = this;
+        while (node.getParent() instanceof ExpressionNode) {
+            node = node.getParent();
+            if (isDouble(node.getData())) return true;
+        }
+        CodeNode parent = node.getParent();
+        if (parent instanceof CastNode) return isDouble(parent.getData());
+        if (parent instanceof AssignNode || parent instanceof ArrayExprNode || parent instanceof ResizeNode) {
+            return isDouble(parent.getChild(0).getData());
+        }
+        return false;
+    }
 }
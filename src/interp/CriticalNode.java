@@ -40,9 +40,15 @@ public class CriticalNode extends CodeNode {
     @Override
     public String toC() throws AplException {
         StringBuilder str = new StringBuilder();
+
+        // -profile: time waiting to enter
+        String region = Profiler.isEnabled() ? Profiler.region(this, "critical") : null;
+        if (region != null) str.append("{\ndouble apl_wait = omp_get_wtime();\n");
         str.append("#pragma omp critical\n{\n");
+        if (region != null) str.append("apl_prof_wait(" + region + ", apl_wait);\n");
         str.append(getChild(0).toC());
         str.append("}\n");
+        if (region != null) str.append("}\n");
         return str.toString();
     }
 }
\ No newline at end of file
@@ -34,6 +34,7 @@ package interp;
 
 import parser.*;
 import java.util.ArrayList;
+import java.util.HashMap;
 
 public class Data {
 
@@ -42,50 +43,136 @@ public class Data {
         VOID,
         CHAR,
         BOOL,
+        INT8,
+        INT16,
         INT,
+        INT64,
         FLOAT,
+        DOUBLE,
         ARRAY,
+        VIEW,
         FROM_DEPENDENCIES;
     }
 
+    /** Maximum number of dimensions of an array */
+    public static final int MAX_RANK = 3;
+
     /** Type of data*/
     private Type type;
     private Data subData = null;
+    /** Number of dimensions of an array (stored contiguously in row-major order) */
+    private int rank = 1;
+    /** Whether the arrays of bool store one bit per element */
+    private static boolean packedBool = false;
     private ArrayList<Data> dependencies;
     private boolean isRef = false;
 
-    /** Constructor for integers */
-    Data(Type type) { assert type != Type.ARRAY; this.type = type; }
+    /**
+     * Resolved types are interned: there is a single Data for each of
+     * them, which never changes, so they can be shared by any number of
+     * nodes and variables and compared by identity. Only the types that
+     * are decided later (the results of the functions, see addDependency)
+     * are separate objects.
+     */
+    private static HashMap<String, Data> interned = new HashMap<String, Data>();
+    /** Position of an interned type in the table (-1 if it is not interned) */
+    private int id = -1;
+    private String cType = null;
+    private String mangled = null;
+
+    private Data(Type type, Data subData, int rank, boolean isRef) {
+        this.type = type;
+        this.subData = subData;
+        this.rank = rank;
+        this.isRef = isRef;
+    }
+
+    /** Data whose type is decided later from its dependencies */
+    Data() { type = Type.VOID; }
 
-    /** Constructor for integers */
-    Data(Type type, Data subData) { assert subData != null; this.type = type; this.subData = subData; }
+    /** Copy of a type that is not interned */
+    private Data(Data d) { setData(d); isRef = d.isRef; }
 
-    /** Constructor for void data */
-    Data() {type = Type.VOID; }
+    /** Scalar types */
+    static Data get(Type type) {
+        assert type != Type.ARRAY && type != Type.VIEW;
+        return get(type, null, 1, false);
+    }
 
-    /** Copy constructor */
-    Data(Data d) { setData(d); }
+    /** Arrays and views of one dimension */
+    static Data get(Type type, Data subData) {
+        assert subData != null;
+        return get(type, subData, 1, false);
+    }
+
+    /** Multi-dimensional arrays */
+    static Data get(Type type, Data subData, int rank) {
+        assert subData != null;
+        return get(type, subData, rank, false);
+    }
+
+    private static Data get(Type type, Data subData, int rank, boolean isRef) {
+        if (subData != null && !subData.isInterned()) return new Data(type, subData, rank, isRef);
+        String key = type.ordinal() + "," + (subData == null ? -1 : subData.id) + "," + rank + "," + isRef;
+        Data data = interned.get(key);
+        if (data == null) {
+            data = new Data(type, subData, rank, isRef);
+            data.id = interned.size();
+            interned.put(key, data);
+        }
+        return data;
+    }
+
+    /** Checks whether the data is the only instance of its type */
+    public boolean isInterned() { return id >= 0; }
+
+    /** The same type passed by reference or by value */
+    public Data withReference(boolean value) {
+        if (value == isRef) return this;
+        if (isInterned()) return get(type, subData, rank, value);
+        Data data = new Data(this);
+        data.isRef = value;
+        return data;
+    }
 
     /** Returns the type of data */
     public Type getType() { return type; }
-    public void setData(Data d) {
-        if (d == null) {
-            type = Type.VOID;
-            subData = null;
-            dependencies = null;
-            return;
-        }
+    private void setData(Data d) {
+        assert !isInterned();
         type = d.type;
-        subData = new Data(d.subData);
-        if (d.dependencies != null) {
-            dependencies = new ArrayList<Data>();
-            for (Data dep : d.dependencies) {
-                dependencies.add(new Data(dep));
-            }
-        }
+        rank = d.rank;
+        subData = d.subData;
+        dependencies = d.dependencies != null ? new ArrayList<Data>(d.dependencies) : null;
     }
     public Data getSubData() { return subData; }
 
+    /** Checks whether the data is a sequence of elements (array or view) */
+    public boolean isArray() { return type == Type.ARRAY || type == Type.VIEW; }
+
+    /** Returns the number of dimensions of an array */
+    public int getRank() { return rank; }
+
+    /**
+     * Checks whether elements can be added to the data: arrays of one
+     * dimension, which keep their capacity in the header.
+     */
+    public boolean isGrowable() { return type == Type.ARRAY && rank == 1; }
+
+    /**
+     * Stores the arrays of bool in words of 64 bits instead of one byte
+     * per element. The elements are then accessed with apl_bit and
+     * apl_bit_set.
+     */
+    public static void setPackedBool(boolean value) {
+        packedBool = value;
+        for (Data data : interned.values()) data.cType = null;
+    }
+
+    /** Checks whether the data is an array of bool packed in words */
+    public boolean isPacked() {
+        return packedBool && type == Type.ARRAY && subData.getType() == Type.BOOL;
+    }
+
     public boolean hasDependencies() {
         return dependencies != null;
     }
@@ -132,6 +219,7 @@ public class Data {
     }
 
     public void addDependency(Data dependecy) {
+        assert !isInterned();
         if (isSelfContained(dependecy)) return;
         ArrayList<Data> deps = new ArrayList<Data>();
         if (type != Type.FROM_DEPENDENCIES) {
@@ -146,52 +234,131 @@ public class Data {
     public ArrayList<Data> getDependencies() { return dependencies; }
 
     public String typeToString() {
+        if (!isInterned()) return computeTypeToString();
+        if (cType == null) cType = computeTypeToString();
+        return cType;
+    }
+
+    private String computeTypeToString() {
         switch(type) {
             case VOID:
                 return "void";
+            case INT8:
+                return "signed char";
+            case INT16:
+                return "short";
             case INT:
                 return "int";
+            case INT64:
+                return "long long";
             case FLOAT:
                 return "float";
+            case DOUBLE:
+                return "double";
             case CHAR:
                 return "char";
             case BOOL:
                 return "int";
             case ARRAY:
-                return subData.typeToString() + "*";
+                return subData.elementTypeToString() + "*";
+            case VIEW:
+                return "apl_view_" + subData.mangle();
             default:
                 return "unknown";
         }
     }
 
+    /**
+     * Type of the data when it is an element of an array. Bool values
+     * take one byte, or a word shared by 64 of them when they are packed.
+     */
+    public String elementTypeToString() {
+        if (type != Type.BOOL) return typeToString();
+        return packedBool ? "unsigned long long" : "unsigned char";
+    }
+
+    /** Checks whether the data is an integer number of any width */
+    public boolean isInteger() {
+        return type == Type.INT8 || type == Type.INT16 || type == Type.INT || type == Type.INT64;
+    }
+
+    /** Name of the type used to build the names of specialized functions */
+    public String mangle() {
+        if (!isInterned()) return computeMangle();
+        if (mangled == null) mangled = computeMangle();
+        return mangled;
+    }
+
+    private String computeMangle() {
+        switch (type) {
+            case VIEW:
+                return subData.mangle() + "V";
+            case BOOL:
+                return "bool";
+            case INT8:
+                return "int8";
+            case INT16:
+                return "int16";
+            case INT64:
+                return "int64";
+            case ARRAY:
+                break;
+            default:
+                return typeToString();
+        }
+        String name = subData.mangle() + "P";
+        if (rank > 1) name += Integer.toString(rank);
+        return name;
+    }
+
+    /**
+     * Type of an element-wise operation between two values where at
+     * least one of them is an array (the other one is broadcast).
+     */
+    static public Data elementwise(Data d1, Data d2) {
+        Data array = d1.isArray() ? d1 : d2;
+        Data e1 = d1.isArray() ? d1.getSubData() : d1;
+        Data e2 = d2.isArray() ? d2.getSubData() : d2;
+        return get(Type.ARRAY, max(e1, e2), array.getRank());
+    }
+
     static public Data max(Data d1, Data d2) {
         Data.Type t1 = d1.getType();
         Data.Type t2 = d2.getType();
         if (t1 == Data.Type.VOID) return d2;
         if (t2 == Data.Type.VOID) return d1;
+        if (t1 == Data.Type.DOUBLE) return d1;
+        if (t2 == Data.Type.DOUBLE) return d2;
+        // A float cannot hold every int64 exactly
+        if ((t1 == Data.Type.FLOAT && t2 == Data.Type.INT64)
+            || (t1 == Data.Type.INT64 && t2 == Data.Type.FLOAT)) return get(Data.Type.DOUBLE);
         if (t1 == Data.Type.FLOAT) return d1;
         if (t2 == Data.Type.FLOAT) return d2;
         if (t1 == Data.Type.FROM_DEPENDENCIES || t2 == Data.Type.FROM_DEPENDENCIES) {
-            Data data = new Data(Data.Type.FROM_DEPENDENCIES);
+            Data data = new Data();
             data.addDependency(d1);
             data.addDependency(d2);
         }
-        if (t1 != t2) return new Data(Data.Type.INT);
-        if (t1 == Data.Type.ARRAY && t2 == Data.Type.ARRAY && d1.getSubData().getType() != d2.getSubData().getType()) return new Data(Type.ARRAY, new Data(Type.VOID));
+        if (t1 == Data.Type.INT64) return d1;
+        if (t2 == Data.Type.INT64) return d2;
+        // The narrow integers only save memory: the operations between
+        // them are done in int, as in C, so that they do not overflow
+        if (t1 != t2 || t1 == Data.Type.INT8 || t1 == Data.Type.INT16) return get(Data.Type.INT);
+        if (t1 == t2 && d1.isArray() && (d1.getSubData().getType() != d2.getSubData().getType() || d1.getRank() != d2.getRank())) return get(t1, get(Type.VOID));
         return d1;
     }
 
     public boolean equals(Data d) {
+        if (this == d) return true;
+        if (isInterned() && d.isInterned()) return withReference(false) == d.withReference(false);
         if (type == d.getType()) {
-            if (type == Type.ARRAY) {
-                return subData.equals(d.getSubData());
+            if (type == Type.ARRAY || type == Type.VIEW) {
+                return rank == d.getRank() && subData.equals(d.getSubData());
             }
             return true;
         }
         return false;
     }
 
-    public void setReference(boolean value) { isRef = value; }
-
     public boolean isReference() { return isRef; }
 }
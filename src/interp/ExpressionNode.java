@@ -54,9 +54,17 @@ public class ExpressionNode extends CodeNode {
                 || op.equals("<") || op.equals(">")
                 || op.equals("||") || op.equals("&&")
                 || op.equals("!")) {
-                data = new Data(Data.Type.BOOL);
+                data = Data.get(Data.Type.BOOL);
+            } else if (getNumChilds() == 2) {
+                data = getChild(1).getData();
             } else {
-                data = Data.max(getChild(1).getData(), getChild(2).getData());
+                Data left = getChild(1).getData();
+                Data right = getChild(2).getData();
+                if (left.isArray() || right.isArray()) {
+                    data = Data.elementwise(left, right);
+                } else {
+                    data = Data.max(left, right);
+                }
             }
         }
         return data;
@@ -98,4 +106,6 @@ public class ExpressionNode extends CodeNode {
     }
 
     public void makeGroup() { isGroup = true; }
+
+    public boolean isGroup() { return isGroup; }
 }
@@ -29,18 +29,267 @@ package interp;
 
 import parser.*;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.lang.StringBuilder;
 
 public class ForNode extends CodeNode {
     int type;
+    private boolean parallel = false;
+    private ArrayList<CodeNode> clauses = new ArrayList<CodeNode>();
+    private long threshold = 0;
+    private ArrayList<Long> tileSizes = null;
+    private boolean ordered = false;
+    /** The worksharing loop does not wait at the end (see toC with -profile) */
+    private boolean nowait = false;
 
     public ForNode(int type) {
         super(null);
         this.type = type;
     }
 
+    public int getType() { return type; }
+
+    public CodeNode getVariable() { return getChild(0); }
+
+    public BlockInstrNode getBlock() { return (BlockInstrNode) getChild(4); }
+
+    public SimdNode getSimd() { return (SimdNode) getChild(5); }
+
+    /**
+     * Turns the loop into a combined parallel for with the given clauses.
+     * If threshold is positive, the loop only runs in parallel when its
+     * trip count reaches it.
+     */
+    public void makeParallel(ArrayList<CodeNode> clauses, long threshold) {
+        this.parallel = true;
+        this.clauses = clauses;
+        this.threshold = threshold;
+    }
+
+    public boolean isParallel() { return parallel; }
+
+    /** Adds a clause to the worksharing pragma of the loop */
+    public void addClause(CodeNode clause) { clauses.add(clause); }
+
+    /** Tiles the perfect nest rooted at this loop, one size per loop */
+    public void setTile(ArrayList<Long> sizes) { tileSizes = sizes; }
+
+    public boolean isTiled() { return tileSizes != null; }
+
+    /**
+     * The output of the iterations of the pfor is written in the order
+     * of the iterations. The iterations still run in parallel, only
+     * their output waits for the previous ones.
+     */
+    public void setOrdered() { ordered = true; }
+
+    public boolean isOrdered() { return ordered; }
+
+    private static void appendClause(StringBuilder str, String clause) {
+        if (clause.length() == 0) return;
+        str.append(clause);
+        str.append(" ");
+    }
+
+    /**
+     * Appends the pragma of the loop. The extra clause is added to
+     * worksharing constructs. When simd is false the loop is not
+     * vectorized even if it was requested (used by the tile loops).
+     */
+    private void appendPragma(StringBuilder str, CodeNode extra, boolean simd) throws AplException {
+        boolean worksharing = type == AplLexer.PFOR || parallel;
+        simd = simd && getSimd().isEnabled() && !ordered;
+        if (!worksharing && !simd) return;
+
+        str.append("#pragma omp ");
+        if (parallel) {
+            str.append("parallel for ");
+        } else if (type == AplLexer.PFOR) {
+            str.append("for ");
+        }
+        if (simd) {
+            str.append("simd ");
+            appendClause(str, getSimd().toC());
+        }
+        appendClause(str, getChild(3).toC());
+        if (worksharing) {
+            if (ordered) str.append("ordered ");
+            if (nowait) str.append("nowait ");
+            for (CodeNode clause : clauses) {
+                appendClause(str, clause.toC());
+            }
+            if (extra != null) {
+                appendClause(str, extra.toC());
+            }
+            if (threshold > 0) {
+                str.append("if(");
+                str.append(getChild(2).toC());
+                str.append(" - (");
+                str.append(getChild(1).toC());
+                str.append(") >= ");
+                str.append(Long.toString(threshold));
+                str.append(")");
+            }
+        }
+        str.append("\n");
+    }
+
+    /**
+     * Checks whether the iterations run in parallel and may draw random
+     * numbers. Each iteration then draws from its own stream, keyed by
+     * its induction variables, so the numbers do not depend on the
+     * thread that runs it.
+     */
+    private boolean drawsInIterations() {
+        return (type == AplLexer.PFOR || parallel) && RandomNode.mayDraw(getChild(4), new HashSet<FunctionNode>());
+    }
+
+    private boolean inClause(int varID) {
+        for (CodeNode clause : clauses) {
+            for (int i = 0; i < clause.getNumChilds(); ++i) {
+                if (LoopAnalyzer.isVariable(clause.getChild(i), varID)) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Emits the tiled nest: first the loops over the tiles, then the
+     * loops over the iterations of each tile. The worksharing pragma
+     * goes on the outermost tile loop, and the induction variables of
+     * the nest become private since they are not the loop variables of
+     * the pragma anymore.
+     */
+    private String tiledToC() throws AplException {
+        StringBuilder str = new StringBuilder();
+        ArrayList<ForNode> nest = LoopAnalyzer.getPerfectNest(this, tileSizes.size());
+        if (nest.size() != tileSizes.size()) {
+            throw new AplException("Tiling requires " + tileSizes.size() + " perfectly nested loops with rectangular bounds.");
+        }
+
+        // Variables already in a clause (lastprivate of -autopar) keep it
+        ParallelDefNode privates = new ParallelDefNode("private");
+        for (ForNode loop : nest) {
+            VariableNode iv = (VariableNode) loop.getVariable();
+            if (!inClause(iv.varID)) privates.appendChild(new VariableNode(iv.varID, iv.getData()));
+        }
+        appendPragma(str, privates, false);
+
+        for (int k = 0; k < nest.size(); ++k) {
+            ForNode loop = nest.get(k);
+            String tile = loop.getChild(0).toC() + "_t";
+            str.append("for (long ");
+            str.append(tile);
+            str.append(" = ");
+            str.append(loop.getChild(1).toC());
+            str.append("; ");
+            str.append(tile);
+            str.append(" < ");
+            str.append(loop.getChild(2).toC());
+            str.append("; ");
+            str.append(tile);
+            str.append(" += ");
+            str.append(tileSizes.get(k).toString());
+            str.append(")\n");
+        }
+
+        for (int k = 0; k < nest.size(); ++k) {
+            ForNode loop = nest.get(k);
+            String it = loop.getChild(0).toC();
+            String tile = it + "_t";
+            String size = loop.getChild(2).toC();
+            String end = tile + " + " + tileSizes.get(k).toString();
+
+            if (k == nest.size()-1 && loop.getSimd().isEnabled()) {
+                str.append("#pragma omp simd ");
+                appendClause(str, loop.getSimd().toC());
+                appendClause(str, loop.getChild(3).toC());
+                str.append("\n");
+            }
+            str.append("for (");
+            str.append(it);
+            str.append(" = ");
+            str.append(tile);
+            str.append("; ");
+            str.append(it);
+            str.append(" < (");
+            str.append(end);
+            str.append(" < ");
+            str.append(size);
+            str.append(" ? ");
+            str.append(end);
+            str.append(" : ");
+            str.append(size);
+            str.append("); ++");
+            str.append(it);
+            str.append(")\n");
+        }
+
+        if (drawsInIterations()) {
+            CRuntime.require("apl_rand");
+            String key = "(unsigned long long) " + nest.get(0).getChild(0).toC();
+            for (int k = 1; k < nest.size(); ++k) {
+                key = "apl_rand_mix(" + key + ") + " + nest.get(k).getChild(0).toC();
+            }
+            str.append("{\napl_rand_iter(");
+            str.append(key);
+            str.append(");\n");
+            str.append(nest.get(nest.size()-1).getBlock().toC());
+            str.append("apl_rand_iter_end();\n}\n");
+        } else {
+            str.append(nest.get(nest.size()-1).getBlock().toC());
+        }
+        return str.toString();
+    }
+
     @Override
     public String toC() throws AplException {
+        if (Profiler.isEnabled() && (type == AplLexer.PFOR || parallel)) {
+            return profiledToC();
+        }
+        return loopToC();
+    }
+
+    /**
+     * -profile: each thread of a pfor measures the time until it
+     * finishes its iterations, which it counts unless the loop is
+     * vectorized. The loop does not wait at the end so that the
+     * barrier comes after the measure. A tiled pfor or a combined
+     * parallel for (-autopar) only gets its wall time.
+     */
+    private String profiledToC() throws AplException {
+        StringBuilder str = new StringBuilder();
+        String region = Profiler.region(this, parallel ? "parallel for" : "pfor");
+        str.append("{\ndouble apl_start = omp_get_wtime();\n");
+        if (parallel || tileSizes != null) {
+            str.append(loopToC());
+            if (!parallel) str.append("#pragma omp master\n");
+            str.append("apl_prof_time(" + region + ", apl_start);\n}\n");
+            return str.toString();
+        }
+
+        boolean count = !getSimd().isEnabled();
+        if (count) str.append("long apl_iters = 0;\n");
+        nowait = true;
+        str.append(loopToC(count ? "++apl_iters;\n" : null,
+                           "apl_prof_busy(" + region + ", apl_start, " + (count ? "apl_iters" : "0") + ");\n"
+                           + "#pragma omp barrier\n"
+                           + "#pragma omp master\n"
+                           + "apl_prof_time(" + region + ", apl_start);\n"));
+        nowait = false;
+        str.append("}\n");
+        return str.toString();
+    }
+
+    private String loopToC() throws AplException {
+        return loopToC(null, null);
+    }
+
+    /**
+     * Emits the loop. The prologue goes at the start of each iteration
+     * and the epilogue right after the loop.
+     */
+    private String loopToC(String prologue, String epilogue) throws AplException {
         StringBuilder str = new StringBuilder();
 
         int depth = 0;
@@ -50,11 +299,15 @@ public class ForNode extends CodeNode {
             ++depth;
         }
 
-        if (type == AplLexer.PFOR) {
-            str.append("#pragma omp for ");
-            str.append(getChild(3).toC());
-            str.append("\n");
+        if (tileSizes != null) {
+            return tiledToC();
+        }
+
+        if (ordered) {
+            CRuntime.require("apl_out_ordered");
+            str.append("apl_out_begin_ordered();\n");
         }
+        appendPragma(str, null, true);
 
         String it, init, size;
         str.append("for (");
@@ -74,7 +327,32 @@ public class ForNode extends CodeNode {
         str.append(it);
         str.append(")\n");
 
-        str.append(getChild(4).toC());
+        boolean draws = drawsInIterations();
+        if (ordered || prologue != null || draws) {
+            str.append("{\n");
+            if (prologue != null) str.append(prologue);
+            if (draws) {
+                CRuntime.require("apl_rand");
+                str.append("apl_rand_iter(");
+                str.append(it);
+                str.append(");\n");
+            }
+            str.append(getChild(4).toC());
+            if (draws) str.append("apl_rand_iter_end();\n");
+            if (ordered) {
+                str.append("#pragma omp ordered\n");
+                str.append("apl_out_ordered();\n");
+            }
+            str.append("}\n");
+        } else {
+            str.append(getChild(4).toC());
+        }
+        if (epilogue != null) str.append(epilogue);
+        if (ordered) {
+            str.append("apl_out_end_ordered();\n");
+            str.append("#pragma omp single\n");
+            str.append("apl_out_flush_ordered();\n");
+        }
 
         return str.toString();
     }
@@ -33,6 +33,9 @@ import java.lang.StringBuilder;
 
 public class FreeNode extends CodeNode {
     private int varID;
+    /** Name of the variable and line of the free written in the program */
+    private String name = null;
+    private int line = 0;
 
     public FreeNode(int varID, Data data) {
         super(null);
@@ -40,6 +43,18 @@ public class FreeNode extends CodeNode {
         this.data = data;
     }
 
+    public FreeNode(int varID, Data data, String name, int line) {
+        this(varID, data);
+        this.name = name;
+        this.line = line;
+    }
+
+    public int getVarID() { return varID; }
+
+    public String getName() { return name; }
+
+    public int getLine() { return line; }
+
     @Override
     public String toC() throws AplException {
         StringBuilder str = new StringBuilder();
@@ -48,7 +63,8 @@ public class FreeNode extends CodeNode {
             throw new AplException("Cannot free a variable that is not an array.");
         }
 
-        str.append("free(var");
+        CRuntime.require("apl_free");
+        str.append("apl_free(var");
         str.append(Integer.toString(varID));
         str.append(");\n");
 
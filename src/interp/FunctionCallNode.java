@@ -39,11 +39,58 @@ public class FunctionCallNode extends CodeNode {
         super(null);
         this.func = func;
         this.params = params;
+        for (ExpressionNode param : params) {
+            appendChild(param);
+        }
         this.data = func.getData();
     }
 
+    public FunctionNode getFunction() { return func; }
+
+    /** Line of the instruction with the call */
+    private int callLine() {
+        for (CodeNode node = this; node != null; node = node.getParent()) {
+            if (node.getLine() != 0) return node.getLine();
+        }
+        return 0;
+    }
+
+    /**
+     * -trace: the callee reads the line of the call when it starts. The
+     * arguments are computed before the line is set, because they can
+     * have calls of their own.
+     */
+    private String tracedToC() throws AplException {
+        StringBuilder str = new StringBuilder();
+        if (params.isEmpty()) {
+            return "(apl_trace_line = " + callLine() + ", " + func.getName() + " ( ))";
+        }
+        str.append("({ ");
+        for (int i = 0; i < params.size(); ++i) {
+            Data param = func.getVariables().get(i);
+            param.resolve();
+            str.append(param.typeToString());
+            if (param.isReference()) {
+                str.append("* apl_arg" + i + " = &(" + params.get(i).toC() + "); ");
+            } else {
+                str.append(" apl_arg" + i + " = " + params.get(i).toC() + "; ");
+            }
+        }
+        str.append("apl_trace_line = " + callLine() + "; ");
+        str.append(func.getName());
+        str.append(" ( ");
+        for (int i = 0; i < params.size(); ++i) {
+            if (i != 0) str.append(", ");
+            str.append("apl_arg" + i);
+        }
+        str.append(" ); })");
+        return str.toString();
+    }
+
     @Override
     public String toC() throws AplException {
+        if (Tracer.isEnabled()) return tracedToC();
+
         StringBuilder str = new StringBuilder();
 
         str.append(func.getName());
@@ -28,12 +28,19 @@
 package interp;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.lang.StringBuilder;
 
 public class FunctionNode extends CodeNode {
     private String name;
     private ArrayList<Data> variables;
+    /** Source names of the variables, by id */
+    private ArrayList<String> names = null;
     private int numParams;
+    private HashSet<Integer> restrictVars = new HashSet<Integer>();
+    /** Functions called from this one */
+    private ArrayList<FunctionNode> callees = new ArrayList<FunctionNode>();
+    private boolean calledInParallel = false;
 
     public FunctionNode(String name, int numParams, ArrayList<Data> variables)
     {
@@ -48,10 +55,67 @@ public class FunctionNode extends CodeNode {
         return variables;
     }
 
+    public void setVariableNames(ArrayList<String> names) {
+        this.names = names;
+    }
+
+    public String getVariableName(int varID) {
+        return names != null && varID < names.size() ? names.get(varID) : "var" + varID;
+    }
+
+    /**
+     * Names of the C variables of the function in the program, one per
+     * line after the name of the function: varN name type.
+     */
+    public String variablesToString() {
+        StringBuilder str = new StringBuilder();
+        str.append(getName() + " " + name + " " + getLine() + "\n");
+        for (int i = 0; i < variables.size(); ++i) {
+            Data value = variables.get(i);
+            value.resolve();
+            str.append("    var" + i + " " + getVariableName(i) + " " + value.typeToString());
+            if (i < numParams && value.isReference()) str.append("*");
+            str.append("\n");
+        }
+        return str.toString();
+    }
+
+    /** Name of the function in the source, without the types of the parameters */
+    public String getSourceName() {
+        return name;
+    }
+
     public int getNumParams() {
         return numParams;
     }
 
+    /** Marks an array variable as the only pointer to its allocation */
+    public void setRestrict(int varID) {
+        restrictVars.add(varID);
+    }
+
+    public boolean isRestrict(int varID) {
+        return restrictVars.contains(varID);
+    }
+
+    /**
+     * Records a call from this function. The callee can run in parallel
+     * if the call is in a parallel block or this function can.
+     */
+    public void addCallee(FunctionNode callee, boolean inParallel) {
+        if (!callees.contains(callee)) callees.add(callee);
+        if (inParallel || calledInParallel) callee.setCalledInParallel();
+    }
+
+    public void setCalledInParallel() {
+        if (calledInParallel) return;
+        calledInParallel = true;
+        for (FunctionNode callee : callees) callee.setCalledInParallel();
+    }
+
+    /** Checks whether several threads can execute the function at the same time */
+    public boolean isCalledInParallel() { return calledInParallel; }
+
     public String getName() {
         if (name.equals("main")) return name;
         StringBuilder signatureBuild = new StringBuilder();
@@ -59,7 +123,7 @@ public class FunctionNode extends CodeNode {
         for (int i = 0; i < numParams; ++i) {
             Data param = variables.get(i);
             signatureBuild.append("_");
-            signatureBuild.append(param.typeToString().replaceAll("\\*","P"));
+            signatureBuild.append(param.mangle());
         }
         return signatureBuild.toString();
     }
@@ -91,6 +155,7 @@ public class FunctionNode extends CodeNode {
         data.resolve();
 
         // Function header
+        str.append(lineToC(getLine()));
         str.append(data.typeToString());
         str.append(" ");
         str.append(getName());
@@ -102,6 +167,8 @@ public class FunctionNode extends CodeNode {
             str.append(dVar.typeToString());
             if (dVar.isReference()) {
                 str.append("*");
+            } else if (isRestrict(i)) {
+                str.append(" restrict");
             }
             str.append(" var");
             str.append((new Integer(i)).toString());
@@ -130,6 +197,9 @@ public class FunctionNode extends CodeNode {
                 throw new AplException (str.toString());
             }
             str.append(value.typeToString());
+            if (isRestrict(i)) {
+                str.append(" restrict");
+            }
             str.append(" var");
             str.append(key.toString());
             if (value.getType() == Data.Type.ARRAY) {
@@ -137,11 +207,36 @@ public class FunctionNode extends CodeNode {
             }
             str.append(";\n");
         }
+        if (name.equals("main") && numParams >= 2) {
+            // The arguments get a header so their length is known
+            CRuntime.require("apl_argv");
+            str.append("char** apl_args __attribute__((cleanup(apl_free_argv))) = apl_argv(var0, var1);\n");
+            str.append("var1 = apl_args;\n");
+        }
+        if (Profiler.isEnabled()) {
+            // -profile: the cleanup attribute stops the timer at every return
+            str.append("apl_region* apl_scope __attribute__((cleanup(apl_prof_leave))) = apl_prof_enter(");
+            str.append(Profiler.region(this, "function " + name));
+            str.append(");\n");
+        }
+        if (Tracer.isEnabled()) {
+            ArrayList<String> values = new ArrayList<String>();
+            for (int i = 0; i < numParams; ++i) {
+                Data param = variables.get(i);
+                values.add(Tracer.value(param, param.isReference() ? "(*var" + i + ")" : "var" + i));
+            }
+            str.append("apl_trace_call(" + Tracer.id(this) + ", " + numParams + ", " + Tracer.values(values) + ");\n");
+        }
         str.append("\n");
 
         // Intructions
         for (int i = 0; i < getNumChilds(); ++i) {
-            str.append(getChild(i).toC());
+            str.append(instructionToC(getChild(i)));
+        }
+        if (Tracer.isEnabled() && (getNumChilds() == 0 || !(getChild(getNumChilds() - 1) instanceof ReturnNode))) {
+            // The end of the function is a return without result
+            int line = getNumChilds() == 0 ? getLine() : getChild(getNumChilds() - 1).getLine();
+            str.append(Tracer.returnToC(this, line, null));
         }
 
         str.append("}\n");
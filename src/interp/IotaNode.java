@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2016, Alessio Linares and Guillermo Ojeda
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *    * Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright
+ *      notice, this list of conditions and the following disclaimer in the
+ *      documentation and/or other materials provided with the distribution.
+ *    * Neither the name of the <organization> nor the
+ *      names of its contributors may be used to endorse or promote products
+ *      derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+
+package interp;
+
+import java.lang.StringBuilder;
+
+/**
+ * The array 0, 1, ..., n-1. It is never built: the loop that evaluates
+ * a whole-array expression uses its index instead (see ArrayExprNode).
+ */
+
+public class IotaNode extends CodeNode {
+
+    public IotaNode(ExpressionNode size)
+    {
+        super(null);
+        this.data = Data.get(Data.Type.ARRAY, Data.get(Data.Type.INT));
+        appendChild(size);
+    }
+
+    /** Number of elements of the array */
+    public String lengthToC() throws AplException {
+        StringBuilder str = new StringBuilder();
+        str.append("(long)(");
+        str.append(getChild(0).toC());
+        str.append(")");
+        return str.toString();
+    }
+
+    @Override
+    public String toC() throws AplException {
+        throw new AplException("iota can only be used in an expression assigned to a variable.");
+    }
+}
@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2016, Alessio Linares and Guillermo Ojeda
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *    * Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright
+ *      notice, this list of conditions and the following disclaimer in the
+ *      documentation and/or other materials provided with the distribution.
+ *    * Neither the name of the <organization> nor the
+ *      names of its contributors may be used to endorse or promote products
+ *      derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package interp;
+
+import java.lang.StringBuilder;
+
+/**
+ * The builtins len(a), len(a, k) and cap(a). The length and the
+ * capacity of an array are stored in its header and the length of a
+ * view in the view itself, so they are never computed.
+ */
+
+public class LenNode extends CodeNode {
+    private boolean capacity;
+
+    public LenNode(ExpressionNode array, ExpressionNode dim, boolean capacity) throws AplException
+    {
+        super(null);
+        this.data = Data.get(Data.Type.INT);
+        this.capacity = capacity;
+        array.getData().resolve();
+        if (!array.getData().isArray()) {
+            throw new AplException((capacity ? "cap" : "len") + " can only be used with arrays.");
+        }
+        if (capacity && !array.getData().isGrowable()) {
+            throw new AplException("Only arrays of one dimension have a capacity.");
+        }
+        appendChild(array);
+        if (dim != null) {
+            dim.getData().resolve();
+            if (!dim.getData().isInteger()) {
+                throw new AplException("The dimension in len must be an integer.");
+            }
+            appendChild(dim);
+        }
+    }
+
+    /** The array whose length is taken */
+    public ExpressionNode getArray() {
+        return (ExpressionNode) getChild(0);
+    }
+
+    public boolean hasDimension() {
+        return getNumChilds() > 1;
+    }
+
+    /** Number of elements allocated instead of the length */
+    public boolean isCapacity() { return capacity; }
+
+    @Override
+    public String toC() throws AplException {
+        StringBuilder str = new StringBuilder();
+        String array = getChild(0).toC();
+        str.append("((int) ");
+        if (capacity) {
+            // Arrays that are not in the heap cannot grow
+            str.append("APL_HEADER(");
+            str.append(array);
+            str.append(")->cap");
+        } else if (getArray().getData().getType() == Data.Type.VIEW) {
+            // Views have a single dimension
+            if (hasDimension()) {
+                str.append("((");
+                str.append(getChild(1).toC());
+                str.append(") == 0 ? (");
+                str.append(array);
+                str.append(").len : 1)");
+            } else {
+                str.append("(");
+                str.append(array);
+                str.append(").len");
+            }
+        } else {
+            CRuntime.require("apl_len");
+            if (hasDimension()) {
+                str.append("APL_DIM(");
+                str.append(array);
+                str.append(", ");
+                str.append(getChild(1).toC());
+                str.append(")");
+            } else {
+                str.append("APL_LEN(");
+                str.append(array);
+                str.append(")");
+            }
+        }
+        str.append(")");
+        return str.toString();
+    }
+}
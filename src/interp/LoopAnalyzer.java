@@ -0,0 +1,1109 @@
+/**
+ * Copyright (c) 2016, Alessio Linares and Guillermo Ojeda
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *    * Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright
+ *      notice, this list of conditions and the following disclaimer in the
+ *      documentation and/or other materials provided with the distribution.
+ *    * Neither the name of the <organization> nor the
+ *      names of its contributors may be used to endorse or promote products
+ *      derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+
+package interp;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.HashSet;
+
+/**
+ * Static analyses over the loops of the generated code. They work on
+ * the CodeNode tree once a loop has been completely built by the
+ * CodeAnalyzer.
+ */
+
+public class LoopAnalyzer {
+
+    /** Strips the expression nodes that only wrap a single child. */
+    static CodeNode unwrap(CodeNode node) {
+        while (node instanceof ExpressionNode && node.getNumChilds() == 1) {
+            node = node.getChild(0);
+        }
+        return node;
+    }
+
+    /** Checks whether the node is a read of the given variable. */
+    static boolean isVariable(CodeNode node, int varID) {
+        node = unwrap(node);
+        return node instanceof VariableNode && ((VariableNode) node).varID == varID;
+    }
+
+    /**
+     * A plain for loop can be vectorized when its body only assigns
+     * array elements and every array access (read or written) is
+     * indexed by the induction variable itself. In that case each
+     * iteration touches its own elements and no dependence is carried
+     * between iterations.
+     */
+    public static boolean isSimdSafe(ForNode loop) {
+        if (loop.getType() != parser.AplLexer.FOR) return false;
+        if (!(loop.getVariable() instanceof VariableNode)) return false;
+        int iv = ((VariableNode) loop.getVariable()).varID;
+
+        BlockInstrNode block = loop.getBlock();
+        if (block.getNumChilds() == 0) return false;
+        for (int i = 0; i < block.getNumChilds(); ++i) {
+            CodeNode instr = block.getChild(i);
+            if (!(instr instanceof AssignNode)) return false;
+            if (!(instr.getChild(0) instanceof ArrayAccessNode)) return false;
+            if (!isInductionAccess((ArrayAccessNode) instr.getChild(0), iv)) return false;
+            if (!isSimdSafeExpression(instr.getChild(1), iv)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * The last subscript is the induction variable and the rest do not
+     * change with it, so consecutive iterations access consecutive elements.
+     * The bits of a packed array share words, so they are not vectorized.
+     */
+    private static boolean isInductionAccess(ArrayAccessNode access, int iv) {
+        if (isView(access) || access.isPacked()) return false;
+        int last = access.indices.size() - 1;
+        for (int k = 0; k < last; ++k) {
+            if (usesVariable(access.indices.get(k), iv)) return false;
+        }
+        return isVariable(access.indices.get(last), iv);
+    }
+
+    private static boolean isSimdSafeExpression(CodeNode node, int iv) {
+        if (node instanceof ArrayAccessNode) {
+            return isInductionAccess((ArrayAccessNode) node, iv);
+        }
+        if (node instanceof ExpressionNode || node instanceof LenNode) {
+            for (int i = 0; i < node.getNumChilds(); ++i) {
+                if (!isSimdSafeExpression(node.getChild(i), iv)) return false;
+            }
+            return true;
+        }
+        return node instanceof VariableNode
+            || node instanceof ConstantNode
+            || node instanceof OperatorNode;
+    }
+
+    /**
+     * Polynomial form of an integer subscript: a sum of terms with
+     * integer coefficients. Each term is a product of variables and is
+     * identified by the sorted ids of its variables ("" for the
+     * constant term). Products are kept so that linearized subscripts
+     * such as i*n + j can still be analyzed. The length of an array
+     * variable, len(a), is a variable with a negative id.
+     */
+    static class Polynomial {
+        HashMap<String, Long> terms = new HashMap<String, Long>();
+
+        static String term(int varID) { return Integer.toString(varID); }
+
+        /** Id of the variable that represents the length of an array */
+        static int lengthOf(int varID) { return -2 - varID; }
+
+        static ArrayList<Integer> variables(String term) {
+            ArrayList<Integer> vars = new ArrayList<Integer>();
+            if (term.length() == 0) return vars;
+            for (String v : term.split("\\*")) {
+                vars.add(Integer.valueOf(v));
+            }
+            return vars;
+        }
+
+        static String product(String t1, String t2) {
+            ArrayList<Integer> vars = variables(t1);
+            vars.addAll(variables(t2));
+            java.util.Collections.sort(vars);
+            StringBuilder str = new StringBuilder();
+            for (Integer v : vars) {
+                if (str.length() != 0) str.append("*");
+                str.append(v.toString());
+            }
+            return str.toString();
+        }
+
+        long coef(String term) {
+            Long c = terms.get(term);
+            return c == null ? 0 : c.longValue();
+        }
+
+        long coef(int varID) { return coef(term(varID)); }
+
+        long constant() { return coef(""); }
+
+        /** Non constant terms with a coefficient other than zero */
+        HashSet<String> nonConstantTerms() {
+            HashSet<String> result = new HashSet<String>();
+            for (String t : terms.keySet()) {
+                if (t.length() != 0 && coef(t) != 0) result.add(t);
+            }
+            return result;
+        }
+
+        boolean isConstant() { return nonConstantTerms().isEmpty(); }
+
+        boolean uses(int varID) {
+            for (String t : nonConstantTerms()) {
+                if (variables(t).contains(varID)) return true;
+            }
+            return false;
+        }
+
+        Polynomial add(Polynomial other, long factor) {
+            Polynomial result = scale(1);
+            for (String t : other.terms.keySet()) {
+                result.terms.put(t, result.coef(t) + factor*other.coef(t));
+            }
+            return result;
+        }
+
+        Polynomial scale(long factor) {
+            Polynomial result = new Polynomial();
+            for (String t : terms.keySet()) {
+                result.terms.put(t, factor*coef(t));
+            }
+            return result;
+        }
+
+        Polynomial mul(Polynomial other) {
+            Polynomial result = new Polynomial();
+            for (String t1 : terms.keySet()) {
+                for (String t2 : other.terms.keySet()) {
+                    String t = product(t1, t2);
+                    result.terms.put(t, result.coef(t) + coef(t1)*other.coef(t2));
+                }
+            }
+            return result;
+        }
+
+        boolean sameAs(Polynomial other) {
+            if (constant() != other.constant()) return false;
+            HashSet<String> all = nonConstantTerms();
+            all.addAll(other.nonConstantTerms());
+            for (String t : all) {
+                if (coef(t) != other.coef(t)) return false;
+            }
+            return true;
+        }
+
+        /** Coefficient of a variable: the terms that contain it once, without it */
+        Polynomial factor(int varID) {
+            Polynomial result = new Polynomial();
+            for (String t : nonConstantTerms()) {
+                ArrayList<Integer> vars = variables(t);
+                if (!vars.remove(Integer.valueOf(varID))) continue;
+                if (vars.contains(varID)) return null;
+                result = result.add(monomial(vars, coef(t)), 1);
+            }
+            return result;
+        }
+
+        static Polynomial monomial(ArrayList<Integer> vars, long coef) {
+            String t = "";
+            for (Integer v : vars) t = product(t, term(v));
+            Polynomial result = new Polynomial();
+            result.terms.put(t, coef);
+            return result;
+        }
+    }
+
+    /**
+     * Computes the polynomial form of an integer expression. Returns
+     * null if the expression cannot be represented (divisions, function
+     * calls, array accesses, non integer values...).
+     */
+    static Polynomial getPolynomial(CodeNode node) {
+        node = unwrap(node);
+        Polynomial result = new Polynomial();
+        if (node instanceof ConstantNode) {
+            if (node.getData().getType() != Data.Type.INT) return null;
+            try {
+                result.terms.put("", Long.parseLong(((ConstantNode) node).value));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+            return result;
+        }
+        if (node instanceof VariableNode) {
+            if (node.getData().getType() != Data.Type.INT) return null;
+            result.terms.put(Polynomial.term(((VariableNode) node).varID), 1L);
+            return result;
+        }
+        if (node instanceof LenNode) {
+            CodeNode array = unwrap(((LenNode) node).getArray());
+            if (((LenNode) node).hasDimension() || ((LenNode) node).isCapacity()) return null;
+            if (!(array instanceof VariableNode)) return null;
+            result.terms.put(Polynomial.term(Polynomial.lengthOf(((VariableNode) array).varID)), 1L);
+            return result;
+        }
+        if (!(node instanceof ExpressionNode) || !(node.getChild(0) instanceof OperatorNode)) {
+            return null;
+        }
+
+        String op = ((OperatorNode) node.getChild(0)).op;
+        if (node.getNumChilds() == 2) {
+            Polynomial operand = getPolynomial(node.getChild(1));
+            if (operand == null) return null;
+            if (op.equals("-")) return operand.scale(-1);
+            if (op.equals("+")) return operand;
+            return null;
+        }
+
+        Polynomial left = getPolynomial(node.getChild(1));
+        Polynomial right = getPolynomial(node.getChild(2));
+        if (left == null || right == null) return null;
+        if (op.equals("+")) return left.add(right, 1);
+        if (op.equals("-")) return left.add(right, -1);
+        if (op.equals("*")) return left.mul(right);
+        return null;
+    }
+
+    private static long gcd(long a, long b) {
+        a = Math.abs(a);
+        b = Math.abs(b);
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    /**
+     * Dependence test between two subscripts of the same array in two
+     * different iterations of a loop with induction variable iv. The
+     * terms that contain iv in a product or a variable in variant change
+     * from one iteration to another, so they are free unknowns at each
+     * side; the rest of the terms keep their value. The bounds of the
+     * loop are used when both are constant (null otherwise). Returns true
+     * if it is proven that no element is accessed by the two subscripts
+     * in different iterations.
+     */
+    static boolean isIndependent(Polynomial a, Polynomial b, int iv, HashSet<Integer> variant, Long lower, Long upper) {
+        HashSet<String> all = a.nonConstantTerms();
+        all.addAll(b.nonConstantTerms());
+        String ivTerm = Polynomial.term(iv);
+        all.remove(ivTerm);
+
+        // GCD test on a(i1) - b(i2) = 0
+        long diff = b.constant() - a.constant();
+        long g = gcd(a.coef(iv), b.coef(iv));
+        boolean hasVariant = false;
+        boolean onlyIv = true;
+        for (String t : all) {
+            boolean isVariant = false;
+            for (Integer v : Polynomial.variables(t)) {
+                if (v == iv || variant.contains(v)) isVariant = true;
+            }
+            if (isVariant) {
+                g = gcd(g, a.coef(t));
+                g = gcd(g, b.coef(t));
+                hasVariant = true;
+                onlyIv = false;
+            } else if (a.coef(t) != b.coef(t)) {
+                g = gcd(g, a.coef(t) - b.coef(t));
+                onlyIv = false;
+            }
+        }
+
+        // Same element only in the same iteration
+        if (!hasVariant && a.sameAs(b) && a.coef(iv) != 0) return true;
+
+        if (g == 0) return diff != 0;
+        if (diff % g != 0) return true;
+
+        // Banerjee bounds of a1*i1 - a2*i2 in [lower, upper)
+        if (onlyIv && lower != null && upper != null && upper > lower) {
+            long lo = lower.longValue(), hi = upper.longValue() - 1;
+            long a1 = a.coef(iv), a2 = -b.coef(iv);
+            long min = Math.min(a1*lo, a1*hi) + Math.min(a2*lo, a2*hi);
+            long max = Math.max(a1*lo, a1*hi) + Math.max(a2*lo, a2*hi);
+            if (diff < min || diff > max) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Views can start anywhere inside an array, so their subscripts are
+     * only comparable with the subscripts of the same view.
+     */
+    static boolean isView(ArrayAccessNode access) {
+        return access.var.getData().getType() == Data.Type.VIEW;
+    }
+
+    /** Polynomials of the subscripts of an access (null if not representable) */
+    static ArrayList<Polynomial> getSubscripts(ArrayAccessNode access) {
+        ArrayList<Polynomial> subscripts = new ArrayList<Polynomial>();
+        for (ExpressionNode index : access.indices) {
+            subscripts.add(getPolynomial(index));
+        }
+        return subscripts;
+    }
+
+    /**
+     * Dependence test between two accesses to the same array. Elements
+     * of an array with several dimensions are different if any of their
+     * subscripts is different (subscripts are assumed to be in bounds),
+     * so it is enough to prove the independence of one dimension.
+     */
+    static boolean isIndependent(ArrayAccessNode a, ArrayAccessNode b, int iv, HashSet<Integer> variant, Long lower, Long upper) {
+        if ((isView(a) || isView(b)) && a.var.varID != b.var.varID) return false;
+        ArrayList<Polynomial> sa = getSubscripts(a);
+        ArrayList<Polynomial> sb = getSubscripts(b);
+        if (sa.size() != sb.size()) return false;
+        for (int k = 0; k < sa.size(); ++k) {
+            if (sa.get(k) == null || sb.get(k) == null) continue;
+            if (isIndependent(sa.get(k), sb.get(k), iv, variant, lower, upper)) return true;
+        }
+        return false;
+    }
+
+    /** Checks whether two accesses always use the same subscripts */
+    static boolean sameSubscripts(ArrayAccessNode a, ArrayAccessNode b) {
+        if ((isView(a) || isView(b)) && a.var.varID != b.var.varID) return false;
+        ArrayList<Polynomial> sa = getSubscripts(a);
+        ArrayList<Polynomial> sb = getSubscripts(b);
+        if (sa.size() != sb.size()) return false;
+        for (int k = 0; k < sa.size(); ++k) {
+            if (sa.get(k) == null || sb.get(k) == null || !sa.get(k).sameAs(sb.get(k))) return false;
+        }
+        return true;
+    }
+
+    /** Access to an element of an array inside a loop body */
+    private static class Access {
+        ArrayAccessNode node;
+        boolean write;
+    }
+
+    /** Uses of a scalar variable inside a loop body */
+    private static class ScalarUse {
+        int reads = 0;
+        boolean exposed = false;
+        Data data;
+        ArrayList<CodeNode> writes = new ArrayList<CodeNode>();
+    }
+
+    /**
+     * Collects the array accesses and the uses of scalar variables of
+     * a loop body. Scalars are tracked with a definite assignment
+     * analysis: a read is exposed if the variable may not have been
+     * assigned before in the same iteration.
+     */
+    private static class BodyScanner {
+        ArrayList<Access> accesses = new ArrayList<Access>();
+        HashMap<Integer, ScalarUse> scalars = new HashMap<Integer, ScalarUse>();
+        HashSet<Integer> variant = new HashSet<Integer>();
+        boolean valid = true;
+        /** Accepts writes to the standard output and critical regions */
+        boolean allowOutput = false;
+
+        ScalarUse use(VariableNode var) {
+            ScalarUse use = scalars.get(var.varID);
+            if (use == null) {
+                use = new ScalarUse();
+                use.data = var.getData();
+                scalars.put(var.varID, use);
+            }
+            return use;
+        }
+
+        void write(VariableNode var, CodeNode writer, HashSet<Integer> assigned) {
+            use(var).writes.add(writer);
+            variant.add(var.varID);
+            variant.add(Polynomial.lengthOf(var.varID));
+            assigned.add(var.varID);
+        }
+
+        void scanBlock(CodeNode block, HashSet<Integer> assigned) {
+            for (int i = 0; i < block.getNumChilds() && valid; ++i) {
+                scanInstruction(block.getChild(i), assigned);
+            }
+        }
+
+        void scanInstruction(CodeNode instr, HashSet<Integer> assigned) {
+            if (instr instanceof AssignNode) {
+                scanExpression(instr.getChild(1), assigned);
+                CodeNode target = instr.getChild(0);
+                if (target instanceof ArrayAccessNode) {
+                    scanAccess((ArrayAccessNode) target, true, assigned);
+                } else {
+                    write((VariableNode) target, instr, assigned);
+                }
+            } else if (instr instanceof IfNode) {
+                for (int i = 0; i < instr.getNumChilds(); ++i) {
+                    CodeNode child = instr.getChild(i);
+                    if (child instanceof BlockInstrNode) {
+                        scanBlock(child, new HashSet<Integer>(assigned));
+                    } else {
+                        scanExpression(child, assigned);
+                    }
+                }
+            } else if (instr instanceof WhileNode) {
+                scanExpression(instr.getChild(0), assigned);
+                scanBlock(instr.getChild(1), new HashSet<Integer>(assigned));
+            } else if (instr instanceof ForNode && ((ForNode) instr).getType() == parser.AplLexer.FOR) {
+                ForNode loop = (ForNode) instr;
+                if (!(loop.getVariable() instanceof VariableNode)) {
+                    valid = false;
+                    return;
+                }
+                scanExpression(loop.getChild(1), assigned);
+                scanExpression(loop.getChild(2), assigned);
+                HashSet<Integer> inner = new HashSet<Integer>(assigned);
+                write((VariableNode) loop.getVariable(), loop, inner);
+                scanBlock(loop.getBlock(), inner);
+            } else if (allowOutput && instr instanceof CriticalNode) {
+                scanInstruction(instr.getChild(0), assigned);
+            } else if (allowOutput && instr instanceof ExpressionNode
+                       && instr.getChild(0) instanceof WriteNode
+                       && instr.getChild(0).getNumChilds() == 1) {
+                scanExpression(instr.getChild(0).getChild(0), assigned);
+            } else {
+                // I/O, calls, returns, frees and parallel constructs
+                valid = false;
+            }
+        }
+
+        void scanAccess(ArrayAccessNode access, boolean write, HashSet<Integer> assigned) {
+            scanExpression(access.var, assigned);
+            for (ExpressionNode index : access.indices) {
+                scanExpression(index, assigned);
+            }
+            Access acc = new Access();
+            acc.node = access;
+            acc.write = write;
+            accesses.add(acc);
+        }
+
+        void scanExpression(CodeNode node, HashSet<Integer> assigned) {
+            if (!valid) return;
+            if (node instanceof VariableNode) {
+                ScalarUse use = use((VariableNode) node);
+                use.reads++;
+                if (!assigned.contains(((VariableNode) node).varID)) use.exposed = true;
+            } else if (node instanceof ArrayAccessNode) {
+                scanAccess((ArrayAccessNode) node, false, assigned);
+            } else if (node instanceof ExpressionNode || node instanceof ArrayNode || node instanceof LenNode) {
+                for (int i = 0; i < node.getNumChilds(); ++i) {
+                    scanExpression(node.getChild(i), assigned);
+                }
+            } else if (!(node instanceof ConstantNode) && !(node instanceof OperatorNode)) {
+                valid = false;
+            }
+        }
+    }
+
+    /**
+     * Checks whether the variable is a direct operand of a chain of
+     * operations of the same family (+ and -, *, && or ||), with a
+     * positive sign in the case of additions.
+     */
+    private static boolean isChainOperand(CodeNode node, int varID, String family, boolean negated) {
+        node = unwrap(node);
+        if (isVariable(node, varID)) return !negated;
+        if (!(node instanceof ExpressionNode) || node.getNumChilds() != 3) return false;
+        String op = ((OperatorNode) node.getChild(0)).op;
+        if (family.equals("+")) {
+            if (!op.equals("+") && !op.equals("-")) return false;
+            return isChainOperand(node.getChild(1), varID, family, negated)
+                || isChainOperand(node.getChild(2), varID, family, op.equals("-") ? !negated : negated);
+        }
+        if (!op.equals(family)) return false;
+        return isChainOperand(node.getChild(1), varID, family, false)
+            || isChainOperand(node.getChild(2), varID, family, false);
+    }
+
+    /**
+     * Returns the operator of a reduction statement (var = var op expr),
+     * or null if the assignment is not a reduction on var. Subtractions
+     * are accumulated as additions.
+     */
+    private static String getReductionOperator(CodeNode assign, int varID) {
+        if (!(assign instanceof AssignNode)) return null;
+        CodeNode expr = unwrap(assign.getChild(1));
+        if (!(expr instanceof ExpressionNode) || expr.getNumChilds() != 3) return null;
+        String op = ((OperatorNode) expr.getChild(0)).op;
+        if (op.equals("-")) op = "+";
+        if (!op.equals("+") && !op.equals("*") && !op.equals("&&") && !op.equals("||")) return null;
+        if (isChainOperand(expr, varID, op, false)) return op;
+        return null;
+    }
+
+    static Long getConstant(CodeNode node) {
+        Polynomial poly = getPolynomial(node);
+        if (poly == null || !poly.isConstant()) return null;
+        return poly.constant();
+    }
+
+    /**
+     * Value of a constant expression, where the lengths of the arrays
+     * are replaced by their value if the alias analysis knows it.
+     */
+    private static Long getConstant(CodeNode node, FunctionNode function, AliasAnalyzer aliases) {
+        Polynomial poly = getPolynomial(node);
+        if (poly == null) return null;
+        long value = 0;
+        for (String t : poly.terms.keySet()) {
+            long term = poly.terms.get(t);
+            for (Integer v : Polynomial.variables(t)) {
+                if (v > -2) return null;
+                Long len = aliases.getConstantLength(function, -2 - v);
+                if (len == null) return null;
+                term *= len;
+            }
+            value += term;
+        }
+        return value;
+    }
+
+    /**
+     * Converts a sequential for loop into a parallel for if no
+     * dependence is carried between its iterations. Assigned scalars
+     * must be either privatizable (always assigned before being read in
+     * the same iteration) or reductions. Loops with a constant trip
+     * count smaller than the threshold are not converted; the others
+     * are guarded with an if clause.
+     */
+    public static boolean autoParallelize(ForNode loop, FunctionNode function, AliasAnalyzer aliases, long threshold) {
+        if (loop.getType() != parser.AplLexer.FOR) return false;
+        if (!(loop.getVariable() instanceof VariableNode)) return false;
+        VariableNode ivNode = (VariableNode) loop.getVariable();
+        if (ivNode.getData().isReference()) return false;
+        int iv = ivNode.varID;
+
+        Long lower = getConstant(loop.getChild(1), function, aliases);
+        Long upper = getConstant(loop.getChild(2), function, aliases);
+        if (lower != null && upper != null && upper - lower < threshold) return false;
+
+        BodyScanner scan = new BodyScanner();
+        HashSet<Integer> assigned = new HashSet<Integer>();
+        assigned.add(iv);
+        scan.scanBlock(loop.getBlock(), assigned);
+        if (!scan.valid) return false;
+
+        // Reductions already declared by the user
+        HashSet<Integer> declared = new HashSet<Integer>();
+        CodeNode userReduction = loop.getChild(3);
+        for (int i = 1; i < userReduction.getNumChilds(); ++i) {
+            declared.add(((VariableNode) userReduction.getChild(i)).varID);
+        }
+
+        ParallelDefNode privates = new ParallelDefNode("lastprivate");
+        privates.appendChild(new VariableNode(iv, ivNode.getData()));
+        HashMap<String, ParallelReductionNode> reductions = new HashMap<String, ParallelReductionNode>();
+
+        for (Integer id : scan.scalars.keySet()) {
+            ScalarUse use = scan.scalars.get(id);
+            if (use.writes.isEmpty() || declared.contains(id)) continue;
+            if (id == iv || use.data.isReference()) return false;
+
+            VariableNode var = new VariableNode(id, use.data);
+            if (!use.exposed) {
+                privates.appendChild(var);
+                continue;
+            }
+
+            String op = getReductionOperator(use.writes.get(0), id);
+            for (CodeNode write : use.writes) {
+                if (op == null || !op.equals(getReductionOperator(write, id))) return false;
+            }
+            if (use.reads != use.writes.size()) return false;
+
+            ParallelReductionNode red = reductions.get(op);
+            if (red == null) {
+                red = new ParallelReductionNode();
+                red.appendChild(new OperatorNode(op));
+                reductions.put(op, red);
+            }
+            red.appendChild(var);
+        }
+
+        // Every write must be independent from the rest of accesses
+        for (Access write : scan.accesses) {
+            if (!write.write) continue;
+            for (Access other : scan.accesses) {
+                if (!aliases.mayAlias(function, write.node.var.varID, other.node.var.varID)) continue;
+                if (!isIndependent(write.node, other.node, iv, scan.variant, lower, upper)) return false;
+            }
+        }
+
+        ArrayList<CodeNode> clauses = new ArrayList<CodeNode>();
+        clauses.add(privates);
+        clauses.addAll(reductions.values());
+        loop.makeParallel(clauses, lower != null && upper != null ? 0 : threshold);
+        return true;
+    }
+
+    /**
+     * Applies the automatic parallelization to the outermost sequential
+     * loops of a function that are not already in a parallel region.
+     */
+    public static void parallelizeLoops(CodeNode node, FunctionNode function, AliasAnalyzer aliases, long threshold) {
+        for (int i = 0; i < node.getNumChilds(); ++i) {
+            CodeNode child = node.getChild(i);
+            if (child instanceof ParallelNode) continue;
+            if (child instanceof ForNode && autoParallelize((ForNode) child, function, aliases, threshold)) continue;
+            parallelizeLoops(child, function, aliases, threshold);
+        }
+    }
+
+    /** Checks whether a variable is read or written inside a tree. */
+    static boolean usesVariable(CodeNode node, int varID) {
+        if (node instanceof VariableNode && ((VariableNode) node).varID == varID) return true;
+        for (int i = 0; i < node.getNumChilds(); ++i) {
+            if (usesVariable(node.getChild(i), varID)) return true;
+        }
+        return false;
+    }
+
+    private static int getInductionVariable(ForNode loop) {
+        if (!(loop.getVariable() instanceof VariableNode)) return -1;
+        VariableNode iv = (VariableNode) loop.getVariable();
+        if (iv.getData().isReference()) return -1;
+        return iv.varID;
+    }
+
+    /**
+     * Returns the loops of the perfect nest rooted at loop, up to depth
+     * loops. Inner loops must be sequential, be the only instruction of
+     * the enclosing loop and have bounds that do not depend on the
+     * induction variables of the enclosing loops.
+     */
+    public static ArrayList<ForNode> getPerfectNest(ForNode loop, int depth) {
+        ArrayList<ForNode> nest = new ArrayList<ForNode>();
+        if (getInductionVariable(loop) < 0) return nest;
+        nest.add(loop);
+
+        ForNode curr = loop;
+        while (nest.size() < depth) {
+            BlockInstrNode block = curr.getBlock();
+            if (block.getNumChilds() != 1 || !(block.getChild(0) instanceof ForNode)) break;
+            ForNode inner = (ForNode) block.getChild(0);
+            if (inner.getType() != parser.AplLexer.FOR || getInductionVariable(inner) < 0) break;
+
+            boolean rectangular = true;
+            for (ForNode outer : nest) {
+                int iv = getInductionVariable(outer);
+                if (usesVariable(inner.getChild(1), iv) || usesVariable(inner.getChild(2), iv)) rectangular = false;
+            }
+            if (!rectangular) break;
+
+            nest.add(inner);
+            curr = inner;
+        }
+        return nest;
+    }
+
+    /**
+     * Checks that a subscript maps every iteration of the nest to a
+     * different element, i.e., it is a row-major linearization of the
+     * induction variables: the innermost dimension has stride 1 and each
+     * other stride is the product of the extents of the dimensions
+     * inside it. The dimensions must start at 0.
+     */
+    static boolean isInjective(Polynomial subscript, ArrayList<ForNode> nest) {
+        ArrayList<ForNode> remaining = new ArrayList<ForNode>(nest);
+        Polynomial stride = new Polynomial();
+        stride.terms.put("", 1L);
+
+        while (!remaining.isEmpty()) {
+            ForNode dim = null;
+            for (ForNode loop : remaining) {
+                Polynomial coef = subscript.factor(getInductionVariable(loop));
+                if (coef != null && coef.sameAs(stride)) dim = loop;
+            }
+            if (dim == null) return false;
+
+            Long lower = getConstant(dim.getChild(1));
+            Polynomial extent = getPolynomial(dim.getChild(2));
+            if (lower == null || lower.longValue() != 0 || extent == null) return false;
+
+            stride = stride.mul(extent);
+            remaining.remove(dim);
+        }
+        return true;
+    }
+
+    /**
+     * Checks that an access maps every iteration of the nest to a
+     * different element. A single subscript must be a row-major
+     * linearization of the induction variables. With several
+     * dimensions, each induction variable of the nest must be (up to a
+     * factor and a constant) the subscript of a different dimension.
+     */
+    static boolean isInjective(ArrayAccessNode access, ArrayList<ForNode> nest) {
+        ArrayList<Polynomial> subscripts = getSubscripts(access);
+        if (subscripts.contains(null)) return false;
+        if (subscripts.size() == 1) return isInjective(subscripts.get(0), nest);
+
+        HashSet<Integer> ivs = new HashSet<Integer>();
+        for (ForNode loop : nest) ivs.add(getInductionVariable(loop));
+
+        HashSet<Integer> covered = new HashSet<Integer>();
+        for (Polynomial subscript : subscripts) {
+            HashSet<String> terms = subscript.nonConstantTerms();
+            ArrayList<Integer> used = new ArrayList<Integer>();
+            for (String t : terms) {
+                for (Integer v : Polynomial.variables(t)) {
+                    if (ivs.contains(v)) used.add(v);
+                }
+            }
+            if (used.isEmpty()) continue;
+            if (terms.size() != 1 || used.size() != 1 || Polynomial.variables(terms.iterator().next()).size() != 1) return false;
+            if (!covered.add(used.get(0))) return false;
+        }
+        return covered.size() == ivs.size();
+    }
+
+    /**
+     * The iterations of a loop nest can be reordered by tiling if its
+     * body only assigns array elements, and every array written is
+     * always accessed with the same subscript, which is injective. Then
+     * every element is accessed by only one iteration.
+     */
+    public static boolean isTilingLegal(ArrayList<ForNode> nest, FunctionNode function, AliasAnalyzer aliases) {
+        BlockInstrNode body = nest.get(nest.size()-1).getBlock();
+        for (int i = 0; i < body.getNumChilds(); ++i) {
+            CodeNode instr = body.getChild(i);
+            if (!(instr instanceof AssignNode) || !(instr.getChild(0) instanceof ArrayAccessNode)) return false;
+        }
+
+        BodyScanner scan = new BodyScanner();
+        scan.scanBlock(body, new HashSet<Integer>());
+        if (!scan.valid) return false;
+
+        for (Access write : scan.accesses) {
+            if (!write.write) continue;
+            if (!isInjective(write.node, nest)) return false;
+            for (Access other : scan.accesses) {
+                if (!aliases.mayAlias(function, write.node.var.varID, other.node.var.varID)) continue;
+                if (!sameSubscripts(write.node, other.node)) return false;
+            }
+        }
+        return true;
+    }
+
+    /** Tiles the loop nests of a function that can be safely reordered. */
+    public static void tileLoops(CodeNode node, FunctionNode function, AliasAnalyzer aliases, long size) {
+        for (int i = 0; i < node.getNumChilds(); ++i) {
+            CodeNode child = node.getChild(i);
+            if (child instanceof ForNode) {
+                ForNode loop = (ForNode) child;
+                if (loop.isTiled() || loop.isOrdered()) continue;
+                ArrayList<ForNode> nest = getPerfectNest(loop, MAX_TILE_DEPTH);
+                if (nest.size() >= 2 && isTilingLegal(nest, function, aliases)) {
+                    ArrayList<Long> sizes = new ArrayList<Long>();
+                    for (int k = 0; k < nest.size(); ++k) sizes.add(size);
+                    loop.setTile(sizes);
+                    continue;
+                }
+            }
+            tileLoops(child, function, aliases, size);
+        }
+    }
+
+    /** Operator of the reduction of a loop on a variable, or null */
+    private static String getLoopReduction(ForNode loop, int varID) throws AplException {
+        CodeNode red = loop.getChild(3);
+        for (int i = 1; i < red.getNumChilds(); ++i) {
+            if (isVariable(red.getChild(i), varID)) return red.getChild(0).toC();
+        }
+        return null;
+    }
+
+    /**
+     * Two consecutive pfor loops can be fused if they iterate over the
+     * same range with the same induction variable, and the elements of
+     * the arrays written by one loop are only accessed by the other loop
+     * in the same iteration. Scalars written by one loop cannot be used
+     * by the other, unless both loops reduce them with the same operator.
+     */
+    static boolean isFusionLegal(ForNode first, ForNode second, FunctionNode function, AliasAnalyzer aliases) throws AplException {
+        if (first.getType() != parser.AplLexer.PFOR || second.getType() != parser.AplLexer.PFOR) return false;
+        if (first.isTiled() || second.isTiled()) return false;
+        if (first.isOrdered() || second.isOrdered()) return false;
+        int iv = getInductionVariable(first);
+        if (iv < 0 || iv != getInductionVariable(second)) return false;
+        if (!first.getChild(1).toC().equals(second.getChild(1).toC())) return false;
+        if (!first.getChild(2).toC().equals(second.getChild(2).toC())) return false;
+        if (first.getSimd().isEnabled() != second.getSimd().isEnabled()) return false;
+        if (!first.getSimd().toC().equals(second.getSimd().toC())) return false;
+
+        BodyScanner scan1 = new BodyScanner();
+        BodyScanner scan2 = new BodyScanner();
+        scan1.allowOutput = scan2.allowOutput = true;
+        HashSet<Integer> assigned = new HashSet<Integer>();
+        assigned.add(iv);
+        scan1.scanBlock(first.getBlock(), new HashSet<Integer>(assigned));
+        scan2.scanBlock(second.getBlock(), new HashSet<Integer>(assigned));
+        if (!scan1.valid || !scan2.valid) return false;
+
+        // The range of the second loop cannot be modified by the first one
+        for (Integer id : scan1.variant) {
+            if (usesVariable(second.getChild(1), id) || usesVariable(second.getChild(2), id)) return false;
+        }
+
+        HashSet<Integer> scalars = new HashSet<Integer>(scan1.scalars.keySet());
+        scalars.addAll(scan2.scalars.keySet());
+        for (Integer id : scalars) {
+            if (id == iv) continue;
+            ScalarUse use1 = scan1.scalars.get(id);
+            ScalarUse use2 = scan2.scalars.get(id);
+            if (use1 == null || use2 == null) continue;
+            if (use1.writes.isEmpty() && use2.writes.isEmpty()) continue;
+            String op1 = getLoopReduction(first, id);
+            String op2 = getLoopReduction(second, id);
+            if (op1 == null || !op1.equals(op2)) return false;
+        }
+
+        HashSet<Integer> variant = new HashSet<Integer>(scan1.variant);
+        variant.addAll(scan2.variant);
+        for (Access a1 : scan1.accesses) {
+            for (Access a2 : scan2.accesses) {
+                if (!a1.write && !a2.write) continue;
+                if (!aliases.mayAlias(function, a1.node.var.varID, a2.node.var.varID)) continue;
+                if (!isIndependent(a1.node, a2.node, iv, variant, null, null)) return false;
+            }
+        }
+        return true;
+    }
+
+    /** Moves the body and the reductions of second into first. */
+    private static void fuse(ForNode first, ForNode second) throws AplException {
+        BlockInstrNode block = second.getBlock();
+        while (block.getNumChilds() > 0) {
+            first.getBlock().appendChild(block.removeChild(0));
+        }
+
+        CodeNode red1 = first.getChild(3);
+        CodeNode red2 = second.getChild(3);
+        if (red2.getNumChilds() == 0) return;
+        if (red1.getNumChilds() == 0 || red1.getChild(0).toC().equals(red2.getChild(0).toC())) {
+            if (red1.getNumChilds() == 0) red1.appendChild(red2.removeChild(0));
+            else red2.removeChild(0);
+            while (red2.getNumChilds() > 0) {
+                CodeNode var = red2.removeChild(0);
+                boolean repeated = false;
+                for (int i = 1; i < red1.getNumChilds(); ++i) {
+                    if (isVariable(red1.getChild(i), ((VariableNode) var).varID)) repeated = true;
+                }
+                if (!repeated) red1.appendChild(var);
+            }
+        } else {
+            first.addClause(red2);
+        }
+    }
+
+    /**
+     * Fuses the consecutive pfor loops of the blocks of a function when
+     * it does not change the result. The fused loop walks the arrays
+     * once and has a single implicit barrier.
+     */
+    public static void fuseLoops(CodeNode node, FunctionNode function, AliasAnalyzer aliases) throws AplException {
+        for (int i = 0; i < node.getNumChilds(); ++i) {
+            CodeNode child = node.getChild(i);
+            if (child instanceof ForNode && i+1 < node.getNumChilds() && node.getChild(i+1) instanceof ForNode) {
+                ForNode first = (ForNode) child;
+                ForNode second = (ForNode) node.getChild(i+1);
+                if (isFusionLegal(first, second, function, aliases)) {
+                    fuse(first, second);
+                    node.removeChild(i+1);
+                    --i;
+                    continue;
+                }
+            }
+            fuseLoops(child, function, aliases);
+        }
+    }
+
+    /** Maximum number of loops tiled together */
+    public static final int MAX_TILE_DEPTH = 3;
+
+    /** Checks whether a variable may be assigned inside a tree. */
+    static boolean isWritten(CodeNode node, int varID) {
+        if (node instanceof AssignNode || node instanceof ArrayExprNode || node instanceof ResizeNode
+            || node instanceof ForNode || node instanceof ReadNode || node instanceof ReadFileNode) {
+            if (isVariable(node.getChild(0), varID)) return true;
+        } else if (node instanceof WriteNode && node.getNumChilds() == 2) {
+            if (isVariable(node.getChild(1), varID)) return true;
+        } else if (node instanceof FunctionCallNode) {
+            ArrayList<Data> params = ((FunctionCallNode) node).getFunction().getVariables();
+            for (int i = 0; i < node.getNumChilds(); ++i) {
+                if (params.get(i).isReference() && isVariable(node.getChild(i), varID)) return true;
+            }
+        }
+        for (int i = 0; i < node.getNumChilds(); ++i) {
+            if (isWritten(node.getChild(i), varID)) return true;
+        }
+        return false;
+    }
+
+    /** Checks that an expression has the same value in every iteration */
+    private static boolean isInvariant(CodeNode node, CodeNode loop) {
+        if (node instanceof VariableNode) return !isWritten(loop, ((VariableNode) node).varID);
+        if (node instanceof ExpressionNode || node instanceof LenNode) {
+            for (int i = 0; i < node.getNumChilds(); ++i) {
+                if (!isInvariant(node.getChild(i), loop)) return false;
+            }
+            return true;
+        }
+        return node instanceof ConstantNode || node instanceof OperatorNode;
+    }
+
+    /**
+     * Checks that the array assigned by assign is only used through
+     * its elements inside a tree, so that no other variable keeps it
+     * after the iteration. Collects the frees of the variable.
+     */
+    private static boolean isLocalArray(CodeNode node, AssignNode assign, int varID, ArrayList<FreeNode> frees,
+                                        OwnershipAnalyzer ownership) {
+        for (int i = 0; i < node.getNumChilds(); ++i) {
+            CodeNode child = node.getChild(i);
+            if (child instanceof FreeNode) {
+                if (((FreeNode) child).getVarID() == varID) frees.add((FreeNode) child);
+            } else if (isVariable(child, varID)) {
+                // Data-sharing clauses of parallel blocks (shared ones are critical)
+                boolean clause = node instanceof ParallelDefNode;
+                boolean borrowed = node instanceof FunctionCallNode
+                                   && ownership.isBorrowed(((FunctionCallNode) node).getFunction(), i);
+                if (!(node == assign && i == 0) && !isElementUse(node, i) && !clause && !borrowed) return false;
+            } else if (!isLocalArray(child, assign, varID, frees, ownership)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the child i of a node, an array, is only used
+     * through its elements: accessed, measured, written, read,
+     * reduced or operated element-wise into a new array. The string a
+     * write appends to may be moved.
+     */
+    static boolean isElementUse(CodeNode node, int i) {
+        if (node instanceof ArrayAccessNode || node instanceof LenNode) return i == 0;
+        if (node instanceof WriteNode) return i == 0;
+        return node instanceof ReadNode || node instanceof ReduceNode
+               || (node instanceof ExpressionNode && node.getNumChilds() > 1);
+    }
+
+    /** Checks whether a parallel block sets its number of threads */
+    private static boolean hasNumThreads(CodeNode node) {
+        for (int i = 0; i < node.getNumChilds(); ++i) {
+            CodeNode child = node.getChild(i);
+            if (child instanceof ParallelDefNode && ((ParallelDefNode) child).value.equals("num_threads")) return true;
+        }
+        return false;
+    }
+
+    /** Assignments of a new array to a variable inside a tree */
+    private static void getAllocations(CodeNode node, ArrayList<AssignNode> allocs) {
+        if (node instanceof AssignNode && node.getChild(0) instanceof VariableNode
+            && unwrap(node.getChild(1)) instanceof ArrayNode
+            && !node.getChild(0).getData().isReference()
+            && !node.getChild(0).getData().isPacked()) {
+            allocs.add((AssignNode) node);
+        }
+        for (int i = 0; i < node.getNumChilds(); ++i) {
+            getAllocations(node.getChild(i), allocs);
+        }
+    }
+
+    /**
+     * Hoists the allocations of arrays out of the loops of a function.
+     * An array can be reused by every iteration of a loop if its
+     * dimensions do not change in the loop and it is only used through
+     * its elements (or lent to functions), so no other variable keeps
+     * it after the iteration. Each allocation is hoisted out of the
+     * outermost loop where this holds. The frees of the array in the
+     * loop are moved after it.
+     */
+    public static void hoistAllocations(CodeNode function, OwnershipAnalyzer ownership) {
+        ArrayList<AssignNode> allocs = new ArrayList<AssignNode>();
+        getAllocations(function, allocs);
+
+        LinkedHashMap<CodeNode, BufferNode> buffers = new LinkedHashMap<CodeNode, BufferNode>();
+        for (AssignNode assign : allocs) {
+            int varID = ((VariableNode) assign.getChild(0)).varID;
+            CodeNode loop = null;
+            ArrayList<FreeNode> frees = null;
+            boolean parallel = false;
+            boolean perThread = false;
+
+            for (CodeNode curr = assign.getParent(); curr != null; curr = curr.getParent()) {
+                if (curr instanceof ParallelNode || (curr instanceof ForNode && ((ForNode) curr).isParallel())) {
+                    // The slots of a buffer are indexed by omp_get_thread_num(),
+                    // which only tells apart the threads of a single team of at
+                    // most omp_get_max_threads() threads
+                    if (parallel || hasNumThreads(curr)) break;
+                    parallel = true;
+                }
+                if (curr instanceof ForNode || curr instanceof WhileNode) {
+                    ArrayList<FreeNode> found = new ArrayList<FreeNode>();
+                    if (!isLocalArray(curr, assign, varID, found, ownership)) break;
+                    boolean invariant = true;
+                    for (ExpressionNode dim : ((ArrayNode) unwrap(assign.getChild(1))).dims) {
+                        invariant = invariant && isInvariant(dim, curr);
+                    }
+                    if (!invariant) break;
+                    loop = curr;
+                    frees = found;
+                    perThread = parallel;
+                } else if (!(curr instanceof BlockInstrNode || curr instanceof IfNode || curr instanceof ParallelNode)) {
+                    break;
+                }
+            }
+            if (loop == null) continue;
+
+            for (FreeNode free : frees) {
+                CodeNode block = free.getParent();
+                for (int i = 0; i < block.getNumChilds(); ++i) {
+                    if (block.getChild(i) != free) continue;
+                    block.removeChild(i);
+                    break;
+                }
+            }
+            BufferNode buffer = buffers.get(loop);
+            if (buffer == null) {
+                buffer = new BufferNode();
+                buffers.put(loop, buffer);
+            }
+            buffer.addBuffer((ArrayNode) unwrap(assign.getChild(1)), perThread, !frees.isEmpty());
+        }
+
+        for (CodeNode loop : buffers.keySet()) {
+            CodeNode parent = loop.getParent();
+            for (int i = 0; i < parent.getNumChilds(); ++i) {
+                if (parent.getChild(i) != loop) continue;
+                BufferNode buffer = buffers.get(loop);
+                parent.replaceChild(i, buffer);
+                buffer.appendChild(loop);
+                break;
+            }
+        }
+    }
+}
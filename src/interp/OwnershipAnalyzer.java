@@ -0,0 +1,335 @@
+/**
+ * Copyright (c) 2016, Alessio Linares and Guillermo Ojeda
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *    * Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright
+ *      notice, this list of conditions and the following disclaimer in the
+ *      documentation and/or other materials provided with the distribution.
+ *    * Neither the name of the <organization> nor the
+ *      names of its contributors may be used to endorse or promote products
+ *      derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package interp;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+
+/**
+ * Ownership and liveness of the arrays of the generated functions.
+ *
+ * A local array variable owns its array when it is assigned only once,
+ * with a new array, and the array does not escape: it is only used
+ * through its elements or passed to parameters that the callee only
+ * borrows. Those arrays are freed right after the last instruction that
+ * uses them, in the block where they are allocated. Pushing elements
+ * or resizing keeps the ownership (the variable gets the moved array)
+ * but a parameter that may be moved is not borrowed. A variable that
+ * owns every array assigned to it, but is assigned several times, frees
+ * the old array when a whole-array expression replaces it. The arrays freed by
+ * the program are left to it, but its frees are checked: freeing an
+ * array that may already be freed, or using it after the free, is
+ * reported as a warning.
+ */
+
+public class OwnershipAnalyzer {
+    /** State of an array freed by the program */
+    private static final int LIVE = 0;
+    private static final int MAYBE_FREED = 1;
+    private static final int FREED = 2;
+
+    /** Array parameters that the function does not keep nor free */
+    private HashMap<FunctionNode, HashSet<Integer>> borrowed;
+    private LinkedHashSet<String> warnings;
+    /** Last free of the program seen for the variable being checked */
+    private FreeNode lastFree;
+
+    public OwnershipAnalyzer() {
+        borrowed = new HashMap<FunctionNode, HashSet<Integer>>();
+        warnings = new LinkedHashSet<String>();
+    }
+
+    /** Warnings about the frees of the program */
+    public ArrayList<String> getWarnings() {
+        return new ArrayList<String>(warnings);
+    }
+
+    private static boolean isArray(Data data) {
+        data.resolve();
+        return data.getType() == Data.Type.ARRAY && !data.isReference();
+    }
+
+    /** Checks whether a node assigns a new value to the variable */
+    private static boolean isAssignment(CodeNode node, int varID) {
+        if (node instanceof AssignNode) return LoopAnalyzer.isVariable(node.getChild(0), varID);
+        if (node instanceof ArrayExprNode) {
+            return !((ArrayExprNode) node).isInPlace() && LoopAnalyzer.isVariable(node.getChild(0), varID);
+        }
+        return false;
+    }
+
+    /** Checks whether a node frees the variable */
+    private static boolean isFree(CodeNode node, int varID) {
+        return node instanceof FreeNode && ((FreeNode) node).getVarID() == varID;
+    }
+
+    /**
+     * Checks that every use of an array variable inside a tree leaves
+     * the array to the variable: uses of the elements, in-place
+     * updates, shared clauses and borrowed parameters. Assignments are
+     * allowed only if assignments is true, and frees never.
+     */
+    private boolean isOwned(CodeNode node, int varID, boolean assignments) {
+        for (int i = 0; i < node.getNumChilds(); ++i) {
+            CodeNode child = node.getChild(i);
+            if (isFree(child, varID)) return false;
+            if (LoopAnalyzer.isVariable(child, varID)) {
+                boolean owned = LoopAnalyzer.isElementUse(node, i);
+                if (i == 0 && (node instanceof AssignNode || node instanceof ArrayExprNode)) {
+                    owned = assignments || (node instanceof ArrayExprNode && ((ArrayExprNode) node).isInPlace());
+                }
+                // The array may be moved, which frees the caller's one
+                if (i == 0 && (node instanceof ResizeNode || node instanceof ReadFileNode)) owned = assignments;
+                if (i == 1 && node instanceof WriteNode) owned = assignments;
+                if (node instanceof ParallelDefNode) owned = ((ParallelDefNode) node).value.equals("shared");
+                if (node instanceof FunctionCallNode) {
+                    owned = isBorrowed(((FunctionCallNode) node).getFunction(), i);
+                }
+                if (!owned) return false;
+            } else if (!isOwned(child, varID, assignments)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Computes the borrowed parameters of the functions: parameters
+     * that are not assigned, freed, returned nor copied, and are only
+     * passed to borrowed parameters. The functions may be recursive,
+     * so all the parameters start as borrowed and are discarded until
+     * nothing changes.
+     */
+    private void findBorrowedParams(ArrayList<FunctionNode> functions) {
+        for (FunctionNode function : functions) {
+            HashSet<Integer> params = new HashSet<Integer>();
+            for (int i = 0; i < function.getNumParams(); ++i) {
+                if (isArray(function.getVariables().get(i))) params.add(i);
+            }
+            borrowed.put(function, params);
+        }
+
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (FunctionNode function : functions) {
+                HashSet<Integer> params = borrowed.get(function);
+                for (Integer param : new ArrayList<Integer>(params)) {
+                    if (!isOwned(function, param, false)) {
+                        params.remove(param);
+                        changed = true;
+                    }
+                }
+            }
+        }
+    }
+
+    /** Checks whether a function neither keeps nor frees an array parameter */
+    public boolean isBorrowed(FunctionNode function, int param) {
+        HashSet<Integer> params = borrowed.get(function);
+        return params != null && params.contains(param);
+    }
+
+    /** Nodes of a tree that assign a new value to the variable */
+    private static void getAssignments(CodeNode node, int varID, ArrayList<CodeNode> assigns) {
+        if (isAssignment(node, varID)) assigns.add(node);
+        for (int i = 0; i < node.getNumChilds(); ++i) {
+            getAssignments(node.getChild(i), varID, assigns);
+        }
+    }
+
+    private static boolean hasFree(CodeNode node, int varID) {
+        if (isFree(node, varID)) return true;
+        for (int i = 0; i < node.getNumChilds(); ++i) {
+            if (hasFree(node.getChild(i), varID)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Inserts the free of a local array after its last use, if the
+     * variable owns it. The allocation must be an instruction of the
+     * block that contains every use of the variable, with no use
+     * before it, so the array is freed once per allocation. Returns
+     * whether the free was inserted.
+     */
+    private boolean insertFree(FunctionNode function, int varID) {
+        ArrayList<CodeNode> assigns = new ArrayList<CodeNode>();
+        getAssignments(function, varID, assigns);
+        if (assigns.size() != 1) return false;
+        CodeNode alloc = assigns.get(0);
+        if (alloc instanceof AssignNode && !(LoopAnalyzer.unwrap(alloc.getChild(1)) instanceof ArrayNode)) return false;
+
+        CodeNode block = alloc.getParent();
+        if (!(block instanceof FunctionNode) && !(block instanceof BlockInstrNode)) return false;
+        if (!isOwned(function, varID, true)) return false;
+
+        // Every use must be in the block, after the allocation
+        int first = -1;
+        int last = -1;
+        for (int i = 0; i < block.getNumChilds(); ++i) {
+            if (!LoopAnalyzer.usesVariable(block.getChild(i), varID)) continue;
+            if (first < 0) first = i;
+            last = i;
+        }
+        if (block.getChild(first) != alloc) return false;
+        for (CodeNode node = block; node != function; node = node.getParent()) {
+            CodeNode parent = node.getParent();
+            for (int i = 0; i < parent.getNumChilds(); ++i) {
+                if (parent.getChild(i) != node && LoopAnalyzer.usesVariable(parent.getChild(i), varID)) return false;
+            }
+        }
+        if (block.getChild(last) instanceof ReturnNode) return false;
+
+        Data data = function.getVariables().get(varID);
+        block.insertChild(last + 1, new FreeNode(varID, data));
+        return true;
+    }
+
+    private static boolean inParallel(CodeNode node, FunctionNode function) {
+        for (CodeNode curr = node.getParent(); curr != function; curr = curr.getParent()) {
+            if (curr instanceof ParallelNode || (curr instanceof ForNode && ((ForNode) curr).isParallel())) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Makes the whole-array expressions that replace the array of a
+     * local variable free the old one, if the variable owns every
+     * array assigned to it (or none yet, NULL). Inside parallel blocks
+     * the other threads may still be reading the old array. The last
+     * array is freed after the last instruction of the function that
+     * uses the variable.
+     */
+    private void freeReplaced(FunctionNode function, int varID) {
+        ArrayList<CodeNode> assigns = new ArrayList<CodeNode>();
+        getAssignments(function, varID, assigns);
+        for (CodeNode assign : assigns) {
+            if (assign instanceof AssignNode && !(LoopAnalyzer.unwrap(assign.getChild(1)) instanceof ArrayNode)) return;
+        }
+        if (!isOwned(function, varID, true)) return;
+        boolean replaced = false;
+        for (CodeNode assign : assigns) {
+            if (assign instanceof ArrayExprNode && !inParallel(assign, function)) {
+                ((ArrayExprNode) assign).setFreeOld(true);
+                replaced = true;
+            }
+        }
+        if (!replaced) return;
+
+        int last = -1;
+        for (int i = 0; i < function.getNumChilds(); ++i) {
+            if (LoopAnalyzer.usesVariable(function.getChild(i), varID)) last = i;
+        }
+        if (last < 0 || function.getChild(last) instanceof ReturnNode) return;
+        function.insertChild(last + 1, new FreeNode(varID, function.getVariables().get(varID)));
+    }
+
+    private static int merge(int state1, int state2) {
+        return state1 == state2 ? state1 : MAYBE_FREED;
+    }
+
+    private void checkUse(CodeNode node, int varID, int state) {
+        if (state == LIVE || lastFree == null || !LoopAnalyzer.usesVariable(node, varID)) return;
+        warnings.add("Warning: array `" + lastFree.getName() + "` may be used after the free of line "
+                     + lastFree.getLine() + ".");
+    }
+
+    /** Follows the state of an array freed by the program along an instruction */
+    private int checkFrees(CodeNode instr, int varID, int state) {
+        if (isFree(instr, varID)) {
+            FreeNode free = (FreeNode) instr;
+            if (state != LIVE && free.getName() != null) {
+                warnings.add("Warning: array `" + free.getName() + "` may be freed twice (line " + free.getLine() + ").");
+            }
+            lastFree = free;
+            return FREED;
+        }
+        if (isAssignment(instr, varID)) {
+            checkUse(instr.getChild(1), varID, state);
+            return LIVE;
+        }
+        if (instr instanceof IfNode) {
+            int result = -1;
+            int i;
+            for (i = 0; i + 1 < instr.getNumChilds(); i += 2) {
+                checkUse(instr.getChild(i), varID, state);
+                int branch = checkFrees(instr.getChild(i+1), varID, state);
+                result = result < 0 ? branch : merge(result, branch);
+            }
+            if (i < instr.getNumChilds()) {
+                return merge(result, checkFrees(instr.getChild(i), varID, state));
+            }
+            return merge(result, state);
+        }
+        if (instr instanceof ForNode || instr instanceof WhileNode) {
+            // The body may run several times, or none
+            CodeNode body = instr instanceof ForNode ? ((ForNode) instr).getBlock() : instr.getChild(1);
+            for (int i = 0; i < instr.getNumChilds(); ++i) {
+                if (instr.getChild(i) != body) checkUse(instr.getChild(i), varID, state);
+            }
+            int entry = merge(state, checkFrees(body, varID, state));
+            return merge(entry, checkFrees(body, varID, entry));
+        }
+        if (instr instanceof BlockInstrNode || instr instanceof ParallelNode
+            || instr instanceof CriticalNode || instr instanceof BufferNode) {
+            for (int i = 0; i < instr.getNumChilds(); ++i) {
+                if (instr.getChild(i) instanceof ParallelDefNode) continue;
+                state = checkFrees(instr.getChild(i), varID, state);
+            }
+            return state;
+        }
+        checkUse(instr, varID, state);
+        return state;
+    }
+
+    /**
+     * Inserts the frees of the arrays owned by local variables and
+     * checks the frees written in the program.
+     */
+    public void analyze(ArrayList<FunctionNode> functions, boolean insertFrees) {
+        findBorrowedParams(functions);
+        for (FunctionNode function : functions) {
+            ArrayList<Data> vars = function.getVariables();
+            for (int id = 0; id < vars.size(); ++id) {
+                if (!isArray(vars.get(id))) continue;
+                if (hasFree(function, id)) {
+                    lastFree = null;
+                    int state = LIVE;
+                    for (int i = 0; i < function.getNumChilds(); ++i) {
+                        state = checkFrees(function.getChild(i), id, state);
+                    }
+                } else if (insertFrees && id >= function.getNumParams()) {
+                    if (!insertFree(function, id)) freeReplaced(function, id);
+                }
+            }
+        }
+    }
+}
@@ -31,6 +31,7 @@ import java.lang.StringBuilder;
 
 public class ParallelDefNode extends CodeNode {
     String value;
+    String suffix = "";
 
     public ParallelDefNode(String value)
     {
@@ -38,6 +39,14 @@ public class ParallelDefNode extends CodeNode {
         this.value = value;
     }
 
+    /** Clause with a modifier after the list, as in aligned(a, b:32) */
+    public ParallelDefNode(String value, String suffix)
+    {
+        super(null);
+        this.value = value;
+        this.suffix = suffix;
+    }
+
     @Override
     public String toC() throws AplException {
         if (getNumChilds() == 0) return "";
@@ -48,6 +57,7 @@ public class ParallelDefNode extends CodeNode {
             if (i != 0) str.append(", ");
             str.append(getChild(i).toC());
         }
+        str.append(suffix);
         str.append(")");
         return str.toString();
     }
@@ -39,13 +39,27 @@ public class ParallelNode extends CodeNode {
     @Override
     public String toC() throws AplException {
         StringBuilder str = new StringBuilder();
+        // The output written before the block goes first, and each thread
+        // writes what is left in its buffer before the block ends
+        CRuntime.require("apl_out");
+        str.append("apl_out_flush();\n");
+
+        // -profile: wall time of the block and busy time of each thread
+        String region = Profiler.isEnabled() ? Profiler.region(this, "parallel") : null;
+        if (region != null) str.append("{\ndouble apl_wall = omp_get_wtime();\n");
+
         str.append("#pragma omp parallel");
         for (int i = 0; i < getNumChilds()-1; ++i) {
             str.append(" ");
             str.append(getChild(i).toC());
         }
-        str.append("\n");
+        str.append("\n{\n");
+        if (region != null) str.append("double apl_busy = omp_get_wtime();\n");
         str.append(getChild(getNumChilds()-1).toC());
+        str.append("apl_out_flush();\n");
+        if (region != null) str.append("apl_prof_busy(" + region + ", apl_busy, 0);\n");
+        str.append("}\n");
+        if (region != null) str.append("apl_prof_time(" + region + ", apl_wall);\n}\n");
         return str.toString();
     }
 }
\ No newline at end of file
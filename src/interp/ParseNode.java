@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2016, Alessio Linares and Guillermo Ojeda
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *    * Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright
+ *      notice, this list of conditions and the following disclaimer in the
+ *      documentation and/or other materials provided with the distribution.
+ *    * Neither the name of the <organization> nor the
+ *      names of its contributors may be used to endorse or promote products
+ *      derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+
+package interp;
+
+import java.lang.StringBuilder;
+
+/**
+ * The builtins parse_int(s) and parse_float(s), which convert a string
+ * to a number without scanf and stop the program if it is not one.
+ * parse_float gives a double, which a float variable rounds.
+ */
+
+public class ParseNode extends CodeNode {
+
+    public ParseNode(Data data, ExpressionNode string) throws AplException
+    {
+        super(null);
+        string.getData().resolve();
+        if (string.getData().getType() != Data.Type.ARRAY || string.getData().getSubData().getType() != Data.Type.CHAR) {
+            throw new AplException("Only strings can be parsed as `" + data.mangle() + "`.");
+        }
+        this.data = data;
+        appendChild(string);
+    }
+
+    /** Whether a value of a type can be parsed by parseToC */
+    public static boolean isParsed(Data data) {
+        return data.isInteger() || data.getType() == Data.Type.FLOAT || data.getType() == Data.Type.DOUBLE;
+    }
+
+    /**
+     * Parses the C string in string as a number of a type, checking
+     * that integers fit in it.
+     */
+    public static String parseToC(Data data, String string) {
+        if (!data.isInteger()) {
+            CRuntime.require("apl_parse_float");
+            return "apl_parse_float(" + string + ")";
+        }
+        String limits;
+        switch (data.getType()) {
+            case INT8:
+                limits = "SCHAR_MIN, SCHAR_MAX";
+                break;
+            case INT16:
+                limits = "SHRT_MIN, SHRT_MAX";
+                break;
+            case INT:
+                limits = "INT_MIN, INT_MAX";
+                break;
+            default:
+                limits = "LLONG_MIN, LLONG_MAX";
+        }
+        CRuntime.require("apl_parse_int");
+        return "apl_parse_int(" + string + ", " + limits + ")";
+    }
+
+    @Override
+    public String toC() throws AplException {
+        StringBuilder str = new StringBuilder();
+        str.append("((");
+        str.append(data.typeToString());
+        str.append(") ");
+        str.append(parseToC(data, getChild(0).toC()));
+        str.append(")");
+        return str.toString();
+    }
+}
@@ -0,0 +1,81 @@
+/**
+ * Copyright (c) 2016, Alessio Linares and Guillermo Ojeda
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *    * Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright
+ *      notice, this list of conditions and the following disclaimer in the
+ *      documentation and/or other materials provided with the distribution.
+ *    * Neither the name of the <organization> nor the
+ *      names of its contributors may be used to endorse or promote products
+ *      derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+
+package interp;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.lang.StringBuilder;
+
+/**
+ * Regions of the program measured with -profile: parallel blocks, pfor
+ * loops, functions and critical sections. The nodes get an entry of a
+ * static table of counters while they are translated (see apl_profile
+ * in CRuntime), and the table is written after the runtime together
+ * with the report printed at exit.
+ */
+
+public class Profiler {
+    private static boolean enabled = false;
+    private static IdentityHashMap<CodeNode, Integer> ids = new IdentityHashMap<CodeNode, Integer>();
+    private static ArrayList<String> regions = new ArrayList<String>();
+
+    public static void setEnabled(boolean value) { enabled = value; }
+
+    public static boolean isEnabled() { return enabled; }
+
+    /** Returns the C pointer to the counters of the region of a node */
+    public static String region(CodeNode node, String name) {
+        Integer id = ids.get(node);
+        if (id == null) {
+            id = regions.size();
+            ids.put(node, id);
+            regions.add("{ \"" + name + "\", " + node.getLine() + " }");
+            CRuntime.require("apl_profile");
+        }
+        return "&apl_regions[" + id + "]";
+    }
+
+    /** Table of the regions and the call of the report at exit */
+    public static String toC() {
+        if (regions.isEmpty()) return "";
+        StringBuilder str = new StringBuilder();
+        str.append("static apl_region apl_regions[] = {\n");
+        for (String region : regions) {
+            str.append("    ");
+            str.append(region);
+            str.append(",\n");
+        }
+        str.append("};\n\n");
+        str.append("static void apl_profile_report(void)\n{\n");
+        str.append("    apl_profile_print(apl_regions, " + regions.size() + ");\n}\n\n");
+        str.append("__attribute__((constructor)) static void apl_profile_init(void)\n{\n");
+        str.append("    atexit(apl_profile_report);\n}\n\n");
+        return str.toString();
+    }
+}
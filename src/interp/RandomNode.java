@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2016, Alessio Linares and Guillermo Ojeda
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *    * Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright
+ *      notice, this list of conditions and the following disclaimer in the
+ *      documentation and/or other materials provided with the distribution.
+ *    * Neither the name of the <organization> nor the
+ *      names of its contributors may be used to endorse or promote products
+ *      derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+
+package interp;
+
+import java.lang.StringBuilder;
+import java.util.HashSet;
+
+/**
+ * The builtins rand(), a random int between 0 and 2^31 - 1,
+ * rand_float(), a random float in [0, 1), and seed(s), which restarts
+ * the numbers of every thread from a seed (see apl_rand in CRuntime).
+ * The iterations of parallel loops draw their own numbers, whatever
+ * thread runs them (see ForNode).
+ */
+
+public class RandomNode extends CodeNode {
+    private String name;
+
+    public RandomNode(String name, ExpressionNode seed) throws AplException
+    {
+        super(null);
+        this.name = name;
+        if (name.equals("seed")) {
+            seed.getData().resolve();
+            if (!seed.getData().isInteger()) {
+                throw new AplException("The seed of the random numbers must be an integer.");
+            }
+            this.data = Data.get(Data.Type.VOID);
+            appendChild(seed);
+        } else if (name.equals("rand_float")) {
+            this.data = Data.get(Data.Type.FLOAT);
+        } else {
+            this.data = Data.get(Data.Type.INT);
+        }
+    }
+
+    /** Checks whether a tree may draw random numbers, also in the functions it calls */
+    public static boolean mayDraw(CodeNode node, HashSet<FunctionNode> visited) {
+        if (node instanceof RandomNode) return !((RandomNode) node).name.equals("seed");
+        if (node instanceof FunctionCallNode) {
+            FunctionNode function = ((FunctionCallNode) node).getFunction();
+            if (function != null && visited.add(function) && mayDraw(function, visited)) return true;
+        }
+        for (int i = 0; i < node.getNumChilds(); ++i) {
+            if (mayDraw(node.getChild(i), visited)) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public String toC() throws AplException {
+        StringBuilder str = new StringBuilder();
+        CRuntime.require("apl_rand");
+        if (name.equals("seed")) {
+            str.append("apl_seed(");
+            str.append(getChild(0).toC());
+            str.append(")");
+        } else if (name.equals("rand_float")) {
+            // The 24 upper bits, which are exact in a float
+            str.append("((apl_rand_next() >> 40) * 0x1.0p-24f)");
+        } else {
+            str.append("((int) (apl_rand_next() >> 33))");
+        }
+        return str.toString();
+    }
+}
@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2016, Alessio Linares and Guillermo Ojeda
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *    * Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright
+ *      notice, this list of conditions and the following disclaimer in the
+ *      documentation and/or other materials provided with the distribution.
+ *    * Neither the name of the <organization> nor the
+ *      names of its contributors may be used to endorse or promote products
+ *      derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+
+package interp;
+
+import java.lang.StringBuilder;
+
+/**
+ * Reads a whole array from a file: read a from file "path" for a text
+ * file with numbers separated by whitespaces, or read a from file binary
+ * "path" for the raw elements. The array is replaced by a new one with
+ * the length given by the file, like in resize.
+ */
+
+public class ReadFileNode extends CodeNode {
+    private boolean binary;
+
+    public ReadFileNode(VariableNode var, ExpressionNode path, boolean binary) throws AplException
+    {
+        super(null);
+        Data data = var.getData();
+        data.resolve();
+        if (data.getType() != Data.Type.ARRAY || data.getRank() != 1 || data.getSubData().isArray() || data.isPacked()) {
+            throw new AplException("Only arrays of one dimension of values can be read from a file.");
+        }
+        Data.Type elem = data.getSubData().getType();
+        if (!binary && !data.getSubData().isInteger() && elem != Data.Type.FLOAT && elem != Data.Type.DOUBLE) {
+            throw new AplException("Only arrays of numbers can be read from a text file.");
+        }
+        path.getData().resolve();
+        if (path.getData().getType() != Data.Type.ARRAY || path.getData().getSubData().getType() != Data.Type.CHAR) {
+            throw new AplException("The name of a file must be a string.");
+        }
+        this.binary = binary;
+        appendChild(var);
+        appendChild(path);
+    }
+
+    public boolean isBinary() { return binary; }
+
+    @Override
+    public String toC() throws AplException {
+        StringBuilder str = new StringBuilder();
+        Data elem = getChild(0).getData().getSubData();
+        String var = getChild(0).toC();
+
+        CRuntime.require(binary ? "apl_read_binary" : "apl_read_text");
+        str.append(var);
+        str.append(binary ? " = apl_read_binary(" : " = apl_read_text(");
+        str.append(var);
+        str.append(", ");
+        str.append(getChild(1).toC());
+        str.append(", sizeof(");
+        str.append(elem.elementTypeToString());
+        str.append(")");
+        if (!binary) {
+            Data.Type type = elem.getType();
+            str.append(type == Data.Type.FLOAT || type == Data.Type.DOUBLE ? ", 1" : ", 0");
+        }
+        str.append(");\n");
+        return str.toString();
+    }
+}
@@ -37,21 +37,36 @@ public class ReadNode extends CodeNode {
         super(null);
         this.expr = expr;
         appendChild(expr);
-        this.data = new Data(Data.Type.INT);
+        this.data = Data.get(Data.Type.INT);
     }
 
     @Override
     public String toC() throws AplException {
         StringBuilder str = new StringBuilder();
+        this.expr.getData().resolve();
+        if (getNumChilds() == 2 && ParseNode.isParsed(this.expr.getData())) {
+            // A number from a string is parsed directly (see apl_parse in CRuntime)
+            getChild(1).getData().resolve();
+            if (getChild(1).getData().getType() != Data.Type.ARRAY
+                || getChild(1).getData().getSubData().getType() != Data.Type.CHAR) {
+                throw new AplException("Reading from a variable that is not a string");
+            }
+            str.append(this.expr.toC());
+            str.append(" = ");
+            str.append(ParseNode.parseToC(this.expr.getData(), getChild(1).toC()));
+            return str.toString();
+        }
         if (getNumChilds() == 1) {
-            str.append("scanf(\"");
+            // The pending output (e.g. a prompt) is shown before waiting
+            CRuntime.require("apl_out");
+            str.append("apl_out_flush(), scanf(\"");
         } else {
             str.append("sscanf(");
             str.append(getChild(1).toC());
             str.append(", \"");
             getChild(1).getData().resolve();
             if (getChild(1).getData().getType() != Data.Type.ARRAY
-                && getChild(1).getData().getSubData().getType() != Data.Type.CHAR) {
+                || getChild(1).getData().getSubData().getType() != Data.Type.CHAR) {
                 throw new AplException("Reading from a variable that is not a string");
             }
         }
@@ -61,14 +76,34 @@ public class ReadNode extends CodeNode {
                 str.append("%c");
                 break;
             case BOOL:
-                str.append("%i");
+                // The elements of the arrays of bool are bytes
+                if (this.expr instanceof ArrayAccessNode) {
+                    if (((ArrayAccessNode) this.expr).isPacked()) {
+                        throw new AplException("Reading to an element of a packed array of bool.");
+                    }
+                    str.append("%hhu");
+                } else {
+                    str.append("%i");
+                }
+                break;
+            case INT8:
+                str.append("%hhd");
+                break;
+            case INT16:
+                str.append("%hd");
                 break;
             case INT:
                 str.append("%i");
                 break;
+            case INT64:
+                str.append("%lld");
+                break;
             case FLOAT:
                 str.append("%f");
                 break;
+            case DOUBLE:
+                str.append("%lf");
+                break;
             case ARRAY:
                 if (this.expr.getData().getSubData().getType() == Data.Type.CHAR) {
                     str.append("%s");
@@ -87,6 +122,13 @@ public class ReadNode extends CodeNode {
                 str.append(this.expr.toC());
         }
         str.append(")");
+        if (this.expr.getData().getType() == Data.Type.ARRAY) {
+            // The length of the string is the number of characters read
+            CRuntime.require("apl_str_length");
+            str.append(", apl_str_length(");
+            str.append(this.expr.toC());
+            str.append(")");
+        }
         return str.toString();
     }
 }
@@ -0,0 +1,66 @@
+/**
+ * Copyright (c) 2016, Alessio Linares and Guillermo Ojeda
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *    * Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright
+ *      notice, this list of conditions and the following disclaimer in the
+ *      documentation and/or other materials provided with the distribution.
+ *    * Neither the name of the <organization> nor the
+ *      names of its contributors may be used to endorse or promote products
+ *      derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+
+package interp;
+
+/**
+ * Reduction of all the elements of an array expression with an
+ * operator (sum or product). It is evaluated by an ArrayExprNode.
+ */
+
+public class ReduceNode extends CodeNode {
+    String op;
+
+    public ReduceNode(String op, ExpressionNode operand)
+    {
+        super(null);
+        this.op = op.substring(0, 1);
+        appendChild(operand);
+    }
+
+    /** Value of the reduction of an empty array */
+    public String identity() {
+        return op.equals("*") ? "1" : "0";
+    }
+
+    @Override
+    public Data getData() {
+        if (data.getType() == Data.Type.VOID) {
+            Data operand = getChild(0).getData();
+            if (operand.isArray()) {
+                data = Data.max(Data.get(Data.Type.INT), operand.getSubData());
+            }
+        }
+        return data;
+    }
+
+    @Override
+    public String toC() throws AplException {
+        throw new AplException("A reduction can only be assigned to a variable.");
+    }
+}
@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2016, Alessio Linares and Guillermo Ojeda
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *    * Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright
+ *      notice, this list of conditions and the following disclaimer in the
+ *      documentation and/or other materials provided with the distribution.
+ *    * Neither the name of the <organization> nor the
+ *      names of its contributors may be used to endorse or promote products
+ *      derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+package interp;
+
+import java.lang.StringBuilder;
+
+/**
+ * The builtins push(a, v), which appends an element to an array, and
+ * resize(a, n), which changes its length. The array may be moved to a
+ * bigger allocation, so the variable is assigned again.
+ */
+
+public class ResizeNode extends CodeNode {
+    private boolean push;
+
+    public ResizeNode(VariableNode var, ExpressionNode value, boolean push)
+    {
+        super(null);
+        this.push = push;
+        appendChild(var);
+        appendChild(value);
+    }
+
+    public boolean isPush() { return push; }
+
+    @Override
+    public String toC() throws AplException {
+        StringBuilder str = new StringBuilder();
+        String var = getChild(0).toC();
+        String type = getChild(0).getData().getSubData().elementTypeToString();
+        CRuntime.require("apl_resize");
+
+        if (push) {
+            // The value may use the array, so it is computed before moving it
+            CRuntime.require("apl_len");
+            str.append("{\n");
+            str.append(type);
+            str.append(" apl_v = ");
+            str.append(getChild(1).toC());
+            str.append(";\n");
+            str.append(var);
+            str.append(" = apl_push(");
+            str.append(var);
+            str.append(", sizeof(");
+            str.append(type);
+            str.append("));\n");
+            str.append(var);
+            str.append("[APL_LEN(");
+            str.append(var);
+            str.append(") - 1] = apl_v;\n");
+            str.append("}\n");
+        } else {
+            str.append(var);
+            str.append(" = apl_resize(");
+            str.append(var);
+            str.append(", sizeof(");
+            str.append(type);
+            str.append("), (long)(");
+            str.append(getChild(1).toC());
+            str.append("));\n");
+        }
+        return str.toString();
+    }
+}
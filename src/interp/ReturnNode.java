@@ -32,11 +32,15 @@ import java.lang.StringBuilder;
 
 public class ReturnNode extends CodeNode {
     ExpressionNode expr;
+    /** Function the instruction returns from */
+    FunctionNode function;
 
-    public ReturnNode(ExpressionNode expr) {
+    public ReturnNode(ExpressionNode expr, FunctionNode function) {
         super(null);
         this.expr = expr;
+        this.function = function;
         if (expr != null) {
+            appendChild(expr);
             this.data = expr.getData();
         }
     }
@@ -45,6 +49,24 @@ public class ReturnNode extends CodeNode {
     public String toC() throws AplException {
         StringBuilder str = new StringBuilder();
 
+        if (Tracer.isEnabled()) {
+            // The result is kept to write it in the trace
+            if (expr == null) {
+                str.append("{\n");
+                str.append(Tracer.returnToC(function, getLine(), null));
+                str.append("return;\n}\n");
+            } else {
+                str.append("{\n");
+                str.append(function.getData().typeToString());
+                str.append(" apl_result = ");
+                str.append(expr.toC());
+                str.append(";\n");
+                str.append(Tracer.returnToC(function, getLine(), "apl_result"));
+                str.append("return apl_result;\n}\n");
+            }
+            return str.toString();
+        }
+
         str.append("return ");
         if (expr != null) str.append(expr.toC());
         str.append(";\n");
@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2016, Alessio Linares and Guillermo Ojeda
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *    * Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright
+ *      notice, this list of conditions and the following disclaimer in the
+ *      documentation and/or other materials provided with the distribution.
+ *    * Neither the name of the <organization> nor the
+ *      names of its contributors may be used to endorse or promote products
+ *      derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+
+package interp;
+
+import java.lang.StringBuilder;
+
+/**
+ * View of a range of elements of an array or of another view:
+ * a[lo:hi] or a[lo:hi:step]. The elements are not copied, the view
+ * only stores where they are, so it is invalidated when the array moves
+ * to change its length (push, resize, read from a file or write to).
+ * The CodeAnalyzer warns about views used after that.
+ */
+
+public class SliceNode extends CodeNode {
+    VariableNode var;
+
+    public SliceNode(VariableNode var, ExpressionNode lo, ExpressionNode hi, ExpressionNode step)
+    {
+        super(null);
+        this.var = var;
+        this.data = Data.get(Data.Type.VIEW, var.getData().getSubData());
+        appendChild(var);
+        appendChild(lo);
+        appendChild(hi);
+        if (step != null) appendChild(step);
+    }
+
+    private String boundToC(int i) throws AplException {
+        CodeNode bound = getChild(i);
+        bound.getData().resolve();
+        if (bound.getData().getType() != Data.Type.INT) {
+            return "(long)(" + bound.toC() + ")";
+        }
+        return bound.toC();
+    }
+
+    @Override
+    public String toC() throws AplException {
+        StringBuilder str = new StringBuilder();
+        String type = data.getSubData().mangle();
+        CRuntime.require("apl_view_" + type);
+
+        str.append("apl_slice_");
+        str.append(type);
+        str.append("(");
+        if (var.getData().getType() == Data.Type.VIEW) {
+            str.append(var.toC());
+            str.append(".base, ");
+            str.append(var.toC());
+            str.append(".stride, ");
+        } else {
+            str.append(var.toC());
+            str.append(", 1, ");
+        }
+        str.append(boundToC(1));
+        str.append(", ");
+        str.append(boundToC(2));
+        str.append(", ");
+        str.append(getNumChilds() > 3 ? boundToC(3) : "1");
+        str.append(")");
+        return str.toString();
+    }
+}
@@ -44,6 +44,7 @@ public class Stack {
     /** Stack of activation records */
     private LinkedList<ArrayList<Data>> StackAR;
     private LinkedList<ArrayList<Boolean>> StackARShared;
+    private LinkedList<ArrayList<String>> StackARNames;
 
     /** Stack of symbol tables */
     private LinkedList<HashMap<String,Integer>> StackST;
@@ -51,6 +52,8 @@ public class Stack {
     /** Reference to the current activation record */
     private ArrayList<Data> CurrentAR = null;
     private ArrayList<Boolean> CurrentARShared = null;
+    /** Names of the variables of the current activation record, by id */
+    private ArrayList<String> CurrentARNames = null;
 
     /** Mapping of variable's new names **/
     private HashMap<String,Integer> SymbolTable = null;
@@ -75,9 +78,11 @@ public class Stack {
     public Stack() {
         StackAR = new LinkedList<ArrayList<Data>>();
         StackARShared = new LinkedList<ArrayList<Boolean>>();
+        StackARNames = new LinkedList<ArrayList<String>>();
         StackST = new LinkedList<HashMap<String,Integer>>();
         CurrentAR = null;
         CurrentARShared = null;
+        CurrentARNames = null;
         SymbolTable = null;
         StackTrace = new LinkedList<StackTraceItem>();
     }
@@ -86,9 +91,11 @@ public class Stack {
     public void pushActivationRecord(String name, int line) {
         CurrentAR = new ArrayList<Data>();
         CurrentARShared = new ArrayList<Boolean>();
+        CurrentARNames = new ArrayList<String>();
         SymbolTable = new HashMap<String,Integer>();
         StackAR.addLast (CurrentAR);
         StackARShared.addLast(CurrentARShared);
+        StackARNames.addLast(CurrentARNames);
         StackST.addLast (SymbolTable);
         StackTrace.addLast (new StackTraceItem(name, line));
     }
@@ -97,11 +104,14 @@ public class Stack {
     public void popActivationRecord() {
         StackAR.removeLast();
         StackARShared.removeLast();
+        StackARNames.removeLast();
         StackST.removeLast();
         if (StackAR.isEmpty()) CurrentAR = null;
         else CurrentAR = StackAR.getLast();
         if (StackARShared.isEmpty()) CurrentARShared = null;
         else CurrentARShared = StackARShared.getLast();
+        if (StackARNames.isEmpty()) CurrentARNames = null;
+        else CurrentARNames = StackARNames.getLast();
         if (StackST.isEmpty()) SymbolTable = null;
         else SymbolTable = StackST.getLast();
         StackTrace.removeLast();
@@ -127,6 +137,7 @@ public class Stack {
             SymbolTable.put(name, id); // New definition
             CurrentAR.add(value);
             CurrentARShared.add(shared);
+            CurrentARNames.add(name);
         } else {
             if (CurrentAR.get(d).hasDependencies()) {
                 System.err.println("Warning: Type of variable `" + name + "` depends on types that haven't been decided yet.");
@@ -207,6 +218,7 @@ public class Stack {
 
     public ArrayList<Data> getCurrentAR() { return CurrentAR; }
     public ArrayList<Boolean> getCurrentARShared() { return CurrentARShared; }
+    public ArrayList<String> getCurrentARNames() { return CurrentARNames; }
 
     /**
      * Generates a string with the contents of the stack trace.
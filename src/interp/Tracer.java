@@ -0,0 +1,147 @@
+/**
+ * Copyright (c) 2016, Alessio Linares and Guillermo Ojeda
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *    * Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright
+ *      notice, this list of conditions and the following disclaimer in the
+ *      documentation and/or other materials provided with the distribution.
+ *    * Neither the name of the <organization> nor the
+ *      names of its contributors may be used to endorse or promote products
+ *      derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+
+package interp;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.lang.StringBuilder;
+
+/**
+ * Functions instrumented with -trace. The program writes an event at
+ * each call and return of a function (see apl_trace in CRuntime), with
+ * the values of the parameters and the result. The functions get a
+ * number while they are translated, and their names and parameters go
+ * to the header of the trace file, which AplTrace needs to write it.
+ */
+
+public class Tracer {
+    private static String file = null;
+    private static IdentityHashMap<FunctionNode, Integer> ids = new IdentityHashMap<FunctionNode, Integer>();
+    private static ArrayList<FunctionNode> functions = new ArrayList<FunctionNode>();
+
+    public static void setFile(String path) { file = path; }
+
+    public static boolean isEnabled() { return file != null; }
+
+    /** Returns the number of a function in the trace */
+    public static int id(FunctionNode function) {
+        Integer id = ids.get(function);
+        if (id == null) {
+            id = functions.size();
+            ids.put(function, id);
+            functions.add(function);
+            CRuntime.require("apl_trace");
+        }
+        return id;
+    }
+
+    /**
+     * Kind of a value in the trace: i (integer), b (bool), c (char),
+     * f (float or double), a (array, the length is kept) or v (void).
+     */
+    public static String kind(Data data) {
+        if (data.isArray()) return "a";
+        switch (data.getType()) {
+            case BOOL:
+                return "b";
+            case CHAR:
+                return "c";
+            case FLOAT:
+            case DOUBLE:
+                return "f";
+            case VOID:
+                return "v";
+            default:
+                return "i";
+        }
+    }
+
+    /** C initializer of the apl_trace_value of an expression */
+    public static String value(Data data, String expr) {
+        if (data.isArray()) {
+            if (data.getType() != Data.Type.ARRAY) return "{.i = 0}";
+            CRuntime.require("apl_len");
+            return "{.i = " + expr + " != NULL ? APL_LEN(" + expr + ") : 0}";
+        }
+        if (kind(data).equals("f")) return "{.f = " + expr + "}";
+        return "{.i = (long long) " + expr + "}";
+    }
+
+    /** C array with the values, or NULL if there are none */
+    public static String values(ArrayList<String> values) {
+        if (values.isEmpty()) return "NULL";
+        StringBuilder str = new StringBuilder();
+        str.append("(apl_trace_value[]) { ");
+        for (int i = 0; i < values.size(); ++i) {
+            if (i != 0) str.append(", ");
+            str.append(values.get(i));
+        }
+        str.append(" }");
+        return str.toString();
+    }
+
+    /**
+     * Event of the return from a function. The values are the result
+     * (null in void functions) and the parameters by reference.
+     */
+    public static String returnToC(FunctionNode function, int line, String result) {
+        ArrayList<String> values = new ArrayList<String>();
+        if (result != null) values.add(value(function.getData(), result));
+        for (int i = 0; i < function.getNumParams(); ++i) {
+            Data param = function.getVariables().get(i);
+            if (param.isReference()) values.add(value(param, "(*var" + i + ")"));
+        }
+        return "apl_trace_return(" + id(function) + ", " + line + ", " + (result != null ? 1 : 0) + ", " +
+            values.size() + ", " + values(values) + ");\n";
+    }
+
+    /** Opening of the trace file, with its header, and the flush at exit */
+    public static String toC() {
+        if (functions.isEmpty()) return "";
+        StringBuilder str = new StringBuilder();
+        str.append("__attribute__((constructor)) static void apl_trace_init(void)\n{\n");
+        str.append("    apl_trace_open(\"");
+        str.append(file.replace("\\", "\\\\").replace("\"", "\\\""));
+        str.append("\",\n        \"functions ");
+        str.append(functions.size());
+        str.append("\\n\"\n");
+        for (int id = 0; id < functions.size(); ++id) {
+            FunctionNode function = functions.get(id);
+            str.append("        \"");
+            str.append(id + " " + function.getSourceName() + " " + kind(function.getData()) + " " + function.getNumParams());
+            for (int i = 0; i < function.getNumParams(); ++i) {
+                Data param = function.getVariables().get(i);
+                str.append(" " + function.getVariableName(i) + " " + kind(param) + " " + (param.isReference() ? 1 : 0));
+            }
+            str.append("\\n\"\n");
+        }
+        str.append("    );\n");
+        str.append("    atexit(apl_trace_close);\n}\n\n");
+        return str.toString();
+    }
+}
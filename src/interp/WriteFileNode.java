@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) 2016, Alessio Linares and Guillermo Ojeda
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *    * Redistributions of source code must retain the above copyright
+ *      notice, this list of conditions and the following disclaimer.
+ *    * Redistributions in binary form must reproduce the above copyright
+ *      notice, this list of conditions and the following disclaimer in the
+ *      documentation and/or other materials provided with the distribution.
+ *    * Neither the name of the <organization> nor the
+ *      names of its contributors may be used to endorse or promote products
+ *      derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY
+ * DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+
+
+package interp;
+
+import java.lang.StringBuilder;
+
+/**
+ * Writes a whole array to a file: write a to file "path" for a text
+ * file with a number per line, or write a to file binary "path" for
+ * the raw elements, which read a from file binary "path" loads again.
+ * The builtin checkpoint(a, "path", n) writes the raw elements every n
+ * times it is executed.
+ */
+
+public class WriteFileNode extends CodeNode {
+    private boolean binary;
+    private boolean checkpoint;
+
+    public WriteFileNode(VariableNode var, ExpressionNode path, boolean binary) throws AplException
+    {
+        super(null);
+        Data data = var.getData();
+        data.resolve();
+        if (data.getType() != Data.Type.ARRAY || data.getSubData().isArray() || data.isPacked()) {
+            throw new AplException("Only arrays of values can be written to a file.");
+        }
+        Data.Type elem = data.getSubData().getType();
+        if (!binary && !data.getSubData().isInteger() && elem != Data.Type.FLOAT
+            && elem != Data.Type.DOUBLE && elem != Data.Type.BOOL) {
+            throw new AplException("Only arrays of numbers can be written to a text file.");
+        }
+        path.getData().resolve();
+        if (path.getData().getType() != Data.Type.ARRAY || path.getData().getSubData().getType() != Data.Type.CHAR) {
+            throw new AplException("The name of a file must be a string.");
+        }
+        this.binary = binary;
+        appendChild(var);
+        appendChild(path);
+    }
+
+    /** checkpoint(a, "path", every) */
+    public WriteFileNode(VariableNode var, ExpressionNode path, ExpressionNode every) throws AplException
+    {
+        this(var, path, true);
+        every.getData().resolve();
+        if (!every.getData().isInteger()) {
+            throw new AplException("The period of a checkpoint must be an integer.");
+        }
+        checkpoint = true;
+        appendChild(every);
+    }
+
+    public boolean isBinary() { return binary; }
+
+    public boolean isCheckpoint() { return checkpoint; }
+
+    @Override
+    public String toC() throws AplException {
+        StringBuilder str = new StringBuilder();
+        Data elem = getChild(0).getData().getSubData();
+        String size = "sizeof(" + elem.elementTypeToString() + ")";
+
+        if (checkpoint) {
+            // Each checkpoint counts its own calls
+            CRuntime.require("apl_checkpoint");
+            str.append("{\nstatic long apl_calls = 0;\napl_checkpoint(&apl_calls, ");
+            str.append(getChild(2).toC());
+            str.append(", ");
+            str.append(getChild(0).toC());
+            str.append(", ");
+            str.append(getChild(1).toC());
+            str.append(", ");
+            str.append(size);
+            str.append(");\n}\n");
+            return str.toString();
+        }
+
+        CRuntime.require(binary ? "apl_write_binary" : "apl_write_text");
+        str.append(binary ? "apl_write_binary(" : "apl_write_text(");
+        str.append(getChild(0).toC());
+        str.append(", ");
+        str.append(getChild(1).toC());
+        str.append(", ");
+        str.append(size);
+        if (!binary) {
+            Data.Type type = elem.getType();
+            str.append(type == Data.Type.FLOAT || type == Data.Type.DOUBLE ? ", 1" : ", 0");
+        }
+        str.append(");\n");
+        return str.toString();
+    }
+}
@@ -37,86 +37,110 @@ public class WriteNode extends CodeNode {
         super(null);
         this.expr = expr;
         appendChild(expr);
-        this.data = new Data(Data.Type.INT);
+        this.data = Data.get(Data.Type.INT);
     }
 
-    @Override
-    public String toC() throws AplException {
-        StringBuilder str = new StringBuilder();
-
-        if (getNumChilds() == 1) {
-            str.append("printf(\"");
-        } else {
-            str.append("sprintf(");
-            getChild(1).getData().resolve();
-            if (getChild(1).getData().getType() != Data.Type.ARRAY
-                && getChild(1).getData().getSubData().getType() != Data.Type.CHAR) {
-                throw new AplException("Writing to a variable that is not a string.");
-            }
-            str.append(getChild(1).toC());
-            str.append(", \"%s");
-        }
-
+    /**
+     * Writes to the output buffer of the thread (see apl_out in
+     * CRuntime) instead of calling printf.
+     */
+    private String outputToC() throws AplException {
+        String value = this.expr.toC();
+        String write;
         switch(this.expr.getData().getType()) {
             case VOID:
-                str.append("%s");
+                write = "apl_write_str";
+                value = "\"void\"";
                 break;
             case CHAR:
-                str.append("%c");
+                write = "apl_write_char";
                 break;
             case BOOL:
-                str.append("%s");
+                write = "apl_write_str";
+                value = value + " ? \"true\" : \"false\"";
                 break;
+            case INT8:
+            case INT16:
             case INT:
-                str.append("%i");
+            case INT64:
+                write = "apl_write_int";
                 break;
             case FLOAT:
-                str.append("%f");
+            case DOUBLE:
+                write = "apl_write_float";
                 break;
             case ARRAY:
                 if (this.expr.getData().getSubData().getType() == Data.Type.CHAR) {
-                    str.append("%s");
+                    write = "apl_write_str";
                 } else {
-                    str.append("%i");
+                    write = "apl_write_int";
+                    value = "(int)" + value;
                 }
                 break;
+            case VIEW:
+                throw new AplException("Cannot write a view of an array.");
+            default:
+                throw new AplException("Writing a value of undecided type.");
         }
+        CRuntime.require(write);
+        return write + "(" + value + ")";
+    }
+
+    @Override
+    public String toC() throws AplException {
+        StringBuilder str = new StringBuilder();
 
         if (getNumChilds() == 1) {
-            str.append("\\n\", ");
-        } else {
-            str.append("\", ");
-            str.append(getChild(1).toC());
-            str.append(", ");
+            return outputToC();
         }
 
+        // write ... to <string>: appends at the end of the string (see
+        // apl_str in CRuntime), which may move it
+        getChild(1).getData().resolve();
+        if (getChild(1).getData().getType() != Data.Type.ARRAY
+            || getChild(1).getData().getSubData().getType() != Data.Type.CHAR) {
+            throw new AplException("Writing to a variable that is not a string.");
+        }
+        String target = getChild(1).toC();
+        String value = this.expr.toC();
+        str.append(target);
+        str.append(" = ");
+
         switch(this.expr.getData().getType()) {
             case VOID:
-                str.append("\"void\"");
+                str.append("apl_str_cat(" + target + ", \"void\")");
                 break;
             case CHAR:
-                str.append(this.expr.toC());
+                str.append("apl_str_char(" + target + ", " + value + ")");
                 break;
             case BOOL:
-                str.append(this.expr.toC());
-                str.append(" ? \"true\" : \"false\"");
+                str.append("apl_str_cat(" + target + ", " + value + " ? \"true\" : \"false\")");
                 break;
+            case INT8:
+            case INT16:
             case INT:
-                str.append(this.expr.toC());
+                str.append("apl_str_printf(" + target + ", \"%i\", " + value + ")");
+                break;
+            case INT64:
+                str.append("apl_str_printf(" + target + ", \"%lld\", " + value + ")");
                 break;
             case FLOAT:
-                str.append(this.expr.toC());
+            case DOUBLE:
+                str.append("apl_str_printf(" + target + ", \"%f\", " + value + ")");
                 break;
             case ARRAY:
                 if (this.expr.getData().getSubData().getType() == Data.Type.CHAR) {
-                    str.append(this.expr.toC());
+                    str.append("apl_str_cat(" + target + ", " + value + ")");
                 } else {
-                    str.append("(int)");
-                    str.append(this.expr.toC());
+                    str.append("apl_str_printf(" + target + ", \"%i\", (int)" + value + ")");
                 }
                 break;
+            case VIEW:
+                throw new AplException("Cannot write a view of an array.");
+            default:
+                throw new AplException("Writing a value of undecided type.");
         }
-        str.append(")");
+        CRuntime.require("apl_str");
         return str.toString();
     }
 }
@@ -18,6 +18,7 @@ tokens {
     PVALUE;     // Parameter by value in the list of parameters
     PREF;     // Parameter by value in the list of parameters
     IDARR;      // An ID with array getter ([x])
+    SLICE;      // A view of a range of an array ([lo:hi] or [lo:hi:step])
     EXPRGROUP; // a expression grouped by parenthesis
 }
 
@@ -64,8 +65,9 @@ instruction
         :	assign          // Assignment
         |	ite_stmt        // if-then-else
         |	for_stmt        // for statement
-        |	pfor_stmt       // pfor statement
+        |	pfor_stmt       // pfor statement (ordered keeps the output in the order of the iterations)
         |	while_stmt      // while statement
+        |	bench_stmt      // Time the repetitions of a block
         |   funcall         // Call to a procedure (no result produced)
         |	read            // Read a variable
         | 	write           // Write a string or an expression
@@ -81,17 +83,34 @@ assign  :    id_atom eq=ASSEQ expr -> ^(ASSIGN[$eq,":="] id_atom expr)
 ite_stmt	:	IF^ expr THEN! block_instructions (ELIF! expr THEN! block_instructions)* (ELSE! block_instructions)? END!
             ;
 
-// for statement
-for_stmt	:	FOR^ id_atom IN! expr ':'! expr block_instructions END!
+// for statement (a reduction is only accepted together with simd)
+for_stmt	:	FOR^ id_atom IN! expr ':'! expr tile? simd? reduction? block_instructions END!
             ;
 
-// pfor statement
-pfor_stmt	:	PFOR^ id_atom IN! expr ':'! expr reduction? block_instructions END!
+// pfor statement (ordered keeps the output in the order of the iterations)
+pfor_stmt	:	PFOR^ id_atom IN! expr ':'! expr ORDERED? tile? simd? reduction? block_instructions END!
+            ;
+
+// Run a block n times after a warm-up run and write the times
+bench_stmt  :   BENCH^ expr block_instructions END!
             ;
 
 reduction   :   REDUCTION^ '('! operator ':'! paramlist ')'!
             ;
 
+// Tile a perfect loop nest (one size for each loop of the nest)
+tile        :   TILE^ ('('! INT (','! INT)* ')'!)?
+            ;
+
+// Vectorize the loop (omp simd) with optional clauses
+simd        :   SIMD^ simd_clause*
+            ;
+
+simd_clause :   SAFELEN^ '('! INT ')'!
+            |   SIMDLEN^ '('! INT ')'!
+            |   ALIGNED^ '('! paramlist (':'! INT)? ')'!
+            ;
+
 operator    :   (PLUS | MINUS | MUL | DIV | MOD | NOT | AND | OR)
             ;
 
@@ -104,11 +123,15 @@ return_stmt	:	RETURN^ expr?
         ;
 
 // Read a variable
-read	:	READ^ id_atom (FROM! expr)?
+read	:	READ^ id_atom (FROM! (file | expr))?
+        ;
+
+// A file with the values of a whole array, as text or raw binary data
+file    :   FILE^ BINARY? expr
         ;
 
-// Write an expression or a string
-write	:   WRITE^ expr (TO! id_atom)?
+// Write an expression to the output, a string or a file
+write	:   WRITE^ expr (TO! (file | id_atom))?
         ;
 
 // Free allocated memory
@@ -138,13 +161,15 @@ boolterm:   boolfact (AND^ boolfact)*
 boolfact:   num_expr ((EQUAL^ | NOT_EQUAL^ | LT^ | LE^ | GT^ | GE^) num_expr)?
         ;
 
-num_expr:   term ( (PLUS^ | MINUS^) term)*
+// A reduction (+/ or */) applies to the whole expression on its right
+num_expr:   REDUCE^ num_expr
+        |   term ( (PLUS^ | MINUS^) term)*
         ;
 
 term    :   factor ( (MUL^ | DIV^ | MOD^) factor)*
         ;
 
-factor  :   (NOT^ | PLUS^ | MINUS^)? atom
+factor  :   (NOT^ | PLUS^ | MINUS^ | IOTA^)? atom
         ;
 
 // Atom of the expressions (variables, integer and boolean literals).
@@ -163,8 +188,13 @@ atom    :   id_atom
         ;
 
 
+// Arrays can have several dimensions (one subscript for each one).
+// A range of a one-dimensional array is a view of its elements.
 id_atom :   ID
-        |   id=ID('[' num_expr ']') -> ^(IDARR $id num_expr)
+        |   id=ID '[' num_expr
+            (   ']' ('[' num_expr ']')*             -> ^(IDARR $id num_expr+)
+            |   ':' num_expr (':' num_expr)? ']'    -> ^(SLICE $id num_expr+)
+            )
         ;
 
 // A function call has a lits of arguments in parenthesis (possibly empty)
@@ -183,12 +213,14 @@ LT	    : '<' ;
 LE	    : '<=';
 GT	    : '>';
 GE	    : '>=';
+REDUCE  : ('+' | '*') '/' ;
 PLUS	: '+' ;
 MINUS	: '-' ;
 MUL	    : '*';
 DIV	    : '/';
 MOD	    : '%' ;
 NOT	    : 'not';
+IOTA    : 'iota';
 AND	    : 'and' ;
 OR	    : 'or' ;	
 IF  	: 'if' ;
@@ -198,14 +230,23 @@ ELSE	: 'else' ;
 FOR	    : 'for' ;
 PFOR	: 'pfor' ;
 REDUCTION: 'reduction' ;
+ORDERED : 'ordered' ;
+TILE    : 'tile' ;
+SIMD    : 'simd' ;
+SAFELEN : 'safelen' ;
+SIMDLEN : 'simdlen' ;
+ALIGNED : 'aligned' ;
 IN      : 'in';
 WHILE	: 'while' ;
+BENCH	: 'bench' ;
 DO	    : 'do' ;
 FUNC	: 'func' ;
 RETURN	: 'return' ;
 END     : 'end';
 READ	: 'read' ;
 FROM    : 'from' ;
+FILE    : 'file' ;
+BINARY  : 'binary' ;
 WRITE	: 'write' ;
 TO	    : 'to' ;
 FREE    : 'free' ;
@@ -0,0 +1,2936 @@
+// $ANTLR 3.4 /root/project/src/parser/Apl.g 2026-10-19 11:08:54
+
+package parser;
+
+
+import org.antlr.runtime.*;
+import java.util.Stack;
+import java.util.List;
+import java.util.ArrayList;
+
+@SuppressWarnings({"all", "warnings", "unchecked"})
+public class AplLexer extends Lexer {
+    public static final int EOF=-1;
+    public static final int T__74=74;
+    public static final int T__75=75;
+    public static final int T__76=76;
+    public static final int T__77=77;
+    public static final int T__78=78;
+    public static final int T__79=79;
+    public static final int T__80=80;
+    public static final int T__81=81;
+    public static final int ALIGNED=4;
+    public static final int AND=5;
+    public static final int ARGLIST=6;
+    public static final int ASSEQ=7;
+    public static final int ASSIGN=8;
+    public static final int BENCH=9;
+    public static final int BINARY=10;
+    public static final int BOOLEAN=11;
+    public static final int CHAR=12;
+    public static final int COMMENT=13;
+    public static final int DIV=14;
+    public static final int DO=15;
+    public static final int ELIF=16;
+    public static final int ELSE=17;
+    public static final int END=18;
+    public static final int EQUAL=19;
+    public static final int ESC_SEQ=20;
+    public static final int EXPRGROUP=21;
+    public static final int FALSE=22;
+    public static final int FILE=23;
+    public static final int FLOAT=24;
+    public static final int FOR=25;
+    public static final int FREE=26;
+    public static final int FROM=27;
+    public static final int FUNC=28;
+    public static final int FUNCALL=29;
+    public static final int GE=30;
+    public static final int GT=31;
+    public static final int ID=32;
+    public static final int IDARR=33;
+    public static final int IF=34;
+    public static final int IN=35;
+    public static final int INT=36;
+    public static final int IOTA=37;
+    public static final int LE=38;
+    public static final int LIST_FUNCTIONS=39;
+    public static final int LIST_INSTR=40;
+    public static final int LT=41;
+    public static final int MINUS=42;
+    public static final int MOD=43;
+    public static final int MUL=44;
+    public static final int NOT=45;
+    public static final int NOT_EQUAL=46;
+    public static final int NUMTHREADS=47;
+    public static final int OR=48;
+    public static final int ORDERED=49;
+    public static final int PARALLEL=50;
+    public static final int PARAMS=51;
+    public static final int PFOR=52;
+    public static final int PLUS=53;
+    public static final int PREF=54;
+    public static final int PRIVATE=55;
+    public static final int PVALUE=56;
+    public static final int READ=57;
+    public static final int REDUCE=58;
+    public static final int REDUCTION=59;
+    public static final int RETURN=60;
+    public static final int SAFELEN=61;
+    public static final int SHARED=62;
+    public static final int SIMD=63;
+    public static final int SIMDLEN=64;
+    public static final int SLICE=65;
+    public static final int STRING=66;
+    public static final int THEN=67;
+    public static final int TILE=68;
+    public static final int TO=69;
+    public static final int TRUE=70;
+    public static final int WHILE=71;
+    public static final int WRITE=72;
+    public static final int WS=73;
+
+    // delegates
+    // delegators
+    public Lexer[] getDelegates() {
+        return new Lexer[] {};
+    }
+
+    public AplLexer() {} 
+    public AplLexer(CharStream input) {
+        this(input, new RecognizerSharedState());
+    }
+    public AplLexer(CharStream input, RecognizerSharedState state) {
+        super(input,state);
+    }
+    public String getGrammarFileName() { return "/root/project/src/parser/Apl.g"; }
+
+    // $ANTLR start "T__74"
+    public final void mT__74() throws RecognitionException {
+        try {
+            int _type = T__74;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:6:7: ( '&' )
+            // /root/project/src/parser/Apl.g:6:9: '&'
+            {
+            match('&'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "T__74"
+
+    // $ANTLR start "T__75"
+    public final void mT__75() throws RecognitionException {
+        try {
+            int _type = T__75;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:7:7: ( '(' )
+            // /root/project/src/parser/Apl.g:7:9: '('
+            {
+            match('('); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "T__75"
+
+    // $ANTLR start "T__76"
+    public final void mT__76() throws RecognitionException {
+        try {
+            int _type = T__76;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:8:7: ( ')' )
+            // /root/project/src/parser/Apl.g:8:9: ')'
+            {
+            match(')'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "T__76"
+
+    // $ANTLR start "T__77"
+    public final void mT__77() throws RecognitionException {
+        try {
+            int _type = T__77;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:9:7: ( ',' )
+            // /root/project/src/parser/Apl.g:9:9: ','
+            {
+            match(','); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "T__77"
+
+    // $ANTLR start "T__78"
+    public final void mT__78() throws RecognitionException {
+        try {
+            int _type = T__78;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:10:7: ( ':' )
+            // /root/project/src/parser/Apl.g:10:9: ':'
+            {
+            match(':'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "T__78"
+
+    // $ANTLR start "T__79"
+    public final void mT__79() throws RecognitionException {
+        try {
+            int _type = T__79;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:11:7: ( ';' )
+            // /root/project/src/parser/Apl.g:11:9: ';'
+            {
+            match(';'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "T__79"
+
+    // $ANTLR start "T__80"
+    public final void mT__80() throws RecognitionException {
+        try {
+            int _type = T__80;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:12:7: ( '[' )
+            // /root/project/src/parser/Apl.g:12:9: '['
+            {
+            match('['); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "T__80"
+
+    // $ANTLR start "T__81"
+    public final void mT__81() throws RecognitionException {
+        try {
+            int _type = T__81;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:13:7: ( ']' )
+            // /root/project/src/parser/Apl.g:13:9: ']'
+            {
+            match(']'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "T__81"
+
+    // $ANTLR start "ASSEQ"
+    public final void mASSEQ() throws RecognitionException {
+        try {
+            int _type = ASSEQ;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:209:9: ( '=' )
+            // /root/project/src/parser/Apl.g:209:11: '='
+            {
+            match('='); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "ASSEQ"
+
+    // $ANTLR start "EQUAL"
+    public final void mEQUAL() throws RecognitionException {
+        try {
+            int _type = EQUAL;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:210:7: ( '==' )
+            // /root/project/src/parser/Apl.g:210:9: '=='
+            {
+            match("=="); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "EQUAL"
+
+    // $ANTLR start "NOT_EQUAL"
+    public final void mNOT_EQUAL() throws RecognitionException {
+        try {
+            int _type = NOT_EQUAL;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:211:10: ( '!=' )
+            // /root/project/src/parser/Apl.g:211:12: '!='
+            {
+            match("!="); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "NOT_EQUAL"
+
+    // $ANTLR start "LT"
+    public final void mLT() throws RecognitionException {
+        try {
+            int _type = LT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:212:8: ( '<' )
+            // /root/project/src/parser/Apl.g:212:10: '<'
+            {
+            match('<'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "LT"
+
+    // $ANTLR start "LE"
+    public final void mLE() throws RecognitionException {
+        try {
+            int _type = LE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:213:8: ( '<=' )
+            // /root/project/src/parser/Apl.g:213:10: '<='
+            {
+            match("<="); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "LE"
+
+    // $ANTLR start "GT"
+    public final void mGT() throws RecognitionException {
+        try {
+            int _type = GT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:214:8: ( '>' )
+            // /root/project/src/parser/Apl.g:214:10: '>'
+            {
+            match('>'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "GT"
+
+    // $ANTLR start "GE"
+    public final void mGE() throws RecognitionException {
+        try {
+            int _type = GE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:215:8: ( '>=' )
+            // /root/project/src/parser/Apl.g:215:10: '>='
+            {
+            match(">="); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "GE"
+
+    // $ANTLR start "REDUCE"
+    public final void mREDUCE() throws RecognitionException {
+        try {
+            int _type = REDUCE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:216:9: ( ( '+' | '*' ) '/' )
+            // /root/project/src/parser/Apl.g:216:11: ( '+' | '*' ) '/'
+            {
+            if ( (input.LA(1) >= '*' && input.LA(1) <= '+') ) {
+                input.consume();
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;
+            }
+
+
+            match('/'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "REDUCE"
+
+    // $ANTLR start "PLUS"
+    public final void mPLUS() throws RecognitionException {
+        try {
+            int _type = PLUS;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:217:6: ( '+' )
+            // /root/project/src/parser/Apl.g:217:8: '+'
+            {
+            match('+'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "PLUS"
+
+    // $ANTLR start "MINUS"
+    public final void mMINUS() throws RecognitionException {
+        try {
+            int _type = MINUS;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:218:7: ( '-' )
+            // /root/project/src/parser/Apl.g:218:9: '-'
+            {
+            match('-'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "MINUS"
+
+    // $ANTLR start "MUL"
+    public final void mMUL() throws RecognitionException {
+        try {
+            int _type = MUL;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:219:9: ( '*' )
+            // /root/project/src/parser/Apl.g:219:11: '*'
+            {
+            match('*'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "MUL"
+
+    // $ANTLR start "DIV"
+    public final void mDIV() throws RecognitionException {
+        try {
+            int _type = DIV;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:220:9: ( '/' )
+            // /root/project/src/parser/Apl.g:220:11: '/'
+            {
+            match('/'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "DIV"
+
+    // $ANTLR start "MOD"
+    public final void mMOD() throws RecognitionException {
+        try {
+            int _type = MOD;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:221:9: ( '%' )
+            // /root/project/src/parser/Apl.g:221:11: '%'
+            {
+            match('%'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "MOD"
+
+    // $ANTLR start "NOT"
+    public final void mNOT() throws RecognitionException {
+        try {
+            int _type = NOT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:222:9: ( 'not' )
+            // /root/project/src/parser/Apl.g:222:11: 'not'
+            {
+            match("not"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "NOT"
+
+    // $ANTLR start "IOTA"
+    public final void mIOTA() throws RecognitionException {
+        try {
+            int _type = IOTA;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:223:9: ( 'iota' )
+            // /root/project/src/parser/Apl.g:223:11: 'iota'
+            {
+            match("iota"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "IOTA"
+
+    // $ANTLR start "AND"
+    public final void mAND() throws RecognitionException {
+        try {
+            int _type = AND;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:224:9: ( 'and' )
+            // /root/project/src/parser/Apl.g:224:11: 'and'
+            {
+            match("and"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "AND"
+
+    // $ANTLR start "OR"
+    public final void mOR() throws RecognitionException {
+        try {
+            int _type = OR;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:225:8: ( 'or' )
+            // /root/project/src/parser/Apl.g:225:10: 'or'
+            {
+            match("or"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "OR"
+
+    // $ANTLR start "IF"
+    public final void mIF() throws RecognitionException {
+        try {
+            int _type = IF;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:226:6: ( 'if' )
+            // /root/project/src/parser/Apl.g:226:8: 'if'
+            {
+            match("if"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "IF"
+
+    // $ANTLR start "ELIF"
+    public final void mELIF() throws RecognitionException {
+        try {
+            int _type = ELIF;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:227:9: ( 'elif' )
+            // /root/project/src/parser/Apl.g:227:11: 'elif'
+            {
+            match("elif"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "ELIF"
+
+    // $ANTLR start "THEN"
+    public final void mTHEN() throws RecognitionException {
+        try {
+            int _type = THEN;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:228:6: ( 'then' )
+            // /root/project/src/parser/Apl.g:228:8: 'then'
+            {
+            match("then"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "THEN"
+
+    // $ANTLR start "ELSE"
+    public final void mELSE() throws RecognitionException {
+        try {
+            int _type = ELSE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:229:6: ( 'else' )
+            // /root/project/src/parser/Apl.g:229:8: 'else'
+            {
+            match("else"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "ELSE"
+
+    // $ANTLR start "FOR"
+    public final void mFOR() throws RecognitionException {
+        try {
+            int _type = FOR;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:230:9: ( 'for' )
+            // /root/project/src/parser/Apl.g:230:11: 'for'
+            {
+            match("for"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "FOR"
+
+    // $ANTLR start "PFOR"
+    public final void mPFOR() throws RecognitionException {
+        try {
+            int _type = PFOR;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:231:6: ( 'pfor' )
+            // /root/project/src/parser/Apl.g:231:8: 'pfor'
+            {
+            match("pfor"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "PFOR"
+
+    // $ANTLR start "REDUCTION"
+    public final void mREDUCTION() throws RecognitionException {
+        try {
+            int _type = REDUCTION;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:232:10: ( 'reduction' )
+            // /root/project/src/parser/Apl.g:232:12: 'reduction'
+            {
+            match("reduction"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "REDUCTION"
+
+    // $ANTLR start "ORDERED"
+    public final void mORDERED() throws RecognitionException {
+        try {
+            int _type = ORDERED;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:233:9: ( 'ordered' )
+            // /root/project/src/parser/Apl.g:233:11: 'ordered'
+            {
+            match("ordered"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "ORDERED"
+
+    // $ANTLR start "TILE"
+    public final void mTILE() throws RecognitionException {
+        try {
+            int _type = TILE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:234:9: ( 'tile' )
+            // /root/project/src/parser/Apl.g:234:11: 'tile'
+            {
+            match("tile"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "TILE"
+
+    // $ANTLR start "SIMD"
+    public final void mSIMD() throws RecognitionException {
+        try {
+            int _type = SIMD;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:235:9: ( 'simd' )
+            // /root/project/src/parser/Apl.g:235:11: 'simd'
+            {
+            match("simd"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "SIMD"
+
+    // $ANTLR start "SAFELEN"
+    public final void mSAFELEN() throws RecognitionException {
+        try {
+            int _type = SAFELEN;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:236:9: ( 'safelen' )
+            // /root/project/src/parser/Apl.g:236:11: 'safelen'
+            {
+            match("safelen"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "SAFELEN"
+
+    // $ANTLR start "SIMDLEN"
+    public final void mSIMDLEN() throws RecognitionException {
+        try {
+            int _type = SIMDLEN;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:237:9: ( 'simdlen' )
+            // /root/project/src/parser/Apl.g:237:11: 'simdlen'
+            {
+            match("simdlen"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "SIMDLEN"
+
+    // $ANTLR start "ALIGNED"
+    public final void mALIGNED() throws RecognitionException {
+        try {
+            int _type = ALIGNED;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:238:9: ( 'aligned' )
+            // /root/project/src/parser/Apl.g:238:11: 'aligned'
+            {
+            match("aligned"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "ALIGNED"
+
+    // $ANTLR start "IN"
+    public final void mIN() throws RecognitionException {
+        try {
+            int _type = IN;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:239:9: ( 'in' )
+            // /root/project/src/parser/Apl.g:239:11: 'in'
+            {
+            match("in"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "IN"
+
+    // $ANTLR start "WHILE"
+    public final void mWHILE() throws RecognitionException {
+        try {
+            int _type = WHILE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:240:7: ( 'while' )
+            // /root/project/src/parser/Apl.g:240:9: 'while'
+            {
+            match("while"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "WHILE"
+
+    // $ANTLR start "BENCH"
+    public final void mBENCH() throws RecognitionException {
+        try {
+            int _type = BENCH;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:241:7: ( 'bench' )
+            // /root/project/src/parser/Apl.g:241:9: 'bench'
+            {
+            match("bench"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "BENCH"
+
+    // $ANTLR start "DO"
+    public final void mDO() throws RecognitionException {
+        try {
+            int _type = DO;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:242:8: ( 'do' )
+            // /root/project/src/parser/Apl.g:242:10: 'do'
+            {
+            match("do"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "DO"
+
+    // $ANTLR start "FUNC"
+    public final void mFUNC() throws RecognitionException {
+        try {
+            int _type = FUNC;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:243:6: ( 'func' )
+            // /root/project/src/parser/Apl.g:243:8: 'func'
+            {
+            match("func"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "FUNC"
+
+    // $ANTLR start "RETURN"
+    public final void mRETURN() throws RecognitionException {
+        try {
+            int _type = RETURN;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:244:8: ( 'return' )
+            // /root/project/src/parser/Apl.g:244:10: 'return'
+            {
+            match("return"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "RETURN"
+
+    // $ANTLR start "END"
+    public final void mEND() throws RecognitionException {
+        try {
+            int _type = END;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:245:9: ( 'end' )
+            // /root/project/src/parser/Apl.g:245:11: 'end'
+            {
+            match("end"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "END"
+
+    // $ANTLR start "READ"
+    public final void mREAD() throws RecognitionException {
+        try {
+            int _type = READ;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:246:6: ( 'read' )
+            // /root/project/src/parser/Apl.g:246:8: 'read'
+            {
+            match("read"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "READ"
+
+    // $ANTLR start "FROM"
+    public final void mFROM() throws RecognitionException {
+        try {
+            int _type = FROM;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:247:9: ( 'from' )
+            // /root/project/src/parser/Apl.g:247:11: 'from'
+            {
+            match("from"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "FROM"
+
+    // $ANTLR start "FILE"
+    public final void mFILE() throws RecognitionException {
+        try {
+            int _type = FILE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:248:9: ( 'file' )
+            // /root/project/src/parser/Apl.g:248:11: 'file'
+            {
+            match("file"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "FILE"
+
+    // $ANTLR start "BINARY"
+    public final void mBINARY() throws RecognitionException {
+        try {
+            int _type = BINARY;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:249:9: ( 'binary' )
+            // /root/project/src/parser/Apl.g:249:11: 'binary'
+            {
+            match("binary"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "BINARY"
+
+    // $ANTLR start "WRITE"
+    public final void mWRITE() throws RecognitionException {
+        try {
+            int _type = WRITE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:250:7: ( 'write' )
+            // /root/project/src/parser/Apl.g:250:9: 'write'
+            {
+            match("write"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "WRITE"
+
+    // $ANTLR start "TO"
+    public final void mTO() throws RecognitionException {
+        try {
+            int _type = TO;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:251:8: ( 'to' )
+            // /root/project/src/parser/Apl.g:251:10: 'to'
+            {
+            match("to"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "TO"
+
+    // $ANTLR start "FREE"
+    public final void mFREE() throws RecognitionException {
+        try {
+            int _type = FREE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:252:9: ( 'free' )
+            // /root/project/src/parser/Apl.g:252:11: 'free'
+            {
+            match("free"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "FREE"
+
+    // $ANTLR start "PARALLEL"
+    public final void mPARALLEL() throws RecognitionException {
+        try {
+            int _type = PARALLEL;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:253:9: ( 'parallel' )
+            // /root/project/src/parser/Apl.g:253:11: 'parallel'
+            {
+            match("parallel"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "PARALLEL"
+
+    // $ANTLR start "SHARED"
+    public final void mSHARED() throws RecognitionException {
+        try {
+            int _type = SHARED;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:254:9: ( 'shared' )
+            // /root/project/src/parser/Apl.g:254:11: 'shared'
+            {
+            match("shared"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "SHARED"
+
+    // $ANTLR start "PRIVATE"
+    public final void mPRIVATE() throws RecognitionException {
+        try {
+            int _type = PRIVATE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:255:9: ( 'private' )
+            // /root/project/src/parser/Apl.g:255:11: 'private'
+            {
+            match("private"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "PRIVATE"
+
+    // $ANTLR start "NUMTHREADS"
+    public final void mNUMTHREADS() throws RecognitionException {
+        try {
+            int _type = NUMTHREADS;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:256:11: ( 'num_threads' )
+            // /root/project/src/parser/Apl.g:256:13: 'num_threads'
+            {
+            match("num_threads"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "NUMTHREADS"
+
+    // $ANTLR start "TRUE"
+    public final void mTRUE() throws RecognitionException {
+        try {
+            int _type = TRUE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:257:9: ( 'true' )
+            // /root/project/src/parser/Apl.g:257:11: 'true'
+            {
+            match("true"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "TRUE"
+
+    // $ANTLR start "FALSE"
+    public final void mFALSE() throws RecognitionException {
+        try {
+            int _type = FALSE;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:258:9: ( 'false' )
+            // /root/project/src/parser/Apl.g:258:11: 'false'
+            {
+            match("false"); 
+
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "FALSE"
+
+    // $ANTLR start "ID"
+    public final void mID() throws RecognitionException {
+        try {
+            int _type = ID;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:259:6: ( ( 'a' .. 'z' | 'A' .. 'Z' | '_' ) ( 'a' .. 'z' | 'A' .. 'Z' | '0' .. '9' | '_' )* )
+            // /root/project/src/parser/Apl.g:259:8: ( 'a' .. 'z' | 'A' .. 'Z' | '_' ) ( 'a' .. 'z' | 'A' .. 'Z' | '0' .. '9' | '_' )*
+            {
+            if ( (input.LA(1) >= 'A' && input.LA(1) <= 'Z')||input.LA(1)=='_'||(input.LA(1) >= 'a' && input.LA(1) <= 'z') ) {
+                input.consume();
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;
+            }
+
+
+            // /root/project/src/parser/Apl.g:259:32: ( 'a' .. 'z' | 'A' .. 'Z' | '0' .. '9' | '_' )*
+            loop1:
+            do {
+                int alt1=2;
+                int LA1_0 = input.LA(1);
+
+                if ( ((LA1_0 >= '0' && LA1_0 <= '9')||(LA1_0 >= 'A' && LA1_0 <= 'Z')||LA1_0=='_'||(LA1_0 >= 'a' && LA1_0 <= 'z')) ) {
+                    alt1=1;
+                }
+
+
+                switch (alt1) {
+            	case 1 :
+            	    // /root/project/src/parser/Apl.g:
+            	    {
+            	    if ( (input.LA(1) >= '0' && input.LA(1) <= '9')||(input.LA(1) >= 'A' && input.LA(1) <= 'Z')||input.LA(1)=='_'||(input.LA(1) >= 'a' && input.LA(1) <= 'z') ) {
+            	        input.consume();
+            	    }
+            	    else {
+            	        MismatchedSetException mse = new MismatchedSetException(null,input);
+            	        recover(mse);
+            	        throw mse;
+            	    }
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop1;
+                }
+            } while (true);
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "ID"
+
+    // $ANTLR start "INT"
+    public final void mINT() throws RecognitionException {
+        try {
+            int _type = INT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:260:6: ( ( '0' .. '9' )+ )
+            // /root/project/src/parser/Apl.g:260:8: ( '0' .. '9' )+
+            {
+            // /root/project/src/parser/Apl.g:260:8: ( '0' .. '9' )+
+            int cnt2=0;
+            loop2:
+            do {
+                int alt2=2;
+                int LA2_0 = input.LA(1);
+
+                if ( ((LA2_0 >= '0' && LA2_0 <= '9')) ) {
+                    alt2=1;
+                }
+
+
+                switch (alt2) {
+            	case 1 :
+            	    // /root/project/src/parser/Apl.g:
+            	    {
+            	    if ( (input.LA(1) >= '0' && input.LA(1) <= '9') ) {
+            	        input.consume();
+            	    }
+            	    else {
+            	        MismatchedSetException mse = new MismatchedSetException(null,input);
+            	        recover(mse);
+            	        throw mse;
+            	    }
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt2 >= 1 ) break loop2;
+                        EarlyExitException eee =
+                            new EarlyExitException(2, input);
+                        throw eee;
+                }
+                cnt2++;
+            } while (true);
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "INT"
+
+    // $ANTLR start "FLOAT"
+    public final void mFLOAT() throws RecognitionException {
+        try {
+            int _type = FLOAT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:261:8: ( ( ( '0' .. '9' )+ '.' ( ( '0' .. '9' )+ )? | '.' ( '0' .. '9' )+ ) )
+            // /root/project/src/parser/Apl.g:261:10: ( ( '0' .. '9' )+ '.' ( ( '0' .. '9' )+ )? | '.' ( '0' .. '9' )+ )
+            {
+            // /root/project/src/parser/Apl.g:261:10: ( ( '0' .. '9' )+ '.' ( ( '0' .. '9' )+ )? | '.' ( '0' .. '9' )+ )
+            int alt7=2;
+            int LA7_0 = input.LA(1);
+
+            if ( ((LA7_0 >= '0' && LA7_0 <= '9')) ) {
+                alt7=1;
+            }
+            else if ( (LA7_0=='.') ) {
+                alt7=2;
+            }
+            else {
+                NoViableAltException nvae =
+                    new NoViableAltException("", 7, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt7) {
+                case 1 :
+                    // /root/project/src/parser/Apl.g:261:11: ( '0' .. '9' )+ '.' ( ( '0' .. '9' )+ )?
+                    {
+                    // /root/project/src/parser/Apl.g:261:11: ( '0' .. '9' )+
+                    int cnt3=0;
+                    loop3:
+                    do {
+                        int alt3=2;
+                        int LA3_0 = input.LA(1);
+
+                        if ( ((LA3_0 >= '0' && LA3_0 <= '9')) ) {
+                            alt3=1;
+                        }
+
+
+                        switch (alt3) {
+                    	case 1 :
+                    	    // /root/project/src/parser/Apl.g:
+                    	    {
+                    	    if ( (input.LA(1) >= '0' && input.LA(1) <= '9') ) {
+                    	        input.consume();
+                    	    }
+                    	    else {
+                    	        MismatchedSetException mse = new MismatchedSetException(null,input);
+                    	        recover(mse);
+                    	        throw mse;
+                    	    }
+
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    if ( cnt3 >= 1 ) break loop3;
+                                EarlyExitException eee =
+                                    new EarlyExitException(3, input);
+                                throw eee;
+                        }
+                        cnt3++;
+                    } while (true);
+
+
+                    match('.'); 
+
+                    // /root/project/src/parser/Apl.g:261:23: ( ( '0' .. '9' )+ )?
+                    int alt5=2;
+                    int LA5_0 = input.LA(1);
+
+                    if ( ((LA5_0 >= '0' && LA5_0 <= '9')) ) {
+                        alt5=1;
+                    }
+                    switch (alt5) {
+                        case 1 :
+                            // /root/project/src/parser/Apl.g:261:24: ( '0' .. '9' )+
+                            {
+                            // /root/project/src/parser/Apl.g:261:24: ( '0' .. '9' )+
+                            int cnt4=0;
+                            loop4:
+                            do {
+                                int alt4=2;
+                                int LA4_0 = input.LA(1);
+
+                                if ( ((LA4_0 >= '0' && LA4_0 <= '9')) ) {
+                                    alt4=1;
+                                }
+
+
+                                switch (alt4) {
+                            	case 1 :
+                            	    // /root/project/src/parser/Apl.g:
+                            	    {
+                            	    if ( (input.LA(1) >= '0' && input.LA(1) <= '9') ) {
+                            	        input.consume();
+                            	    }
+                            	    else {
+                            	        MismatchedSetException mse = new MismatchedSetException(null,input);
+                            	        recover(mse);
+                            	        throw mse;
+                            	    }
+
+
+                            	    }
+                            	    break;
+
+                            	default :
+                            	    if ( cnt4 >= 1 ) break loop4;
+                                        EarlyExitException eee =
+                                            new EarlyExitException(4, input);
+                                        throw eee;
+                                }
+                                cnt4++;
+                            } while (true);
+
+
+                            }
+                            break;
+
+                    }
+
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/parser/Apl.g:261:38: '.' ( '0' .. '9' )+
+                    {
+                    match('.'); 
+
+                    // /root/project/src/parser/Apl.g:261:41: ( '0' .. '9' )+
+                    int cnt6=0;
+                    loop6:
+                    do {
+                        int alt6=2;
+                        int LA6_0 = input.LA(1);
+
+                        if ( ((LA6_0 >= '0' && LA6_0 <= '9')) ) {
+                            alt6=1;
+                        }
+
+
+                        switch (alt6) {
+                    	case 1 :
+                    	    // /root/project/src/parser/Apl.g:
+                    	    {
+                    	    if ( (input.LA(1) >= '0' && input.LA(1) <= '9') ) {
+                    	        input.consume();
+                    	    }
+                    	    else {
+                    	        MismatchedSetException mse = new MismatchedSetException(null,input);
+                    	        recover(mse);
+                    	        throw mse;
+                    	    }
+
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    if ( cnt6 >= 1 ) break loop6;
+                                EarlyExitException eee =
+                                    new EarlyExitException(6, input);
+                                throw eee;
+                        }
+                        cnt6++;
+                    } while (true);
+
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "FLOAT"
+
+    // $ANTLR start "COMMENT"
+    public final void mCOMMENT() throws RecognitionException {
+        try {
+            int _type = COMMENT;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:264:9: ( '//' (~ ( '\\n' | '\\r' ) )* ( '\\r' )? '\\n' | '/*' ( options {greedy=false; } : . )* '*/' )
+            int alt11=2;
+            int LA11_0 = input.LA(1);
+
+            if ( (LA11_0=='/') ) {
+                int LA11_1 = input.LA(2);
+
+                if ( (LA11_1=='/') ) {
+                    alt11=1;
+                }
+                else if ( (LA11_1=='*') ) {
+                    alt11=2;
+                }
+                else {
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 11, 1, input);
+
+                    throw nvae;
+
+                }
+            }
+            else {
+                NoViableAltException nvae =
+                    new NoViableAltException("", 11, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt11) {
+                case 1 :
+                    // /root/project/src/parser/Apl.g:264:11: '//' (~ ( '\\n' | '\\r' ) )* ( '\\r' )? '\\n'
+                    {
+                    match("//"); 
+
+
+
+                    // /root/project/src/parser/Apl.g:264:16: (~ ( '\\n' | '\\r' ) )*
+                    loop8:
+                    do {
+                        int alt8=2;
+                        int LA8_0 = input.LA(1);
+
+                        if ( ((LA8_0 >= '\u0000' && LA8_0 <= '\t')||(LA8_0 >= '\u000B' && LA8_0 <= '\f')||(LA8_0 >= '\u000E' && LA8_0 <= '\uFFFF')) ) {
+                            alt8=1;
+                        }
+
+
+                        switch (alt8) {
+                    	case 1 :
+                    	    // /root/project/src/parser/Apl.g:
+                    	    {
+                    	    if ( (input.LA(1) >= '\u0000' && input.LA(1) <= '\t')||(input.LA(1) >= '\u000B' && input.LA(1) <= '\f')||(input.LA(1) >= '\u000E' && input.LA(1) <= '\uFFFF') ) {
+                    	        input.consume();
+                    	    }
+                    	    else {
+                    	        MismatchedSetException mse = new MismatchedSetException(null,input);
+                    	        recover(mse);
+                    	        throw mse;
+                    	    }
+
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    break loop8;
+                        }
+                    } while (true);
+
+
+                    // /root/project/src/parser/Apl.g:264:30: ( '\\r' )?
+                    int alt9=2;
+                    int LA9_0 = input.LA(1);
+
+                    if ( (LA9_0=='\r') ) {
+                        alt9=1;
+                    }
+                    switch (alt9) {
+                        case 1 :
+                            // /root/project/src/parser/Apl.g:264:30: '\\r'
+                            {
+                            match('\r'); 
+
+                            }
+                            break;
+
+                    }
+
+
+                    match('\n'); 
+
+                    _channel=HIDDEN;
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/parser/Apl.g:265:8: '/*' ( options {greedy=false; } : . )* '*/'
+                    {
+                    match("/*"); 
+
+
+
+                    // /root/project/src/parser/Apl.g:265:13: ( options {greedy=false; } : . )*
+                    loop10:
+                    do {
+                        int alt10=2;
+                        int LA10_0 = input.LA(1);
+
+                        if ( (LA10_0=='*') ) {
+                            int LA10_1 = input.LA(2);
+
+                            if ( (LA10_1=='/') ) {
+                                alt10=2;
+                            }
+                            else if ( ((LA10_1 >= '\u0000' && LA10_1 <= '.')||(LA10_1 >= '0' && LA10_1 <= '\uFFFF')) ) {
+                                alt10=1;
+                            }
+
+
+                        }
+                        else if ( ((LA10_0 >= '\u0000' && LA10_0 <= ')')||(LA10_0 >= '+' && LA10_0 <= '\uFFFF')) ) {
+                            alt10=1;
+                        }
+
+
+                        switch (alt10) {
+                    	case 1 :
+                    	    // /root/project/src/parser/Apl.g:265:41: .
+                    	    {
+                    	    matchAny(); 
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    break loop10;
+                        }
+                    } while (true);
+
+
+                    match("*/"); 
+
+
+
+                    _channel=HIDDEN;
+
+                    }
+                    break;
+
+            }
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "COMMENT"
+
+    // $ANTLR start "STRING"
+    public final void mSTRING() throws RecognitionException {
+        try {
+            int _type = STRING;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:269:9: ( '\"' ( ESC_SEQ |~ ( '\\\\' | '\"' ) )* '\"' )
+            // /root/project/src/parser/Apl.g:269:12: '\"' ( ESC_SEQ |~ ( '\\\\' | '\"' ) )* '\"'
+            {
+            match('\"'); 
+
+            // /root/project/src/parser/Apl.g:269:16: ( ESC_SEQ |~ ( '\\\\' | '\"' ) )*
+            loop12:
+            do {
+                int alt12=3;
+                int LA12_0 = input.LA(1);
+
+                if ( (LA12_0=='\\') ) {
+                    alt12=1;
+                }
+                else if ( ((LA12_0 >= '\u0000' && LA12_0 <= '!')||(LA12_0 >= '#' && LA12_0 <= '[')||(LA12_0 >= ']' && LA12_0 <= '\uFFFF')) ) {
+                    alt12=2;
+                }
+
+
+                switch (alt12) {
+            	case 1 :
+            	    // /root/project/src/parser/Apl.g:269:18: ESC_SEQ
+            	    {
+            	    mESC_SEQ(); 
+
+
+            	    }
+            	    break;
+            	case 2 :
+            	    // /root/project/src/parser/Apl.g:269:28: ~ ( '\\\\' | '\"' )
+            	    {
+            	    if ( (input.LA(1) >= '\u0000' && input.LA(1) <= '!')||(input.LA(1) >= '#' && input.LA(1) <= '[')||(input.LA(1) >= ']' && input.LA(1) <= '\uFFFF') ) {
+            	        input.consume();
+            	    }
+            	    else {
+            	        MismatchedSetException mse = new MismatchedSetException(null,input);
+            	        recover(mse);
+            	        throw mse;
+            	    }
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop12;
+                }
+            } while (true);
+
+
+            match('\"'); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "STRING"
+
+    // $ANTLR start "CHAR"
+    public final void mCHAR() throws RecognitionException {
+        try {
+            int _type = CHAR;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:273:7: ( '\\'' ( ESC_SEQ |~ ( '\\\\' | '\\'' ) )* '\\'' )
+            // /root/project/src/parser/Apl.g:273:10: '\\'' ( ESC_SEQ |~ ( '\\\\' | '\\'' ) )* '\\''
+            {
+            match('\''); 
+
+            // /root/project/src/parser/Apl.g:273:15: ( ESC_SEQ |~ ( '\\\\' | '\\'' ) )*
+            loop13:
+            do {
+                int alt13=3;
+                int LA13_0 = input.LA(1);
+
+                if ( (LA13_0=='\\') ) {
+                    alt13=1;
+                }
+                else if ( ((LA13_0 >= '\u0000' && LA13_0 <= '&')||(LA13_0 >= '(' && LA13_0 <= '[')||(LA13_0 >= ']' && LA13_0 <= '\uFFFF')) ) {
+                    alt13=2;
+                }
+
+
+                switch (alt13) {
+            	case 1 :
+            	    // /root/project/src/parser/Apl.g:273:17: ESC_SEQ
+            	    {
+            	    mESC_SEQ(); 
+
+
+            	    }
+            	    break;
+            	case 2 :
+            	    // /root/project/src/parser/Apl.g:273:27: ~ ( '\\\\' | '\\'' )
+            	    {
+            	    if ( (input.LA(1) >= '\u0000' && input.LA(1) <= '&')||(input.LA(1) >= '(' && input.LA(1) <= '[')||(input.LA(1) >= ']' && input.LA(1) <= '\uFFFF') ) {
+            	        input.consume();
+            	    }
+            	    else {
+            	        MismatchedSetException mse = new MismatchedSetException(null,input);
+            	        recover(mse);
+            	        throw mse;
+            	    }
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop13;
+                }
+            } while (true);
+
+
+            match('\''); 
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "CHAR"
+
+    // $ANTLR start "ESC_SEQ"
+    public final void mESC_SEQ() throws RecognitionException {
+        try {
+            // /root/project/src/parser/Apl.g:279:5: ( '\\\\' ( 'b' | 't' | 'n' | 'f' | 'r' | '\\\"' | '\\'' | '\\\\' ) )
+            // /root/project/src/parser/Apl.g:279:9: '\\\\' ( 'b' | 't' | 'n' | 'f' | 'r' | '\\\"' | '\\'' | '\\\\' )
+            {
+            match('\\'); 
+
+            if ( input.LA(1)=='\"'||input.LA(1)=='\''||input.LA(1)=='\\'||input.LA(1)=='b'||input.LA(1)=='f'||input.LA(1)=='n'||input.LA(1)=='r'||input.LA(1)=='t' ) {
+                input.consume();
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;
+            }
+
+
+            }
+
+
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "ESC_SEQ"
+
+    // $ANTLR start "WS"
+    public final void mWS() throws RecognitionException {
+        try {
+            int _type = WS;
+            int _channel = DEFAULT_TOKEN_CHANNEL;
+            // /root/project/src/parser/Apl.g:282:6: ( ( ' ' | '\\t' | '\\r' | '\\n' ) )
+            // /root/project/src/parser/Apl.g:282:8: ( ' ' | '\\t' | '\\r' | '\\n' )
+            {
+            if ( (input.LA(1) >= '\t' && input.LA(1) <= '\n')||input.LA(1)=='\r'||input.LA(1)==' ' ) {
+                input.consume();
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                recover(mse);
+                throw mse;
+            }
+
+
+            _channel=HIDDEN;
+
+            }
+
+            state.type = _type;
+            state.channel = _channel;
+        }
+        finally {
+        	// do for sure before leaving
+        }
+    }
+    // $ANTLR end "WS"
+
+    public void mTokens() throws RecognitionException {
+        // /root/project/src/parser/Apl.g:1:8: ( T__74 | T__75 | T__76 | T__77 | T__78 | T__79 | T__80 | T__81 | ASSEQ | EQUAL | NOT_EQUAL | LT | LE | GT | GE | REDUCE | PLUS | MINUS | MUL | DIV | MOD | NOT | IOTA | AND | OR | IF | ELIF | THEN | ELSE | FOR | PFOR | REDUCTION | ORDERED | TILE | SIMD | SAFELEN | SIMDLEN | ALIGNED | IN | WHILE | BENCH | DO | FUNC | RETURN | END | READ | FROM | FILE | BINARY | WRITE | TO | FREE | PARALLEL | SHARED | PRIVATE | NUMTHREADS | TRUE | FALSE | ID | INT | FLOAT | COMMENT | STRING | CHAR | WS )
+        int alt14=65;
+        alt14 = dfa14.predict(input);
+        switch (alt14) {
+            case 1 :
+                // /root/project/src/parser/Apl.g:1:10: T__74
+                {
+                mT__74(); 
+
+
+                }
+                break;
+            case 2 :
+                // /root/project/src/parser/Apl.g:1:16: T__75
+                {
+                mT__75(); 
+
+
+                }
+                break;
+            case 3 :
+                // /root/project/src/parser/Apl.g:1:22: T__76
+                {
+                mT__76(); 
+
+
+                }
+                break;
+            case 4 :
+                // /root/project/src/parser/Apl.g:1:28: T__77
+                {
+                mT__77(); 
+
+
+                }
+                break;
+            case 5 :
+                // /root/project/src/parser/Apl.g:1:34: T__78
+                {
+                mT__78(); 
+
+
+                }
+                break;
+            case 6 :
+                // /root/project/src/parser/Apl.g:1:40: T__79
+                {
+                mT__79(); 
+
+
+                }
+                break;
+            case 7 :
+                // /root/project/src/parser/Apl.g:1:46: T__80
+                {
+                mT__80(); 
+
+
+                }
+                break;
+            case 8 :
+                // /root/project/src/parser/Apl.g:1:52: T__81
+                {
+                mT__81(); 
+
+
+                }
+                break;
+            case 9 :
+                // /root/project/src/parser/Apl.g:1:58: ASSEQ
+                {
+                mASSEQ(); 
+
+
+                }
+                break;
+            case 10 :
+                // /root/project/src/parser/Apl.g:1:64: EQUAL
+                {
+                mEQUAL(); 
+
+
+                }
+                break;
+            case 11 :
+                // /root/project/src/parser/Apl.g:1:70: NOT_EQUAL
+                {
+                mNOT_EQUAL(); 
+
+
+                }
+                break;
+            case 12 :
+                // /root/project/src/parser/Apl.g:1:80: LT
+                {
+                mLT(); 
+
+
+                }
+                break;
+            case 13 :
+                // /root/project/src/parser/Apl.g:1:83: LE
+                {
+                mLE(); 
+
+
+                }
+                break;
+            case 14 :
+                // /root/project/src/parser/Apl.g:1:86: GT
+                {
+                mGT(); 
+
+
+                }
+                break;
+            case 15 :
+                // /root/project/src/parser/Apl.g:1:89: GE
+                {
+                mGE(); 
+
+
+                }
+                break;
+            case 16 :
+                // /root/project/src/parser/Apl.g:1:92: REDUCE
+                {
+                mREDUCE(); 
+
+
+                }
+                break;
+            case 17 :
+                // /root/project/src/parser/Apl.g:1:99: PLUS
+                {
+                mPLUS(); 
+
+
+                }
+                break;
+            case 18 :
+                // /root/project/src/parser/Apl.g:1:104: MINUS
+                {
+                mMINUS(); 
+
+
+                }
+                break;
+            case 19 :
+                // /root/project/src/parser/Apl.g:1:110: MUL
+                {
+                mMUL(); 
+
+
+                }
+                break;
+            case 20 :
+                // /root/project/src/parser/Apl.g:1:114: DIV
+                {
+                mDIV(); 
+
+
+                }
+                break;
+            case 21 :
+                // /root/project/src/parser/Apl.g:1:118: MOD
+                {
+                mMOD(); 
+
+
+                }
+                break;
+            case 22 :
+                // /root/project/src/parser/Apl.g:1:122: NOT
+                {
+                mNOT(); 
+
+
+                }
+                break;
+            case 23 :
+                // /root/project/src/parser/Apl.g:1:126: IOTA
+                {
+                mIOTA(); 
+
+
+                }
+                break;
+            case 24 :
+                // /root/project/src/parser/Apl.g:1:131: AND
+                {
+                mAND(); 
+
+
+                }
+                break;
+            case 25 :
+                // /root/project/src/parser/Apl.g:1:135: OR
+                {
+                mOR(); 
+
+
+                }
+                break;
+            case 26 :
+                // /root/project/src/parser/Apl.g:1:138: IF
+                {
+                mIF(); 
+
+
+                }
+                break;
+            case 27 :
+                // /root/project/src/parser/Apl.g:1:141: ELIF
+                {
+                mELIF(); 
+
+
+                }
+                break;
+            case 28 :
+                // /root/project/src/parser/Apl.g:1:146: THEN
+                {
+                mTHEN(); 
+
+
+                }
+                break;
+            case 29 :
+                // /root/project/src/parser/Apl.g:1:151: ELSE
+                {
+                mELSE(); 
+
+
+                }
+                break;
+            case 30 :
+                // /root/project/src/parser/Apl.g:1:156: FOR
+                {
+                mFOR(); 
+
+
+                }
+                break;
+            case 31 :
+                // /root/project/src/parser/Apl.g:1:160: PFOR
+                {
+                mPFOR(); 
+
+
+                }
+                break;
+            case 32 :
+                // /root/project/src/parser/Apl.g:1:165: REDUCTION
+                {
+                mREDUCTION(); 
+
+
+                }
+                break;
+            case 33 :
+                // /root/project/src/parser/Apl.g:1:175: ORDERED
+                {
+                mORDERED(); 
+
+
+                }
+                break;
+            case 34 :
+                // /root/project/src/parser/Apl.g:1:183: TILE
+                {
+                mTILE(); 
+
+
+                }
+                break;
+            case 35 :
+                // /root/project/src/parser/Apl.g:1:188: SIMD
+                {
+                mSIMD(); 
+
+
+                }
+                break;
+            case 36 :
+                // /root/project/src/parser/Apl.g:1:193: SAFELEN
+                {
+                mSAFELEN(); 
+
+
+                }
+                break;
+            case 37 :
+                // /root/project/src/parser/Apl.g:1:201: SIMDLEN
+                {
+                mSIMDLEN(); 
+
+
+                }
+                break;
+            case 38 :
+                // /root/project/src/parser/Apl.g:1:209: ALIGNED
+                {
+                mALIGNED(); 
+
+
+                }
+                break;
+            case 39 :
+                // /root/project/src/parser/Apl.g:1:217: IN
+                {
+                mIN(); 
+
+
+                }
+                break;
+            case 40 :
+                // /root/project/src/parser/Apl.g:1:220: WHILE
+                {
+                mWHILE(); 
+
+
+                }
+                break;
+            case 41 :
+                // /root/project/src/parser/Apl.g:1:226: BENCH
+                {
+                mBENCH(); 
+
+
+                }
+                break;
+            case 42 :
+                // /root/project/src/parser/Apl.g:1:232: DO
+                {
+                mDO(); 
+
+
+                }
+                break;
+            case 43 :
+                // /root/project/src/parser/Apl.g:1:235: FUNC
+                {
+                mFUNC(); 
+
+
+                }
+                break;
+            case 44 :
+                // /root/project/src/parser/Apl.g:1:240: RETURN
+                {
+                mRETURN(); 
+
+
+                }
+                break;
+            case 45 :
+                // /root/project/src/parser/Apl.g:1:247: END
+                {
+                mEND(); 
+
+
+                }
+                break;
+            case 46 :
+                // /root/project/src/parser/Apl.g:1:251: READ
+                {
+                mREAD(); 
+
+
+                }
+                break;
+            case 47 :
+                // /root/project/src/parser/Apl.g:1:256: FROM
+                {
+                mFROM(); 
+
+
+                }
+                break;
+            case 48 :
+                // /root/project/src/parser/Apl.g:1:261: FILE
+                {
+                mFILE(); 
+
+
+                }
+                break;
+            case 49 :
+                // /root/project/src/parser/Apl.g:1:266: BINARY
+                {
+                mBINARY(); 
+
+
+                }
+                break;
+            case 50 :
+                // /root/project/src/parser/Apl.g:1:273: WRITE
+                {
+                mWRITE(); 
+
+
+                }
+                break;
+            case 51 :
+                // /root/project/src/parser/Apl.g:1:279: TO
+                {
+                mTO(); 
+
+
+                }
+                break;
+            case 52 :
+                // /root/project/src/parser/Apl.g:1:282: FREE
+                {
+                mFREE(); 
+
+
+                }
+                break;
+            case 53 :
+                // /root/project/src/parser/Apl.g:1:287: PARALLEL
+                {
+                mPARALLEL(); 
+
+
+                }
+                break;
+            case 54 :
+                // /root/project/src/parser/Apl.g:1:296: SHARED
+                {
+                mSHARED(); 
+
+
+                }
+                break;
+            case 55 :
+                // /root/project/src/parser/Apl.g:1:303: PRIVATE
+                {
+                mPRIVATE(); 
+
+
+                }
+                break;
+            case 56 :
+                // /root/project/src/parser/Apl.g:1:311: NUMTHREADS
+                {
+                mNUMTHREADS(); 
+
+
+                }
+                break;
+            case 57 :
+                // /root/project/src/parser/Apl.g:1:322: TRUE
+                {
+                mTRUE(); 
+
+
+                }
+                break;
+            case 58 :
+                // /root/project/src/parser/Apl.g:1:327: FALSE
+                {
+                mFALSE(); 
+
+
+                }
+                break;
+            case 59 :
+                // /root/project/src/parser/Apl.g:1:333: ID
+                {
+                mID(); 
+
+
+                }
+                break;
+            case 60 :
+                // /root/project/src/parser/Apl.g:1:336: INT
+                {
+                mINT(); 
+
+
+                }
+                break;
+            case 61 :
+                // /root/project/src/parser/Apl.g:1:340: FLOAT
+                {
+                mFLOAT(); 
+
+
+                }
+                break;
+            case 62 :
+                // /root/project/src/parser/Apl.g:1:346: COMMENT
+                {
+                mCOMMENT(); 
+
+
+                }
+                break;
+            case 63 :
+                // /root/project/src/parser/Apl.g:1:354: STRING
+                {
+                mSTRING(); 
+
+
+                }
+                break;
+            case 64 :
+                // /root/project/src/parser/Apl.g:1:361: CHAR
+                {
+                mCHAR(); 
+
+
+                }
+                break;
+            case 65 :
+                // /root/project/src/parser/Apl.g:1:366: WS
+                {
+                mWS(); 
+
+
+                }
+                break;
+
+        }
+
+    }
+
+
+    protected DFA14 dfa14 = new DFA14(this);
+    static final String DFA14_eotS =
+        "\11\uffff\1\46\1\uffff\1\50\1\52\1\54\1\55\1\uffff\1\57\1\uffff"+
+        "\15\37\1\uffff\1\117\17\uffff\3\37\1\123\1\124\2\37\1\130\4\37\1"+
+        "\136\21\37\1\163\1\uffff\1\164\2\37\2\uffff\1\167\2\37\1\uffff\2"+
+        "\37\1\174\2\37\1\uffff\1\37\1\u0080\22\37\2\uffff\1\37\1\u0094\1"+
+        "\uffff\2\37\1\u0097\1\u0098\1\uffff\1\u0099\1\u009a\1\u009b\1\uffff"+
+        "\1\u009c\1\u009d\1\u009e\1\u009f\1\37\1\u00a1\4\37\1\u00a6\1\u00a8"+
+        "\7\37\1\uffff\2\37\11\uffff\1\u00b2\1\uffff\4\37\1\uffff\1\37\1"+
+        "\uffff\2\37\1\u00ba\1\u00bb\1\u00bc\4\37\1\uffff\3\37\1\u00c4\2"+
+        "\37\1\u00c7\3\uffff\1\u00c8\1\37\1\u00ca\1\u00cb\1\37\1\u00cd\1"+
+        "\37\1\uffff\1\u00cf\1\u00d0\2\uffff\1\37\2\uffff\1\u00d2\1\uffff"+
+        "\1\37\2\uffff\1\37\1\uffff\1\u00d5\1\37\1\uffff\1\u00d7\1\uffff";
+    static final String DFA14_eofS =
+        "\u00d8\uffff";
+    static final String DFA14_minS =
+        "\1\11\10\uffff\1\75\1\uffff\2\75\2\57\1\uffff\1\52\1\uffff\1\157"+
+        "\1\146\1\154\1\162\1\154\1\150\2\141\1\145\1\141\1\150\1\145\1\157"+
+        "\1\uffff\1\56\17\uffff\1\164\1\155\1\164\2\60\1\144\1\151\1\60\1"+
+        "\151\1\144\1\145\1\154\1\60\1\165\1\162\1\156\1\145\2\154\1\157"+
+        "\1\162\1\151\1\141\1\155\1\146\1\141\2\151\2\156\1\60\1\uffff\1"+
+        "\60\1\137\1\141\2\uffff\1\60\1\147\1\145\1\uffff\1\146\1\145\1\60"+
+        "\1\156\1\145\1\uffff\1\145\1\60\1\143\1\155\2\145\1\163\1\162\1"+
+        "\141\1\166\2\165\2\144\1\145\1\162\1\154\1\164\1\143\1\141\2\uffff"+
+        "\1\164\1\60\1\uffff\1\156\1\162\2\60\1\uffff\3\60\1\uffff\4\60\1"+
+        "\145\1\60\1\154\1\141\1\143\1\162\2\60\1\154\3\145\1\150\1\162\1"+
+        "\150\1\uffff\2\145\11\uffff\1\60\1\uffff\1\154\2\164\1\156\1\uffff"+
+        "\1\145\1\uffff\1\145\1\144\3\60\1\171\1\162\2\144\1\uffff\2\145"+
+        "\1\151\1\60\2\156\1\60\3\uffff\1\60\1\145\2\60\1\154\1\60\1\157"+
+        "\1\uffff\2\60\2\uffff\1\141\2\uffff\1\60\1\uffff\1\156\2\uffff\1"+
+        "\144\1\uffff\1\60\1\163\1\uffff\1\60\1\uffff";
+    static final String DFA14_maxS =
+        "\1\172\10\uffff\1\75\1\uffff\2\75\2\57\1\uffff\1\57\1\uffff\1\165"+
+        "\1\157\1\156\1\162\1\156\1\162\1\165\1\162\1\145\1\151\1\162\1\151"+
+        "\1\157\1\uffff\1\71\17\uffff\1\164\1\155\1\164\2\172\1\144\1\151"+
+        "\1\172\1\163\1\144\1\145\1\154\1\172\1\165\1\162\1\156\1\157\2\154"+
+        "\1\157\1\162\1\151\1\164\1\155\1\146\1\141\2\151\2\156\1\172\1\uffff"+
+        "\1\172\1\137\1\141\2\uffff\1\172\1\147\1\145\1\uffff\1\146\1\145"+
+        "\1\172\1\156\1\145\1\uffff\1\145\1\172\1\143\1\155\2\145\1\163\1"+
+        "\162\1\141\1\166\2\165\2\144\1\145\1\162\1\154\1\164\1\143\1\141"+
+        "\2\uffff\1\164\1\172\1\uffff\1\156\1\162\2\172\1\uffff\3\172\1\uffff"+
+        "\4\172\1\145\1\172\1\154\1\141\1\143\1\162\2\172\1\154\3\145\1\150"+
+        "\1\162\1\150\1\uffff\2\145\11\uffff\1\172\1\uffff\1\154\2\164\1"+
+        "\156\1\uffff\1\145\1\uffff\1\145\1\144\3\172\1\171\1\162\2\144\1"+
+        "\uffff\2\145\1\151\1\172\2\156\1\172\3\uffff\1\172\1\145\2\172\1"+
+        "\154\1\172\1\157\1\uffff\2\172\2\uffff\1\141\2\uffff\1\172\1\uffff"+
+        "\1\156\2\uffff\1\144\1\uffff\1\172\1\163\1\uffff\1\172\1\uffff";
+    static final String DFA14_acceptS =
+        "\1\uffff\1\1\1\2\1\3\1\4\1\5\1\6\1\7\1\10\1\uffff\1\13\4\uffff\1"+
+        "\22\1\uffff\1\25\15\uffff\1\73\1\uffff\1\75\1\77\1\100\1\101\1\12"+
+        "\1\11\1\15\1\14\1\17\1\16\1\20\1\21\1\23\1\76\1\24\37\uffff\1\74"+
+        "\3\uffff\1\32\1\47\3\uffff\1\31\5\uffff\1\63\24\uffff\1\52\1\26"+
+        "\2\uffff\1\30\4\uffff\1\55\3\uffff\1\36\23\uffff\1\27\2\uffff\1"+
+        "\33\1\35\1\34\1\42\1\71\1\53\1\57\1\64\1\60\1\uffff\1\37\4\uffff"+
+        "\1\56\1\uffff\1\43\11\uffff\1\72\7\uffff\1\50\1\62\1\51\7\uffff"+
+        "\1\54\2\uffff\1\66\1\61\1\uffff\1\46\1\41\1\uffff\1\67\1\uffff\1"+
+        "\45\1\44\1\uffff\1\65\2\uffff\1\40\1\uffff\1\70";
+    static final String DFA14_specialS =
+        "\u00d8\uffff}>";
+    static final String[] DFA14_transitionS = {
+            "\2\44\2\uffff\1\44\22\uffff\1\44\1\12\1\42\2\uffff\1\21\1\1"+
+            "\1\43\1\2\1\3\1\16\1\15\1\4\1\17\1\41\1\20\12\40\1\5\1\6\1\13"+
+            "\1\11\1\14\2\uffff\32\37\1\7\1\uffff\1\10\1\uffff\1\37\1\uffff"+
+            "\1\24\1\35\1\37\1\36\1\26\1\30\2\37\1\23\4\37\1\22\1\25\1\31"+
+            "\1\37\1\32\1\33\1\27\2\37\1\34\3\37",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "\1\45",
+            "",
+            "\1\47",
+            "\1\51",
+            "\1\53",
+            "\1\53",
+            "",
+            "\1\56\4\uffff\1\56",
+            "",
+            "\1\60\5\uffff\1\61",
+            "\1\63\7\uffff\1\64\1\62",
+            "\1\66\1\uffff\1\65",
+            "\1\67",
+            "\1\70\1\uffff\1\71",
+            "\1\72\1\73\5\uffff\1\74\2\uffff\1\75",
+            "\1\102\7\uffff\1\101\5\uffff\1\76\2\uffff\1\100\2\uffff\1\77",
+            "\1\104\4\uffff\1\103\13\uffff\1\105",
+            "\1\106",
+            "\1\110\6\uffff\1\111\1\107",
+            "\1\112\11\uffff\1\113",
+            "\1\114\3\uffff\1\115",
+            "\1\116",
+            "",
+            "\1\41\1\uffff\12\40",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "\1\120",
+            "\1\121",
+            "\1\122",
+            "\12\37\7\uffff\32\37\4\uffff\1\37\1\uffff\32\37",
+            "\12\37\7\uffff\32\37\4\uffff\1\37\1\uffff\32\37",
+            "\1\125",
+            "\1\126",
+            "\12\37\7\uffff\32\37\4\uffff\1\37\1\uffff\3\37\1\127\26\37",
+            "\1\131\11\uffff\1\132",
+            "\1\133",
+            "\1\134",
+            "\1\135",
+            "\12\37\7\uffff\32\37\4\uffff\1\37\1\uffff\32\37",
+            "\1\137",
+            "\1\140",
+            "\1\141",
+            "\1\143\11\uffff\1\142",
+            "\1\144",
+            "\1\145",
+            "\1\146",
+            "\1\147",
+            "\1\150",
+            "\1\153\2\uffff\1\151\17\uffff\1\152",
+            "\1\154",
+            "\1\155",
+            "\1\156",
+            "\1\157",
+            "\1\160",
+            "\1\161",
+            "\1\162",
+            "\12\37\7\uffff\32\37\4\uffff\1\37\1\uffff\32\37",
+            "",
+            "\12\37\7\uffff\32\37\4\uffff\1\37\1\uffff\32\37",
+            "\1\165",
+            "\1\166",
+            "",
+            "",
+            "\12\37\7\uffff\32\37\4\uffff\1\37\1\uffff\32\37",
+            "\1\170",
+            "\1\171",
+            "",
+            "\1\172",
+            "\1\173",
+            "\12\37\7\uffff\32\37\4\uffff\1\37\1\uffff\32\37",
+            "\1\175",
+            "\1\176",
+            "",
+            "\1\177",
+            "\12\37\7\uffff\32\37\4\uffff\1\37\1\uffff\32\37",
+            "\1\u0081",
+            "\1\u0082",
+            "\1\u0083",
+            "\1\u0084",
+            "\1\u0085",
+            "\1\u0086",
+            "\1\u0087",
+            "\1\u0088",
+            "\1\u0089",
+            "\1\u008a",
+            "\1\u008b",
+            "\1\u008c",
+            "\1\u008d",
+            "\1\u008e",
+            "\1\u008f",
+            "\1\u0090",
+            "\1\u0091",
+            "\1\u0092",
+            "",
+            "",
+            "\1\u0093",
+            "\12\37\7\uffff\32\37\4\uffff\1\37\1\uffff\32\37",
+            "",
+            "\1\u0095",
+            "\1\u0096",
+            "\12\37\7\uffff\32\37\4\uffff\1\37\1\uffff\32\37",
+            "\12\37\7\uffff\32\37\4\uffff\1\37\1\uffff\32\37",
+            "",
+            "\12\37\7\uffff\32\37\4\uffff\1\37\1\uffff\32\37",
+            "\12\37\7\uffff\32\37\4\uffff\1\37\1\uffff\32\37",
+            "\12\37\7\uffff\32\37\4\uffff\1\37\1\uffff\32\37",
+            "",
+            "\12\37\7\uffff\32\37\4\uffff\1\37\1\uffff\32\37",
+            "\12\37\7\uffff\32\37\4\uffff\1\37\1\uffff\32\37",
+            "\12\37\7\uffff\32\37\4\uffff\1\37\1\uffff\32\37",
+            "\12\37\7\uffff\32\37\4\uffff\1\37\1\uffff\32\37",
+            "\1\u00a0",
+            "\12\37\7\uffff\32\37\4\uffff\1\37\1\uffff\32\37",
+            "\1\u00a2",
+            "\1\u00a3",
+            "\1\u00a4",
+            "\1\u00a5",
+            "\12\37\7\uffff\32\37\4\uffff\1\37\1\uffff\32\37",
+            "\12\37\7\uffff\32\37\4\uffff\1\37\1\uffff\13\37\1\u00a7\16"+
+            "\37",
+            "\1\u00a9",
+            "\1\u00aa",
+            "\1\u00ab",
+            "\1\u00ac",
+            "\1\u00ad",
+            "\1\u00ae",
+            "\1\u00af",
+            "",
+            "\1\u00b0",
+            "\1\u00b1",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "",
+            "\12\37\7\uffff\32\37\4\uffff\1\37\1\uffff\32\37",
+            "",
+            "\1\u00b3",
+            "\1\u00b4",
+            "\1\u00b5",
+            "\1\u00b6",
+            "",
+            "\1\u00b7",
+            "",
+            "\1\u00b8",
+            "\1\u00b9",
+            "\12\37\7\uffff\32\37\4\uffff\1\37\1\uffff\32\37",
+            "\12\37\7\uffff\32\37\4\uffff\1\37\1\uffff\32\37",
+            "\12\37\7\uffff\32\37\4\uffff\1\37\1\uffff\32\37",
+            "\1\u00bd",
+            "\1\u00be",
+            "\1\u00bf",
+            "\1\u00c0",
+            "",
+            "\1\u00c1",
+            "\1\u00c2",
+            "\1\u00c3",
+            "\12\37\7\uffff\32\37\4\uffff\1\37\1\uffff\32\37",
+            "\1\u00c5",
+            "\1\u00c6",
+            "\12\37\7\uffff\32\37\4\uffff\1\37\1\uffff\32\37",
+            "",
+            "",
+            "",
+            "\12\37\7\uffff\32\37\4\uffff\1\37\1\uffff\32\37",
+            "\1\u00c9",
+            "\12\37\7\uffff\32\37\4\uffff\1\37\1\uffff\32\37",
+            "\12\37\7\uffff\32\37\4\uffff\1\37\1\uffff\32\37",
+            "\1\u00cc",
+            "\12\37\7\uffff\32\37\4\uffff\1\37\1\uffff\32\37",
+            "\1\u00ce",
+            "",
+            "\12\37\7\uffff\32\37\4\uffff\1\37\1\uffff\32\37",
+            "\12\37\7\uffff\32\37\4\uffff\1\37\1\uffff\32\37",
+            "",
+            "",
+            "\1\u00d1",
+            "",
+            "",
+            "\12\37\7\uffff\32\37\4\uffff\1\37\1\uffff\32\37",
+            "",
+            "\1\u00d3",
+            "",
+            "",
+            "\1\u00d4",
+            "",
+            "\12\37\7\uffff\32\37\4\uffff\1\37\1\uffff\32\37",
+            "\1\u00d6",
+            "",
+            "\12\37\7\uffff\32\37\4\uffff\1\37\1\uffff\32\37",
+            ""
+    };
+
+    static final short[] DFA14_eot = DFA.unpackEncodedString(DFA14_eotS);
+    static final short[] DFA14_eof = DFA.unpackEncodedString(DFA14_eofS);
+    static final char[] DFA14_min = DFA.unpackEncodedStringToUnsignedChars(DFA14_minS);
+    static final char[] DFA14_max = DFA.unpackEncodedStringToUnsignedChars(DFA14_maxS);
+    static final short[] DFA14_accept = DFA.unpackEncodedString(DFA14_acceptS);
+    static final short[] DFA14_special = DFA.unpackEncodedString(DFA14_specialS);
+    static final short[][] DFA14_transition;
+
+    static {
+        int numStates = DFA14_transitionS.length;
+        DFA14_transition = new short[numStates][];
+        for (int i=0; i<numStates; i++) {
+            DFA14_transition[i] = DFA.unpackEncodedString(DFA14_transitionS[i]);
+        }
+    }
+
+    class DFA14 extends DFA {
+
+        public DFA14(BaseRecognizer recognizer) {
+            this.recognizer = recognizer;
+            this.decisionNumber = 14;
+            this.eot = DFA14_eot;
+            this.eof = DFA14_eof;
+            this.min = DFA14_min;
+            this.max = DFA14_max;
+            this.accept = DFA14_accept;
+            this.special = DFA14_special;
+            this.transition = DFA14_transition;
+        }
+        public String getDescription() {
+            return "1:1: Tokens : ( T__74 | T__75 | T__76 | T__77 | T__78 | T__79 | T__80 | T__81 | ASSEQ | EQUAL | NOT_EQUAL | LT | LE | GT | GE | REDUCE | PLUS | MINUS | MUL | DIV | MOD | NOT | IOTA | AND | OR | IF | ELIF | THEN | ELSE | FOR | PFOR | REDUCTION | ORDERED | TILE | SIMD | SAFELEN | SIMDLEN | ALIGNED | IN | WHILE | BENCH | DO | FUNC | RETURN | END | READ | FROM | FILE | BINARY | WRITE | TO | FREE | PARALLEL | SHARED | PRIVATE | NUMTHREADS | TRUE | FALSE | ID | INT | FLOAT | COMMENT | STRING | CHAR | WS );";
+        }
+    }
+ 
+
+}
\ No newline at end of file
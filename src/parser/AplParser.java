@@ -0,0 +1,5575 @@
+// $ANTLR 3.4 /root/project/src/parser/Apl.g 2026-10-19 11:08:53
+
+package parser;
+import interp.AplTree;
+
+
+import org.antlr.runtime.*;
+import java.util.Stack;
+import java.util.List;
+import java.util.ArrayList;
+
+import org.antlr.runtime.tree.*;
+
+
+@SuppressWarnings({"all", "warnings", "unchecked"})
+public class AplParser extends Parser {
+    public static final String[] tokenNames = new String[] {
+        "<invalid>", "<EOR>", "<DOWN>", "<UP>", "ALIGNED", "AND", "ARGLIST", "ASSEQ", "ASSIGN", "BENCH", "BINARY", "BOOLEAN", "CHAR", "COMMENT", "DIV", "DO", "ELIF", "ELSE", "END", "EQUAL", "ESC_SEQ", "EXPRGROUP", "FALSE", "FILE", "FLOAT", "FOR", "FREE", "FROM", "FUNC", "FUNCALL", "GE", "GT", "ID", "IDARR", "IF", "IN", "INT", "IOTA", "LE", "LIST_FUNCTIONS", "LIST_INSTR", "LT", "MINUS", "MOD", "MUL", "NOT", "NOT_EQUAL", "NUMTHREADS", "OR", "ORDERED", "PARALLEL", "PARAMS", "PFOR", "PLUS", "PREF", "PRIVATE", "PVALUE", "READ", "REDUCE", "REDUCTION", "RETURN", "SAFELEN", "SHARED", "SIMD", "SIMDLEN", "SLICE", "STRING", "THEN", "TILE", "TO", "TRUE", "WHILE", "WRITE", "WS", "'&'", "'('", "')'", "','", "':'", "';'", "'['", "']'"
+    };
+
+    public static final int EOF=-1;
+    public static final int T__74=74;
+    public static final int T__75=75;
+    public static final int T__76=76;
+    public static final int T__77=77;
+    public static final int T__78=78;
+    public static final int T__79=79;
+    public static final int T__80=80;
+    public static final int T__81=81;
+    public static final int ALIGNED=4;
+    public static final int AND=5;
+    public static final int ARGLIST=6;
+    public static final int ASSEQ=7;
+    public static final int ASSIGN=8;
+    public static final int BENCH=9;
+    public static final int BINARY=10;
+    public static final int BOOLEAN=11;
+    public static final int CHAR=12;
+    public static final int COMMENT=13;
+    public static final int DIV=14;
+    public static final int DO=15;
+    public static final int ELIF=16;
+    public static final int ELSE=17;
+    public static final int END=18;
+    public static final int EQUAL=19;
+    public static final int ESC_SEQ=20;
+    public static final int EXPRGROUP=21;
+    public static final int FALSE=22;
+    public static final int FILE=23;
+    public static final int FLOAT=24;
+    public static final int FOR=25;
+    public static final int FREE=26;
+    public static final int FROM=27;
+    public static final int FUNC=28;
+    public static final int FUNCALL=29;
+    public static final int GE=30;
+    public static final int GT=31;
+    public static final int ID=32;
+    public static final int IDARR=33;
+    public static final int IF=34;
+    public static final int IN=35;
+    public static final int INT=36;
+    public static final int IOTA=37;
+    public static final int LE=38;
+    public static final int LIST_FUNCTIONS=39;
+    public static final int LIST_INSTR=40;
+    public static final int LT=41;
+    public static final int MINUS=42;
+    public static final int MOD=43;
+    public static final int MUL=44;
+    public static final int NOT=45;
+    public static final int NOT_EQUAL=46;
+    public static final int NUMTHREADS=47;
+    public static final int OR=48;
+    public static final int ORDERED=49;
+    public static final int PARALLEL=50;
+    public static final int PARAMS=51;
+    public static final int PFOR=52;
+    public static final int PLUS=53;
+    public static final int PREF=54;
+    public static final int PRIVATE=55;
+    public static final int PVALUE=56;
+    public static final int READ=57;
+    public static final int REDUCE=58;
+    public static final int REDUCTION=59;
+    public static final int RETURN=60;
+    public static final int SAFELEN=61;
+    public static final int SHARED=62;
+    public static final int SIMD=63;
+    public static final int SIMDLEN=64;
+    public static final int SLICE=65;
+    public static final int STRING=66;
+    public static final int THEN=67;
+    public static final int TILE=68;
+    public static final int TO=69;
+    public static final int TRUE=70;
+    public static final int WHILE=71;
+    public static final int WRITE=72;
+    public static final int WS=73;
+
+    // delegates
+    public Parser[] getDelegates() {
+        return new Parser[] {};
+    }
+
+    // delegators
+
+
+    public AplParser(TokenStream input) {
+        this(input, new RecognizerSharedState());
+    }
+    public AplParser(TokenStream input, RecognizerSharedState state) {
+        super(input, state);
+    }
+
+protected TreeAdaptor adaptor = new CommonTreeAdaptor();
+
+public void setTreeAdaptor(TreeAdaptor adaptor) {
+    this.adaptor = adaptor;
+}
+public TreeAdaptor getTreeAdaptor() {
+    return adaptor;
+}
+    public String[] getTokenNames() { return AplParser.tokenNames; }
+    public String getGrammarFileName() { return "/root/project/src/parser/Apl.g"; }
+
+
+    public static class prog_return extends ParserRuleReturnScope {
+        AplTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "prog"
+    // /root/project/src/parser/Apl.g:36:1: prog : ( func )+ EOF -> ^( LIST_FUNCTIONS ( func )+ ) ;
+    public final AplParser.prog_return prog() throws RecognitionException {
+        AplParser.prog_return retval = new AplParser.prog_return();
+        retval.start = input.LT(1);
+
+
+        AplTree root_0 = null;
+
+        Token EOF2=null;
+        AplParser.func_return func1 =null;
+
+
+        AplTree EOF2_tree=null;
+        RewriteRuleTokenStream stream_EOF=new RewriteRuleTokenStream(adaptor,"token EOF");
+        RewriteRuleSubtreeStream stream_func=new RewriteRuleSubtreeStream(adaptor,"rule func");
+        try {
+            // /root/project/src/parser/Apl.g:36:6: ( ( func )+ EOF -> ^( LIST_FUNCTIONS ( func )+ ) )
+            // /root/project/src/parser/Apl.g:36:8: ( func )+ EOF
+            {
+            // /root/project/src/parser/Apl.g:36:8: ( func )+
+            int cnt1=0;
+            loop1:
+            do {
+                int alt1=2;
+                int LA1_0 = input.LA(1);
+
+                if ( (LA1_0==FUNC) ) {
+                    alt1=1;
+                }
+
+
+                switch (alt1) {
+            	case 1 :
+            	    // /root/project/src/parser/Apl.g:36:8: func
+            	    {
+            	    pushFollow(FOLLOW_func_in_prog192);
+            	    func1=func();
+
+            	    state._fsp--;
+
+            	    stream_func.add(func1.getTree());
+
+            	    }
+            	    break;
+
+            	default :
+            	    if ( cnt1 >= 1 ) break loop1;
+                        EarlyExitException eee =
+                            new EarlyExitException(1, input);
+                        throw eee;
+                }
+                cnt1++;
+            } while (true);
+
+
+            EOF2=(Token)match(input,EOF,FOLLOW_EOF_in_prog195);  
+            stream_EOF.add(EOF2);
+
+
+            // AST REWRITE
+            // elements: func
+            // token labels: 
+            // rule labels: retval
+            // token list labels: 
+            // rule list labels: 
+            // wildcard labels: 
+            retval.tree = root_0;
+            RewriteRuleSubtreeStream stream_retval=new RewriteRuleSubtreeStream(adaptor,"rule retval",retval!=null?retval.tree:null);
+
+            root_0 = (AplTree)adaptor.nil();
+            // 36:18: -> ^( LIST_FUNCTIONS ( func )+ )
+            {
+                // /root/project/src/parser/Apl.g:36:21: ^( LIST_FUNCTIONS ( func )+ )
+                {
+                AplTree root_1 = (AplTree)adaptor.nil();
+                root_1 = (AplTree)adaptor.becomeRoot(
+                (AplTree)adaptor.create(LIST_FUNCTIONS, "LIST_FUNCTIONS")
+                , root_1);
+
+                if ( !(stream_func.hasNext()) ) {
+                    throw new RewriteEarlyExitException();
+                }
+                while ( stream_func.hasNext() ) {
+                    adaptor.addChild(root_1, stream_func.nextTree());
+
+                }
+                stream_func.reset();
+
+                adaptor.addChild(root_0, root_1);
+                }
+
+            }
+
+
+            retval.tree = root_0;
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (AplTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (AplTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "prog"
+
+
+    public static class func_return extends ParserRuleReturnScope {
+        AplTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "func"
+    // /root/project/src/parser/Apl.g:40:1: func : FUNC ^ ID params block_instructions END !;
+    public final AplParser.func_return func() throws RecognitionException {
+        AplParser.func_return retval = new AplParser.func_return();
+        retval.start = input.LT(1);
+
+
+        AplTree root_0 = null;
+
+        Token FUNC3=null;
+        Token ID4=null;
+        Token END7=null;
+        AplParser.params_return params5 =null;
+
+        AplParser.block_instructions_return block_instructions6 =null;
+
+
+        AplTree FUNC3_tree=null;
+        AplTree ID4_tree=null;
+        AplTree END7_tree=null;
+
+        try {
+            // /root/project/src/parser/Apl.g:40:6: ( FUNC ^ ID params block_instructions END !)
+            // /root/project/src/parser/Apl.g:40:8: FUNC ^ ID params block_instructions END !
+            {
+            root_0 = (AplTree)adaptor.nil();
+
+
+            FUNC3=(Token)match(input,FUNC,FOLLOW_FUNC_in_func234); 
+            FUNC3_tree = 
+            (AplTree)adaptor.create(FUNC3)
+            ;
+            root_0 = (AplTree)adaptor.becomeRoot(FUNC3_tree, root_0);
+
+
+            ID4=(Token)match(input,ID,FOLLOW_ID_in_func237); 
+            ID4_tree = 
+            (AplTree)adaptor.create(ID4)
+            ;
+            adaptor.addChild(root_0, ID4_tree);
+
+
+            pushFollow(FOLLOW_params_in_func239);
+            params5=params();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, params5.getTree());
+
+            pushFollow(FOLLOW_block_instructions_in_func241);
+            block_instructions6=block_instructions();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, block_instructions6.getTree());
+
+            END7=(Token)match(input,END,FOLLOW_END_in_func243); 
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (AplTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (AplTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "func"
+
+
+    public static class params_return extends ParserRuleReturnScope {
+        AplTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "params"
+    // /root/project/src/parser/Apl.g:44:1: params : '(' ( paramlist )? ')' -> ^( PARAMS ( paramlist )? ) ;
+    public final AplParser.params_return params() throws RecognitionException {
+        AplParser.params_return retval = new AplParser.params_return();
+        retval.start = input.LT(1);
+
+
+        AplTree root_0 = null;
+
+        Token char_literal8=null;
+        Token char_literal10=null;
+        AplParser.paramlist_return paramlist9 =null;
+
+
+        AplTree char_literal8_tree=null;
+        AplTree char_literal10_tree=null;
+        RewriteRuleTokenStream stream_75=new RewriteRuleTokenStream(adaptor,"token 75");
+        RewriteRuleTokenStream stream_76=new RewriteRuleTokenStream(adaptor,"token 76");
+        RewriteRuleSubtreeStream stream_paramlist=new RewriteRuleSubtreeStream(adaptor,"rule paramlist");
+        try {
+            // /root/project/src/parser/Apl.g:44:8: ( '(' ( paramlist )? ')' -> ^( PARAMS ( paramlist )? ) )
+            // /root/project/src/parser/Apl.g:44:10: '(' ( paramlist )? ')'
+            {
+            char_literal8=(Token)match(input,75,FOLLOW_75_in_params262);  
+            stream_75.add(char_literal8);
+
+
+            // /root/project/src/parser/Apl.g:44:14: ( paramlist )?
+            int alt2=2;
+            int LA2_0 = input.LA(1);
+
+            if ( (LA2_0==ID||LA2_0==74) ) {
+                alt2=1;
+            }
+            switch (alt2) {
+                case 1 :
+                    // /root/project/src/parser/Apl.g:44:14: paramlist
+                    {
+                    pushFollow(FOLLOW_paramlist_in_params264);
+                    paramlist9=paramlist();
+
+                    state._fsp--;
+
+                    stream_paramlist.add(paramlist9.getTree());
+
+                    }
+                    break;
+
+            }
+
+
+            char_literal10=(Token)match(input,76,FOLLOW_76_in_params267);  
+            stream_76.add(char_literal10);
+
+
+            // AST REWRITE
+            // elements: paramlist
+            // token labels: 
+            // rule labels: retval
+            // token list labels: 
+            // rule list labels: 
+            // wildcard labels: 
+            retval.tree = root_0;
+            RewriteRuleSubtreeStream stream_retval=new RewriteRuleSubtreeStream(adaptor,"rule retval",retval!=null?retval.tree:null);
+
+            root_0 = (AplTree)adaptor.nil();
+            // 44:29: -> ^( PARAMS ( paramlist )? )
+            {
+                // /root/project/src/parser/Apl.g:44:32: ^( PARAMS ( paramlist )? )
+                {
+                AplTree root_1 = (AplTree)adaptor.nil();
+                root_1 = (AplTree)adaptor.becomeRoot(
+                (AplTree)adaptor.create(PARAMS, "PARAMS")
+                , root_1);
+
+                // /root/project/src/parser/Apl.g:44:41: ( paramlist )?
+                if ( stream_paramlist.hasNext() ) {
+                    adaptor.addChild(root_1, stream_paramlist.nextTree());
+
+                }
+                stream_paramlist.reset();
+
+                adaptor.addChild(root_0, root_1);
+                }
+
+            }
+
+
+            retval.tree = root_0;
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (AplTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (AplTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "params"
+
+
+    public static class paramlist_return extends ParserRuleReturnScope {
+        AplTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "paramlist"
+    // /root/project/src/parser/Apl.g:48:1: paramlist : param ( ',' ! param )* ;
+    public final AplParser.paramlist_return paramlist() throws RecognitionException {
+        AplParser.paramlist_return retval = new AplParser.paramlist_return();
+        retval.start = input.LT(1);
+
+
+        AplTree root_0 = null;
+
+        Token char_literal12=null;
+        AplParser.param_return param11 =null;
+
+        AplParser.param_return param13 =null;
+
+
+        AplTree char_literal12_tree=null;
+
+        try {
+            // /root/project/src/parser/Apl.g:48:10: ( param ( ',' ! param )* )
+            // /root/project/src/parser/Apl.g:48:12: param ( ',' ! param )*
+            {
+            root_0 = (AplTree)adaptor.nil();
+
+
+            pushFollow(FOLLOW_param_in_paramlist293);
+            param11=param();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, param11.getTree());
+
+            // /root/project/src/parser/Apl.g:48:18: ( ',' ! param )*
+            loop3:
+            do {
+                int alt3=2;
+                int LA3_0 = input.LA(1);
+
+                if ( (LA3_0==77) ) {
+                    alt3=1;
+                }
+
+
+                switch (alt3) {
+            	case 1 :
+            	    // /root/project/src/parser/Apl.g:48:19: ',' ! param
+            	    {
+            	    char_literal12=(Token)match(input,77,FOLLOW_77_in_paramlist296); 
+
+            	    pushFollow(FOLLOW_param_in_paramlist299);
+            	    param13=param();
+
+            	    state._fsp--;
+
+            	    adaptor.addChild(root_0, param13.getTree());
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop3;
+                }
+            } while (true);
+
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (AplTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (AplTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "paramlist"
+
+
+    public static class param_return extends ParserRuleReturnScope {
+        AplTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "param"
+    // /root/project/src/parser/Apl.g:53:1: param : ( id_atom -> ^( PVALUE id_atom ) | '&' id_atom -> ^( PREF id_atom ) );
+    public final AplParser.param_return param() throws RecognitionException {
+        AplParser.param_return retval = new AplParser.param_return();
+        retval.start = input.LT(1);
+
+
+        AplTree root_0 = null;
+
+        Token char_literal15=null;
+        AplParser.id_atom_return id_atom14 =null;
+
+        AplParser.id_atom_return id_atom16 =null;
+
+
+        AplTree char_literal15_tree=null;
+        RewriteRuleTokenStream stream_74=new RewriteRuleTokenStream(adaptor,"token 74");
+        RewriteRuleSubtreeStream stream_id_atom=new RewriteRuleSubtreeStream(adaptor,"rule id_atom");
+        try {
+            // /root/project/src/parser/Apl.g:53:9: ( id_atom -> ^( PVALUE id_atom ) | '&' id_atom -> ^( PREF id_atom ) )
+            int alt4=2;
+            int LA4_0 = input.LA(1);
+
+            if ( (LA4_0==ID) ) {
+                alt4=1;
+            }
+            else if ( (LA4_0==74) ) {
+                alt4=2;
+            }
+            else {
+                NoViableAltException nvae =
+                    new NoViableAltException("", 4, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt4) {
+                case 1 :
+                    // /root/project/src/parser/Apl.g:53:13: id_atom
+                    {
+                    pushFollow(FOLLOW_id_atom_in_param324);
+                    id_atom14=id_atom();
+
+                    state._fsp--;
+
+                    stream_id_atom.add(id_atom14.getTree());
+
+                    // AST REWRITE
+                    // elements: id_atom
+                    // token labels: 
+                    // rule labels: retval
+                    // token list labels: 
+                    // rule list labels: 
+                    // wildcard labels: 
+                    retval.tree = root_0;
+                    RewriteRuleSubtreeStream stream_retval=new RewriteRuleSubtreeStream(adaptor,"rule retval",retval!=null?retval.tree:null);
+
+                    root_0 = (AplTree)adaptor.nil();
+                    // 53:21: -> ^( PVALUE id_atom )
+                    {
+                        // /root/project/src/parser/Apl.g:53:24: ^( PVALUE id_atom )
+                        {
+                        AplTree root_1 = (AplTree)adaptor.nil();
+                        root_1 = (AplTree)adaptor.becomeRoot(
+                        (AplTree)adaptor.create(PVALUE, "PVALUE")
+                        , root_1);
+
+                        adaptor.addChild(root_1, stream_id_atom.nextTree());
+
+                        adaptor.addChild(root_0, root_1);
+                        }
+
+                    }
+
+
+                    retval.tree = root_0;
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/parser/Apl.g:54:13: '&' id_atom
+                    {
+                    char_literal15=(Token)match(input,74,FOLLOW_74_in_param346);  
+                    stream_74.add(char_literal15);
+
+
+                    pushFollow(FOLLOW_id_atom_in_param348);
+                    id_atom16=id_atom();
+
+                    state._fsp--;
+
+                    stream_id_atom.add(id_atom16.getTree());
+
+                    // AST REWRITE
+                    // elements: id_atom
+                    // token labels: 
+                    // rule labels: retval
+                    // token list labels: 
+                    // rule list labels: 
+                    // wildcard labels: 
+                    retval.tree = root_0;
+                    RewriteRuleSubtreeStream stream_retval=new RewriteRuleSubtreeStream(adaptor,"rule retval",retval!=null?retval.tree:null);
+
+                    root_0 = (AplTree)adaptor.nil();
+                    // 54:25: -> ^( PREF id_atom )
+                    {
+                        // /root/project/src/parser/Apl.g:54:28: ^( PREF id_atom )
+                        {
+                        AplTree root_1 = (AplTree)adaptor.nil();
+                        root_1 = (AplTree)adaptor.becomeRoot(
+                        (AplTree)adaptor.create(PREF, "PREF")
+                        , root_1);
+
+                        adaptor.addChild(root_1, stream_id_atom.nextTree());
+
+                        adaptor.addChild(root_0, root_1);
+                        }
+
+                    }
+
+
+                    retval.tree = root_0;
+
+                    }
+                    break;
+
+            }
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (AplTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (AplTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "param"
+
+
+    public static class block_instructions_return extends ParserRuleReturnScope {
+        AplTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "block_instructions"
+    // /root/project/src/parser/Apl.g:58:1: block_instructions : ( instruction ( ';' )? )* ( return_stmt )? ( ';' )? -> ^( LIST_INSTR ( instruction )* ( return_stmt )? ) ;
+    public final AplParser.block_instructions_return block_instructions() throws RecognitionException {
+        AplParser.block_instructions_return retval = new AplParser.block_instructions_return();
+        retval.start = input.LT(1);
+
+
+        AplTree root_0 = null;
+
+        Token char_literal18=null;
+        Token char_literal20=null;
+        AplParser.instruction_return instruction17 =null;
+
+        AplParser.return_stmt_return return_stmt19 =null;
+
+
+        AplTree char_literal18_tree=null;
+        AplTree char_literal20_tree=null;
+        RewriteRuleTokenStream stream_79=new RewriteRuleTokenStream(adaptor,"token 79");
+        RewriteRuleSubtreeStream stream_instruction=new RewriteRuleSubtreeStream(adaptor,"rule instruction");
+        RewriteRuleSubtreeStream stream_return_stmt=new RewriteRuleSubtreeStream(adaptor,"rule return_stmt");
+        try {
+            // /root/project/src/parser/Apl.g:59:9: ( ( instruction ( ';' )? )* ( return_stmt )? ( ';' )? -> ^( LIST_INSTR ( instruction )* ( return_stmt )? ) )
+            // /root/project/src/parser/Apl.g:59:12: ( instruction ( ';' )? )* ( return_stmt )? ( ';' )?
+            {
+            // /root/project/src/parser/Apl.g:59:12: ( instruction ( ';' )? )*
+            loop6:
+            do {
+                int alt6=2;
+                int LA6_0 = input.LA(1);
+
+                if ( (LA6_0==BENCH||(LA6_0 >= FOR && LA6_0 <= FREE)||LA6_0==ID||LA6_0==IF||LA6_0==PARALLEL||LA6_0==PFOR||LA6_0==READ||(LA6_0 >= WHILE && LA6_0 <= WRITE)) ) {
+                    alt6=1;
+                }
+
+
+                switch (alt6) {
+            	case 1 :
+            	    // /root/project/src/parser/Apl.g:59:13: instruction ( ';' )?
+            	    {
+            	    pushFollow(FOLLOW_instruction_in_block_instructions384);
+            	    instruction17=instruction();
+
+            	    state._fsp--;
+
+            	    stream_instruction.add(instruction17.getTree());
+
+            	    // /root/project/src/parser/Apl.g:59:25: ( ';' )?
+            	    int alt5=2;
+            	    int LA5_0 = input.LA(1);
+
+            	    if ( (LA5_0==79) ) {
+            	        alt5=1;
+            	    }
+            	    switch (alt5) {
+            	        case 1 :
+            	            // /root/project/src/parser/Apl.g:59:25: ';'
+            	            {
+            	            char_literal18=(Token)match(input,79,FOLLOW_79_in_block_instructions386);  
+            	            stream_79.add(char_literal18);
+
+
+            	            }
+            	            break;
+
+            	    }
+
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop6;
+                }
+            } while (true);
+
+
+            // /root/project/src/parser/Apl.g:59:32: ( return_stmt )?
+            int alt7=2;
+            int LA7_0 = input.LA(1);
+
+            if ( (LA7_0==RETURN) ) {
+                alt7=1;
+            }
+            switch (alt7) {
+                case 1 :
+                    // /root/project/src/parser/Apl.g:59:32: return_stmt
+                    {
+                    pushFollow(FOLLOW_return_stmt_in_block_instructions391);
+                    return_stmt19=return_stmt();
+
+                    state._fsp--;
+
+                    stream_return_stmt.add(return_stmt19.getTree());
+
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/src/parser/Apl.g:59:45: ( ';' )?
+            int alt8=2;
+            int LA8_0 = input.LA(1);
+
+            if ( (LA8_0==79) ) {
+                alt8=1;
+            }
+            switch (alt8) {
+                case 1 :
+                    // /root/project/src/parser/Apl.g:59:45: ';'
+                    {
+                    char_literal20=(Token)match(input,79,FOLLOW_79_in_block_instructions394);  
+                    stream_79.add(char_literal20);
+
+
+                    }
+                    break;
+
+            }
+
+
+            // AST REWRITE
+            // elements: return_stmt, instruction
+            // token labels: 
+            // rule labels: retval
+            // token list labels: 
+            // rule list labels: 
+            // wildcard labels: 
+            retval.tree = root_0;
+            RewriteRuleSubtreeStream stream_retval=new RewriteRuleSubtreeStream(adaptor,"rule retval",retval!=null?retval.tree:null);
+
+            root_0 = (AplTree)adaptor.nil();
+            // 60:13: -> ^( LIST_INSTR ( instruction )* ( return_stmt )? )
+            {
+                // /root/project/src/parser/Apl.g:60:16: ^( LIST_INSTR ( instruction )* ( return_stmt )? )
+                {
+                AplTree root_1 = (AplTree)adaptor.nil();
+                root_1 = (AplTree)adaptor.becomeRoot(
+                (AplTree)adaptor.create(LIST_INSTR, "LIST_INSTR")
+                , root_1);
+
+                // /root/project/src/parser/Apl.g:60:29: ( instruction )*
+                while ( stream_instruction.hasNext() ) {
+                    adaptor.addChild(root_1, stream_instruction.nextTree());
+
+                }
+                stream_instruction.reset();
+
+                // /root/project/src/parser/Apl.g:60:42: ( return_stmt )?
+                if ( stream_return_stmt.hasNext() ) {
+                    adaptor.addChild(root_1, stream_return_stmt.nextTree());
+
+                }
+                stream_return_stmt.reset();
+
+                adaptor.addChild(root_0, root_1);
+                }
+
+            }
+
+
+            retval.tree = root_0;
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (AplTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (AplTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "block_instructions"
+
+
+    public static class instruction_return extends ParserRuleReturnScope {
+        AplTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "instruction"
+    // /root/project/src/parser/Apl.g:64:1: instruction : ( assign | ite_stmt | for_stmt | pfor_stmt | while_stmt | bench_stmt | funcall | read | write | free | parallel );
+    public final AplParser.instruction_return instruction() throws RecognitionException {
+        AplParser.instruction_return retval = new AplParser.instruction_return();
+        retval.start = input.LT(1);
+
+
+        AplTree root_0 = null;
+
+        AplParser.assign_return assign21 =null;
+
+        AplParser.ite_stmt_return ite_stmt22 =null;
+
+        AplParser.for_stmt_return for_stmt23 =null;
+
+        AplParser.pfor_stmt_return pfor_stmt24 =null;
+
+        AplParser.while_stmt_return while_stmt25 =null;
+
+        AplParser.bench_stmt_return bench_stmt26 =null;
+
+        AplParser.funcall_return funcall27 =null;
+
+        AplParser.read_return read28 =null;
+
+        AplParser.write_return write29 =null;
+
+        AplParser.free_return free30 =null;
+
+        AplParser.parallel_return parallel31 =null;
+
+
+
+        try {
+            // /root/project/src/parser/Apl.g:65:9: ( assign | ite_stmt | for_stmt | pfor_stmt | while_stmt | bench_stmt | funcall | read | write | free | parallel )
+            int alt9=11;
+            switch ( input.LA(1) ) {
+            case ID:
+                {
+                int LA9_1 = input.LA(2);
+
+                if ( (LA9_1==ASSEQ||LA9_1==80) ) {
+                    alt9=1;
+                }
+                else if ( (LA9_1==75) ) {
+                    alt9=7;
+                }
+                else {
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 9, 1, input);
+
+                    throw nvae;
+
+                }
+                }
+                break;
+            case IF:
+                {
+                alt9=2;
+                }
+                break;
+            case FOR:
+                {
+                alt9=3;
+                }
+                break;
+            case PFOR:
+                {
+                alt9=4;
+                }
+                break;
+            case WHILE:
+                {
+                alt9=5;
+                }
+                break;
+            case BENCH:
+                {
+                alt9=6;
+                }
+                break;
+            case READ:
+                {
+                alt9=8;
+                }
+                break;
+            case WRITE:
+                {
+                alt9=9;
+                }
+                break;
+            case FREE:
+                {
+                alt9=10;
+                }
+                break;
+            case PARALLEL:
+                {
+                alt9=11;
+                }
+                break;
+            default:
+                NoViableAltException nvae =
+                    new NoViableAltException("", 9, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt9) {
+                case 1 :
+                    // /root/project/src/parser/Apl.g:65:11: assign
+                    {
+                    root_0 = (AplTree)adaptor.nil();
+
+
+                    pushFollow(FOLLOW_assign_in_instruction445);
+                    assign21=assign();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, assign21.getTree());
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/parser/Apl.g:66:11: ite_stmt
+                    {
+                    root_0 = (AplTree)adaptor.nil();
+
+
+                    pushFollow(FOLLOW_ite_stmt_in_instruction467);
+                    ite_stmt22=ite_stmt();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, ite_stmt22.getTree());
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/parser/Apl.g:67:11: for_stmt
+                    {
+                    root_0 = (AplTree)adaptor.nil();
+
+
+                    pushFollow(FOLLOW_for_stmt_in_instruction487);
+                    for_stmt23=for_stmt();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, for_stmt23.getTree());
+
+                    }
+                    break;
+                case 4 :
+                    // /root/project/src/parser/Apl.g:68:11: pfor_stmt
+                    {
+                    root_0 = (AplTree)adaptor.nil();
+
+
+                    pushFollow(FOLLOW_pfor_stmt_in_instruction507);
+                    pfor_stmt24=pfor_stmt();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, pfor_stmt24.getTree());
+
+                    }
+                    break;
+                case 5 :
+                    // /root/project/src/parser/Apl.g:69:11: while_stmt
+                    {
+                    root_0 = (AplTree)adaptor.nil();
+
+
+                    pushFollow(FOLLOW_while_stmt_in_instruction526);
+                    while_stmt25=while_stmt();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, while_stmt25.getTree());
+
+                    }
+                    break;
+                case 6 :
+                    // /root/project/src/parser/Apl.g:70:11: bench_stmt
+                    {
+                    root_0 = (AplTree)adaptor.nil();
+
+
+                    pushFollow(FOLLOW_bench_stmt_in_instruction544);
+                    bench_stmt26=bench_stmt();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, bench_stmt26.getTree());
+
+                    }
+                    break;
+                case 7 :
+                    // /root/project/src/parser/Apl.g:71:13: funcall
+                    {
+                    root_0 = (AplTree)adaptor.nil();
+
+
+                    pushFollow(FOLLOW_funcall_in_instruction564);
+                    funcall27=funcall();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, funcall27.getTree());
+
+                    }
+                    break;
+                case 8 :
+                    // /root/project/src/parser/Apl.g:72:11: read
+                    {
+                    root_0 = (AplTree)adaptor.nil();
+
+
+                    pushFollow(FOLLOW_read_in_instruction585);
+                    read28=read();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, read28.getTree());
+
+                    }
+                    break;
+                case 9 :
+                    // /root/project/src/parser/Apl.g:73:12: write
+                    {
+                    root_0 = (AplTree)adaptor.nil();
+
+
+                    pushFollow(FOLLOW_write_in_instruction610);
+                    write29=write();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, write29.getTree());
+
+                    }
+                    break;
+                case 10 :
+                    // /root/project/src/parser/Apl.g:74:13: free
+                    {
+                    root_0 = (AplTree)adaptor.nil();
+
+
+                    pushFollow(FOLLOW_free_in_instruction635);
+                    free30=free();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, free30.getTree());
+
+                    }
+                    break;
+                case 11 :
+                    // /root/project/src/parser/Apl.g:75:13: parallel
+                    {
+                    root_0 = (AplTree)adaptor.nil();
+
+
+                    pushFollow(FOLLOW_parallel_in_instruction661);
+                    parallel31=parallel();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, parallel31.getTree());
+
+                    }
+                    break;
+
+            }
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (AplTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (AplTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "instruction"
+
+
+    public static class assign_return extends ParserRuleReturnScope {
+        AplTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "assign"
+    // /root/project/src/parser/Apl.g:79:1: assign : id_atom eq= ASSEQ expr -> ^( ASSIGN[$eq,\":=\"] id_atom expr ) ;
+    public final AplParser.assign_return assign() throws RecognitionException {
+        AplParser.assign_return retval = new AplParser.assign_return();
+        retval.start = input.LT(1);
+
+
+        AplTree root_0 = null;
+
+        Token eq=null;
+        AplParser.id_atom_return id_atom32 =null;
+
+        AplParser.expr_return expr33 =null;
+
+
+        AplTree eq_tree=null;
+        RewriteRuleTokenStream stream_ASSEQ=new RewriteRuleTokenStream(adaptor,"token ASSEQ");
+        RewriteRuleSubtreeStream stream_expr=new RewriteRuleSubtreeStream(adaptor,"rule expr");
+        RewriteRuleSubtreeStream stream_id_atom=new RewriteRuleSubtreeStream(adaptor,"rule id_atom");
+        try {
+            // /root/project/src/parser/Apl.g:79:9: ( id_atom eq= ASSEQ expr -> ^( ASSIGN[$eq,\":=\"] id_atom expr ) )
+            // /root/project/src/parser/Apl.g:79:14: id_atom eq= ASSEQ expr
+            {
+            pushFollow(FOLLOW_id_atom_in_assign691);
+            id_atom32=id_atom();
+
+            state._fsp--;
+
+            stream_id_atom.add(id_atom32.getTree());
+
+            eq=(Token)match(input,ASSEQ,FOLLOW_ASSEQ_in_assign695);  
+            stream_ASSEQ.add(eq);
+
+
+            pushFollow(FOLLOW_expr_in_assign697);
+            expr33=expr();
+
+            state._fsp--;
+
+            stream_expr.add(expr33.getTree());
+
+            // AST REWRITE
+            // elements: expr, id_atom
+            // token labels: 
+            // rule labels: retval
+            // token list labels: 
+            // rule list labels: 
+            // wildcard labels: 
+            retval.tree = root_0;
+            RewriteRuleSubtreeStream stream_retval=new RewriteRuleSubtreeStream(adaptor,"rule retval",retval!=null?retval.tree:null);
+
+            root_0 = (AplTree)adaptor.nil();
+            // 79:36: -> ^( ASSIGN[$eq,\":=\"] id_atom expr )
+            {
+                // /root/project/src/parser/Apl.g:79:39: ^( ASSIGN[$eq,\":=\"] id_atom expr )
+                {
+                AplTree root_1 = (AplTree)adaptor.nil();
+                root_1 = (AplTree)adaptor.becomeRoot(
+                (AplTree)adaptor.create(ASSIGN, eq, ":=")
+                , root_1);
+
+                adaptor.addChild(root_1, stream_id_atom.nextTree());
+
+                adaptor.addChild(root_1, stream_expr.nextTree());
+
+                adaptor.addChild(root_0, root_1);
+                }
+
+            }
+
+
+            retval.tree = root_0;
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (AplTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (AplTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "assign"
+
+
+    public static class ite_stmt_return extends ParserRuleReturnScope {
+        AplTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "ite_stmt"
+    // /root/project/src/parser/Apl.g:83:1: ite_stmt : IF ^ expr THEN ! block_instructions ( ELIF ! expr THEN ! block_instructions )* ( ELSE ! block_instructions )? END !;
+    public final AplParser.ite_stmt_return ite_stmt() throws RecognitionException {
+        AplParser.ite_stmt_return retval = new AplParser.ite_stmt_return();
+        retval.start = input.LT(1);
+
+
+        AplTree root_0 = null;
+
+        Token IF34=null;
+        Token THEN36=null;
+        Token ELIF38=null;
+        Token THEN40=null;
+        Token ELSE42=null;
+        Token END44=null;
+        AplParser.expr_return expr35 =null;
+
+        AplParser.block_instructions_return block_instructions37 =null;
+
+        AplParser.expr_return expr39 =null;
+
+        AplParser.block_instructions_return block_instructions41 =null;
+
+        AplParser.block_instructions_return block_instructions43 =null;
+
+
+        AplTree IF34_tree=null;
+        AplTree THEN36_tree=null;
+        AplTree ELIF38_tree=null;
+        AplTree THEN40_tree=null;
+        AplTree ELSE42_tree=null;
+        AplTree END44_tree=null;
+
+        try {
+            // /root/project/src/parser/Apl.g:83:10: ( IF ^ expr THEN ! block_instructions ( ELIF ! expr THEN ! block_instructions )* ( ELSE ! block_instructions )? END !)
+            // /root/project/src/parser/Apl.g:83:12: IF ^ expr THEN ! block_instructions ( ELIF ! expr THEN ! block_instructions )* ( ELSE ! block_instructions )? END !
+            {
+            root_0 = (AplTree)adaptor.nil();
+
+
+            IF34=(Token)match(input,IF,FOLLOW_IF_in_ite_stmt726); 
+            IF34_tree = 
+            (AplTree)adaptor.create(IF34)
+            ;
+            root_0 = (AplTree)adaptor.becomeRoot(IF34_tree, root_0);
+
+
+            pushFollow(FOLLOW_expr_in_ite_stmt729);
+            expr35=expr();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, expr35.getTree());
+
+            THEN36=(Token)match(input,THEN,FOLLOW_THEN_in_ite_stmt731); 
+
+            pushFollow(FOLLOW_block_instructions_in_ite_stmt734);
+            block_instructions37=block_instructions();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, block_instructions37.getTree());
+
+            // /root/project/src/parser/Apl.g:83:46: ( ELIF ! expr THEN ! block_instructions )*
+            loop10:
+            do {
+                int alt10=2;
+                int LA10_0 = input.LA(1);
+
+                if ( (LA10_0==ELIF) ) {
+                    alt10=1;
+                }
+
+
+                switch (alt10) {
+            	case 1 :
+            	    // /root/project/src/parser/Apl.g:83:47: ELIF ! expr THEN ! block_instructions
+            	    {
+            	    ELIF38=(Token)match(input,ELIF,FOLLOW_ELIF_in_ite_stmt737); 
+
+            	    pushFollow(FOLLOW_expr_in_ite_stmt740);
+            	    expr39=expr();
+
+            	    state._fsp--;
+
+            	    adaptor.addChild(root_0, expr39.getTree());
+
+            	    THEN40=(Token)match(input,THEN,FOLLOW_THEN_in_ite_stmt742); 
+
+            	    pushFollow(FOLLOW_block_instructions_in_ite_stmt745);
+            	    block_instructions41=block_instructions();
+
+            	    state._fsp--;
+
+            	    adaptor.addChild(root_0, block_instructions41.getTree());
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop10;
+                }
+            } while (true);
+
+
+            // /root/project/src/parser/Apl.g:83:85: ( ELSE ! block_instructions )?
+            int alt11=2;
+            int LA11_0 = input.LA(1);
+
+            if ( (LA11_0==ELSE) ) {
+                alt11=1;
+            }
+            switch (alt11) {
+                case 1 :
+                    // /root/project/src/parser/Apl.g:83:86: ELSE ! block_instructions
+                    {
+                    ELSE42=(Token)match(input,ELSE,FOLLOW_ELSE_in_ite_stmt750); 
+
+                    pushFollow(FOLLOW_block_instructions_in_ite_stmt753);
+                    block_instructions43=block_instructions();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, block_instructions43.getTree());
+
+                    }
+                    break;
+
+            }
+
+
+            END44=(Token)match(input,END,FOLLOW_END_in_ite_stmt757); 
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (AplTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (AplTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "ite_stmt"
+
+
+    public static class for_stmt_return extends ParserRuleReturnScope {
+        AplTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "for_stmt"
+    // /root/project/src/parser/Apl.g:87:1: for_stmt : FOR ^ id_atom IN ! expr ':' ! expr ( tile )? ( simd )? ( reduction )? block_instructions END !;
+    public final AplParser.for_stmt_return for_stmt() throws RecognitionException {
+        AplParser.for_stmt_return retval = new AplParser.for_stmt_return();
+        retval.start = input.LT(1);
+
+
+        AplTree root_0 = null;
+
+        Token FOR45=null;
+        Token IN47=null;
+        Token char_literal49=null;
+        Token END55=null;
+        AplParser.id_atom_return id_atom46 =null;
+
+        AplParser.expr_return expr48 =null;
+
+        AplParser.expr_return expr50 =null;
+
+        AplParser.tile_return tile51 =null;
+
+        AplParser.simd_return simd52 =null;
+
+        AplParser.reduction_return reduction53 =null;
+
+        AplParser.block_instructions_return block_instructions54 =null;
+
+
+        AplTree FOR45_tree=null;
+        AplTree IN47_tree=null;
+        AplTree char_literal49_tree=null;
+        AplTree END55_tree=null;
+
+        try {
+            // /root/project/src/parser/Apl.g:87:10: ( FOR ^ id_atom IN ! expr ':' ! expr ( tile )? ( simd )? ( reduction )? block_instructions END !)
+            // /root/project/src/parser/Apl.g:87:12: FOR ^ id_atom IN ! expr ':' ! expr ( tile )? ( simd )? ( reduction )? block_instructions END !
+            {
+            root_0 = (AplTree)adaptor.nil();
+
+
+            FOR45=(Token)match(input,FOR,FOLLOW_FOR_in_for_stmt780); 
+            FOR45_tree = 
+            (AplTree)adaptor.create(FOR45)
+            ;
+            root_0 = (AplTree)adaptor.becomeRoot(FOR45_tree, root_0);
+
+
+            pushFollow(FOLLOW_id_atom_in_for_stmt783);
+            id_atom46=id_atom();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, id_atom46.getTree());
+
+            IN47=(Token)match(input,IN,FOLLOW_IN_in_for_stmt785); 
+
+            pushFollow(FOLLOW_expr_in_for_stmt788);
+            expr48=expr();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, expr48.getTree());
+
+            char_literal49=(Token)match(input,78,FOLLOW_78_in_for_stmt790); 
+
+            pushFollow(FOLLOW_expr_in_for_stmt793);
+            expr50=expr();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, expr50.getTree());
+
+            // /root/project/src/parser/Apl.g:87:44: ( tile )?
+            int alt12=2;
+            int LA12_0 = input.LA(1);
+
+            if ( (LA12_0==TILE) ) {
+                alt12=1;
+            }
+            switch (alt12) {
+                case 1 :
+                    // /root/project/src/parser/Apl.g:87:44: tile
+                    {
+                    pushFollow(FOLLOW_tile_in_for_stmt795);
+                    tile51=tile();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, tile51.getTree());
+
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/src/parser/Apl.g:87:50: ( simd )?
+            int alt13=2;
+            int LA13_0 = input.LA(1);
+
+            if ( (LA13_0==SIMD) ) {
+                alt13=1;
+            }
+            switch (alt13) {
+                case 1 :
+                    // /root/project/src/parser/Apl.g:87:50: simd
+                    {
+                    pushFollow(FOLLOW_simd_in_for_stmt798);
+                    simd52=simd();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, simd52.getTree());
+
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/src/parser/Apl.g:87:56: ( reduction )?
+            int alt14=2;
+            int LA14_0 = input.LA(1);
+
+            if ( (LA14_0==REDUCTION) ) {
+                alt14=1;
+            }
+            switch (alt14) {
+                case 1 :
+                    // /root/project/src/parser/Apl.g:87:56: reduction
+                    {
+                    pushFollow(FOLLOW_reduction_in_for_stmt801);
+                    reduction53=reduction();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, reduction53.getTree());
+
+                    }
+                    break;
+
+            }
+
+
+            pushFollow(FOLLOW_block_instructions_in_for_stmt804);
+            block_instructions54=block_instructions();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, block_instructions54.getTree());
+
+            END55=(Token)match(input,END,FOLLOW_END_in_for_stmt806); 
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (AplTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (AplTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "for_stmt"
+
+
+    public static class pfor_stmt_return extends ParserRuleReturnScope {
+        AplTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "pfor_stmt"
+    // /root/project/src/parser/Apl.g:91:1: pfor_stmt : PFOR ^ id_atom IN ! expr ':' ! expr ( ORDERED )? ( tile )? ( simd )? ( reduction )? block_instructions END !;
+    public final AplParser.pfor_stmt_return pfor_stmt() throws RecognitionException {
+        AplParser.pfor_stmt_return retval = new AplParser.pfor_stmt_return();
+        retval.start = input.LT(1);
+
+
+        AplTree root_0 = null;
+
+        Token PFOR56=null;
+        Token IN58=null;
+        Token char_literal60=null;
+        Token ORDERED62=null;
+        Token END67=null;
+        AplParser.id_atom_return id_atom57 =null;
+
+        AplParser.expr_return expr59 =null;
+
+        AplParser.expr_return expr61 =null;
+
+        AplParser.tile_return tile63 =null;
+
+        AplParser.simd_return simd64 =null;
+
+        AplParser.reduction_return reduction65 =null;
+
+        AplParser.block_instructions_return block_instructions66 =null;
+
+
+        AplTree PFOR56_tree=null;
+        AplTree IN58_tree=null;
+        AplTree char_literal60_tree=null;
+        AplTree ORDERED62_tree=null;
+        AplTree END67_tree=null;
+
+        try {
+            // /root/project/src/parser/Apl.g:91:11: ( PFOR ^ id_atom IN ! expr ':' ! expr ( ORDERED )? ( tile )? ( simd )? ( reduction )? block_instructions END !)
+            // /root/project/src/parser/Apl.g:91:13: PFOR ^ id_atom IN ! expr ':' ! expr ( ORDERED )? ( tile )? ( simd )? ( reduction )? block_instructions END !
+            {
+            root_0 = (AplTree)adaptor.nil();
+
+
+            PFOR56=(Token)match(input,PFOR,FOLLOW_PFOR_in_pfor_stmt829); 
+            PFOR56_tree = 
+            (AplTree)adaptor.create(PFOR56)
+            ;
+            root_0 = (AplTree)adaptor.becomeRoot(PFOR56_tree, root_0);
+
+
+            pushFollow(FOLLOW_id_atom_in_pfor_stmt832);
+            id_atom57=id_atom();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, id_atom57.getTree());
+
+            IN58=(Token)match(input,IN,FOLLOW_IN_in_pfor_stmt834); 
+
+            pushFollow(FOLLOW_expr_in_pfor_stmt837);
+            expr59=expr();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, expr59.getTree());
+
+            char_literal60=(Token)match(input,78,FOLLOW_78_in_pfor_stmt839); 
+
+            pushFollow(FOLLOW_expr_in_pfor_stmt842);
+            expr61=expr();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, expr61.getTree());
+
+            // /root/project/src/parser/Apl.g:91:46: ( ORDERED )?
+            int alt15=2;
+            int LA15_0 = input.LA(1);
+
+            if ( (LA15_0==ORDERED) ) {
+                alt15=1;
+            }
+            switch (alt15) {
+                case 1 :
+                    // /root/project/src/parser/Apl.g:91:46: ORDERED
+                    {
+                    ORDERED62=(Token)match(input,ORDERED,FOLLOW_ORDERED_in_pfor_stmt844); 
+                    ORDERED62_tree = 
+                    (AplTree)adaptor.create(ORDERED62)
+                    ;
+                    adaptor.addChild(root_0, ORDERED62_tree);
+
+
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/src/parser/Apl.g:91:55: ( tile )?
+            int alt16=2;
+            int LA16_0 = input.LA(1);
+
+            if ( (LA16_0==TILE) ) {
+                alt16=1;
+            }
+            switch (alt16) {
+                case 1 :
+                    // /root/project/src/parser/Apl.g:91:55: tile
+                    {
+                    pushFollow(FOLLOW_tile_in_pfor_stmt847);
+                    tile63=tile();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, tile63.getTree());
+
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/src/parser/Apl.g:91:61: ( simd )?
+            int alt17=2;
+            int LA17_0 = input.LA(1);
+
+            if ( (LA17_0==SIMD) ) {
+                alt17=1;
+            }
+            switch (alt17) {
+                case 1 :
+                    // /root/project/src/parser/Apl.g:91:61: simd
+                    {
+                    pushFollow(FOLLOW_simd_in_pfor_stmt850);
+                    simd64=simd();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, simd64.getTree());
+
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/src/parser/Apl.g:91:67: ( reduction )?
+            int alt18=2;
+            int LA18_0 = input.LA(1);
+
+            if ( (LA18_0==REDUCTION) ) {
+                alt18=1;
+            }
+            switch (alt18) {
+                case 1 :
+                    // /root/project/src/parser/Apl.g:91:67: reduction
+                    {
+                    pushFollow(FOLLOW_reduction_in_pfor_stmt853);
+                    reduction65=reduction();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, reduction65.getTree());
+
+                    }
+                    break;
+
+            }
+
+
+            pushFollow(FOLLOW_block_instructions_in_pfor_stmt856);
+            block_instructions66=block_instructions();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, block_instructions66.getTree());
+
+            END67=(Token)match(input,END,FOLLOW_END_in_pfor_stmt858); 
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (AplTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (AplTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "pfor_stmt"
+
+
+    public static class bench_stmt_return extends ParserRuleReturnScope {
+        AplTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "bench_stmt"
+    // /root/project/src/parser/Apl.g:95:1: bench_stmt : BENCH ^ expr block_instructions END !;
+    public final AplParser.bench_stmt_return bench_stmt() throws RecognitionException {
+        AplParser.bench_stmt_return retval = new AplParser.bench_stmt_return();
+        retval.start = input.LT(1);
+
+
+        AplTree root_0 = null;
+
+        Token BENCH68=null;
+        Token END71=null;
+        AplParser.expr_return expr69 =null;
+
+        AplParser.block_instructions_return block_instructions70 =null;
+
+
+        AplTree BENCH68_tree=null;
+        AplTree END71_tree=null;
+
+        try {
+            // /root/project/src/parser/Apl.g:95:13: ( BENCH ^ expr block_instructions END !)
+            // /root/project/src/parser/Apl.g:95:17: BENCH ^ expr block_instructions END !
+            {
+            root_0 = (AplTree)adaptor.nil();
+
+
+            BENCH68=(Token)match(input,BENCH,FOLLOW_BENCH_in_bench_stmt884); 
+            BENCH68_tree = 
+            (AplTree)adaptor.create(BENCH68)
+            ;
+            root_0 = (AplTree)adaptor.becomeRoot(BENCH68_tree, root_0);
+
+
+            pushFollow(FOLLOW_expr_in_bench_stmt887);
+            expr69=expr();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, expr69.getTree());
+
+            pushFollow(FOLLOW_block_instructions_in_bench_stmt889);
+            block_instructions70=block_instructions();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, block_instructions70.getTree());
+
+            END71=(Token)match(input,END,FOLLOW_END_in_bench_stmt891); 
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (AplTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (AplTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "bench_stmt"
+
+
+    public static class reduction_return extends ParserRuleReturnScope {
+        AplTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "reduction"
+    // /root/project/src/parser/Apl.g:98:1: reduction : REDUCTION ^ '(' ! operator ':' ! paramlist ')' !;
+    public final AplParser.reduction_return reduction() throws RecognitionException {
+        AplParser.reduction_return retval = new AplParser.reduction_return();
+        retval.start = input.LT(1);
+
+
+        AplTree root_0 = null;
+
+        Token REDUCTION72=null;
+        Token char_literal73=null;
+        Token char_literal75=null;
+        Token char_literal77=null;
+        AplParser.operator_return operator74 =null;
+
+        AplParser.paramlist_return paramlist76 =null;
+
+
+        AplTree REDUCTION72_tree=null;
+        AplTree char_literal73_tree=null;
+        AplTree char_literal75_tree=null;
+        AplTree char_literal77_tree=null;
+
+        try {
+            // /root/project/src/parser/Apl.g:98:13: ( REDUCTION ^ '(' ! operator ':' ! paramlist ')' !)
+            // /root/project/src/parser/Apl.g:98:17: REDUCTION ^ '(' ! operator ':' ! paramlist ')' !
+            {
+            root_0 = (AplTree)adaptor.nil();
+
+
+            REDUCTION72=(Token)match(input,REDUCTION,FOLLOW_REDUCTION_in_reduction917); 
+            REDUCTION72_tree = 
+            (AplTree)adaptor.create(REDUCTION72)
+            ;
+            root_0 = (AplTree)adaptor.becomeRoot(REDUCTION72_tree, root_0);
+
+
+            char_literal73=(Token)match(input,75,FOLLOW_75_in_reduction920); 
+
+            pushFollow(FOLLOW_operator_in_reduction923);
+            operator74=operator();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, operator74.getTree());
+
+            char_literal75=(Token)match(input,78,FOLLOW_78_in_reduction925); 
+
+            pushFollow(FOLLOW_paramlist_in_reduction928);
+            paramlist76=paramlist();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, paramlist76.getTree());
+
+            char_literal77=(Token)match(input,76,FOLLOW_76_in_reduction930); 
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (AplTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (AplTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "reduction"
+
+
+    public static class tile_return extends ParserRuleReturnScope {
+        AplTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "tile"
+    // /root/project/src/parser/Apl.g:102:1: tile : TILE ^ ( '(' ! INT ( ',' ! INT )* ')' !)? ;
+    public final AplParser.tile_return tile() throws RecognitionException {
+        AplParser.tile_return retval = new AplParser.tile_return();
+        retval.start = input.LT(1);
+
+
+        AplTree root_0 = null;
+
+        Token TILE78=null;
+        Token char_literal79=null;
+        Token INT80=null;
+        Token char_literal81=null;
+        Token INT82=null;
+        Token char_literal83=null;
+
+        AplTree TILE78_tree=null;
+        AplTree char_literal79_tree=null;
+        AplTree INT80_tree=null;
+        AplTree char_literal81_tree=null;
+        AplTree INT82_tree=null;
+        AplTree char_literal83_tree=null;
+
+        try {
+            // /root/project/src/parser/Apl.g:102:13: ( TILE ^ ( '(' ! INT ( ',' ! INT )* ')' !)? )
+            // /root/project/src/parser/Apl.g:102:17: TILE ^ ( '(' ! INT ( ',' ! INT )* ')' !)?
+            {
+            root_0 = (AplTree)adaptor.nil();
+
+
+            TILE78=(Token)match(input,TILE,FOLLOW_TILE_in_tile962); 
+            TILE78_tree = 
+            (AplTree)adaptor.create(TILE78)
+            ;
+            root_0 = (AplTree)adaptor.becomeRoot(TILE78_tree, root_0);
+
+
+            // /root/project/src/parser/Apl.g:102:23: ( '(' ! INT ( ',' ! INT )* ')' !)?
+            int alt20=2;
+            int LA20_0 = input.LA(1);
+
+            if ( (LA20_0==75) ) {
+                alt20=1;
+            }
+            switch (alt20) {
+                case 1 :
+                    // /root/project/src/parser/Apl.g:102:24: '(' ! INT ( ',' ! INT )* ')' !
+                    {
+                    char_literal79=(Token)match(input,75,FOLLOW_75_in_tile966); 
+
+                    INT80=(Token)match(input,INT,FOLLOW_INT_in_tile969); 
+                    INT80_tree = 
+                    (AplTree)adaptor.create(INT80)
+                    ;
+                    adaptor.addChild(root_0, INT80_tree);
+
+
+                    // /root/project/src/parser/Apl.g:102:33: ( ',' ! INT )*
+                    loop19:
+                    do {
+                        int alt19=2;
+                        int LA19_0 = input.LA(1);
+
+                        if ( (LA19_0==77) ) {
+                            alt19=1;
+                        }
+
+
+                        switch (alt19) {
+                    	case 1 :
+                    	    // /root/project/src/parser/Apl.g:102:34: ',' ! INT
+                    	    {
+                    	    char_literal81=(Token)match(input,77,FOLLOW_77_in_tile972); 
+
+                    	    INT82=(Token)match(input,INT,FOLLOW_INT_in_tile975); 
+                    	    INT82_tree = 
+                    	    (AplTree)adaptor.create(INT82)
+                    	    ;
+                    	    adaptor.addChild(root_0, INT82_tree);
+
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    break loop19;
+                        }
+                    } while (true);
+
+
+                    char_literal83=(Token)match(input,76,FOLLOW_76_in_tile979); 
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (AplTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (AplTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "tile"
+
+
+    public static class simd_return extends ParserRuleReturnScope {
+        AplTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "simd"
+    // /root/project/src/parser/Apl.g:106:1: simd : SIMD ^ ( simd_clause )* ;
+    public final AplParser.simd_return simd() throws RecognitionException {
+        AplParser.simd_return retval = new AplParser.simd_return();
+        retval.start = input.LT(1);
+
+
+        AplTree root_0 = null;
+
+        Token SIMD84=null;
+        AplParser.simd_clause_return simd_clause85 =null;
+
+
+        AplTree SIMD84_tree=null;
+
+        try {
+            // /root/project/src/parser/Apl.g:106:13: ( SIMD ^ ( simd_clause )* )
+            // /root/project/src/parser/Apl.g:106:17: SIMD ^ ( simd_clause )*
+            {
+            root_0 = (AplTree)adaptor.nil();
+
+
+            SIMD84=(Token)match(input,SIMD,FOLLOW_SIMD_in_simd1013); 
+            SIMD84_tree = 
+            (AplTree)adaptor.create(SIMD84)
+            ;
+            root_0 = (AplTree)adaptor.becomeRoot(SIMD84_tree, root_0);
+
+
+            // /root/project/src/parser/Apl.g:106:23: ( simd_clause )*
+            loop21:
+            do {
+                int alt21=2;
+                int LA21_0 = input.LA(1);
+
+                if ( (LA21_0==ALIGNED||LA21_0==SAFELEN||LA21_0==SIMDLEN) ) {
+                    alt21=1;
+                }
+
+
+                switch (alt21) {
+            	case 1 :
+            	    // /root/project/src/parser/Apl.g:106:23: simd_clause
+            	    {
+            	    pushFollow(FOLLOW_simd_clause_in_simd1016);
+            	    simd_clause85=simd_clause();
+
+            	    state._fsp--;
+
+            	    adaptor.addChild(root_0, simd_clause85.getTree());
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop21;
+                }
+            } while (true);
+
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (AplTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (AplTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "simd"
+
+
+    public static class simd_clause_return extends ParserRuleReturnScope {
+        AplTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "simd_clause"
+    // /root/project/src/parser/Apl.g:109:1: simd_clause : ( SAFELEN ^ '(' ! INT ')' !| SIMDLEN ^ '(' ! INT ')' !| ALIGNED ^ '(' ! paramlist ( ':' ! INT )? ')' !);
+    public final AplParser.simd_clause_return simd_clause() throws RecognitionException {
+        AplParser.simd_clause_return retval = new AplParser.simd_clause_return();
+        retval.start = input.LT(1);
+
+
+        AplTree root_0 = null;
+
+        Token SAFELEN86=null;
+        Token char_literal87=null;
+        Token INT88=null;
+        Token char_literal89=null;
+        Token SIMDLEN90=null;
+        Token char_literal91=null;
+        Token INT92=null;
+        Token char_literal93=null;
+        Token ALIGNED94=null;
+        Token char_literal95=null;
+        Token char_literal97=null;
+        Token INT98=null;
+        Token char_literal99=null;
+        AplParser.paramlist_return paramlist96 =null;
+
+
+        AplTree SAFELEN86_tree=null;
+        AplTree char_literal87_tree=null;
+        AplTree INT88_tree=null;
+        AplTree char_literal89_tree=null;
+        AplTree SIMDLEN90_tree=null;
+        AplTree char_literal91_tree=null;
+        AplTree INT92_tree=null;
+        AplTree char_literal93_tree=null;
+        AplTree ALIGNED94_tree=null;
+        AplTree char_literal95_tree=null;
+        AplTree char_literal97_tree=null;
+        AplTree INT98_tree=null;
+        AplTree char_literal99_tree=null;
+
+        try {
+            // /root/project/src/parser/Apl.g:109:13: ( SAFELEN ^ '(' ! INT ')' !| SIMDLEN ^ '(' ! INT ')' !| ALIGNED ^ '(' ! paramlist ( ':' ! INT )? ')' !)
+            int alt23=3;
+            switch ( input.LA(1) ) {
+            case SAFELEN:
+                {
+                alt23=1;
+                }
+                break;
+            case SIMDLEN:
+                {
+                alt23=2;
+                }
+                break;
+            case ALIGNED:
+                {
+                alt23=3;
+                }
+                break;
+            default:
+                NoViableAltException nvae =
+                    new NoViableAltException("", 23, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt23) {
+                case 1 :
+                    // /root/project/src/parser/Apl.g:109:17: SAFELEN ^ '(' ! INT ')' !
+                    {
+                    root_0 = (AplTree)adaptor.nil();
+
+
+                    SAFELEN86=(Token)match(input,SAFELEN,FOLLOW_SAFELEN_in_simd_clause1040); 
+                    SAFELEN86_tree = 
+                    (AplTree)adaptor.create(SAFELEN86)
+                    ;
+                    root_0 = (AplTree)adaptor.becomeRoot(SAFELEN86_tree, root_0);
+
+
+                    char_literal87=(Token)match(input,75,FOLLOW_75_in_simd_clause1043); 
+
+                    INT88=(Token)match(input,INT,FOLLOW_INT_in_simd_clause1046); 
+                    INT88_tree = 
+                    (AplTree)adaptor.create(INT88)
+                    ;
+                    adaptor.addChild(root_0, INT88_tree);
+
+
+                    char_literal89=(Token)match(input,76,FOLLOW_76_in_simd_clause1048); 
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/parser/Apl.g:110:17: SIMDLEN ^ '(' ! INT ')' !
+                    {
+                    root_0 = (AplTree)adaptor.nil();
+
+
+                    SIMDLEN90=(Token)match(input,SIMDLEN,FOLLOW_SIMDLEN_in_simd_clause1067); 
+                    SIMDLEN90_tree = 
+                    (AplTree)adaptor.create(SIMDLEN90)
+                    ;
+                    root_0 = (AplTree)adaptor.becomeRoot(SIMDLEN90_tree, root_0);
+
+
+                    char_literal91=(Token)match(input,75,FOLLOW_75_in_simd_clause1070); 
+
+                    INT92=(Token)match(input,INT,FOLLOW_INT_in_simd_clause1073); 
+                    INT92_tree = 
+                    (AplTree)adaptor.create(INT92)
+                    ;
+                    adaptor.addChild(root_0, INT92_tree);
+
+
+                    char_literal93=(Token)match(input,76,FOLLOW_76_in_simd_clause1075); 
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/parser/Apl.g:111:17: ALIGNED ^ '(' ! paramlist ( ':' ! INT )? ')' !
+                    {
+                    root_0 = (AplTree)adaptor.nil();
+
+
+                    ALIGNED94=(Token)match(input,ALIGNED,FOLLOW_ALIGNED_in_simd_clause1094); 
+                    ALIGNED94_tree = 
+                    (AplTree)adaptor.create(ALIGNED94)
+                    ;
+                    root_0 = (AplTree)adaptor.becomeRoot(ALIGNED94_tree, root_0);
+
+
+                    char_literal95=(Token)match(input,75,FOLLOW_75_in_simd_clause1097); 
+
+                    pushFollow(FOLLOW_paramlist_in_simd_clause1100);
+                    paramlist96=paramlist();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, paramlist96.getTree());
+
+                    // /root/project/src/parser/Apl.g:111:41: ( ':' ! INT )?
+                    int alt22=2;
+                    int LA22_0 = input.LA(1);
+
+                    if ( (LA22_0==78) ) {
+                        alt22=1;
+                    }
+                    switch (alt22) {
+                        case 1 :
+                            // /root/project/src/parser/Apl.g:111:42: ':' ! INT
+                            {
+                            char_literal97=(Token)match(input,78,FOLLOW_78_in_simd_clause1103); 
+
+                            INT98=(Token)match(input,INT,FOLLOW_INT_in_simd_clause1106); 
+                            INT98_tree = 
+                            (AplTree)adaptor.create(INT98)
+                            ;
+                            adaptor.addChild(root_0, INT98_tree);
+
+
+                            }
+                            break;
+
+                    }
+
+
+                    char_literal99=(Token)match(input,76,FOLLOW_76_in_simd_clause1110); 
+
+                    }
+                    break;
+
+            }
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (AplTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (AplTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "simd_clause"
+
+
+    public static class operator_return extends ParserRuleReturnScope {
+        AplTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "operator"
+    // /root/project/src/parser/Apl.g:114:1: operator : ( PLUS | MINUS | MUL | DIV | MOD | NOT | AND | OR ) ;
+    public final AplParser.operator_return operator() throws RecognitionException {
+        AplParser.operator_return retval = new AplParser.operator_return();
+        retval.start = input.LT(1);
+
+
+        AplTree root_0 = null;
+
+        Token set100=null;
+
+        AplTree set100_tree=null;
+
+        try {
+            // /root/project/src/parser/Apl.g:114:13: ( ( PLUS | MINUS | MUL | DIV | MOD | NOT | AND | OR ) )
+            // /root/project/src/parser/Apl.g:
+            {
+            root_0 = (AplTree)adaptor.nil();
+
+
+            set100=(Token)input.LT(1);
+
+            if ( input.LA(1)==AND||input.LA(1)==DIV||(input.LA(1) >= MINUS && input.LA(1) <= NOT)||input.LA(1)==OR||input.LA(1)==PLUS ) {
+                input.consume();
+                adaptor.addChild(root_0, 
+                (AplTree)adaptor.create(set100)
+                );
+                state.errorRecovery=false;
+            }
+            else {
+                MismatchedSetException mse = new MismatchedSetException(null,input);
+                throw mse;
+            }
+
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (AplTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (AplTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "operator"
+
+
+    public static class while_stmt_return extends ParserRuleReturnScope {
+        AplTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "while_stmt"
+    // /root/project/src/parser/Apl.g:118:1: while_stmt : WHILE ^ expr DO ! block_instructions END !;
+    public final AplParser.while_stmt_return while_stmt() throws RecognitionException {
+        AplParser.while_stmt_return retval = new AplParser.while_stmt_return();
+        retval.start = input.LT(1);
+
+
+        AplTree root_0 = null;
+
+        Token WHILE101=null;
+        Token DO103=null;
+        Token END105=null;
+        AplParser.expr_return expr102 =null;
+
+        AplParser.block_instructions_return block_instructions104 =null;
+
+
+        AplTree WHILE101_tree=null;
+        AplTree DO103_tree=null;
+        AplTree END105_tree=null;
+
+        try {
+            // /root/project/src/parser/Apl.g:118:12: ( WHILE ^ expr DO ! block_instructions END !)
+            // /root/project/src/parser/Apl.g:118:14: WHILE ^ expr DO ! block_instructions END !
+            {
+            root_0 = (AplTree)adaptor.nil();
+
+
+            WHILE101=(Token)match(input,WHILE,FOLLOW_WHILE_in_while_stmt1189); 
+            WHILE101_tree = 
+            (AplTree)adaptor.create(WHILE101)
+            ;
+            root_0 = (AplTree)adaptor.becomeRoot(WHILE101_tree, root_0);
+
+
+            pushFollow(FOLLOW_expr_in_while_stmt1192);
+            expr102=expr();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, expr102.getTree());
+
+            DO103=(Token)match(input,DO,FOLLOW_DO_in_while_stmt1194); 
+
+            pushFollow(FOLLOW_block_instructions_in_while_stmt1197);
+            block_instructions104=block_instructions();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, block_instructions104.getTree());
+
+            END105=(Token)match(input,END,FOLLOW_END_in_while_stmt1199); 
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (AplTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (AplTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "while_stmt"
+
+
+    public static class return_stmt_return extends ParserRuleReturnScope {
+        AplTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "return_stmt"
+    // /root/project/src/parser/Apl.g:122:1: return_stmt : RETURN ^ ( expr )? ;
+    public final AplParser.return_stmt_return return_stmt() throws RecognitionException {
+        AplParser.return_stmt_return retval = new AplParser.return_stmt_return();
+        retval.start = input.LT(1);
+
+
+        AplTree root_0 = null;
+
+        Token RETURN106=null;
+        AplParser.expr_return expr107 =null;
+
+
+        AplTree RETURN106_tree=null;
+
+        try {
+            // /root/project/src/parser/Apl.g:122:13: ( RETURN ^ ( expr )? )
+            // /root/project/src/parser/Apl.g:122:15: RETURN ^ ( expr )?
+            {
+            root_0 = (AplTree)adaptor.nil();
+
+
+            RETURN106=(Token)match(input,RETURN,FOLLOW_RETURN_in_return_stmt1222); 
+            RETURN106_tree = 
+            (AplTree)adaptor.create(RETURN106)
+            ;
+            root_0 = (AplTree)adaptor.becomeRoot(RETURN106_tree, root_0);
+
+
+            // /root/project/src/parser/Apl.g:122:23: ( expr )?
+            int alt24=2;
+            int LA24_0 = input.LA(1);
+
+            if ( (LA24_0==CHAR||LA24_0==FALSE||LA24_0==FLOAT||LA24_0==ID||(LA24_0 >= INT && LA24_0 <= IOTA)||LA24_0==MINUS||LA24_0==NOT||LA24_0==PLUS||(LA24_0 >= READ && LA24_0 <= REDUCE)||LA24_0==STRING||LA24_0==TRUE||LA24_0==WRITE||LA24_0==75) ) {
+                alt24=1;
+            }
+            switch (alt24) {
+                case 1 :
+                    // /root/project/src/parser/Apl.g:122:23: expr
+                    {
+                    pushFollow(FOLLOW_expr_in_return_stmt1225);
+                    expr107=expr();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, expr107.getTree());
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (AplTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (AplTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "return_stmt"
+
+
+    public static class read_return extends ParserRuleReturnScope {
+        AplTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "read"
+    // /root/project/src/parser/Apl.g:126:1: read : READ ^ id_atom ( FROM ! ( file | expr ) )? ;
+    public final AplParser.read_return read() throws RecognitionException {
+        AplParser.read_return retval = new AplParser.read_return();
+        retval.start = input.LT(1);
+
+
+        AplTree root_0 = null;
+
+        Token READ108=null;
+        Token FROM110=null;
+        AplParser.id_atom_return id_atom109 =null;
+
+        AplParser.file_return file111 =null;
+
+        AplParser.expr_return expr112 =null;
+
+
+        AplTree READ108_tree=null;
+        AplTree FROM110_tree=null;
+
+        try {
+            // /root/project/src/parser/Apl.g:126:6: ( READ ^ id_atom ( FROM ! ( file | expr ) )? )
+            // /root/project/src/parser/Apl.g:126:8: READ ^ id_atom ( FROM ! ( file | expr ) )?
+            {
+            root_0 = (AplTree)adaptor.nil();
+
+
+            READ108=(Token)match(input,READ,FOLLOW_READ_in_read1244); 
+            READ108_tree = 
+            (AplTree)adaptor.create(READ108)
+            ;
+            root_0 = (AplTree)adaptor.becomeRoot(READ108_tree, root_0);
+
+
+            pushFollow(FOLLOW_id_atom_in_read1247);
+            id_atom109=id_atom();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, id_atom109.getTree());
+
+            // /root/project/src/parser/Apl.g:126:22: ( FROM ! ( file | expr ) )?
+            int alt26=2;
+            int LA26_0 = input.LA(1);
+
+            if ( (LA26_0==FROM) ) {
+                alt26=1;
+            }
+            switch (alt26) {
+                case 1 :
+                    // /root/project/src/parser/Apl.g:126:23: FROM ! ( file | expr )
+                    {
+                    FROM110=(Token)match(input,FROM,FOLLOW_FROM_in_read1250); 
+
+                    // /root/project/src/parser/Apl.g:126:29: ( file | expr )
+                    int alt25=2;
+                    int LA25_0 = input.LA(1);
+
+                    if ( (LA25_0==FILE) ) {
+                        alt25=1;
+                    }
+                    else if ( (LA25_0==CHAR||LA25_0==FALSE||LA25_0==FLOAT||LA25_0==ID||(LA25_0 >= INT && LA25_0 <= IOTA)||LA25_0==MINUS||LA25_0==NOT||LA25_0==PLUS||(LA25_0 >= READ && LA25_0 <= REDUCE)||LA25_0==STRING||LA25_0==TRUE||LA25_0==WRITE||LA25_0==75) ) {
+                        alt25=2;
+                    }
+                    else {
+                        NoViableAltException nvae =
+                            new NoViableAltException("", 25, 0, input);
+
+                        throw nvae;
+
+                    }
+                    switch (alt25) {
+                        case 1 :
+                            // /root/project/src/parser/Apl.g:126:30: file
+                            {
+                            pushFollow(FOLLOW_file_in_read1254);
+                            file111=file();
+
+                            state._fsp--;
+
+                            adaptor.addChild(root_0, file111.getTree());
+
+                            }
+                            break;
+                        case 2 :
+                            // /root/project/src/parser/Apl.g:126:37: expr
+                            {
+                            pushFollow(FOLLOW_expr_in_read1258);
+                            expr112=expr();
+
+                            state._fsp--;
+
+                            adaptor.addChild(root_0, expr112.getTree());
+
+                            }
+                            break;
+
+                    }
+
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (AplTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (AplTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "read"
+
+
+    public static class file_return extends ParserRuleReturnScope {
+        AplTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "file"
+    // /root/project/src/parser/Apl.g:130:1: file : FILE ^ ( BINARY )? expr ;
+    public final AplParser.file_return file() throws RecognitionException {
+        AplParser.file_return retval = new AplParser.file_return();
+        retval.start = input.LT(1);
+
+
+        AplTree root_0 = null;
+
+        Token FILE113=null;
+        Token BINARY114=null;
+        AplParser.expr_return expr115 =null;
+
+
+        AplTree FILE113_tree=null;
+        AplTree BINARY114_tree=null;
+
+        try {
+            // /root/project/src/parser/Apl.g:130:9: ( FILE ^ ( BINARY )? expr )
+            // /root/project/src/parser/Apl.g:130:13: FILE ^ ( BINARY )? expr
+            {
+            root_0 = (AplTree)adaptor.nil();
+
+
+            FILE113=(Token)match(input,FILE,FOLLOW_FILE_in_file1284); 
+            FILE113_tree = 
+            (AplTree)adaptor.create(FILE113)
+            ;
+            root_0 = (AplTree)adaptor.becomeRoot(FILE113_tree, root_0);
+
+
+            // /root/project/src/parser/Apl.g:130:19: ( BINARY )?
+            int alt27=2;
+            int LA27_0 = input.LA(1);
+
+            if ( (LA27_0==BINARY) ) {
+                alt27=1;
+            }
+            switch (alt27) {
+                case 1 :
+                    // /root/project/src/parser/Apl.g:130:19: BINARY
+                    {
+                    BINARY114=(Token)match(input,BINARY,FOLLOW_BINARY_in_file1287); 
+                    BINARY114_tree = 
+                    (AplTree)adaptor.create(BINARY114)
+                    ;
+                    adaptor.addChild(root_0, BINARY114_tree);
+
+
+                    }
+                    break;
+
+            }
+
+
+            pushFollow(FOLLOW_expr_in_file1290);
+            expr115=expr();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, expr115.getTree());
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (AplTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (AplTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "file"
+
+
+    public static class write_return extends ParserRuleReturnScope {
+        AplTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "write"
+    // /root/project/src/parser/Apl.g:134:1: write : WRITE ^ expr ( TO ! ( file | id_atom ) )? ;
+    public final AplParser.write_return write() throws RecognitionException {
+        AplParser.write_return retval = new AplParser.write_return();
+        retval.start = input.LT(1);
+
+
+        AplTree root_0 = null;
+
+        Token WRITE116=null;
+        Token TO118=null;
+        AplParser.expr_return expr117 =null;
+
+        AplParser.file_return file119 =null;
+
+        AplParser.id_atom_return id_atom120 =null;
+
+
+        AplTree WRITE116_tree=null;
+        AplTree TO118_tree=null;
+
+        try {
+            // /root/project/src/parser/Apl.g:134:7: ( WRITE ^ expr ( TO ! ( file | id_atom ) )? )
+            // /root/project/src/parser/Apl.g:134:11: WRITE ^ expr ( TO ! ( file | id_atom ) )?
+            {
+            root_0 = (AplTree)adaptor.nil();
+
+
+            WRITE116=(Token)match(input,WRITE,FOLLOW_WRITE_in_write1310); 
+            WRITE116_tree = 
+            (AplTree)adaptor.create(WRITE116)
+            ;
+            root_0 = (AplTree)adaptor.becomeRoot(WRITE116_tree, root_0);
+
+
+            pushFollow(FOLLOW_expr_in_write1313);
+            expr117=expr();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, expr117.getTree());
+
+            // /root/project/src/parser/Apl.g:134:23: ( TO ! ( file | id_atom ) )?
+            int alt29=2;
+            int LA29_0 = input.LA(1);
+
+            if ( (LA29_0==TO) ) {
+                alt29=1;
+            }
+            switch (alt29) {
+                case 1 :
+                    // /root/project/src/parser/Apl.g:134:24: TO ! ( file | id_atom )
+                    {
+                    TO118=(Token)match(input,TO,FOLLOW_TO_in_write1316); 
+
+                    // /root/project/src/parser/Apl.g:134:28: ( file | id_atom )
+                    int alt28=2;
+                    int LA28_0 = input.LA(1);
+
+                    if ( (LA28_0==FILE) ) {
+                        alt28=1;
+                    }
+                    else if ( (LA28_0==ID) ) {
+                        alt28=2;
+                    }
+                    else {
+                        NoViableAltException nvae =
+                            new NoViableAltException("", 28, 0, input);
+
+                        throw nvae;
+
+                    }
+                    switch (alt28) {
+                        case 1 :
+                            // /root/project/src/parser/Apl.g:134:29: file
+                            {
+                            pushFollow(FOLLOW_file_in_write1320);
+                            file119=file();
+
+                            state._fsp--;
+
+                            adaptor.addChild(root_0, file119.getTree());
+
+                            }
+                            break;
+                        case 2 :
+                            // /root/project/src/parser/Apl.g:134:36: id_atom
+                            {
+                            pushFollow(FOLLOW_id_atom_in_write1324);
+                            id_atom120=id_atom();
+
+                            state._fsp--;
+
+                            adaptor.addChild(root_0, id_atom120.getTree());
+
+                            }
+                            break;
+
+                    }
+
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (AplTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (AplTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "write"
+
+
+    public static class free_return extends ParserRuleReturnScope {
+        AplTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "free"
+    // /root/project/src/parser/Apl.g:138:1: free : FREE ^ id_atom ;
+    public final AplParser.free_return free() throws RecognitionException {
+        AplParser.free_return retval = new AplParser.free_return();
+        retval.start = input.LT(1);
+
+
+        AplTree root_0 = null;
+
+        Token FREE121=null;
+        AplParser.id_atom_return id_atom122 =null;
+
+
+        AplTree FREE121_tree=null;
+
+        try {
+            // /root/project/src/parser/Apl.g:138:9: ( FREE ^ id_atom )
+            // /root/project/src/parser/Apl.g:138:13: FREE ^ id_atom
+            {
+            root_0 = (AplTree)adaptor.nil();
+
+
+            FREE121=(Token)match(input,FREE,FOLLOW_FREE_in_free1350); 
+            FREE121_tree = 
+            (AplTree)adaptor.create(FREE121)
+            ;
+            root_0 = (AplTree)adaptor.becomeRoot(FREE121_tree, root_0);
+
+
+            pushFollow(FOLLOW_id_atom_in_free1353);
+            id_atom122=id_atom();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, id_atom122.getTree());
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (AplTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (AplTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "free"
+
+
+    public static class parallel_return extends ParserRuleReturnScope {
+        AplTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "parallel"
+    // /root/project/src/parser/Apl.g:142:1: parallel : PARALLEL ^ ( pshared )? ( pprivate )? ( pthreads )? block_instructions END !;
+    public final AplParser.parallel_return parallel() throws RecognitionException {
+        AplParser.parallel_return retval = new AplParser.parallel_return();
+        retval.start = input.LT(1);
+
+
+        AplTree root_0 = null;
+
+        Token PARALLEL123=null;
+        Token END128=null;
+        AplParser.pshared_return pshared124 =null;
+
+        AplParser.pprivate_return pprivate125 =null;
+
+        AplParser.pthreads_return pthreads126 =null;
+
+        AplParser.block_instructions_return block_instructions127 =null;
+
+
+        AplTree PARALLEL123_tree=null;
+        AplTree END128_tree=null;
+
+        try {
+            // /root/project/src/parser/Apl.g:142:9: ( PARALLEL ^ ( pshared )? ( pprivate )? ( pthreads )? block_instructions END !)
+            // /root/project/src/parser/Apl.g:142:13: PARALLEL ^ ( pshared )? ( pprivate )? ( pthreads )? block_instructions END !
+            {
+            root_0 = (AplTree)adaptor.nil();
+
+
+            PARALLEL123=(Token)match(input,PARALLEL,FOLLOW_PARALLEL_in_parallel1372); 
+            PARALLEL123_tree = 
+            (AplTree)adaptor.create(PARALLEL123)
+            ;
+            root_0 = (AplTree)adaptor.becomeRoot(PARALLEL123_tree, root_0);
+
+
+            // /root/project/src/parser/Apl.g:142:23: ( pshared )?
+            int alt30=2;
+            int LA30_0 = input.LA(1);
+
+            if ( (LA30_0==SHARED) ) {
+                alt30=1;
+            }
+            switch (alt30) {
+                case 1 :
+                    // /root/project/src/parser/Apl.g:142:23: pshared
+                    {
+                    pushFollow(FOLLOW_pshared_in_parallel1375);
+                    pshared124=pshared();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, pshared124.getTree());
+
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/src/parser/Apl.g:142:32: ( pprivate )?
+            int alt31=2;
+            int LA31_0 = input.LA(1);
+
+            if ( (LA31_0==PRIVATE) ) {
+                alt31=1;
+            }
+            switch (alt31) {
+                case 1 :
+                    // /root/project/src/parser/Apl.g:142:32: pprivate
+                    {
+                    pushFollow(FOLLOW_pprivate_in_parallel1378);
+                    pprivate125=pprivate();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, pprivate125.getTree());
+
+                    }
+                    break;
+
+            }
+
+
+            // /root/project/src/parser/Apl.g:142:42: ( pthreads )?
+            int alt32=2;
+            int LA32_0 = input.LA(1);
+
+            if ( (LA32_0==NUMTHREADS) ) {
+                alt32=1;
+            }
+            switch (alt32) {
+                case 1 :
+                    // /root/project/src/parser/Apl.g:142:42: pthreads
+                    {
+                    pushFollow(FOLLOW_pthreads_in_parallel1381);
+                    pthreads126=pthreads();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, pthreads126.getTree());
+
+                    }
+                    break;
+
+            }
+
+
+            pushFollow(FOLLOW_block_instructions_in_parallel1384);
+            block_instructions127=block_instructions();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, block_instructions127.getTree());
+
+            END128=(Token)match(input,END,FOLLOW_END_in_parallel1386); 
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (AplTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (AplTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "parallel"
+
+
+    public static class pshared_return extends ParserRuleReturnScope {
+        AplTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "pshared"
+    // /root/project/src/parser/Apl.g:145:1: pshared : SHARED ^ params ;
+    public final AplParser.pshared_return pshared() throws RecognitionException {
+        AplParser.pshared_return retval = new AplParser.pshared_return();
+        retval.start = input.LT(1);
+
+
+        AplTree root_0 = null;
+
+        Token SHARED129=null;
+        AplParser.params_return params130 =null;
+
+
+        AplTree SHARED129_tree=null;
+
+        try {
+            // /root/project/src/parser/Apl.g:145:9: ( SHARED ^ params )
+            // /root/project/src/parser/Apl.g:145:13: SHARED ^ params
+            {
+            root_0 = (AplTree)adaptor.nil();
+
+
+            SHARED129=(Token)match(input,SHARED,FOLLOW_SHARED_in_pshared1406); 
+            SHARED129_tree = 
+            (AplTree)adaptor.create(SHARED129)
+            ;
+            root_0 = (AplTree)adaptor.becomeRoot(SHARED129_tree, root_0);
+
+
+            pushFollow(FOLLOW_params_in_pshared1409);
+            params130=params();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, params130.getTree());
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (AplTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (AplTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "pshared"
+
+
+    public static class pprivate_return extends ParserRuleReturnScope {
+        AplTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "pprivate"
+    // /root/project/src/parser/Apl.g:148:1: pprivate : PRIVATE ^ params ;
+    public final AplParser.pprivate_return pprivate() throws RecognitionException {
+        AplParser.pprivate_return retval = new AplParser.pprivate_return();
+        retval.start = input.LT(1);
+
+
+        AplTree root_0 = null;
+
+        Token PRIVATE131=null;
+        AplParser.params_return params132 =null;
+
+
+        AplTree PRIVATE131_tree=null;
+
+        try {
+            // /root/project/src/parser/Apl.g:148:9: ( PRIVATE ^ params )
+            // /root/project/src/parser/Apl.g:148:13: PRIVATE ^ params
+            {
+            root_0 = (AplTree)adaptor.nil();
+
+
+            PRIVATE131=(Token)match(input,PRIVATE,FOLLOW_PRIVATE_in_pprivate1427); 
+            PRIVATE131_tree = 
+            (AplTree)adaptor.create(PRIVATE131)
+            ;
+            root_0 = (AplTree)adaptor.becomeRoot(PRIVATE131_tree, root_0);
+
+
+            pushFollow(FOLLOW_params_in_pprivate1430);
+            params132=params();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, params132.getTree());
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (AplTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (AplTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "pprivate"
+
+
+    public static class pthreads_return extends ParserRuleReturnScope {
+        AplTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "pthreads"
+    // /root/project/src/parser/Apl.g:151:1: pthreads : NUMTHREADS ^ '(' ! num_expr ')' !;
+    public final AplParser.pthreads_return pthreads() throws RecognitionException {
+        AplParser.pthreads_return retval = new AplParser.pthreads_return();
+        retval.start = input.LT(1);
+
+
+        AplTree root_0 = null;
+
+        Token NUMTHREADS133=null;
+        Token char_literal134=null;
+        Token char_literal136=null;
+        AplParser.num_expr_return num_expr135 =null;
+
+
+        AplTree NUMTHREADS133_tree=null;
+        AplTree char_literal134_tree=null;
+        AplTree char_literal136_tree=null;
+
+        try {
+            // /root/project/src/parser/Apl.g:151:9: ( NUMTHREADS ^ '(' ! num_expr ')' !)
+            // /root/project/src/parser/Apl.g:151:13: NUMTHREADS ^ '(' ! num_expr ')' !
+            {
+            root_0 = (AplTree)adaptor.nil();
+
+
+            NUMTHREADS133=(Token)match(input,NUMTHREADS,FOLLOW_NUMTHREADS_in_pthreads1448); 
+            NUMTHREADS133_tree = 
+            (AplTree)adaptor.create(NUMTHREADS133)
+            ;
+            root_0 = (AplTree)adaptor.becomeRoot(NUMTHREADS133_tree, root_0);
+
+
+            char_literal134=(Token)match(input,75,FOLLOW_75_in_pthreads1451); 
+
+            pushFollow(FOLLOW_num_expr_in_pthreads1454);
+            num_expr135=num_expr();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, num_expr135.getTree());
+
+            char_literal136=(Token)match(input,76,FOLLOW_76_in_pthreads1456); 
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (AplTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (AplTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "pthreads"
+
+
+    public static class expr_return extends ParserRuleReturnScope {
+        AplTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "expr"
+    // /root/project/src/parser/Apl.g:155:1: expr : boolterm ( OR ^ boolterm )* ;
+    public final AplParser.expr_return expr() throws RecognitionException {
+        AplParser.expr_return retval = new AplParser.expr_return();
+        retval.start = input.LT(1);
+
+
+        AplTree root_0 = null;
+
+        Token OR138=null;
+        AplParser.boolterm_return boolterm137 =null;
+
+        AplParser.boolterm_return boolterm139 =null;
+
+
+        AplTree OR138_tree=null;
+
+        try {
+            // /root/project/src/parser/Apl.g:155:9: ( boolterm ( OR ^ boolterm )* )
+            // /root/project/src/parser/Apl.g:155:13: boolterm ( OR ^ boolterm )*
+            {
+            root_0 = (AplTree)adaptor.nil();
+
+
+            pushFollow(FOLLOW_boolterm_in_expr1480);
+            boolterm137=boolterm();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, boolterm137.getTree());
+
+            // /root/project/src/parser/Apl.g:155:22: ( OR ^ boolterm )*
+            loop33:
+            do {
+                int alt33=2;
+                int LA33_0 = input.LA(1);
+
+                if ( (LA33_0==OR) ) {
+                    alt33=1;
+                }
+
+
+                switch (alt33) {
+            	case 1 :
+            	    // /root/project/src/parser/Apl.g:155:23: OR ^ boolterm
+            	    {
+            	    OR138=(Token)match(input,OR,FOLLOW_OR_in_expr1483); 
+            	    OR138_tree = 
+            	    (AplTree)adaptor.create(OR138)
+            	    ;
+            	    root_0 = (AplTree)adaptor.becomeRoot(OR138_tree, root_0);
+
+
+            	    pushFollow(FOLLOW_boolterm_in_expr1486);
+            	    boolterm139=boolterm();
+
+            	    state._fsp--;
+
+            	    adaptor.addChild(root_0, boolterm139.getTree());
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop33;
+                }
+            } while (true);
+
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (AplTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (AplTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "expr"
+
+
+    public static class boolterm_return extends ParserRuleReturnScope {
+        AplTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "boolterm"
+    // /root/project/src/parser/Apl.g:158:1: boolterm : boolfact ( AND ^ boolfact )* ;
+    public final AplParser.boolterm_return boolterm() throws RecognitionException {
+        AplParser.boolterm_return retval = new AplParser.boolterm_return();
+        retval.start = input.LT(1);
+
+
+        AplTree root_0 = null;
+
+        Token AND141=null;
+        AplParser.boolfact_return boolfact140 =null;
+
+        AplParser.boolfact_return boolfact142 =null;
+
+
+        AplTree AND141_tree=null;
+
+        try {
+            // /root/project/src/parser/Apl.g:158:9: ( boolfact ( AND ^ boolfact )* )
+            // /root/project/src/parser/Apl.g:158:13: boolfact ( AND ^ boolfact )*
+            {
+            root_0 = (AplTree)adaptor.nil();
+
+
+            pushFollow(FOLLOW_boolfact_in_boolterm1506);
+            boolfact140=boolfact();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, boolfact140.getTree());
+
+            // /root/project/src/parser/Apl.g:158:22: ( AND ^ boolfact )*
+            loop34:
+            do {
+                int alt34=2;
+                int LA34_0 = input.LA(1);
+
+                if ( (LA34_0==AND) ) {
+                    alt34=1;
+                }
+
+
+                switch (alt34) {
+            	case 1 :
+            	    // /root/project/src/parser/Apl.g:158:23: AND ^ boolfact
+            	    {
+            	    AND141=(Token)match(input,AND,FOLLOW_AND_in_boolterm1509); 
+            	    AND141_tree = 
+            	    (AplTree)adaptor.create(AND141)
+            	    ;
+            	    root_0 = (AplTree)adaptor.becomeRoot(AND141_tree, root_0);
+
+
+            	    pushFollow(FOLLOW_boolfact_in_boolterm1512);
+            	    boolfact142=boolfact();
+
+            	    state._fsp--;
+
+            	    adaptor.addChild(root_0, boolfact142.getTree());
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop34;
+                }
+            } while (true);
+
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (AplTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (AplTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "boolterm"
+
+
+    public static class boolfact_return extends ParserRuleReturnScope {
+        AplTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "boolfact"
+    // /root/project/src/parser/Apl.g:161:1: boolfact : num_expr ( ( EQUAL ^| NOT_EQUAL ^| LT ^| LE ^| GT ^| GE ^) num_expr )? ;
+    public final AplParser.boolfact_return boolfact() throws RecognitionException {
+        AplParser.boolfact_return retval = new AplParser.boolfact_return();
+        retval.start = input.LT(1);
+
+
+        AplTree root_0 = null;
+
+        Token EQUAL144=null;
+        Token NOT_EQUAL145=null;
+        Token LT146=null;
+        Token LE147=null;
+        Token GT148=null;
+        Token GE149=null;
+        AplParser.num_expr_return num_expr143 =null;
+
+        AplParser.num_expr_return num_expr150 =null;
+
+
+        AplTree EQUAL144_tree=null;
+        AplTree NOT_EQUAL145_tree=null;
+        AplTree LT146_tree=null;
+        AplTree LE147_tree=null;
+        AplTree GT148_tree=null;
+        AplTree GE149_tree=null;
+
+        try {
+            // /root/project/src/parser/Apl.g:161:9: ( num_expr ( ( EQUAL ^| NOT_EQUAL ^| LT ^| LE ^| GT ^| GE ^) num_expr )? )
+            // /root/project/src/parser/Apl.g:161:13: num_expr ( ( EQUAL ^| NOT_EQUAL ^| LT ^| LE ^| GT ^| GE ^) num_expr )?
+            {
+            root_0 = (AplTree)adaptor.nil();
+
+
+            pushFollow(FOLLOW_num_expr_in_boolfact1532);
+            num_expr143=num_expr();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, num_expr143.getTree());
+
+            // /root/project/src/parser/Apl.g:161:22: ( ( EQUAL ^| NOT_EQUAL ^| LT ^| LE ^| GT ^| GE ^) num_expr )?
+            int alt36=2;
+            switch ( input.LA(1) ) {
+                case EQUAL:
+                    {
+                    alt36=1;
+                    }
+                    break;
+                case NOT_EQUAL:
+                    {
+                    alt36=1;
+                    }
+                    break;
+                case LT:
+                    {
+                    alt36=1;
+                    }
+                    break;
+                case LE:
+                    {
+                    alt36=1;
+                    }
+                    break;
+                case GT:
+                    {
+                    alt36=1;
+                    }
+                    break;
+                case GE:
+                    {
+                    alt36=1;
+                    }
+                    break;
+            }
+
+            switch (alt36) {
+                case 1 :
+                    // /root/project/src/parser/Apl.g:161:23: ( EQUAL ^| NOT_EQUAL ^| LT ^| LE ^| GT ^| GE ^) num_expr
+                    {
+                    // /root/project/src/parser/Apl.g:161:23: ( EQUAL ^| NOT_EQUAL ^| LT ^| LE ^| GT ^| GE ^)
+                    int alt35=6;
+                    switch ( input.LA(1) ) {
+                    case EQUAL:
+                        {
+                        alt35=1;
+                        }
+                        break;
+                    case NOT_EQUAL:
+                        {
+                        alt35=2;
+                        }
+                        break;
+                    case LT:
+                        {
+                        alt35=3;
+                        }
+                        break;
+                    case LE:
+                        {
+                        alt35=4;
+                        }
+                        break;
+                    case GT:
+                        {
+                        alt35=5;
+                        }
+                        break;
+                    case GE:
+                        {
+                        alt35=6;
+                        }
+                        break;
+                    default:
+                        NoViableAltException nvae =
+                            new NoViableAltException("", 35, 0, input);
+
+                        throw nvae;
+
+                    }
+
+                    switch (alt35) {
+                        case 1 :
+                            // /root/project/src/parser/Apl.g:161:24: EQUAL ^
+                            {
+                            EQUAL144=(Token)match(input,EQUAL,FOLLOW_EQUAL_in_boolfact1536); 
+                            EQUAL144_tree = 
+                            (AplTree)adaptor.create(EQUAL144)
+                            ;
+                            root_0 = (AplTree)adaptor.becomeRoot(EQUAL144_tree, root_0);
+
+
+                            }
+                            break;
+                        case 2 :
+                            // /root/project/src/parser/Apl.g:161:33: NOT_EQUAL ^
+                            {
+                            NOT_EQUAL145=(Token)match(input,NOT_EQUAL,FOLLOW_NOT_EQUAL_in_boolfact1541); 
+                            NOT_EQUAL145_tree = 
+                            (AplTree)adaptor.create(NOT_EQUAL145)
+                            ;
+                            root_0 = (AplTree)adaptor.becomeRoot(NOT_EQUAL145_tree, root_0);
+
+
+                            }
+                            break;
+                        case 3 :
+                            // /root/project/src/parser/Apl.g:161:46: LT ^
+                            {
+                            LT146=(Token)match(input,LT,FOLLOW_LT_in_boolfact1546); 
+                            LT146_tree = 
+                            (AplTree)adaptor.create(LT146)
+                            ;
+                            root_0 = (AplTree)adaptor.becomeRoot(LT146_tree, root_0);
+
+
+                            }
+                            break;
+                        case 4 :
+                            // /root/project/src/parser/Apl.g:161:52: LE ^
+                            {
+                            LE147=(Token)match(input,LE,FOLLOW_LE_in_boolfact1551); 
+                            LE147_tree = 
+                            (AplTree)adaptor.create(LE147)
+                            ;
+                            root_0 = (AplTree)adaptor.becomeRoot(LE147_tree, root_0);
+
+
+                            }
+                            break;
+                        case 5 :
+                            // /root/project/src/parser/Apl.g:161:58: GT ^
+                            {
+                            GT148=(Token)match(input,GT,FOLLOW_GT_in_boolfact1556); 
+                            GT148_tree = 
+                            (AplTree)adaptor.create(GT148)
+                            ;
+                            root_0 = (AplTree)adaptor.becomeRoot(GT148_tree, root_0);
+
+
+                            }
+                            break;
+                        case 6 :
+                            // /root/project/src/parser/Apl.g:161:64: GE ^
+                            {
+                            GE149=(Token)match(input,GE,FOLLOW_GE_in_boolfact1561); 
+                            GE149_tree = 
+                            (AplTree)adaptor.create(GE149)
+                            ;
+                            root_0 = (AplTree)adaptor.becomeRoot(GE149_tree, root_0);
+
+
+                            }
+                            break;
+
+                    }
+
+
+                    pushFollow(FOLLOW_num_expr_in_boolfact1565);
+                    num_expr150=num_expr();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, num_expr150.getTree());
+
+                    }
+                    break;
+
+            }
+
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (AplTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (AplTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "boolfact"
+
+
+    public static class num_expr_return extends ParserRuleReturnScope {
+        AplTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "num_expr"
+    // /root/project/src/parser/Apl.g:165:1: num_expr : ( REDUCE ^ num_expr | term ( ( PLUS ^| MINUS ^) term )* );
+    public final AplParser.num_expr_return num_expr() throws RecognitionException {
+        AplParser.num_expr_return retval = new AplParser.num_expr_return();
+        retval.start = input.LT(1);
+
+
+        AplTree root_0 = null;
+
+        Token REDUCE151=null;
+        Token PLUS154=null;
+        Token MINUS155=null;
+        AplParser.num_expr_return num_expr152 =null;
+
+        AplParser.term_return term153 =null;
+
+        AplParser.term_return term156 =null;
+
+
+        AplTree REDUCE151_tree=null;
+        AplTree PLUS154_tree=null;
+        AplTree MINUS155_tree=null;
+
+        try {
+            // /root/project/src/parser/Apl.g:165:9: ( REDUCE ^ num_expr | term ( ( PLUS ^| MINUS ^) term )* )
+            int alt39=2;
+            int LA39_0 = input.LA(1);
+
+            if ( (LA39_0==REDUCE) ) {
+                alt39=1;
+            }
+            else if ( (LA39_0==CHAR||LA39_0==FALSE||LA39_0==FLOAT||LA39_0==ID||(LA39_0 >= INT && LA39_0 <= IOTA)||LA39_0==MINUS||LA39_0==NOT||LA39_0==PLUS||LA39_0==READ||LA39_0==STRING||LA39_0==TRUE||LA39_0==WRITE||LA39_0==75) ) {
+                alt39=2;
+            }
+            else {
+                NoViableAltException nvae =
+                    new NoViableAltException("", 39, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt39) {
+                case 1 :
+                    // /root/project/src/parser/Apl.g:165:13: REDUCE ^ num_expr
+                    {
+                    root_0 = (AplTree)adaptor.nil();
+
+
+                    REDUCE151=(Token)match(input,REDUCE,FOLLOW_REDUCE_in_num_expr1586); 
+                    REDUCE151_tree = 
+                    (AplTree)adaptor.create(REDUCE151)
+                    ;
+                    root_0 = (AplTree)adaptor.becomeRoot(REDUCE151_tree, root_0);
+
+
+                    pushFollow(FOLLOW_num_expr_in_num_expr1589);
+                    num_expr152=num_expr();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, num_expr152.getTree());
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/parser/Apl.g:166:13: term ( ( PLUS ^| MINUS ^) term )*
+                    {
+                    root_0 = (AplTree)adaptor.nil();
+
+
+                    pushFollow(FOLLOW_term_in_num_expr1603);
+                    term153=term();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, term153.getTree());
+
+                    // /root/project/src/parser/Apl.g:166:18: ( ( PLUS ^| MINUS ^) term )*
+                    loop38:
+                    do {
+                        int alt38=2;
+                        int LA38_0 = input.LA(1);
+
+                        if ( (LA38_0==PLUS) ) {
+                            alt38=1;
+                        }
+                        else if ( (LA38_0==MINUS) ) {
+                            alt38=1;
+                        }
+
+
+                        switch (alt38) {
+                    	case 1 :
+                    	    // /root/project/src/parser/Apl.g:166:20: ( PLUS ^| MINUS ^) term
+                    	    {
+                    	    // /root/project/src/parser/Apl.g:166:20: ( PLUS ^| MINUS ^)
+                    	    int alt37=2;
+                    	    int LA37_0 = input.LA(1);
+
+                    	    if ( (LA37_0==PLUS) ) {
+                    	        alt37=1;
+                    	    }
+                    	    else if ( (LA37_0==MINUS) ) {
+                    	        alt37=2;
+                    	    }
+                    	    else {
+                    	        NoViableAltException nvae =
+                    	            new NoViableAltException("", 37, 0, input);
+
+                    	        throw nvae;
+
+                    	    }
+                    	    switch (alt37) {
+                    	        case 1 :
+                    	            // /root/project/src/parser/Apl.g:166:21: PLUS ^
+                    	            {
+                    	            PLUS154=(Token)match(input,PLUS,FOLLOW_PLUS_in_num_expr1608); 
+                    	            PLUS154_tree = 
+                    	            (AplTree)adaptor.create(PLUS154)
+                    	            ;
+                    	            root_0 = (AplTree)adaptor.becomeRoot(PLUS154_tree, root_0);
+
+
+                    	            }
+                    	            break;
+                    	        case 2 :
+                    	            // /root/project/src/parser/Apl.g:166:29: MINUS ^
+                    	            {
+                    	            MINUS155=(Token)match(input,MINUS,FOLLOW_MINUS_in_num_expr1613); 
+                    	            MINUS155_tree = 
+                    	            (AplTree)adaptor.create(MINUS155)
+                    	            ;
+                    	            root_0 = (AplTree)adaptor.becomeRoot(MINUS155_tree, root_0);
+
+
+                    	            }
+                    	            break;
+
+                    	    }
+
+
+                    	    pushFollow(FOLLOW_term_in_num_expr1617);
+                    	    term156=term();
+
+                    	    state._fsp--;
+
+                    	    adaptor.addChild(root_0, term156.getTree());
+
+                    	    }
+                    	    break;
+
+                    	default :
+                    	    break loop38;
+                        }
+                    } while (true);
+
+
+                    }
+                    break;
+
+            }
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (AplTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (AplTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "num_expr"
+
+
+    public static class term_return extends ParserRuleReturnScope {
+        AplTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "term"
+    // /root/project/src/parser/Apl.g:169:1: term : factor ( ( MUL ^| DIV ^| MOD ^) factor )* ;
+    public final AplParser.term_return term() throws RecognitionException {
+        AplParser.term_return retval = new AplParser.term_return();
+        retval.start = input.LT(1);
+
+
+        AplTree root_0 = null;
+
+        Token MUL158=null;
+        Token DIV159=null;
+        Token MOD160=null;
+        AplParser.factor_return factor157 =null;
+
+        AplParser.factor_return factor161 =null;
+
+
+        AplTree MUL158_tree=null;
+        AplTree DIV159_tree=null;
+        AplTree MOD160_tree=null;
+
+        try {
+            // /root/project/src/parser/Apl.g:169:9: ( factor ( ( MUL ^| DIV ^| MOD ^) factor )* )
+            // /root/project/src/parser/Apl.g:169:13: factor ( ( MUL ^| DIV ^| MOD ^) factor )*
+            {
+            root_0 = (AplTree)adaptor.nil();
+
+
+            pushFollow(FOLLOW_factor_in_term1641);
+            factor157=factor();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, factor157.getTree());
+
+            // /root/project/src/parser/Apl.g:169:20: ( ( MUL ^| DIV ^| MOD ^) factor )*
+            loop41:
+            do {
+                int alt41=2;
+                switch ( input.LA(1) ) {
+                case MUL:
+                    {
+                    alt41=1;
+                    }
+                    break;
+                case DIV:
+                    {
+                    alt41=1;
+                    }
+                    break;
+                case MOD:
+                    {
+                    alt41=1;
+                    }
+                    break;
+
+                }
+
+                switch (alt41) {
+            	case 1 :
+            	    // /root/project/src/parser/Apl.g:169:22: ( MUL ^| DIV ^| MOD ^) factor
+            	    {
+            	    // /root/project/src/parser/Apl.g:169:22: ( MUL ^| DIV ^| MOD ^)
+            	    int alt40=3;
+            	    switch ( input.LA(1) ) {
+            	    case MUL:
+            	        {
+            	        alt40=1;
+            	        }
+            	        break;
+            	    case DIV:
+            	        {
+            	        alt40=2;
+            	        }
+            	        break;
+            	    case MOD:
+            	        {
+            	        alt40=3;
+            	        }
+            	        break;
+            	    default:
+            	        NoViableAltException nvae =
+            	            new NoViableAltException("", 40, 0, input);
+
+            	        throw nvae;
+
+            	    }
+
+            	    switch (alt40) {
+            	        case 1 :
+            	            // /root/project/src/parser/Apl.g:169:23: MUL ^
+            	            {
+            	            MUL158=(Token)match(input,MUL,FOLLOW_MUL_in_term1646); 
+            	            MUL158_tree = 
+            	            (AplTree)adaptor.create(MUL158)
+            	            ;
+            	            root_0 = (AplTree)adaptor.becomeRoot(MUL158_tree, root_0);
+
+
+            	            }
+            	            break;
+            	        case 2 :
+            	            // /root/project/src/parser/Apl.g:169:30: DIV ^
+            	            {
+            	            DIV159=(Token)match(input,DIV,FOLLOW_DIV_in_term1651); 
+            	            DIV159_tree = 
+            	            (AplTree)adaptor.create(DIV159)
+            	            ;
+            	            root_0 = (AplTree)adaptor.becomeRoot(DIV159_tree, root_0);
+
+
+            	            }
+            	            break;
+            	        case 3 :
+            	            // /root/project/src/parser/Apl.g:169:37: MOD ^
+            	            {
+            	            MOD160=(Token)match(input,MOD,FOLLOW_MOD_in_term1656); 
+            	            MOD160_tree = 
+            	            (AplTree)adaptor.create(MOD160)
+            	            ;
+            	            root_0 = (AplTree)adaptor.becomeRoot(MOD160_tree, root_0);
+
+
+            	            }
+            	            break;
+
+            	    }
+
+
+            	    pushFollow(FOLLOW_factor_in_term1660);
+            	    factor161=factor();
+
+            	    state._fsp--;
+
+            	    adaptor.addChild(root_0, factor161.getTree());
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop41;
+                }
+            } while (true);
+
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (AplTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (AplTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "term"
+
+
+    public static class factor_return extends ParserRuleReturnScope {
+        AplTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "factor"
+    // /root/project/src/parser/Apl.g:172:1: factor : ( NOT ^| PLUS ^| MINUS ^| IOTA ^)? atom ;
+    public final AplParser.factor_return factor() throws RecognitionException {
+        AplParser.factor_return retval = new AplParser.factor_return();
+        retval.start = input.LT(1);
+
+
+        AplTree root_0 = null;
+
+        Token NOT162=null;
+        Token PLUS163=null;
+        Token MINUS164=null;
+        Token IOTA165=null;
+        AplParser.atom_return atom166 =null;
+
+
+        AplTree NOT162_tree=null;
+        AplTree PLUS163_tree=null;
+        AplTree MINUS164_tree=null;
+        AplTree IOTA165_tree=null;
+
+        try {
+            // /root/project/src/parser/Apl.g:172:9: ( ( NOT ^| PLUS ^| MINUS ^| IOTA ^)? atom )
+            // /root/project/src/parser/Apl.g:172:13: ( NOT ^| PLUS ^| MINUS ^| IOTA ^)? atom
+            {
+            root_0 = (AplTree)adaptor.nil();
+
+
+            // /root/project/src/parser/Apl.g:172:13: ( NOT ^| PLUS ^| MINUS ^| IOTA ^)?
+            int alt42=5;
+            switch ( input.LA(1) ) {
+                case NOT:
+                    {
+                    alt42=1;
+                    }
+                    break;
+                case PLUS:
+                    {
+                    alt42=2;
+                    }
+                    break;
+                case MINUS:
+                    {
+                    alt42=3;
+                    }
+                    break;
+                case IOTA:
+                    {
+                    alt42=4;
+                    }
+                    break;
+            }
+
+            switch (alt42) {
+                case 1 :
+                    // /root/project/src/parser/Apl.g:172:14: NOT ^
+                    {
+                    NOT162=(Token)match(input,NOT,FOLLOW_NOT_in_factor1683); 
+                    NOT162_tree = 
+                    (AplTree)adaptor.create(NOT162)
+                    ;
+                    root_0 = (AplTree)adaptor.becomeRoot(NOT162_tree, root_0);
+
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/parser/Apl.g:172:21: PLUS ^
+                    {
+                    PLUS163=(Token)match(input,PLUS,FOLLOW_PLUS_in_factor1688); 
+                    PLUS163_tree = 
+                    (AplTree)adaptor.create(PLUS163)
+                    ;
+                    root_0 = (AplTree)adaptor.becomeRoot(PLUS163_tree, root_0);
+
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/parser/Apl.g:172:29: MINUS ^
+                    {
+                    MINUS164=(Token)match(input,MINUS,FOLLOW_MINUS_in_factor1693); 
+                    MINUS164_tree = 
+                    (AplTree)adaptor.create(MINUS164)
+                    ;
+                    root_0 = (AplTree)adaptor.becomeRoot(MINUS164_tree, root_0);
+
+
+                    }
+                    break;
+                case 4 :
+                    // /root/project/src/parser/Apl.g:172:38: IOTA ^
+                    {
+                    IOTA165=(Token)match(input,IOTA,FOLLOW_IOTA_in_factor1698); 
+                    IOTA165_tree = 
+                    (AplTree)adaptor.create(IOTA165)
+                    ;
+                    root_0 = (AplTree)adaptor.becomeRoot(IOTA165_tree, root_0);
+
+
+                    }
+                    break;
+
+            }
+
+
+            pushFollow(FOLLOW_atom_in_factor1703);
+            atom166=atom();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, atom166.getTree());
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (AplTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (AplTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "factor"
+
+
+    public static class atom_return extends ParserRuleReturnScope {
+        AplTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "atom"
+    // /root/project/src/parser/Apl.g:178:1: atom : ( id_atom | INT | FLOAT | CHAR | STRING | (b= TRUE |b= FALSE ) -> ^( BOOLEAN[$b,$b.text] ) | funcall | write | read | '(' expr ')' -> ^( EXPRGROUP expr ) );
+    public final AplParser.atom_return atom() throws RecognitionException {
+        AplParser.atom_return retval = new AplParser.atom_return();
+        retval.start = input.LT(1);
+
+
+        AplTree root_0 = null;
+
+        Token b=null;
+        Token INT168=null;
+        Token FLOAT169=null;
+        Token CHAR170=null;
+        Token STRING171=null;
+        Token char_literal175=null;
+        Token char_literal177=null;
+        AplParser.id_atom_return id_atom167 =null;
+
+        AplParser.funcall_return funcall172 =null;
+
+        AplParser.write_return write173 =null;
+
+        AplParser.read_return read174 =null;
+
+        AplParser.expr_return expr176 =null;
+
+
+        AplTree b_tree=null;
+        AplTree INT168_tree=null;
+        AplTree FLOAT169_tree=null;
+        AplTree CHAR170_tree=null;
+        AplTree STRING171_tree=null;
+        AplTree char_literal175_tree=null;
+        AplTree char_literal177_tree=null;
+        RewriteRuleTokenStream stream_TRUE=new RewriteRuleTokenStream(adaptor,"token TRUE");
+        RewriteRuleTokenStream stream_FALSE=new RewriteRuleTokenStream(adaptor,"token FALSE");
+        RewriteRuleTokenStream stream_75=new RewriteRuleTokenStream(adaptor,"token 75");
+        RewriteRuleTokenStream stream_76=new RewriteRuleTokenStream(adaptor,"token 76");
+        RewriteRuleSubtreeStream stream_expr=new RewriteRuleSubtreeStream(adaptor,"rule expr");
+        try {
+            // /root/project/src/parser/Apl.g:178:9: ( id_atom | INT | FLOAT | CHAR | STRING | (b= TRUE |b= FALSE ) -> ^( BOOLEAN[$b,$b.text] ) | funcall | write | read | '(' expr ')' -> ^( EXPRGROUP expr ) )
+            int alt44=10;
+            switch ( input.LA(1) ) {
+            case ID:
+                {
+                int LA44_1 = input.LA(2);
+
+                if ( (LA44_1==AND||LA44_1==BENCH||(LA44_1 >= DIV && LA44_1 <= EQUAL)||(LA44_1 >= FOR && LA44_1 <= FREE)||(LA44_1 >= GE && LA44_1 <= ID)||LA44_1==IF||LA44_1==LE||(LA44_1 >= LT && LA44_1 <= MUL)||LA44_1==NOT_EQUAL||(LA44_1 >= OR && LA44_1 <= PARALLEL)||(LA44_1 >= PFOR && LA44_1 <= PLUS)||LA44_1==READ||(LA44_1 >= REDUCTION && LA44_1 <= RETURN)||LA44_1==SIMD||(LA44_1 >= THEN && LA44_1 <= TO)||(LA44_1 >= WHILE && LA44_1 <= WRITE)||(LA44_1 >= 76 && LA44_1 <= 81)) ) {
+                    alt44=1;
+                }
+                else if ( (LA44_1==75) ) {
+                    alt44=7;
+                }
+                else {
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 44, 1, input);
+
+                    throw nvae;
+
+                }
+                }
+                break;
+            case INT:
+                {
+                alt44=2;
+                }
+                break;
+            case FLOAT:
+                {
+                alt44=3;
+                }
+                break;
+            case CHAR:
+                {
+                alt44=4;
+                }
+                break;
+            case STRING:
+                {
+                alt44=5;
+                }
+                break;
+            case FALSE:
+            case TRUE:
+                {
+                alt44=6;
+                }
+                break;
+            case WRITE:
+                {
+                alt44=8;
+                }
+                break;
+            case READ:
+                {
+                alt44=9;
+                }
+                break;
+            case 75:
+                {
+                alt44=10;
+                }
+                break;
+            default:
+                NoViableAltException nvae =
+                    new NoViableAltException("", 44, 0, input);
+
+                throw nvae;
+
+            }
+
+            switch (alt44) {
+                case 1 :
+                    // /root/project/src/parser/Apl.g:178:13: id_atom
+                    {
+                    root_0 = (AplTree)adaptor.nil();
+
+
+                    pushFollow(FOLLOW_id_atom_in_atom1728);
+                    id_atom167=id_atom();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, id_atom167.getTree());
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/parser/Apl.g:179:13: INT
+                    {
+                    root_0 = (AplTree)adaptor.nil();
+
+
+                    INT168=(Token)match(input,INT,FOLLOW_INT_in_atom1742); 
+                    INT168_tree = 
+                    (AplTree)adaptor.create(INT168)
+                    ;
+                    adaptor.addChild(root_0, INT168_tree);
+
+
+                    }
+                    break;
+                case 3 :
+                    // /root/project/src/parser/Apl.g:180:13: FLOAT
+                    {
+                    root_0 = (AplTree)adaptor.nil();
+
+
+                    FLOAT169=(Token)match(input,FLOAT,FOLLOW_FLOAT_in_atom1756); 
+                    FLOAT169_tree = 
+                    (AplTree)adaptor.create(FLOAT169)
+                    ;
+                    adaptor.addChild(root_0, FLOAT169_tree);
+
+
+                    }
+                    break;
+                case 4 :
+                    // /root/project/src/parser/Apl.g:181:13: CHAR
+                    {
+                    root_0 = (AplTree)adaptor.nil();
+
+
+                    CHAR170=(Token)match(input,CHAR,FOLLOW_CHAR_in_atom1770); 
+                    CHAR170_tree = 
+                    (AplTree)adaptor.create(CHAR170)
+                    ;
+                    adaptor.addChild(root_0, CHAR170_tree);
+
+
+                    }
+                    break;
+                case 5 :
+                    // /root/project/src/parser/Apl.g:182:13: STRING
+                    {
+                    root_0 = (AplTree)adaptor.nil();
+
+
+                    STRING171=(Token)match(input,STRING,FOLLOW_STRING_in_atom1784); 
+                    STRING171_tree = 
+                    (AplTree)adaptor.create(STRING171)
+                    ;
+                    adaptor.addChild(root_0, STRING171_tree);
+
+
+                    }
+                    break;
+                case 6 :
+                    // /root/project/src/parser/Apl.g:183:13: (b= TRUE |b= FALSE )
+                    {
+                    // /root/project/src/parser/Apl.g:183:13: (b= TRUE |b= FALSE )
+                    int alt43=2;
+                    int LA43_0 = input.LA(1);
+
+                    if ( (LA43_0==TRUE) ) {
+                        alt43=1;
+                    }
+                    else if ( (LA43_0==FALSE) ) {
+                        alt43=2;
+                    }
+                    else {
+                        NoViableAltException nvae =
+                            new NoViableAltException("", 43, 0, input);
+
+                        throw nvae;
+
+                    }
+                    switch (alt43) {
+                        case 1 :
+                            // /root/project/src/parser/Apl.g:183:14: b= TRUE
+                            {
+                            b=(Token)match(input,TRUE,FOLLOW_TRUE_in_atom1801);  
+                            stream_TRUE.add(b);
+
+
+                            }
+                            break;
+                        case 2 :
+                            // /root/project/src/parser/Apl.g:183:23: b= FALSE
+                            {
+                            b=(Token)match(input,FALSE,FOLLOW_FALSE_in_atom1807);  
+                            stream_FALSE.add(b);
+
+
+                            }
+                            break;
+
+                    }
+
+
+                    // AST REWRITE
+                    // elements: 
+                    // token labels: 
+                    // rule labels: retval
+                    // token list labels: 
+                    // rule list labels: 
+                    // wildcard labels: 
+                    retval.tree = root_0;
+                    RewriteRuleSubtreeStream stream_retval=new RewriteRuleSubtreeStream(adaptor,"rule retval",retval!=null?retval.tree:null);
+
+                    root_0 = (AplTree)adaptor.nil();
+                    // 183:33: -> ^( BOOLEAN[$b,$b.text] )
+                    {
+                        // /root/project/src/parser/Apl.g:183:36: ^( BOOLEAN[$b,$b.text] )
+                        {
+                        AplTree root_1 = (AplTree)adaptor.nil();
+                        root_1 = (AplTree)adaptor.becomeRoot(
+                        (AplTree)adaptor.create(BOOLEAN, b, (b!=null?b.getText():null))
+                        , root_1);
+
+                        adaptor.addChild(root_0, root_1);
+                        }
+
+                    }
+
+
+                    retval.tree = root_0;
+
+                    }
+                    break;
+                case 7 :
+                    // /root/project/src/parser/Apl.g:184:13: funcall
+                    {
+                    root_0 = (AplTree)adaptor.nil();
+
+
+                    pushFollow(FOLLOW_funcall_in_atom1830);
+                    funcall172=funcall();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, funcall172.getTree());
+
+                    }
+                    break;
+                case 8 :
+                    // /root/project/src/parser/Apl.g:185:13: write
+                    {
+                    root_0 = (AplTree)adaptor.nil();
+
+
+                    pushFollow(FOLLOW_write_in_atom1844);
+                    write173=write();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, write173.getTree());
+
+                    }
+                    break;
+                case 9 :
+                    // /root/project/src/parser/Apl.g:186:13: read
+                    {
+                    root_0 = (AplTree)adaptor.nil();
+
+
+                    pushFollow(FOLLOW_read_in_atom1858);
+                    read174=read();
+
+                    state._fsp--;
+
+                    adaptor.addChild(root_0, read174.getTree());
+
+                    }
+                    break;
+                case 10 :
+                    // /root/project/src/parser/Apl.g:187:13: '(' expr ')'
+                    {
+                    char_literal175=(Token)match(input,75,FOLLOW_75_in_atom1872);  
+                    stream_75.add(char_literal175);
+
+
+                    pushFollow(FOLLOW_expr_in_atom1874);
+                    expr176=expr();
+
+                    state._fsp--;
+
+                    stream_expr.add(expr176.getTree());
+
+                    char_literal177=(Token)match(input,76,FOLLOW_76_in_atom1876);  
+                    stream_76.add(char_literal177);
+
+
+                    // AST REWRITE
+                    // elements: expr
+                    // token labels: 
+                    // rule labels: retval
+                    // token list labels: 
+                    // rule list labels: 
+                    // wildcard labels: 
+                    retval.tree = root_0;
+                    RewriteRuleSubtreeStream stream_retval=new RewriteRuleSubtreeStream(adaptor,"rule retval",retval!=null?retval.tree:null);
+
+                    root_0 = (AplTree)adaptor.nil();
+                    // 187:26: -> ^( EXPRGROUP expr )
+                    {
+                        // /root/project/src/parser/Apl.g:187:29: ^( EXPRGROUP expr )
+                        {
+                        AplTree root_1 = (AplTree)adaptor.nil();
+                        root_1 = (AplTree)adaptor.becomeRoot(
+                        (AplTree)adaptor.create(EXPRGROUP, "EXPRGROUP")
+                        , root_1);
+
+                        adaptor.addChild(root_1, stream_expr.nextTree());
+
+                        adaptor.addChild(root_0, root_1);
+                        }
+
+                    }
+
+
+                    retval.tree = root_0;
+
+                    }
+                    break;
+
+            }
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (AplTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (AplTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "atom"
+
+
+    public static class id_atom_return extends ParserRuleReturnScope {
+        AplTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "id_atom"
+    // /root/project/src/parser/Apl.g:193:1: id_atom : ( ID |id= ID '[' num_expr ( ']' ( '[' num_expr ']' )* -> ^( IDARR $id ( num_expr )+ ) | ':' num_expr ( ':' num_expr )? ']' -> ^( SLICE $id ( num_expr )+ ) ) );
+    public final AplParser.id_atom_return id_atom() throws RecognitionException {
+        AplParser.id_atom_return retval = new AplParser.id_atom_return();
+        retval.start = input.LT(1);
+
+
+        AplTree root_0 = null;
+
+        Token id=null;
+        Token ID178=null;
+        Token char_literal179=null;
+        Token char_literal181=null;
+        Token char_literal182=null;
+        Token char_literal184=null;
+        Token char_literal185=null;
+        Token char_literal187=null;
+        Token char_literal189=null;
+        AplParser.num_expr_return num_expr180 =null;
+
+        AplParser.num_expr_return num_expr183 =null;
+
+        AplParser.num_expr_return num_expr186 =null;
+
+        AplParser.num_expr_return num_expr188 =null;
+
+
+        AplTree id_tree=null;
+        AplTree ID178_tree=null;
+        AplTree char_literal179_tree=null;
+        AplTree char_literal181_tree=null;
+        AplTree char_literal182_tree=null;
+        AplTree char_literal184_tree=null;
+        AplTree char_literal185_tree=null;
+        AplTree char_literal187_tree=null;
+        AplTree char_literal189_tree=null;
+        RewriteRuleTokenStream stream_78=new RewriteRuleTokenStream(adaptor,"token 78");
+        RewriteRuleTokenStream stream_80=new RewriteRuleTokenStream(adaptor,"token 80");
+        RewriteRuleTokenStream stream_81=new RewriteRuleTokenStream(adaptor,"token 81");
+        RewriteRuleTokenStream stream_ID=new RewriteRuleTokenStream(adaptor,"token ID");
+        RewriteRuleSubtreeStream stream_num_expr=new RewriteRuleSubtreeStream(adaptor,"rule num_expr");
+        try {
+            // /root/project/src/parser/Apl.g:193:9: ( ID |id= ID '[' num_expr ( ']' ( '[' num_expr ']' )* -> ^( IDARR $id ( num_expr )+ ) | ':' num_expr ( ':' num_expr )? ']' -> ^( SLICE $id ( num_expr )+ ) ) )
+            int alt48=2;
+            int LA48_0 = input.LA(1);
+
+            if ( (LA48_0==ID) ) {
+                int LA48_1 = input.LA(2);
+
+                if ( (LA48_1==80) ) {
+                    alt48=2;
+                }
+                else if ( (LA48_1==AND||LA48_1==ASSEQ||LA48_1==BENCH||(LA48_1 >= DIV && LA48_1 <= EQUAL)||(LA48_1 >= FOR && LA48_1 <= FROM)||(LA48_1 >= GE && LA48_1 <= ID)||(LA48_1 >= IF && LA48_1 <= IN)||LA48_1==LE||(LA48_1 >= LT && LA48_1 <= MUL)||LA48_1==NOT_EQUAL||(LA48_1 >= OR && LA48_1 <= PARALLEL)||(LA48_1 >= PFOR && LA48_1 <= PLUS)||LA48_1==READ||(LA48_1 >= REDUCTION && LA48_1 <= RETURN)||LA48_1==SIMD||(LA48_1 >= THEN && LA48_1 <= TO)||(LA48_1 >= WHILE && LA48_1 <= WRITE)||(LA48_1 >= 76 && LA48_1 <= 79)||LA48_1==81) ) {
+                    alt48=1;
+                }
+                else {
+                    NoViableAltException nvae =
+                        new NoViableAltException("", 48, 1, input);
+
+                    throw nvae;
+
+                }
+            }
+            else {
+                NoViableAltException nvae =
+                    new NoViableAltException("", 48, 0, input);
+
+                throw nvae;
+
+            }
+            switch (alt48) {
+                case 1 :
+                    // /root/project/src/parser/Apl.g:193:13: ID
+                    {
+                    root_0 = (AplTree)adaptor.nil();
+
+
+                    ID178=(Token)match(input,ID,FOLLOW_ID_in_id_atom1906); 
+                    ID178_tree = 
+                    (AplTree)adaptor.create(ID178)
+                    ;
+                    adaptor.addChild(root_0, ID178_tree);
+
+
+                    }
+                    break;
+                case 2 :
+                    // /root/project/src/parser/Apl.g:194:13: id= ID '[' num_expr ( ']' ( '[' num_expr ']' )* -> ^( IDARR $id ( num_expr )+ ) | ':' num_expr ( ':' num_expr )? ']' -> ^( SLICE $id ( num_expr )+ ) )
+                    {
+                    id=(Token)match(input,ID,FOLLOW_ID_in_id_atom1922);  
+                    stream_ID.add(id);
+
+
+                    char_literal179=(Token)match(input,80,FOLLOW_80_in_id_atom1924);  
+                    stream_80.add(char_literal179);
+
+
+                    pushFollow(FOLLOW_num_expr_in_id_atom1926);
+                    num_expr180=num_expr();
+
+                    state._fsp--;
+
+                    stream_num_expr.add(num_expr180.getTree());
+
+                    // /root/project/src/parser/Apl.g:195:13: ( ']' ( '[' num_expr ']' )* -> ^( IDARR $id ( num_expr )+ ) | ':' num_expr ( ':' num_expr )? ']' -> ^( SLICE $id ( num_expr )+ ) )
+                    int alt47=2;
+                    int LA47_0 = input.LA(1);
+
+                    if ( (LA47_0==81) ) {
+                        alt47=1;
+                    }
+                    else if ( (LA47_0==78) ) {
+                        alt47=2;
+                    }
+                    else {
+                        NoViableAltException nvae =
+                            new NoViableAltException("", 47, 0, input);
+
+                        throw nvae;
+
+                    }
+                    switch (alt47) {
+                        case 1 :
+                            // /root/project/src/parser/Apl.g:195:17: ']' ( '[' num_expr ']' )*
+                            {
+                            char_literal181=(Token)match(input,81,FOLLOW_81_in_id_atom1944);  
+                            stream_81.add(char_literal181);
+
+
+                            // /root/project/src/parser/Apl.g:195:21: ( '[' num_expr ']' )*
+                            loop45:
+                            do {
+                                int alt45=2;
+                                int LA45_0 = input.LA(1);
+
+                                if ( (LA45_0==80) ) {
+                                    alt45=1;
+                                }
+
+
+                                switch (alt45) {
+                            	case 1 :
+                            	    // /root/project/src/parser/Apl.g:195:22: '[' num_expr ']'
+                            	    {
+                            	    char_literal182=(Token)match(input,80,FOLLOW_80_in_id_atom1947);  
+                            	    stream_80.add(char_literal182);
+
+
+                            	    pushFollow(FOLLOW_num_expr_in_id_atom1949);
+                            	    num_expr183=num_expr();
+
+                            	    state._fsp--;
+
+                            	    stream_num_expr.add(num_expr183.getTree());
+
+                            	    char_literal184=(Token)match(input,81,FOLLOW_81_in_id_atom1951);  
+                            	    stream_81.add(char_literal184);
+
+
+                            	    }
+                            	    break;
+
+                            	default :
+                            	    break loop45;
+                                }
+                            } while (true);
+
+
+                            // AST REWRITE
+                            // elements: num_expr, id
+                            // token labels: id
+                            // rule labels: retval
+                            // token list labels: 
+                            // rule list labels: 
+                            // wildcard labels: 
+                            retval.tree = root_0;
+                            RewriteRuleTokenStream stream_id=new RewriteRuleTokenStream(adaptor,"token id",id);
+                            RewriteRuleSubtreeStream stream_retval=new RewriteRuleSubtreeStream(adaptor,"rule retval",retval!=null?retval.tree:null);
+
+                            root_0 = (AplTree)adaptor.nil();
+                            // 195:53: -> ^( IDARR $id ( num_expr )+ )
+                            {
+                                // /root/project/src/parser/Apl.g:195:56: ^( IDARR $id ( num_expr )+ )
+                                {
+                                AplTree root_1 = (AplTree)adaptor.nil();
+                                root_1 = (AplTree)adaptor.becomeRoot(
+                                (AplTree)adaptor.create(IDARR, "IDARR")
+                                , root_1);
+
+                                adaptor.addChild(root_1, stream_id.nextNode());
+
+                                if ( !(stream_num_expr.hasNext()) ) {
+                                    throw new RewriteEarlyExitException();
+                                }
+                                while ( stream_num_expr.hasNext() ) {
+                                    adaptor.addChild(root_1, stream_num_expr.nextTree());
+
+                                }
+                                stream_num_expr.reset();
+
+                                adaptor.addChild(root_0, root_1);
+                                }
+
+                            }
+
+
+                            retval.tree = root_0;
+
+                            }
+                            break;
+                        case 2 :
+                            // /root/project/src/parser/Apl.g:196:17: ':' num_expr ( ':' num_expr )? ']'
+                            {
+                            char_literal185=(Token)match(input,78,FOLLOW_78_in_id_atom1995);  
+                            stream_78.add(char_literal185);
+
+
+                            pushFollow(FOLLOW_num_expr_in_id_atom1997);
+                            num_expr186=num_expr();
+
+                            state._fsp--;
+
+                            stream_num_expr.add(num_expr186.getTree());
+
+                            // /root/project/src/parser/Apl.g:196:30: ( ':' num_expr )?
+                            int alt46=2;
+                            int LA46_0 = input.LA(1);
+
+                            if ( (LA46_0==78) ) {
+                                alt46=1;
+                            }
+                            switch (alt46) {
+                                case 1 :
+                                    // /root/project/src/parser/Apl.g:196:31: ':' num_expr
+                                    {
+                                    char_literal187=(Token)match(input,78,FOLLOW_78_in_id_atom2000);  
+                                    stream_78.add(char_literal187);
+
+
+                                    pushFollow(FOLLOW_num_expr_in_id_atom2002);
+                                    num_expr188=num_expr();
+
+                                    state._fsp--;
+
+                                    stream_num_expr.add(num_expr188.getTree());
+
+                                    }
+                                    break;
+
+                            }
+
+
+                            char_literal189=(Token)match(input,81,FOLLOW_81_in_id_atom2006);  
+                            stream_81.add(char_literal189);
+
+
+                            // AST REWRITE
+                            // elements: num_expr, id
+                            // token labels: id
+                            // rule labels: retval
+                            // token list labels: 
+                            // rule list labels: 
+                            // wildcard labels: 
+                            retval.tree = root_0;
+                            RewriteRuleTokenStream stream_id=new RewriteRuleTokenStream(adaptor,"token id",id);
+                            RewriteRuleSubtreeStream stream_retval=new RewriteRuleSubtreeStream(adaptor,"rule retval",retval!=null?retval.tree:null);
+
+                            root_0 = (AplTree)adaptor.nil();
+                            // 196:53: -> ^( SLICE $id ( num_expr )+ )
+                            {
+                                // /root/project/src/parser/Apl.g:196:56: ^( SLICE $id ( num_expr )+ )
+                                {
+                                AplTree root_1 = (AplTree)adaptor.nil();
+                                root_1 = (AplTree)adaptor.becomeRoot(
+                                (AplTree)adaptor.create(SLICE, "SLICE")
+                                , root_1);
+
+                                adaptor.addChild(root_1, stream_id.nextNode());
+
+                                if ( !(stream_num_expr.hasNext()) ) {
+                                    throw new RewriteEarlyExitException();
+                                }
+                                while ( stream_num_expr.hasNext() ) {
+                                    adaptor.addChild(root_1, stream_num_expr.nextTree());
+
+                                }
+                                stream_num_expr.reset();
+
+                                adaptor.addChild(root_0, root_1);
+                                }
+
+                            }
+
+
+                            retval.tree = root_0;
+
+                            }
+                            break;
+
+                    }
+
+
+                    }
+                    break;
+
+            }
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (AplTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (AplTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "id_atom"
+
+
+    public static class funcall_return extends ParserRuleReturnScope {
+        AplTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "funcall"
+    // /root/project/src/parser/Apl.g:201:1: funcall : ID '(' ( expr_list )? ')' -> ^( FUNCALL ID ^( ARGLIST ( expr_list )? ) ) ;
+    public final AplParser.funcall_return funcall() throws RecognitionException {
+        AplParser.funcall_return retval = new AplParser.funcall_return();
+        retval.start = input.LT(1);
+
+
+        AplTree root_0 = null;
+
+        Token ID190=null;
+        Token char_literal191=null;
+        Token char_literal193=null;
+        AplParser.expr_list_return expr_list192 =null;
+
+
+        AplTree ID190_tree=null;
+        AplTree char_literal191_tree=null;
+        AplTree char_literal193_tree=null;
+        RewriteRuleTokenStream stream_ID=new RewriteRuleTokenStream(adaptor,"token ID");
+        RewriteRuleTokenStream stream_75=new RewriteRuleTokenStream(adaptor,"token 75");
+        RewriteRuleTokenStream stream_76=new RewriteRuleTokenStream(adaptor,"token 76");
+        RewriteRuleSubtreeStream stream_expr_list=new RewriteRuleSubtreeStream(adaptor,"rule expr_list");
+        try {
+            // /root/project/src/parser/Apl.g:201:9: ( ID '(' ( expr_list )? ')' -> ^( FUNCALL ID ^( ARGLIST ( expr_list )? ) ) )
+            // /root/project/src/parser/Apl.g:201:13: ID '(' ( expr_list )? ')'
+            {
+            ID190=(Token)match(input,ID,FOLLOW_ID_in_funcall2055);  
+            stream_ID.add(ID190);
+
+
+            char_literal191=(Token)match(input,75,FOLLOW_75_in_funcall2057);  
+            stream_75.add(char_literal191);
+
+
+            // /root/project/src/parser/Apl.g:201:20: ( expr_list )?
+            int alt49=2;
+            int LA49_0 = input.LA(1);
+
+            if ( (LA49_0==CHAR||LA49_0==FALSE||LA49_0==FLOAT||LA49_0==ID||(LA49_0 >= INT && LA49_0 <= IOTA)||LA49_0==MINUS||LA49_0==NOT||LA49_0==PLUS||(LA49_0 >= READ && LA49_0 <= REDUCE)||LA49_0==STRING||LA49_0==TRUE||LA49_0==WRITE||LA49_0==75) ) {
+                alt49=1;
+            }
+            switch (alt49) {
+                case 1 :
+                    // /root/project/src/parser/Apl.g:201:20: expr_list
+                    {
+                    pushFollow(FOLLOW_expr_list_in_funcall2059);
+                    expr_list192=expr_list();
+
+                    state._fsp--;
+
+                    stream_expr_list.add(expr_list192.getTree());
+
+                    }
+                    break;
+
+            }
+
+
+            char_literal193=(Token)match(input,76,FOLLOW_76_in_funcall2062);  
+            stream_76.add(char_literal193);
+
+
+            // AST REWRITE
+            // elements: expr_list, ID
+            // token labels: 
+            // rule labels: retval
+            // token list labels: 
+            // rule list labels: 
+            // wildcard labels: 
+            retval.tree = root_0;
+            RewriteRuleSubtreeStream stream_retval=new RewriteRuleSubtreeStream(adaptor,"rule retval",retval!=null?retval.tree:null);
+
+            root_0 = (AplTree)adaptor.nil();
+            // 201:35: -> ^( FUNCALL ID ^( ARGLIST ( expr_list )? ) )
+            {
+                // /root/project/src/parser/Apl.g:201:38: ^( FUNCALL ID ^( ARGLIST ( expr_list )? ) )
+                {
+                AplTree root_1 = (AplTree)adaptor.nil();
+                root_1 = (AplTree)adaptor.becomeRoot(
+                (AplTree)adaptor.create(FUNCALL, "FUNCALL")
+                , root_1);
+
+                adaptor.addChild(root_1, 
+                stream_ID.nextNode()
+                );
+
+                // /root/project/src/parser/Apl.g:201:51: ^( ARGLIST ( expr_list )? )
+                {
+                AplTree root_2 = (AplTree)adaptor.nil();
+                root_2 = (AplTree)adaptor.becomeRoot(
+                (AplTree)adaptor.create(ARGLIST, "ARGLIST")
+                , root_2);
+
+                // /root/project/src/parser/Apl.g:201:61: ( expr_list )?
+                if ( stream_expr_list.hasNext() ) {
+                    adaptor.addChild(root_2, stream_expr_list.nextTree());
+
+                }
+                stream_expr_list.reset();
+
+                adaptor.addChild(root_1, root_2);
+                }
+
+                adaptor.addChild(root_0, root_1);
+                }
+
+            }
+
+
+            retval.tree = root_0;
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (AplTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (AplTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "funcall"
+
+
+    public static class expr_list_return extends ParserRuleReturnScope {
+        AplTree tree;
+        public Object getTree() { return tree; }
+    };
+
+
+    // $ANTLR start "expr_list"
+    // /root/project/src/parser/Apl.g:205:1: expr_list : expr ( ',' ! expr )* ;
+    public final AplParser.expr_list_return expr_list() throws RecognitionException {
+        AplParser.expr_list_return retval = new AplParser.expr_list_return();
+        retval.start = input.LT(1);
+
+
+        AplTree root_0 = null;
+
+        Token char_literal195=null;
+        AplParser.expr_return expr194 =null;
+
+        AplParser.expr_return expr196 =null;
+
+
+        AplTree char_literal195_tree=null;
+
+        try {
+            // /root/project/src/parser/Apl.g:205:10: ( expr ( ',' ! expr )* )
+            // /root/project/src/parser/Apl.g:205:13: expr ( ',' ! expr )*
+            {
+            root_0 = (AplTree)adaptor.nil();
+
+
+            pushFollow(FOLLOW_expr_in_expr_list2095);
+            expr194=expr();
+
+            state._fsp--;
+
+            adaptor.addChild(root_0, expr194.getTree());
+
+            // /root/project/src/parser/Apl.g:205:18: ( ',' ! expr )*
+            loop50:
+            do {
+                int alt50=2;
+                int LA50_0 = input.LA(1);
+
+                if ( (LA50_0==77) ) {
+                    alt50=1;
+                }
+
+
+                switch (alt50) {
+            	case 1 :
+            	    // /root/project/src/parser/Apl.g:205:19: ',' ! expr
+            	    {
+            	    char_literal195=(Token)match(input,77,FOLLOW_77_in_expr_list2098); 
+
+            	    pushFollow(FOLLOW_expr_in_expr_list2101);
+            	    expr196=expr();
+
+            	    state._fsp--;
+
+            	    adaptor.addChild(root_0, expr196.getTree());
+
+            	    }
+            	    break;
+
+            	default :
+            	    break loop50;
+                }
+            } while (true);
+
+
+            }
+
+            retval.stop = input.LT(-1);
+
+
+            retval.tree = (AplTree)adaptor.rulePostProcessing(root_0);
+            adaptor.setTokenBoundaries(retval.tree, retval.start, retval.stop);
+
+        }
+        catch (RecognitionException re) {
+            reportError(re);
+            recover(input,re);
+    	retval.tree = (AplTree)adaptor.errorNode(input, retval.start, input.LT(-1), re);
+
+        }
+
+        finally {
+        	// do for sure before leaving
+        }
+        return retval;
+    }
+    // $ANTLR end "expr_list"
+
+    // Delegated rules
+
+
+ 
+
+    public static final BitSet FOLLOW_func_in_prog192 = new BitSet(new long[]{0x0000000010000000L});
+    public static final BitSet FOLLOW_EOF_in_prog195 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_FUNC_in_func234 = new BitSet(new long[]{0x0000000100000000L});
+    public static final BitSet FOLLOW_ID_in_func237 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000800L});
+    public static final BitSet FOLLOW_params_in_func239 = new BitSet(new long[]{0x1214000506040200L,0x0000000000008180L});
+    public static final BitSet FOLLOW_block_instructions_in_func241 = new BitSet(new long[]{0x0000000000040000L});
+    public static final BitSet FOLLOW_END_in_func243 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_75_in_params262 = new BitSet(new long[]{0x0000000100000000L,0x0000000000001400L});
+    public static final BitSet FOLLOW_paramlist_in_params264 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+    public static final BitSet FOLLOW_76_in_params267 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_param_in_paramlist293 = new BitSet(new long[]{0x0000000000000002L,0x0000000000002000L});
+    public static final BitSet FOLLOW_77_in_paramlist296 = new BitSet(new long[]{0x0000000100000000L,0x0000000000000400L});
+    public static final BitSet FOLLOW_param_in_paramlist299 = new BitSet(new long[]{0x0000000000000002L,0x0000000000002000L});
+    public static final BitSet FOLLOW_id_atom_in_param324 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_74_in_param346 = new BitSet(new long[]{0x0000000100000000L});
+    public static final BitSet FOLLOW_id_atom_in_param348 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_instruction_in_block_instructions384 = new BitSet(new long[]{0x1214000506000202L,0x0000000000008180L});
+    public static final BitSet FOLLOW_79_in_block_instructions386 = new BitSet(new long[]{0x1214000506000202L,0x0000000000008180L});
+    public static final BitSet FOLLOW_return_stmt_in_block_instructions391 = new BitSet(new long[]{0x0000000000000002L,0x0000000000008000L});
+    public static final BitSet FOLLOW_79_in_block_instructions394 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_assign_in_instruction445 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ite_stmt_in_instruction467 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_for_stmt_in_instruction487 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_pfor_stmt_in_instruction507 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_while_stmt_in_instruction526 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_bench_stmt_in_instruction544 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_funcall_in_instruction564 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_read_in_instruction585 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_write_in_instruction610 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_free_in_instruction635 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_parallel_in_instruction661 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_id_atom_in_assign691 = new BitSet(new long[]{0x0000000000000080L});
+    public static final BitSet FOLLOW_ASSEQ_in_assign695 = new BitSet(new long[]{0x0620243101401000L,0x0000000000000944L});
+    public static final BitSet FOLLOW_expr_in_assign697 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_IF_in_ite_stmt726 = new BitSet(new long[]{0x0620243101401000L,0x0000000000000944L});
+    public static final BitSet FOLLOW_expr_in_ite_stmt729 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000008L});
+    public static final BitSet FOLLOW_THEN_in_ite_stmt731 = new BitSet(new long[]{0x1214000506070200L,0x0000000000008180L});
+    public static final BitSet FOLLOW_block_instructions_in_ite_stmt734 = new BitSet(new long[]{0x0000000000070000L});
+    public static final BitSet FOLLOW_ELIF_in_ite_stmt737 = new BitSet(new long[]{0x0620243101401000L,0x0000000000000944L});
+    public static final BitSet FOLLOW_expr_in_ite_stmt740 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000008L});
+    public static final BitSet FOLLOW_THEN_in_ite_stmt742 = new BitSet(new long[]{0x1214000506070200L,0x0000000000008180L});
+    public static final BitSet FOLLOW_block_instructions_in_ite_stmt745 = new BitSet(new long[]{0x0000000000070000L});
+    public static final BitSet FOLLOW_ELSE_in_ite_stmt750 = new BitSet(new long[]{0x1214000506040200L,0x0000000000008180L});
+    public static final BitSet FOLLOW_block_instructions_in_ite_stmt753 = new BitSet(new long[]{0x0000000000040000L});
+    public static final BitSet FOLLOW_END_in_ite_stmt757 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_FOR_in_for_stmt780 = new BitSet(new long[]{0x0000000100000000L});
+    public static final BitSet FOLLOW_id_atom_in_for_stmt783 = new BitSet(new long[]{0x0000000800000000L});
+    public static final BitSet FOLLOW_IN_in_for_stmt785 = new BitSet(new long[]{0x0620243101401000L,0x0000000000000944L});
+    public static final BitSet FOLLOW_expr_in_for_stmt788 = new BitSet(new long[]{0x0000000000000000L,0x0000000000004000L});
+    public static final BitSet FOLLOW_78_in_for_stmt790 = new BitSet(new long[]{0x0620243101401000L,0x0000000000000944L});
+    public static final BitSet FOLLOW_expr_in_for_stmt793 = new BitSet(new long[]{0x9A14000506040200L,0x0000000000008190L});
+    public static final BitSet FOLLOW_tile_in_for_stmt795 = new BitSet(new long[]{0x9A14000506040200L,0x0000000000008180L});
+    public static final BitSet FOLLOW_simd_in_for_stmt798 = new BitSet(new long[]{0x1A14000506040200L,0x0000000000008180L});
+    public static final BitSet FOLLOW_reduction_in_for_stmt801 = new BitSet(new long[]{0x1214000506040200L,0x0000000000008180L});
+    public static final BitSet FOLLOW_block_instructions_in_for_stmt804 = new BitSet(new long[]{0x0000000000040000L});
+    public static final BitSet FOLLOW_END_in_for_stmt806 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_PFOR_in_pfor_stmt829 = new BitSet(new long[]{0x0000000100000000L});
+    public static final BitSet FOLLOW_id_atom_in_pfor_stmt832 = new BitSet(new long[]{0x0000000800000000L});
+    public static final BitSet FOLLOW_IN_in_pfor_stmt834 = new BitSet(new long[]{0x0620243101401000L,0x0000000000000944L});
+    public static final BitSet FOLLOW_expr_in_pfor_stmt837 = new BitSet(new long[]{0x0000000000000000L,0x0000000000004000L});
+    public static final BitSet FOLLOW_78_in_pfor_stmt839 = new BitSet(new long[]{0x0620243101401000L,0x0000000000000944L});
+    public static final BitSet FOLLOW_expr_in_pfor_stmt842 = new BitSet(new long[]{0x9A16000506040200L,0x0000000000008190L});
+    public static final BitSet FOLLOW_ORDERED_in_pfor_stmt844 = new BitSet(new long[]{0x9A14000506040200L,0x0000000000008190L});
+    public static final BitSet FOLLOW_tile_in_pfor_stmt847 = new BitSet(new long[]{0x9A14000506040200L,0x0000000000008180L});
+    public static final BitSet FOLLOW_simd_in_pfor_stmt850 = new BitSet(new long[]{0x1A14000506040200L,0x0000000000008180L});
+    public static final BitSet FOLLOW_reduction_in_pfor_stmt853 = new BitSet(new long[]{0x1214000506040200L,0x0000000000008180L});
+    public static final BitSet FOLLOW_block_instructions_in_pfor_stmt856 = new BitSet(new long[]{0x0000000000040000L});
+    public static final BitSet FOLLOW_END_in_pfor_stmt858 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_BENCH_in_bench_stmt884 = new BitSet(new long[]{0x0620243101401000L,0x0000000000000944L});
+    public static final BitSet FOLLOW_expr_in_bench_stmt887 = new BitSet(new long[]{0x1214000506040200L,0x0000000000008180L});
+    public static final BitSet FOLLOW_block_instructions_in_bench_stmt889 = new BitSet(new long[]{0x0000000000040000L});
+    public static final BitSet FOLLOW_END_in_bench_stmt891 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_REDUCTION_in_reduction917 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000800L});
+    public static final BitSet FOLLOW_75_in_reduction920 = new BitSet(new long[]{0x00213C0000004020L});
+    public static final BitSet FOLLOW_operator_in_reduction923 = new BitSet(new long[]{0x0000000000000000L,0x0000000000004000L});
+    public static final BitSet FOLLOW_78_in_reduction925 = new BitSet(new long[]{0x0000000100000000L,0x0000000000000400L});
+    public static final BitSet FOLLOW_paramlist_in_reduction928 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+    public static final BitSet FOLLOW_76_in_reduction930 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_TILE_in_tile962 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000800L});
+    public static final BitSet FOLLOW_75_in_tile966 = new BitSet(new long[]{0x0000001000000000L});
+    public static final BitSet FOLLOW_INT_in_tile969 = new BitSet(new long[]{0x0000000000000000L,0x0000000000003000L});
+    public static final BitSet FOLLOW_77_in_tile972 = new BitSet(new long[]{0x0000001000000000L});
+    public static final BitSet FOLLOW_INT_in_tile975 = new BitSet(new long[]{0x0000000000000000L,0x0000000000003000L});
+    public static final BitSet FOLLOW_76_in_tile979 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_SIMD_in_simd1013 = new BitSet(new long[]{0x2000000000000012L,0x0000000000000001L});
+    public static final BitSet FOLLOW_simd_clause_in_simd1016 = new BitSet(new long[]{0x2000000000000012L,0x0000000000000001L});
+    public static final BitSet FOLLOW_SAFELEN_in_simd_clause1040 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000800L});
+    public static final BitSet FOLLOW_75_in_simd_clause1043 = new BitSet(new long[]{0x0000001000000000L});
+    public static final BitSet FOLLOW_INT_in_simd_clause1046 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+    public static final BitSet FOLLOW_76_in_simd_clause1048 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_SIMDLEN_in_simd_clause1067 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000800L});
+    public static final BitSet FOLLOW_75_in_simd_clause1070 = new BitSet(new long[]{0x0000001000000000L});
+    public static final BitSet FOLLOW_INT_in_simd_clause1073 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+    public static final BitSet FOLLOW_76_in_simd_clause1075 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ALIGNED_in_simd_clause1094 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000800L});
+    public static final BitSet FOLLOW_75_in_simd_clause1097 = new BitSet(new long[]{0x0000000100000000L,0x0000000000000400L});
+    public static final BitSet FOLLOW_paramlist_in_simd_clause1100 = new BitSet(new long[]{0x0000000000000000L,0x0000000000005000L});
+    public static final BitSet FOLLOW_78_in_simd_clause1103 = new BitSet(new long[]{0x0000001000000000L});
+    public static final BitSet FOLLOW_INT_in_simd_clause1106 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+    public static final BitSet FOLLOW_76_in_simd_clause1110 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_WHILE_in_while_stmt1189 = new BitSet(new long[]{0x0620243101401000L,0x0000000000000944L});
+    public static final BitSet FOLLOW_expr_in_while_stmt1192 = new BitSet(new long[]{0x0000000000008000L});
+    public static final BitSet FOLLOW_DO_in_while_stmt1194 = new BitSet(new long[]{0x1214000506040200L,0x0000000000008180L});
+    public static final BitSet FOLLOW_block_instructions_in_while_stmt1197 = new BitSet(new long[]{0x0000000000040000L});
+    public static final BitSet FOLLOW_END_in_while_stmt1199 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_RETURN_in_return_stmt1222 = new BitSet(new long[]{0x0620243101401002L,0x0000000000000944L});
+    public static final BitSet FOLLOW_expr_in_return_stmt1225 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_READ_in_read1244 = new BitSet(new long[]{0x0000000100000000L});
+    public static final BitSet FOLLOW_id_atom_in_read1247 = new BitSet(new long[]{0x0000000008000002L});
+    public static final BitSet FOLLOW_FROM_in_read1250 = new BitSet(new long[]{0x0620243101C01000L,0x0000000000000944L});
+    public static final BitSet FOLLOW_file_in_read1254 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_expr_in_read1258 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_FILE_in_file1284 = new BitSet(new long[]{0x0620243101401400L,0x0000000000000944L});
+    public static final BitSet FOLLOW_BINARY_in_file1287 = new BitSet(new long[]{0x0620243101401000L,0x0000000000000944L});
+    public static final BitSet FOLLOW_expr_in_file1290 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_WRITE_in_write1310 = new BitSet(new long[]{0x0620243101401000L,0x0000000000000944L});
+    public static final BitSet FOLLOW_expr_in_write1313 = new BitSet(new long[]{0x0000000000000002L,0x0000000000000020L});
+    public static final BitSet FOLLOW_TO_in_write1316 = new BitSet(new long[]{0x0000000100800000L});
+    public static final BitSet FOLLOW_file_in_write1320 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_id_atom_in_write1324 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_FREE_in_free1350 = new BitSet(new long[]{0x0000000100000000L});
+    public static final BitSet FOLLOW_id_atom_in_free1353 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_PARALLEL_in_parallel1372 = new BitSet(new long[]{0x5294800506040200L,0x0000000000008180L});
+    public static final BitSet FOLLOW_pshared_in_parallel1375 = new BitSet(new long[]{0x1294800506040200L,0x0000000000008180L});
+    public static final BitSet FOLLOW_pprivate_in_parallel1378 = new BitSet(new long[]{0x1214800506040200L,0x0000000000008180L});
+    public static final BitSet FOLLOW_pthreads_in_parallel1381 = new BitSet(new long[]{0x1214000506040200L,0x0000000000008180L});
+    public static final BitSet FOLLOW_block_instructions_in_parallel1384 = new BitSet(new long[]{0x0000000000040000L});
+    public static final BitSet FOLLOW_END_in_parallel1386 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_SHARED_in_pshared1406 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000800L});
+    public static final BitSet FOLLOW_params_in_pshared1409 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_PRIVATE_in_pprivate1427 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000800L});
+    public static final BitSet FOLLOW_params_in_pprivate1430 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_NUMTHREADS_in_pthreads1448 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000800L});
+    public static final BitSet FOLLOW_75_in_pthreads1451 = new BitSet(new long[]{0x0620243101401000L,0x0000000000000944L});
+    public static final BitSet FOLLOW_num_expr_in_pthreads1454 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+    public static final BitSet FOLLOW_76_in_pthreads1456 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_boolterm_in_expr1480 = new BitSet(new long[]{0x0001000000000002L});
+    public static final BitSet FOLLOW_OR_in_expr1483 = new BitSet(new long[]{0x0620243101401000L,0x0000000000000944L});
+    public static final BitSet FOLLOW_boolterm_in_expr1486 = new BitSet(new long[]{0x0001000000000002L});
+    public static final BitSet FOLLOW_boolfact_in_boolterm1506 = new BitSet(new long[]{0x0000000000000022L});
+    public static final BitSet FOLLOW_AND_in_boolterm1509 = new BitSet(new long[]{0x0620243101401000L,0x0000000000000944L});
+    public static final BitSet FOLLOW_boolfact_in_boolterm1512 = new BitSet(new long[]{0x0000000000000022L});
+    public static final BitSet FOLLOW_num_expr_in_boolfact1532 = new BitSet(new long[]{0x00004240C0080002L});
+    public static final BitSet FOLLOW_EQUAL_in_boolfact1536 = new BitSet(new long[]{0x0620243101401000L,0x0000000000000944L});
+    public static final BitSet FOLLOW_NOT_EQUAL_in_boolfact1541 = new BitSet(new long[]{0x0620243101401000L,0x0000000000000944L});
+    public static final BitSet FOLLOW_LT_in_boolfact1546 = new BitSet(new long[]{0x0620243101401000L,0x0000000000000944L});
+    public static final BitSet FOLLOW_LE_in_boolfact1551 = new BitSet(new long[]{0x0620243101401000L,0x0000000000000944L});
+    public static final BitSet FOLLOW_GT_in_boolfact1556 = new BitSet(new long[]{0x0620243101401000L,0x0000000000000944L});
+    public static final BitSet FOLLOW_GE_in_boolfact1561 = new BitSet(new long[]{0x0620243101401000L,0x0000000000000944L});
+    public static final BitSet FOLLOW_num_expr_in_boolfact1565 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_REDUCE_in_num_expr1586 = new BitSet(new long[]{0x0620243101401000L,0x0000000000000944L});
+    public static final BitSet FOLLOW_num_expr_in_num_expr1589 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_term_in_num_expr1603 = new BitSet(new long[]{0x0020040000000002L});
+    public static final BitSet FOLLOW_PLUS_in_num_expr1608 = new BitSet(new long[]{0x0220243101401000L,0x0000000000000944L});
+    public static final BitSet FOLLOW_MINUS_in_num_expr1613 = new BitSet(new long[]{0x0220243101401000L,0x0000000000000944L});
+    public static final BitSet FOLLOW_term_in_num_expr1617 = new BitSet(new long[]{0x0020040000000002L});
+    public static final BitSet FOLLOW_factor_in_term1641 = new BitSet(new long[]{0x0000180000004002L});
+    public static final BitSet FOLLOW_MUL_in_term1646 = new BitSet(new long[]{0x0220243101401000L,0x0000000000000944L});
+    public static final BitSet FOLLOW_DIV_in_term1651 = new BitSet(new long[]{0x0220243101401000L,0x0000000000000944L});
+    public static final BitSet FOLLOW_MOD_in_term1656 = new BitSet(new long[]{0x0220243101401000L,0x0000000000000944L});
+    public static final BitSet FOLLOW_factor_in_term1660 = new BitSet(new long[]{0x0000180000004002L});
+    public static final BitSet FOLLOW_NOT_in_factor1683 = new BitSet(new long[]{0x0200001101401000L,0x0000000000000944L});
+    public static final BitSet FOLLOW_PLUS_in_factor1688 = new BitSet(new long[]{0x0200001101401000L,0x0000000000000944L});
+    public static final BitSet FOLLOW_MINUS_in_factor1693 = new BitSet(new long[]{0x0200001101401000L,0x0000000000000944L});
+    public static final BitSet FOLLOW_IOTA_in_factor1698 = new BitSet(new long[]{0x0200001101401000L,0x0000000000000944L});
+    public static final BitSet FOLLOW_atom_in_factor1703 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_id_atom_in_atom1728 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_INT_in_atom1742 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_FLOAT_in_atom1756 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_CHAR_in_atom1770 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_STRING_in_atom1784 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_TRUE_in_atom1801 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_FALSE_in_atom1807 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_funcall_in_atom1830 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_write_in_atom1844 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_read_in_atom1858 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_75_in_atom1872 = new BitSet(new long[]{0x0620243101401000L,0x0000000000000944L});
+    public static final BitSet FOLLOW_expr_in_atom1874 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+    public static final BitSet FOLLOW_76_in_atom1876 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ID_in_id_atom1906 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ID_in_id_atom1922 = new BitSet(new long[]{0x0000000000000000L,0x0000000000010000L});
+    public static final BitSet FOLLOW_80_in_id_atom1924 = new BitSet(new long[]{0x0620243101401000L,0x0000000000000944L});
+    public static final BitSet FOLLOW_num_expr_in_id_atom1926 = new BitSet(new long[]{0x0000000000000000L,0x0000000000024000L});
+    public static final BitSet FOLLOW_81_in_id_atom1944 = new BitSet(new long[]{0x0000000000000002L,0x0000000000010000L});
+    public static final BitSet FOLLOW_80_in_id_atom1947 = new BitSet(new long[]{0x0620243101401000L,0x0000000000000944L});
+    public static final BitSet FOLLOW_num_expr_in_id_atom1949 = new BitSet(new long[]{0x0000000000000000L,0x0000000000020000L});
+    public static final BitSet FOLLOW_81_in_id_atom1951 = new BitSet(new long[]{0x0000000000000002L,0x0000000000010000L});
+    public static final BitSet FOLLOW_78_in_id_atom1995 = new BitSet(new long[]{0x0620243101401000L,0x0000000000000944L});
+    public static final BitSet FOLLOW_num_expr_in_id_atom1997 = new BitSet(new long[]{0x0000000000000000L,0x0000000000024000L});
+    public static final BitSet FOLLOW_78_in_id_atom2000 = new BitSet(new long[]{0x0620243101401000L,0x0000000000000944L});
+    public static final BitSet FOLLOW_num_expr_in_id_atom2002 = new BitSet(new long[]{0x0000000000000000L,0x0000000000020000L});
+    public static final BitSet FOLLOW_81_in_id_atom2006 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_ID_in_funcall2055 = new BitSet(new long[]{0x0000000000000000L,0x0000000000000800L});
+    public static final BitSet FOLLOW_75_in_funcall2057 = new BitSet(new long[]{0x0620243101401000L,0x0000000000001944L});
+    public static final BitSet FOLLOW_expr_list_in_funcall2059 = new BitSet(new long[]{0x0000000000000000L,0x0000000000001000L});
+    public static final BitSet FOLLOW_76_in_funcall2062 = new BitSet(new long[]{0x0000000000000002L});
+    public static final BitSet FOLLOW_expr_in_expr_list2095 = new BitSet(new long[]{0x0000000000000002L,0x0000000000002000L});
+    public static final BitSet FOLLOW_77_in_expr_list2098 = new BitSet(new long[]{0x0620243101401000L,0x0000000000000944L});
+    public static final BitSet FOLLOW_expr_in_expr_list2101 = new BitSet(new long[]{0x0000000000000002L,0x0000000000002000L});
+
+}
\ No newline at end of file